@@ -4,11 +4,14 @@ import com.irum.productservice.domain.category.dto.request.CategoryCreateRequest
 import com.irum.productservice.domain.category.dto.request.CategoryUpdateRequest;
 import com.irum.productservice.domain.category.dto.response.CategoryInfoResponse;
 import com.irum.productservice.domain.category.dto.response.CategoryResponse;
+import com.irum.productservice.domain.category.dto.response.CategoryTreeResponse;
 import com.irum.productservice.domain.category.service.CategoryService;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -32,9 +35,19 @@ public class CategoryController {
         return categoryService.getCategoryById(id);
     }
 
+    @GetMapping("/{id}/breadcrumb")
+    public List<CategoryInfoResponse> getBreadcrumb(@PathVariable UUID id) {
+        return categoryService.getBreadcrumb(id);
+    }
+
+    /** 트리 버전을 ETag 로 내려주고, If-None-Match 가 같으면 본문 없이 304 로 응답합니다. */
     @GetMapping("/tree")
-    public List<CategoryResponse> getCategoryTree() {
-        return categoryService.findCategoryTree();
+    public ResponseEntity<List<CategoryResponse>> getCategoryTree() {
+        CategoryTreeResponse tree = categoryService.findCategoryTree();
+        return ResponseEntity.ok()
+                .eTag(tree.version())
+                .cacheControl(CacheControl.noCache())
+                .body(tree.categories());
     }
 
     @PostMapping
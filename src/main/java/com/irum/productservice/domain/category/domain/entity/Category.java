@@ -3,6 +3,7 @@ package com.irum.productservice.domain.category.domain.entity;
 import com.irum.global.advice.exception.CommonException;
 import com.irum.global.domain.BaseEntity;
 import com.irum.productservice.global.exception.errorcode.CategoryErrorCode;
+import com.irum.productservice.global.util.UuidV7Generator;
 import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -23,7 +24,7 @@ public class Category extends BaseEntity {
     private static final int MAX_DEPTH = 3;
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "category_id", updatable = false, nullable = false)
     private UUID categoryId;
 
@@ -0,0 +1,10 @@
+package com.irum.productservice.domain.category.dto.response;
+
+import java.util.List;
+
+/**
+ * 카테고리 트리와 그 버전
+ *
+ * @param version 트리 내용으로 계산한 값. 내용이 같으면 인스턴스와 관계없이 같으므로 ETag 로 사용합니다.
+ */
+public record CategoryTreeResponse(String version, List<CategoryResponse> categories) {}
@@ -0,0 +1,11 @@
+package com.irum.productservice.domain.category.event;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CategoryChangedEvent {
+    private final UUID categoryId;
+}
@@ -7,13 +7,16 @@ import com.irum.productservice.domain.category.dto.request.CategoryCreateRequest
 import com.irum.productservice.domain.category.dto.request.CategoryUpdateRequest;
 import com.irum.productservice.domain.category.dto.response.CategoryInfoResponse;
 import com.irum.productservice.domain.category.dto.response.CategoryResponse;
+import com.irum.productservice.domain.category.dto.response.CategoryTreeResponse;
+import com.irum.productservice.domain.category.event.CategoryChangedEvent;
 import com.irum.productservice.global.exception.errorcode.CategoryErrorCode;
 import com.irum.productservice.global.util.MemberUtil;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -23,6 +26,8 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final MemberUtil memberUtil;
+    private final CategoryTreeIndex categoryTreeIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<CategoryInfoResponse> findRootCategories() {
@@ -48,12 +53,22 @@ public class CategoryService {
         return CategoryResponse.fromEntity(category);
     }
 
-    @Transactional(readOnly = true)
-    public List<CategoryResponse> findCategoryTree() {
-        List<Category> roots = categoryRepository.findByParentIsNull();
-        return roots.stream()
-                .map(CategoryResponse::fromEntityWithChildren)
-                .collect(Collectors.toList());
+    /** 전체 카테고리 트리. 메모리에 만들어 둔 응답을 그대로 돌려주므로 트랜잭션도 열지 않습니다. */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CategoryTreeResponse findCategoryTree() {
+        return categoryTreeIndex.categoryTree();
+    }
+
+    /** 최상위부터 해당 카테고리까지의 경로 */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<CategoryInfoResponse> getBreadcrumb(UUID id) {
+        List<CategoryTreeIndex.Node> path = categoryTreeIndex.breadcrumb(id);
+        if (path.isEmpty()) {
+            throw new CommonException(CategoryErrorCode.CATEGORY_NOT_FOUND);
+        }
+        return path.stream()
+                .map(node -> new CategoryInfoResponse(node.categoryId(), node.name(), node.depth()))
+                .toList();
     }
 
     public CategoryResponse createCategory(CategoryCreateRequest request) {
@@ -73,6 +88,7 @@ public class CategoryService {
         }
 
         Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved.getCategoryId()));
         return CategoryResponse.fromEntity(saved);
     }
 
@@ -83,6 +99,7 @@ public class CategoryService {
                         .orElseThrow(
                                 () -> new CommonException(CategoryErrorCode.CATEGORY_NOT_FOUND));
         category.updateName(request.name());
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
         return CategoryResponse.fromEntity(category);
     }
 
@@ -93,5 +110,6 @@ public class CategoryService {
                         .orElseThrow(
                                 () -> new CommonException(CategoryErrorCode.CATEGORY_NOT_FOUND));
         category.softDelete(memberUtil.getCurrentMember().memberId());
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 }
@@ -0,0 +1,196 @@
+package com.irum.productservice.domain.category.service;
+
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.category.dto.response.CategoryResponse;
+import com.irum.productservice.domain.category.dto.response.CategoryTreeResponse;
+import com.irum.productservice.domain.category.event.CategoryChangedEvent;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 메모리에 올려둔 카테고리 트리. 하위 카테고리, 경로(breadcrumb) 조회를 DB 조회 없이 처리합니다.
+ *
+ * <p>카테고리 테이블 전체를 쿼리 한 번으로 읽어 트리 응답까지 미리 만들어 둡니다. 처음 사용할 때 읽고, 카테고리 변경 커밋 후 다시 읽습니다. 다른 인스턴스의 변경은
+ * CategoryTreeRedisSync(사용 시) 또는 주기적인 전체 갱신으로 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTreeIndex {
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Tree tree;
+
+    /** 자신을 포함한 하위 카테고리 id 목록 (전위 순회). 트리에 없는 카테고리는 자신만 돌려줍니다. */
+    public List<UUID> descendantIds(UUID categoryId) {
+        Tree current = tree();
+        List<UUID> ids = new ArrayList<>();
+        Deque<UUID> stack = new ArrayDeque<>();
+        stack.push(categoryId);
+        while (!stack.isEmpty()) {
+            UUID id = stack.pop();
+            ids.add(id);
+            List<UUID> childIds = current.childIds().getOrDefault(id, List.of());
+            for (int i = childIds.size() - 1; i >= 0; i--) {
+                stack.push(childIds.get(i));
+            }
+        }
+        return ids;
+    }
+
+    /** 바로 아래 카테고리 목록 (이름 순). parentId 가 null 이면 최상위 카테고리 목록입니다. */
+    public List<Node> children(UUID parentId) {
+        Tree current = tree();
+        if (parentId == null) {
+            return current.nodes().values().stream()
+                    .filter(node -> node.parentId() == null)
+                    .sorted(Comparator.comparing(Node::name))
+                    .toList();
+        }
+        return current.childIds().getOrDefault(parentId, List.of()).stream()
+                .map(current.nodes()::get)
+                .toList();
+    }
+
+    /** 최상위부터 해당 카테고리까지의 경로. 트리에 없는 카테고리는 빈 목록을 돌려줍니다. */
+    public List<Node> breadcrumb(UUID categoryId) {
+        Tree current = tree();
+        List<Node> path = new ArrayList<>();
+        Node node = current.nodes().get(categoryId);
+        while (node != null) {
+            path.add(node);
+            node = node.parentId() != null ? current.nodes().get(node.parentId()) : null;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /** 미리 만들어 둔 전체 트리 응답과 버전 */
+    public CategoryTreeResponse categoryTree() {
+        return tree().response();
+    }
+
+    /** 카테고리 생성/수정/삭제가 커밋된 뒤 트리를 다시 읽습니다. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCategoryChanged(CategoryChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * 변경 알림을 놓친 경우를 대비한 주기적 전체 갱신.
+     *
+     * <p>주기 갱신과 커밋 후 갱신이 동시에 돌면 먼저 읽은 오래된 트리가 나중에 덮어쓸 수 있으므로, 읽기부터 교체까지를 한 번에 하나씩 처리합니다. 뒤에 들어온 갱신은
+     * 앞 갱신이 끝난 뒤에 읽으므로 항상 더 새로운 트리로 교체됩니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${product.category.tree.refresh-interval-ms:300000}",
+            initialDelayString = "${product.category.tree.refresh-interval-ms:300000}")
+    public synchronized void refresh() {
+        Map<UUID, Node> nodes = new HashMap<>();
+        Map<UUID, List<UUID>> childIds = new HashMap<>();
+        // 깊이, 이름 순으로 읽어 하위 카테고리 순서를 고정
+        for (Category category : categoryRepository.findAll(Sort.by("depth", "name"))) {
+            UUID parentId =
+                    category.getParent() != null ? category.getParent().getCategoryId() : null;
+            nodes.put(
+                    category.getCategoryId(),
+                    new Node(
+                            category.getCategoryId(),
+                            category.getName(),
+                            category.getDepth(),
+                            parentId));
+            // 삭제된 부모 아래의 카테고리도 부모 id 로 찾을 수 있게 둠 (기존 하위 조회와 동일)
+            if (parentId != null) {
+                childIds.computeIfAbsent(parentId, id -> new ArrayList<>())
+                        .add(category.getCategoryId());
+            }
+        }
+        this.tree = new Tree(nodes, childIds, buildResponse(nodes, childIds));
+        log.debug("카테고리 트리 갱신 완료: {}개", nodes.size());
+    }
+
+    private CategoryTreeResponse buildResponse(
+            Map<UUID, Node> nodes, Map<UUID, List<UUID>> childIds) {
+        List<CategoryResponse> roots =
+                nodes.values().stream()
+                        .filter(node -> node.parentId() == null)
+                        .sorted(Comparator.comparing(Node::name))
+                        .map(node -> toResponse(node, nodes, childIds))
+                        .toList();
+        return new CategoryTreeResponse(version(nodes), roots);
+    }
+
+    // 삭제된 카테고리 아래는 루트에서 닿지 않으므로 응답에서 빠짐
+    private CategoryResponse toResponse(
+            Node node, Map<UUID, Node> nodes, Map<UUID, List<UUID>> childIds) {
+        List<CategoryResponse> children =
+                childIds.getOrDefault(node.categoryId(), List.of()).stream()
+                        .map(nodes::get)
+                        .map(child -> toResponse(child, nodes, childIds))
+                        .toList();
+        return new CategoryResponse(
+                node.categoryId(), node.name(), node.depth(), node.parentId(), children);
+    }
+
+    // 내용이 같으면 어느 인스턴스에서 계산해도 같은 값이 되도록 id 순으로 정렬해 해시
+    private static String version(Map<UUID, Node> nodes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            nodes.values().stream()
+                    .sorted(Comparator.comparing(Node::categoryId))
+                    .forEach(
+                            node ->
+                                    digest.update(
+                                            (node.categoryId()
+                                                            + "|"
+                                                            + node.parentId()
+                                                            + "|"
+                                                            + node.depth()
+                                                            + "|"
+                                                            + node.name()
+                                                            + "\n")
+                                                    .getBytes(StandardCharsets.UTF_8)));
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Tree tree() {
+        Tree current = tree;
+        if (current == null) {
+            synchronized (this) {
+                if (tree == null) {
+                    refresh();
+                }
+                current = tree;
+            }
+        }
+        return current;
+    }
+
+    public record Node(UUID categoryId, String name, int depth, UUID parentId) {}
+
+    private record Tree(
+            Map<UUID, Node> nodes, Map<UUID, List<UUID>> childIds, CategoryTreeResponse response) {}
+}
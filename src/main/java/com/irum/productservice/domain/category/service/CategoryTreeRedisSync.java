@@ -0,0 +1,77 @@
+package com.irum.productservice.domain.category.service;
+
+import com.irum.productservice.domain.category.event.CategoryChangedEvent;
+import com.irum.productservice.global.infrastructure.config.datasource.DataSourceRoutingContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 카테고리 트리 인스턴스 간 갱신. 카테고리 변경이 커밋되면 Redis 채널로 알리고, 다른 인스턴스는 알림을 받아 자신의 트리를 다시 읽습니다.
+ * product.category.tree.redis-sync=true 로 켭니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product.category.tree", name = "redis-sync", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTreeRedisSync implements MessageListener {
+
+    static final String CHANNEL = "category:tree:changed";
+
+    // 자신이 보낸 알림은 이미 반영했으므로 건너뜀
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final CategoryTreeIndex categoryTreeIndex;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    private RedisMessageListenerContainer container;
+
+    @PostConstruct
+    void start() {
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(this, new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        container.destroy();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCategoryChanged(CategoryChangedEvent event) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, instanceId);
+        } catch (RuntimeException e) {
+            // 알림 실패는 주기적 전체 갱신으로 보완
+            log.warn("카테고리 트리 변경 알림 실패. 예외 : {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (instanceId.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            return;
+        }
+        // 방금 커밋된 변경을 읽어야 하므로 복제본이 아닌 원본 DB 에서 읽음
+        try (DataSourceRoutingContext.Scope scope = DataSourceRoutingContext.open(true)) {
+            categoryTreeIndex.refresh();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.irum.productservice.domain.deliverypolicy.domain.entity;
 
 import com.irum.global.domain.BaseEntity;
 import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.global.util.UuidV7Generator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import java.util.UUID;
@@ -20,7 +21,7 @@ import org.hibernate.annotations.Where;
 public class DeliveryPolicy extends BaseEntity {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "delivery_policy_id", updatable = false, nullable = false)
     private UUID id;
 
@@ -2,6 +2,7 @@ package com.irum.productservice.domain.discount.domain.entity;
 
 import com.irum.global.domain.BaseEntity;
 import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.global.util.UuidV7Generator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import java.util.UUID;
@@ -19,7 +20,7 @@ import org.hibernate.annotations.Where;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Discount extends BaseEntity {
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "discount_id", updatable = false, nullable = false)
     private UUID id;
 
@@ -34,12 +34,10 @@ public class DiscountRepositoryImpl implements DiscountRepositoryCustom {
                                 discount.id,
                                 discount.name,
                                 discount.amount,
-                                discount.product))
+                                product.id))
+                .from(discount)
                 .join(discount.product, product)
-                .fetchJoin()
                 .join(product.store, store)
-                .fetchJoin()
-                .from(discount)
                 .where(store.id.eq(storeId), ltCursor(cursor, discount))
                 .orderBy(discount.id.desc())
                 .limit(pageSize)
@@ -9,6 +9,7 @@ import com.irum.productservice.domain.discount.dto.response.DiscountInfoListResp
 import com.irum.productservice.domain.discount.dto.response.DiscountInfoResponse;
 import com.irum.productservice.domain.product.domain.entity.Product;
 import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.event.ProductDetailChangedEvent;
 import com.irum.productservice.domain.store.domain.entity.Store;
 import com.irum.productservice.domain.store.domain.repository.StoreRepository;
 import com.irum.productservice.global.exception.errorcode.DiscountErrorCode;
@@ -19,6 +20,7 @@ import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,11 +33,13 @@ public class DiscountService {
     private final ProductRepository productRepository;
     private final StoreRepository storeRepository;
     private final MemberUtil memberUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void createDiscount(DiscountRegisterRequest request) {
         Product product = assertOwnerProduct(request.productId());
         checkDuplicateDiscount(product.getId());
         discountRepository.save(Discount.create(request.name(), request.amount(), product));
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(product.getId()));
     }
 
     @Transactional(readOnly = true)
@@ -70,11 +74,13 @@ public class DiscountService {
         Discount discount = getValidDiscount(discountId);
         if (request.name() != null) discount.updateName(request.name());
         discount.updateAmount(request.amount());
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(discount.getProduct().getId()));
     }
 
     public void removeDiscount(UUID discountId) {
         Discount discount = getValidDiscount(discountId);
         discount.softDelete(memberUtil.getCurrentMember().memberId());
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(discount.getProduct().getId()));
     }
 
     public void deleteDiscountByProductId(UUID productId, Long deletedBy) {
@@ -0,0 +1,64 @@
+package com.irum.productservice.domain.outbox.domain.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부로 내보낼 변경 이벤트. 변경과 같은 트랜잭션에서 저장되고, OutboxRelay 가 순서대로 발행한 뒤 published_at 을 채웁니다.
+ *
+ * <p>발행 순서를 id 순서로 맞추기 위해 다른 테이블과 달리 증가 id 를 사용합니다. id 순서가 커밋 순서와 어긋나는 경우는 OutboxRelay 가
+ * occurred_at 기준 지연 시간으로 걸러냅니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_outbox_event")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 30)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private OutboxEventType eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private OutboxEvent(OutboxEventType eventType, UUID aggregateId, String payload) {
+        this.aggregateType = eventType.getAggregateType();
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public static OutboxEvent createEvent(
+            OutboxEventType eventType, UUID aggregateId, String payload) {
+        return OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(payload)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.irum.productservice.domain.outbox.domain.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    PRODUCT_PRICE_CHANGED("PRODUCT"),
+    PRODUCT_DELETED("PRODUCT"),
+    OPTION_VALUE_PRICE_CHANGED("OPTION_VALUE"),
+    OPTION_VALUE_DELETED("OPTION_VALUE"),
+    OPTION_STOCK_UPDATED("OPTION_VALUE"), // 판매자가 재고를 직접 수정
+    STOCK_DECREASED("OPTION_VALUE"), // 주문 차감, 홀드
+    STOCK_INCREASED("OPTION_VALUE"); // 주문 롤백, 홀드 반환
+
+    private final String aggregateType;
+}
@@ -0,0 +1,35 @@
+package com.irum.productservice.domain.outbox.domain.repository;
+
+import com.irum.productservice.domain.outbox.domain.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * visibleBefore 이전에 기록된 미발행 이벤트를 id 순으로 잠그며 조회. 다른 인스턴스가 잠근 행은 건너뛰지 않고 그 발행이 끝날 때까지 기다립니다. 건너뛰면
+     * 뒤 묶음이 앞 묶음보다 먼저 발행될 수 있습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+            "select e from OutboxEvent e where e.publishedAt is null and e.occurredAt <="
+                    + " :visibleBefore order by e.id")
+    List<OutboxEvent> findUnpublishedForUpdate(
+            @Param("visibleBefore") LocalDateTime visibleBefore, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(
+            @Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,62 @@
+package com.irum.productservice.domain.outbox.event;
+
+import com.irum.productservice.domain.outbox.domain.entity.OutboxEventType;
+import com.irum.productservice.domain.outbox.service.OutboxService;
+import com.irum.productservice.domain.product.event.OptionStockUpdatedEvent;
+import com.irum.productservice.domain.product.event.OptionValueDeletedEvent;
+import com.irum.productservice.domain.product.event.OptionValuePriceChangedEvent;
+import com.irum.productservice.domain.product.event.ProductDeletedEvent;
+import com.irum.productservice.domain.product.event.ProductPriceChangedEvent;
+import com.irum.productservice.domain.product.event.StockChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도메인 이벤트를 발행한 트랜잭션 안에서 outbox 에 기록합니다. 변경이 롤백되면 outbox 기록도 함께 롤백됩니다.
+ *
+ * <p>id 를 받는 시점과 커밋 사이를 줄이려고 커밋 직전(BEFORE_COMMIT)에 기록합니다. 트랜잭션 밖에서 발행되면 그대로 실행해 OutboxService 가 예외를
+ * 던지게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventListener {
+    private final OutboxService outboxService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleStockChanged(StockChangedEvent event) {
+        outboxService.append(
+                event.getDelta() < 0
+                        ? OutboxEventType.STOCK_DECREASED
+                        : OutboxEventType.STOCK_INCREASED,
+                event.getOptionValueId(),
+                event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleOptionStockUpdated(OptionStockUpdatedEvent event) {
+        outboxService.append(OutboxEventType.OPTION_STOCK_UPDATED, event.getOptionValueId(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleProductPriceChanged(ProductPriceChangedEvent event) {
+        outboxService.append(OutboxEventType.PRODUCT_PRICE_CHANGED, event.getProductId(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleOptionValuePriceChanged(OptionValuePriceChangedEvent event) {
+        outboxService.append(
+                OutboxEventType.OPTION_VALUE_PRICE_CHANGED, event.getOptionValueId(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleProductDeleted(ProductDeletedEvent event) {
+        outboxService.append(OutboxEventType.PRODUCT_DELETED, event.getProductId(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleOptionValueDeleted(OptionValueDeletedEvent event) {
+        outboxService.append(OutboxEventType.OPTION_VALUE_DELETED, event.getOptionValueId(), event);
+    }
+}
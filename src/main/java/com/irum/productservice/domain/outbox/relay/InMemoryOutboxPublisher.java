@@ -0,0 +1,45 @@
+package com.irum.productservice.domain.outbox.relay;
+
+import com.irum.productservice.global.infrastructure.properties.OutboxProperties;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** 프로세스 안에 발행 이벤트를 보관하는 발행기. 메시지 브로커 없이 로컬 실행이나 테스트에서 사용합니다. */
+@Component
+@ConditionalOnProperty(
+        prefix = "product.outbox",
+        name = "publisher",
+        havingValue = "in-memory",
+        matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    private final OutboxProperties outboxProperties;
+
+    private final Deque<OutboxMessage> messages = new ConcurrentLinkedDeque<>();
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        messages.addAll(batch);
+        // 보관 한도를 넘으면 오래된 것부터 버림
+        while (messages.size() > outboxProperties.inMemoryCapacity()) {
+            messages.pollFirst();
+        }
+        log.debug("outbox 이벤트 발행(in-memory): {}건", batch.size());
+    }
+
+    public List<OutboxMessage> getMessages() {
+        return new ArrayList<>(messages);
+    }
+
+    public void clear() {
+        messages.clear();
+    }
+}
@@ -0,0 +1,29 @@
+package com.irum.productservice.domain.outbox.relay;
+
+import com.irum.productservice.domain.outbox.domain.entity.OutboxEvent;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 발행되는 이벤트. 소비 측은 id 로 중복 수신(at-least-once)을 걸러내고, 같은 aggregateId 안에서는 id 순서대로 반영합니다.
+ *
+ * @param payload 이벤트 본문 (JSON)
+ */
+public record OutboxMessage(
+        Long id,
+        String aggregateType,
+        UUID aggregateId,
+        String eventType,
+        String payload,
+        LocalDateTime occurredAt) {
+
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(
+                event.getId(),
+                event.getAggregateType(),
+                event.getAggregateId(),
+                event.getEventType().name(),
+                event.getPayload(),
+                event.getOccurredAt());
+    }
+}
@@ -0,0 +1,9 @@
+package com.irum.productservice.domain.outbox.relay;
+
+import java.util.List;
+
+/** outbox 이벤트를 외부로 내보내는 통로. 예외를 던지면 해당 묶음은 발행되지 않은 것으로 보고 다음 주기에 다시 보냅니다. */
+public interface OutboxPublisher {
+
+    void publish(List<OutboxMessage> messages);
+}
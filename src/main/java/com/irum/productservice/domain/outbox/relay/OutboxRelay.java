@@ -0,0 +1,76 @@
+package com.irum.productservice.domain.outbox.relay;
+
+import com.irum.productservice.domain.outbox.domain.entity.OutboxEvent;
+import com.irum.productservice.domain.outbox.domain.repository.OutboxEventRepository;
+import com.irum.productservice.global.infrastructure.properties.OutboxProperties;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox 이벤트 발행기. 미발행 이벤트를 id 순으로 batch-size 만큼 잠그고 발행한 뒤 같은 트랜잭션에서 발행 완료로 표시합니다. 여러 인스턴스가 동시에 돌면
+ * 먼저 잠근 쪽의 발행이 끝날 때까지 기다리므로 같은 묶음을 나눠 보내거나 순서를 뒤바꾸지 않습니다.
+ *
+ * <p>id 는 INSERT 시점에 정해지므로 id 순서가 커밋 순서와 다를 수 있습니다. 먼저 id 를 받은 트랜잭션이 늦게 커밋되면, 그 사이 뒤 id 가 먼저 발행되고 앞
+ * id 는 나중에 발행됩니다. 이를 막기 위해 기록은 커밋 직전에 하고(OutboxEventListener), 기록 후 commit-lag-ms 가 지난 이벤트만 발행합니다.
+ * 그때까지 커밋되지 않은 앞 id 는 없다고 보고 id 순서대로 보냅니다.
+ *
+ * <p>발행 후 커밋 전에 실패하면 다음 주기에 다시 보내므로 전달은 at-least-once 입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final OutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${product.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        int batchSize = outboxProperties.batchSize();
+        int published;
+        do {
+            try {
+                published = transactionTemplate.execute(status -> relayBatch(batchSize));
+            } catch (RuntimeException e) {
+                log.warn("outbox 이벤트 발행 실패, 다음 주기에 재시도. 예외 : {}", e.getMessage());
+                return;
+            }
+        } while (published == batchSize);
+    }
+
+    /** 발행 완료 후 보관 기간이 지난 이벤트를 삭제합니다. */
+    @Scheduled(fixedDelayString = "${product.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusHours(outboxProperties.retentionHours());
+        Integer deleted =
+                transactionTemplate.execute(
+                        status -> outboxEventRepository.deletePublishedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("발행 완료된 outbox 이벤트 삭제: {}건", deleted);
+        }
+    }
+
+    private int relayBatch(int batchSize) {
+        LocalDateTime visibleBefore =
+                LocalDateTime.now().minusNanos(outboxProperties.commitLagMs() * 1_000_000);
+        List<OutboxEvent> events =
+                outboxEventRepository.findUnpublishedForUpdate(
+                        visibleBefore, PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        outboxPublisher.publish(events.stream().map(OutboxMessage::from).toList());
+        outboxEventRepository.markPublished(
+                events.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+        return events.size();
+    }
+}
@@ -0,0 +1,35 @@
+package com.irum.productservice.domain.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.irum.productservice.domain.outbox.domain.entity.OutboxEvent;
+import com.irum.productservice.domain.outbox.domain.entity.OutboxEventType;
+import com.irum.productservice.domain.outbox.domain.repository.OutboxEventRepository;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /** 변경과 같은 트랜잭션에서만 저장합니다. 트랜잭션 밖에서 호출하면 예외가 발생합니다. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, UUID aggregateId, Object payload) {
+        outboxEventRepository.save(
+                OutboxEvent.createEvent(eventType, aggregateId, toJson(payload)));
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("outbox payload 직렬화 실패: " + payload, e);
+        }
+    }
+}
@@ -4,9 +4,17 @@ import com.irum.openfeign.product.dto.request.ProductInternalRequest;
 import com.irum.openfeign.product.dto.request.RollbackStockRequest;
 import com.irum.openfeign.product.dto.response.ProductDto;
 import com.irum.openfeign.product.dto.response.ProductInternalResponse;
+import com.irum.productservice.domain.product.Internal.service.ProductCatalogExporter;
 import com.irum.productservice.domain.product.Internal.service.ProductInternalService;
+import com.irum.productservice.domain.product.Internal.service.StockIdempotencyService;
+import com.irum.productservice.domain.product.dto.response.StockReservationResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -14,7 +22,28 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class ProductInternalController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String EXPORT_WATERMARK_HEADER = "Export-Watermark";
+    private static final String NDJSON = "application/x-ndjson";
+
     private final ProductInternalService productInternalService;
+    private final StockIdempotencyService stockIdempotencyService;
+    private final ProductCatalogExporter productCatalogExporter;
+
+    // 공개 상품 카탈로그를 NDJSON 으로 흘려 씀. updatedSince 를 주면 그 이후 바뀐 상품만
+    // Export-Watermark 헤더(내보내기 시작 시각)를 다음 요청의 updatedSince 로 쓰되, 진행 중이던 트랜잭션의 변경을 놓치지 않도록 조금 당겨서
+    // 겹치게 요청
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void exportProducts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime updatedSince,
+            HttpServletResponse response)
+            throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(EXPORT_WATERMARK_HEADER, LocalDateTime.now().toString());
+        productCatalogExporter.export(updatedSince, response.getOutputStream());
+    }
 
     @GetMapping("/{productId}")
     public ProductDto getProduct(@PathVariable UUID productId) {
@@ -27,13 +56,47 @@ public class ProductInternalController {
     }
 
     // storeId, optionValueIdList -> 재고 감소 및 배송 정책, 상품 정보 조회
+    // Idempotency-Key 헤더가 있으면 같은 키의 재요청에는 처음 응답을 그대로 반환
     @PutMapping("/stock")
-    public ProductInternalResponse updateStock(@RequestBody ProductInternalRequest request) {
-        return productInternalService.updateStock(request);
+    public ProductInternalResponse updateStock(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody ProductInternalRequest request) {
+        return stockIdempotencyService.execute(
+                "update",
+                idempotencyKey,
+                request,
+                ProductInternalResponse.class,
+                () -> productInternalService.updateStock(request));
     }
 
     @PutMapping("/rollback")
-    public void rollbackStock(@RequestBody RollbackStockRequest request) {
-        productInternalService.rollbackStock(request);
+    public void rollbackStock(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody RollbackStockRequest request) {
+        stockIdempotencyService.execute(
+                "rollback",
+                idempotencyKey,
+                request,
+                Void.class,
+                () -> {
+                    productInternalService.rollbackStock(request);
+                    return null;
+                });
+    }
+
+    // 재고 홀드 : 재고 차감 + 만료 시각이 있는 홀드 생성
+    @PostMapping("/reservations")
+    public StockReservationResponse reserveStock(@RequestBody ProductInternalRequest request) {
+        return productInternalService.reserveStock(request);
+    }
+
+    @PostMapping("/reservations/{reservationId}/confirm")
+    public void confirmReservation(@PathVariable UUID reservationId) {
+        productInternalService.confirmReservation(reservationId);
+    }
+
+    @PostMapping("/reservations/{reservationId}/release")
+    public void releaseReservation(@PathVariable UUID reservationId) {
+        productInternalService.releaseReservation(reservationId);
     }
 }
@@ -0,0 +1,77 @@
+package com.irum.productservice.domain.product.Internal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.irum.productservice.domain.product.dto.response.ProductExportDocument;
+import com.irum.productservice.domain.product.repository.ProductExportRepository;
+import com.irum.productservice.global.infrastructure.properties.ExportProperties;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollableResults;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품 카탈로그 내보내기 (검색/분석 작업의 카탈로그 동기화용). 공개 상품을 한 줄에 하나씩 NDJSON 으로 씁니다.
+ *
+ * <p>상품 id 는 DB 커서로 흘려 읽고, product.export.batch-size 건마다 옵션/할인/대표 이미지를 한 번에 읽어 쓴 뒤 응답을 내보내고 영속성
+ * 컨텍스트를 비웁니다. 상품 수와 관계없이 메모리는 한 묶음만큼만 쓰고, 읽기 전용 트랜잭션 하나로 끝까지 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCatalogExporter {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final ProductExportRepository productExportRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties exportProperties;
+
+    /**
+     * @param updatedSince 이 시각 이후 바뀐 상품만 (null 이면 전체). 옵션 그룹/옵션 값/할인/이미지 변경도 포함하며, 주문에 따른 재고 변경만으로는
+     *     포함되지 않을 수 있습니다.
+     * @return 내보낸 상품 수
+     */
+    @Transactional(readOnly = true)
+    public int export(LocalDateTime updatedSince, OutputStream out) throws IOException {
+        int batchSize = exportProperties.batchSize();
+        List<UUID> batch = new ArrayList<>(batchSize);
+        int exported = 0;
+        try (ScrollableResults<UUID> productIds =
+                productExportRepository.scrollExportIds(
+                        updatedSince, exportProperties.fetchSize())) {
+            while (productIds.next()) {
+                batch.add(productIds.get());
+                if (batch.size() == batchSize) {
+                    exported += write(batch, out);
+                    batch.clear();
+                }
+            }
+            exported += write(batch, out);
+        }
+        log.info("상품 카탈로그 내보내기 완료: updatedSince={}, count={}", updatedSince, exported);
+        return exported;
+    }
+
+    private int write(List<UUID> batch, OutputStream out) throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<ProductExportDocument> documents = productExportRepository.findExportDocuments(batch);
+        for (ProductExportDocument document : documents) {
+            out.write(objectMapper.writeValueAsBytes(document));
+            out.write(NEW_LINE);
+        }
+        out.flush();
+        entityManager.clear();
+        return documents.size();
+    }
+}
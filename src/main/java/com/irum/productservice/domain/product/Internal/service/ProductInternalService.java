@@ -7,10 +7,13 @@ import com.irum.openfeign.product.dto.response.ProductDto;
 import com.irum.openfeign.product.dto.response.ProductInternalResponse;
 import com.irum.productservice.domain.discount.domain.entity.Discount;
 import com.irum.productservice.domain.discount.domain.repository.DiscountRepository;
+import com.irum.productservice.domain.product.Internal.service.stock.StockEngine;
+import com.irum.productservice.domain.product.Internal.service.stock.StockMetrics;
 import com.irum.productservice.domain.product.domain.entity.Product;
 import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
 import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
 import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.dto.response.StockReservationResponse;
 import com.irum.productservice.domain.product.mapper.ProductMapper;
 import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
 import jakarta.persistence.OptimisticLockException;
@@ -35,7 +38,11 @@ public class ProductInternalService {
     private final ProductOptionValueRepository productOptionValueRepository;
     private final DiscountRepository discountRepository;
     private final ProductStockService productStockService;
+    private final StockUpdateBatcher stockUpdateBatcher;
+    private final StockReservationService stockReservationService;
+    private final StockMetrics stockMetrics;
     private final ProductMapper productMapper;
+    private final StockEngine stockEngine;
 
     // 상품 ID를 가지고 상품, 옵션(전체), 할인 조회
     @Transactional(readOnly = true)
@@ -49,7 +56,8 @@ public class ProductInternalService {
         List<ProductOptionValue> optionValues =
                 productOptionValueRepository.findAllByOptionGroup_Product(product);
 
-        return productMapper.toDto(product, optionValues, discount);
+        return productMapper.toDto(
+                product, optionValues, stockEngine.availableStock(optionValues), discount);
     }
 
     // 옵션 ID를 가지고 상품, 옵션(전체), 할인 조회
@@ -68,7 +76,7 @@ public class ProductInternalService {
         List<ProductOptionValue> options =
                 productOptionValueRepository.findAllByOptionGroup(optionValue.getOptionGroup());
 
-        return productMapper.toDto(product, options, discount);
+        return productMapper.toDto(product, options, stockEngine.availableStock(options), discount);
     }
 
     /** storeId, optionValueIdList -> 재고 감소 및 배송 정책, 상품 정보 조회 */
@@ -82,9 +90,18 @@ public class ProductInternalService {
             notRecoverable = {CommonException.class},
             maxAttempts = 3, // 최대 3번 재시도
             backoff = @Backoff(delay = 50, maxDelay = 500, multiplier = 1.5, random = true),
+            label = StockMetrics.UPDATE,
             recover = "recoverUpdateStock")
     public ProductInternalResponse updateStock(ProductInternalRequest request) {
-        return productStockService.updateStockInTransaction(request);
+        return stockMetrics.recordTransaction(
+                StockMetrics.UPDATE,
+                () -> {
+                    // 묶음 처리 사용 시 같은 시간대 요청과 한 트랜잭션으로 처리
+                    if (stockUpdateBatcher.isEnabled()) {
+                        return stockUpdateBatcher.submit(request);
+                    }
+                    return productStockService.updateStockInTransaction(request);
+                });
     }
 
     /** updateStock 낙관적 락 충돌 재시도 횟수 초과시 처리 */
@@ -108,9 +125,15 @@ public class ProductInternalService {
             notRecoverable = {CommonException.class},
             maxAttempts = 10,
             backoff = @Backoff(delay = 100, maxDelay = 1000, multiplier = 1.5, random = true),
+            label = StockMetrics.ROLLBACK,
             recover = "recoverRollbackStock")
     public void rollbackStock(RollbackStockRequest request) {
-        productStockService.rollbackStockInTransactional(request);
+        stockMetrics.recordTransaction(
+                StockMetrics.ROLLBACK,
+                () -> {
+                    productStockService.rollbackStockInTransactional(request);
+                    return null;
+                });
     }
 
     @Recover
@@ -121,4 +144,42 @@ public class ProductInternalService {
                 request);
         throw new CommonException(ProductErrorCode.PRODUCT_RETRY_LIMIT_EXCEEDED);
     }
+
+    /** 재고를 차감하고 만료 시각이 있는 홀드를 생성합니다. 확정되지 않으면 만료 후 자동으로 반환됩니다. */
+    @Retryable(
+            retryFor = {
+                OptimisticLockException.class,
+                StaleObjectStateException.class,
+                ObjectOptimisticLockingFailureException.class
+            },
+            noRetryFor = {CommonException.class},
+            notRecoverable = {CommonException.class},
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 50, maxDelay = 500, multiplier = 1.5, random = true),
+            label = StockMetrics.RESERVE,
+            recover = "recoverReserveStock")
+    public StockReservationResponse reserveStock(ProductInternalRequest request) {
+        return stockMetrics.recordTransaction(
+                StockMetrics.RESERVE, () -> stockReservationService.reserve(request));
+    }
+
+    @Recover
+    public StockReservationResponse recoverReserveStock(
+            Throwable e, ProductInternalRequest request) {
+        log.error(
+                "재고 홀드 최종 실패, 3번의 재시도 모두 실패. 발생한 예외 {},  Request : {}",
+                e.getClass().getSimpleName(),
+                request);
+        throw new CommonException(ProductErrorCode.PRODUCT_RETRY_LIMIT_EXCEEDED);
+    }
+
+    /** 재고 홀드 확정. 상태만 변경하므로 재고 쓰기가 없습니다. */
+    public void confirmReservation(UUID reservationId) {
+        stockReservationService.confirm(reservationId);
+    }
+
+    /** 재고 홀드 취소. 반환 실패 시에도 만료 스케줄러가 다시 반환합니다. */
+    public void releaseReservation(UUID reservationId) {
+        stockReservationService.release(reservationId);
+    }
 }
@@ -7,19 +7,30 @@ import com.irum.openfeign.product.dto.response.ProductInternalResponse;
 import com.irum.productservice.domain.discount.domain.entity.Discount;
 import com.irum.productservice.domain.discount.domain.repository.DiscountRepository;
 import com.irum.productservice.domain.product.Internal.service.converter.ProductInternalResponseMapper;
+import com.irum.productservice.domain.product.Internal.service.stock.BatchStockResult;
+import com.irum.productservice.domain.product.Internal.service.stock.StockChange;
+import com.irum.productservice.domain.product.Internal.service.stock.StockEngine;
+import com.irum.productservice.domain.product.domain.entity.Product;
 import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
 import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.event.ProductSoldEvent;
+import com.irum.productservice.domain.product.event.StockChangedEvent;
 import com.irum.productservice.domain.product.mapper.UpdateStockMapper;
 import com.irum.productservice.domain.store.domain.entity.Store;
 import com.irum.productservice.domain.store.domain.repository.StoreRepository;
 import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
 import com.irum.productservice.global.exception.errorcode.StoreErrorCode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,9 +42,24 @@ public class ProductStockService {
     private final DiscountRepository discountRepository;
     private final StoreRepository storeRepository;
     private final UpdateStockMapper updateStockMapper;
+    private final StockEngine stockEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProductInternalResponse updateStockInTransaction(ProductInternalRequest request) {
+        return decreaseStock(request, true);
+    }
+
+    /**
+     * 재고 홀드용 차감. 차감과 응답은 updateStockInTransaction 과 같지만, 확정 전이라 판매로 세지 않습니다. 판매 이벤트는 홀드를 확정할 때
+     * 발행합니다.
+     */
+    @Transactional
+    public ProductInternalResponse holdStockInTransaction(ProductInternalRequest request) {
+        return decreaseStock(request, false);
+    }
+
+    private ProductInternalResponse decreaseStock(ProductInternalRequest request, boolean sold) {
         // 상점 + 배송정책 조회
         log.warn("updateStockInTransaction {}", request);
         Store store =
@@ -59,15 +85,20 @@ public class ProductStockService {
         // 정합 점검 : 존재하지 않는 옵션이 섞여 있는지
         validateAllOptionValuesExist(request, productOptionValueList);
 
-        // 재고 감소
+        // 주문 검증 : 상점의 상품인지
+        List<StockChange> stockChanges = new ArrayList<>();
         for (ProductInternalRequest.OptionValueRequest optionValueRequest :
                 request.optionValueList()) {
             ProductOptionValue pov = povMap.get(optionValueRequest.optionValueId());
+            validateStore(pov, store);
+            stockChanges.add(new StockChange(pov, optionValueRequest.quantity()));
+        }
 
-            // 주문 검증 : 상점의 상품인지, 재고 부족 체크
-            validateStoreAndStock(pov, store, optionValueRequest);
-
-            pov.decreaseStock(optionValueRequest.quantity());
+        // 재고 감소 : 재고 부족 체크 포함
+        stockEngine.decrease(stockChanges);
+        publishStockChanged(stockChanges, -1);
+        if (sold) {
+            publishProductSold(stockChanges);
         }
 
         // 할인 조회
@@ -89,6 +120,126 @@ public class ProductStockService {
                 store, productOptionValueList, discountMap);
     }
 
+    /**
+     * 여러 주문의 재고 차감을 한 트랜잭션에서 처리합니다. 요청 순서대로 남은 재고를 계산해 주문별로 성공/실패를 정하고, 성공한 주문의 차감분만 옵션별로 합쳐 한 번에
+     * 반영합니다.
+     *
+     * <p>주문 하나의 검증 실패나 재고 부족은 해당 주문의 결과로만 돌려주며, 트랜잭션 자체가 실패하면(낙관적 락 충돌 등) 예외가 그대로 전파됩니다.
+     */
+    @Transactional
+    public List<BatchStockResult> updateStockInBatch(List<ProductInternalRequest> requests) {
+        // 옵션 조회. 묶음 전체를 한 번에 fetch join
+        List<UUID> allOptionValueIds =
+                requests.stream()
+                        .flatMap(request -> request.optionValueList().stream())
+                        .map(ProductInternalRequest.OptionValueRequest::optionValueId)
+                        .distinct()
+                        .toList();
+        Map<UUID, ProductOptionValue> povMap =
+                productOptionValueRepository.findAllByIdWithFetchJoin(allOptionValueIds).stream()
+                        .collect(
+                                Collectors.toMap(
+                                        ProductOptionValue::getId,
+                                        productOptionValue -> productOptionValue));
+
+        // 상점 + 배송정책 조회
+        Map<UUID, Store> storeMap = new HashMap<>();
+        for (ProductInternalRequest request : requests) {
+            storeMap.computeIfAbsent(
+                    request.storeId(),
+                    storeId -> storeRepository.findByIdWithDeliveryPolicy(storeId).orElse(null));
+        }
+
+        // 할인 조회
+        List<UUID> productIdList =
+                povMap.values().stream()
+                        .map(pov -> pov.getOptionGroup().getProduct().getId())
+                        .distinct()
+                        .toList();
+        Map<UUID, Integer> discountMap =
+                discountRepository.findAllByProductIds(productIdList).stream()
+                        .collect(
+                                Collectors.toMap(
+                                        discount -> discount.getProduct().getId(), // productId
+                                        Discount::getAmount));
+
+        // 요청 순서대로 남은 재고에서 차감 가능 여부 판단. 엔진의 가용 재고 기준이며, 그 사이 다른 인스턴스가 차감해 엔진이 거절하면 묶음 전체가
+        // 실패하고 묶음 처리기가 개별 처리로 전환합니다.
+        Map<UUID, Integer> remainingStock =
+                new HashMap<>(stockEngine.availableStock(povMap.values()));
+        Map<UUID, Integer> acceptedQuantity = new LinkedHashMap<>();
+
+        List<BatchStockResult> results = new ArrayList<>();
+        for (ProductInternalRequest request : requests) {
+            try {
+                Store store = storeMap.get(request.storeId());
+                if (store == null) {
+                    throw new CommonException(StoreErrorCode.STORE_NOT_FOUND);
+                }
+
+                List<ProductOptionValue> requestPovList =
+                        request.optionValueList().stream()
+                                .map(ProductInternalRequest.OptionValueRequest::optionValueId)
+                                .distinct()
+                                .map(povMap::get)
+                                .filter(Objects::nonNull)
+                                .toList();
+                validateAllOptionValuesExist(request, requestPovList);
+
+                Map<UUID, Integer> requestQuantity = new LinkedHashMap<>();
+                for (ProductInternalRequest.OptionValueRequest optionValueRequest :
+                        request.optionValueList()) {
+                    validateStore(povMap.get(optionValueRequest.optionValueId()), store);
+                    requestQuantity.merge(
+                            optionValueRequest.optionValueId(),
+                            optionValueRequest.quantity(),
+                            Integer::sum);
+                }
+                validateRemainingStock(requestQuantity, remainingStock);
+
+                requestQuantity.forEach(
+                        (id, quantity) -> {
+                            remainingStock.merge(id, -quantity, Integer::sum);
+                            acceptedQuantity.merge(id, quantity, Integer::sum);
+                        });
+                results.add(
+                        BatchStockResult.success(
+                                ProductInternalResponseMapper.toProductInternalResponse(
+                                        store, requestPovList, discountMap)));
+            } catch (CommonException e) {
+                results.add(BatchStockResult.failure(e));
+            }
+        }
+
+        // 재고 감소 : 성공한 주문의 차감분을 옵션별로 합쳐 한 번에 반영
+        if (!acceptedQuantity.isEmpty()) {
+            List<StockChange> stockChanges = new ArrayList<>();
+            acceptedQuantity.forEach(
+                    (id, quantity) -> stockChanges.add(new StockChange(povMap.get(id), quantity)));
+            stockEngine.decrease(stockChanges);
+            publishStockChanged(stockChanges, -1);
+            publishProductSold(stockChanges);
+        }
+
+        return results;
+    }
+
+    /** 묶음 처리 중 남은 재고로 주문 수량을 감당할 수 있는지 확인 */
+    private void validateRemainingStock(
+            Map<UUID, Integer> requestQuantity, Map<UUID, Integer> remainingStock) {
+        for (Map.Entry<UUID, Integer> entry : requestQuantity.entrySet()) {
+            int remaining = remainingStock.get(entry.getKey());
+            if (remaining < entry.getValue()) {
+                log.warn(
+                        "Product out of stock. OptionValue ID: {}, Stock: {}, Request: {}",
+                        entry.getKey(),
+                        remaining,
+                        entry.getValue());
+                throw new CommonException(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+            }
+        }
+    }
+
     /** 모든 옵션이 존재하는지 확인 */
     private void validateAllOptionValuesExist(
             ProductInternalRequest request, List<ProductOptionValue> povList) {
@@ -101,13 +252,8 @@ public class ProductStockService {
         }
     }
 
-    /** 주문 검증 : 상점의 상품인지, 재고 부족 체크 */
-    private void validateStoreAndStock(
-            ProductOptionValue pov,
-            Store store,
-            ProductInternalRequest.OptionValueRequest optionValueRequest) {
-
-        // 해당 상점의 상품인지 확인
+    /** 주문 검증 : 상점의 상품인지 */
+    private void validateStore(ProductOptionValue pov, Store store) {
         if (!pov.getOptionGroup().getProduct().getStore().getId().equals(store.getId())) {
             log.warn(
                     "Product not in store. Product store ID: {}, Request store ID: {}",
@@ -115,16 +261,6 @@ public class ProductStockService {
                     store.getId());
             throw new CommonException(ProductErrorCode.PRODUCT_NOT_IN_STORE);
         }
-
-        // 재고보다 요청 수량이 많은지 체크
-        if (pov.getStockQuantity() < optionValueRequest.quantity()) {
-            log.warn(
-                    "Product out of stock. OptionValue ID: {}, Stock: {}, Request: {}",
-                    pov.getId(),
-                    pov.getStockQuantity(),
-                    optionValueRequest.quantity());
-            throw new CommonException(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
-        }
     }
 
     @Transactional
@@ -143,16 +279,53 @@ public class ProductStockService {
         Map<UUID, ProductOptionValue> optionMap =
                 options.stream().collect(Collectors.toMap(ProductOptionValue::getId, pov -> pov));
 
-        // 재고 되돌리기
+        List<StockChange> stockChanges = new ArrayList<>();
         for (RollbackStockRequest.OptionValueRequest opr : request.optionValueList()) {
             ProductOptionValue option = optionMap.get(opr.optionValueId());
 
             // 옵션 존재 여부 체크
             validateOptionExist(option);
 
-            // 재고 되돌리기
-            option.increaseStock(opr.quantity());
+            stockChanges.add(new StockChange(option, opr.quantity()));
+        }
+
+        // 재고 되돌리기
+        stockEngine.increase(stockChanges);
+        publishStockChanged(stockChanges, 1);
+    }
+
+    /** 옵션별로 합친 증감을 이벤트로 발행합니다. 같은 트랜잭션에서 outbox 에 기록됩니다. */
+    private void publishStockChanged(List<StockChange> stockChanges, int sign) {
+        Map<UUID, Integer> quantityMap = new LinkedHashMap<>();
+        stockChanges.forEach(
+                change ->
+                        quantityMap.merge(
+                                change.optionValue().getId(), change.quantity(), Integer::sum));
+        quantityMap.forEach(
+                (id, quantity) ->
+                        eventPublisher.publishEvent(new StockChangedEvent(id, sign * quantity)));
+    }
+
+    /** 팔린 수량을 상품별로 합쳐 발행합니다. 인기 상품 랭킹은 커밋 후 반영합니다. */
+    public void publishProductSold(List<StockChange> stockChanges) {
+        Map<UUID, ProductSoldEvent.Sale> sales = new LinkedHashMap<>();
+        for (StockChange change : stockChanges) {
+            Product product = change.optionValue().getOptionGroup().getProduct();
+            sales.merge(
+                    product.getId(),
+                    new ProductSoldEvent.Sale(
+                            product.getId(),
+                            product.getCategory().getCategoryId(),
+                            product.getStore().getId(),
+                            change.quantity()),
+                    (sale, more) ->
+                            new ProductSoldEvent.Sale(
+                                    sale.productId(),
+                                    sale.categoryId(),
+                                    sale.storeId(),
+                                    sale.quantity() + more.quantity()));
         }
+        eventPublisher.publishEvent(new ProductSoldEvent(List.copyOf(sales.values())));
     }
 
     /** option 존재하는지 체크 */
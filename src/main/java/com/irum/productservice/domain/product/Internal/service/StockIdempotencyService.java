@@ -0,0 +1,179 @@
+package com.irum.productservice.domain.product.Internal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.irum.global.advice.exception.CommonException;
+import com.irum.productservice.global.exception.errorcode.GlobalErrorCode;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import com.irum.productservice.global.infrastructure.properties.StockProperties;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 내부 재고 API 멱등 처리. Idempotency-Key 헤더 값 기준으로 처음 한 번만 실행하고, 같은 키의 재요청에는 저장해 둔 응답을 DB 접근 없이 돌려줍니다.
+ *
+ * <p>처리 전 "처리 중" 표시를 SET NX 로 선점하고, 성공하면 응답(JSON)으로 덮어씁니다. 실패하면 표시를 지워 같은 키로 다시 시도할 수 있게 합니다. 처리 중
+ * 표시에는 요청마다 만든 토큰을 넣고 값이 그대로일 때만 지우므로, lockSeconds 보다 오래 처리하다 실패해도 그사이 같은 키를 선점한 다른 요청의 표시는 지우지
+ * 않습니다. 저장 값에는 요청 본문의 해시를 함께 두어, 같은 키로 다른 본문이 들어오면 저장된 응답 대신 IDEMPOTENCY_KEY_REUSED 로 거절합니다.
+ *
+ * <p>Redis 장애 시에는 멱등 처리 없이 그대로 실행합니다. 실행(DB 커밋)이 끝난 뒤 응답 저장만 실패하면 예외를 던지지 않고 기록만 남깁니다. 호출자가 500 을
+ * 받고 재시도하면 재고가 두 번 차감되기 때문이며, 처리 중 표시는 lockSeconds 동안 남아 그동안의 재요청은 IDEMPOTENT_REQUEST_IN_PROGRESS 로
+ * 거절됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockIdempotencyService {
+
+    private static final String KEY_PREFIX = "idempotency:stock:";
+    private static final String IN_PROGRESS = "__IN_PROGRESS__";
+    // 저장 값 = 요청 해시 + 구분자 + (처리 중 표시:요청 토큰 | 응답 JSON)
+    private static final char SEPARATOR = '\n';
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    if redis.call('GET', KEYS[1]) == ARGV[1] then
+                      return redis.call('DEL', KEYS[1])
+                    end
+                    return 0
+                    """,
+                    Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final StockProperties stockProperties;
+
+    /**
+     * @param scope 엔드포인트 구분 (같은 키라도 scope 가 다르면 별개 요청)
+     * @param idempotencyKey 요청 헤더 값. 없으면 매번 실행합니다.
+     * @param request 요청 본문. 같은 키의 재요청이 같은 요청인지 해시로 비교합니다.
+     */
+    public <T> T execute(
+            String scope,
+            String idempotencyKey,
+            Object request,
+            Class<T> responseType,
+            Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        String key = KEY_PREFIX + scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        String marker = fingerprint + SEPARATOR + IN_PROGRESS + ":" + UUID.randomUUID();
+        Boolean acquired;
+        try {
+            acquired =
+                    redisTemplate
+                            .opsForValue()
+                            .setIfAbsent(
+                                    key,
+                                    marker,
+                                    Duration.ofSeconds(
+                                            stockProperties.idempotency().lockSeconds()));
+        } catch (DataAccessException e) {
+            log.warn("멱등키 저장소 접근 실패, 멱등 처리 없이 실행합니다. key={}", key, e);
+            return action.get();
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            return replay(key, fingerprint, responseType);
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(key, marker);
+            throw e;
+        }
+
+        try {
+            redisTemplate
+                    .opsForValue()
+                    .set(
+                            key,
+                            fingerprint + SEPARATOR + serialize(response),
+                            Duration.ofSeconds(stockProperties.idempotency().ttlSeconds()));
+        } catch (DataAccessException e) {
+            log.error("멱등키 응답 저장 실패, 처리 결과는 그대로 반환합니다. key={}", key, e);
+        }
+        return response;
+    }
+
+    private <T> T replay(String key, String fingerprint, Class<T> responseType) {
+        String stored;
+        try {
+            stored = redisTemplate.opsForValue().get(key);
+        } catch (DataAccessException e) {
+            // 첫 요청이 처리됐는지 알 수 없으므로 다시 실행하지 않음
+            log.warn("멱등키 저장 응답 조회 실패, 중복 요청 거절. key={}", key, e);
+            throw new CommonException(ProductErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+        if (stored == null) {
+            // 첫 요청이 방금 실패해 표시가 지워짐
+            log.info("멱등키 요청 처리 중, 중복 요청 거절. key={}", key);
+            throw new CommonException(ProductErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+
+        int separator = stored.indexOf(SEPARATOR);
+        if (separator < 0 || !fingerprint.equals(stored.substring(0, separator))) {
+            log.warn("멱등키 재사용, 다른 요청 본문으로 들어와 거절. key={}", key);
+            throw new CommonException(ProductErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        String body = stored.substring(separator + 1);
+        if (body.startsWith(IN_PROGRESS)) {
+            log.info("멱등키 요청 처리 중, 중복 요청 거절. key={}", key);
+            throw new CommonException(ProductErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+
+        log.info("멱등키 중복 요청, 저장된 응답 반환. key={}", key);
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            log.error("멱등키 저장 응답 역직렬화 실패. key={}", key, e);
+            throw new CommonException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 내 표시일 때만 지움. 지우지 못해도 lockSeconds 뒤에 만료되므로 원래 예외를 그대로 던짐
+    private void release(String key, String marker) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), marker);
+        } catch (DataAccessException e) {
+            log.warn("멱등키 처리 중 표시 삭제 실패. key={}", key, e);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest =
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(serialize(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new CommonException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.irum.productservice.domain.product.Internal.service;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.openfeign.product.dto.response.ProductInternalResponse;
+import com.irum.productservice.domain.product.Internal.service.stock.StockChange;
+import com.irum.productservice.domain.product.Internal.service.stock.StockEngine;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.entity.StockReservation;
+import com.irum.productservice.domain.product.domain.entity.StockReservationItem;
+import com.irum.productservice.domain.product.domain.entity.StockReservationStatus;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.StockReservationRepository;
+import com.irum.productservice.domain.product.dto.response.StockReservationResponse;
+import com.irum.productservice.domain.product.event.StockChangedEvent;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import com.irum.productservice.global.infrastructure.properties.StockProperties;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 재고 홀드(reserve -> confirm / release) 처리.
+ *
+ * <p>reserve 시점에 재고를 차감하고 만료 시각이 있는 홀드를 남깁니다. confirm 은 상태만 바꾸므로 재고 쓰기가 없고, 확정되지 않은 홀드는 명시적 release
+ * 또는 만료 스케줄러가 한 번만 재고를 되돌립니다. 상태 전이는 조건부 UPDATE 로 처리해 확정과 만료가 겹쳐도 한쪽만 반영됩니다.
+ *
+ * <p>인기 상품 랭킹은 점수를 빼지 않으므로, 판매 이벤트(ProductSoldEvent)는 reserve 가 아니라 confirm 에서 발행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationService {
+
+    private final ProductStockService productStockService;
+    private final StockReservationRepository stockReservationRepository;
+    private final ProductOptionValueRepository productOptionValueRepository;
+    private final StockEngine stockEngine;
+    private final StockProperties stockProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 재고를 차감하고 만료 시각이 있는 홀드를 생성합니다. */
+    @Transactional
+    public StockReservationResponse reserve(ProductInternalRequest request) {
+        // 재고 감소 + 응답 생성은 기존 차감 경로와 동일 (판매 이벤트 제외)
+        ProductInternalResponse response = productStockService.holdStockInTransaction(request);
+
+        LocalDateTime expiresAt =
+                LocalDateTime.now().plusSeconds(stockProperties.reservation().ttlSeconds());
+        StockReservation reservation =
+                StockReservation.createReservation(request.storeId(), expiresAt);
+        Map<UUID, Integer> quantityMap = new LinkedHashMap<>();
+        for (ProductInternalRequest.OptionValueRequest optionValueRequest :
+                request.optionValueList()) {
+            quantityMap.merge(
+                    optionValueRequest.optionValueId(),
+                    optionValueRequest.quantity(),
+                    Integer::sum);
+        }
+        quantityMap.forEach(reservation::addItem);
+        stockReservationRepository.save(reservation);
+
+        log.info("재고 홀드 생성: reservationId={}, expiresAt={}", reservation.getId(), expiresAt);
+        return StockReservationResponse.of(reservation, response);
+    }
+
+    /** 홀드를 확정합니다. 이미 확정된 홀드는 그대로 성공 처리합니다. */
+    @Transactional
+    public void confirm(UUID reservationId) {
+        StockReservation reservation = getReservation(reservationId);
+
+        if (reservation.getStatus() == StockReservationStatus.CONFIRMED) {
+            return;
+        }
+        if (reservation.getStatus() != StockReservationStatus.HELD
+                || reservation.isExpired(LocalDateTime.now())) {
+            throw new CommonException(ProductErrorCode.STOCK_RESERVATION_EXPIRED);
+        }
+
+        int updated =
+                stockReservationRepository.updateStatus(
+                        reservationId,
+                        StockReservationStatus.HELD,
+                        StockReservationStatus.CONFIRMED);
+        if (updated == 0) {
+            // 확정 직전에 만료 스케줄러가 먼저 반환함
+            throw new CommonException(ProductErrorCode.STOCK_RESERVATION_EXPIRED);
+        }
+        productStockService.publishProductSold(toStockChanges(reservation.getItems()));
+        log.info("재고 홀드 확정: reservationId={}", reservationId);
+    }
+
+    /** 확정 전 홀드를 취소하고 재고를 되돌립니다. 이미 반환된 홀드는 그대로 성공 처리합니다. */
+    @Transactional
+    public void release(UUID reservationId) {
+        StockReservation reservation = getReservation(reservationId);
+
+        if (reservation.getStatus() == StockReservationStatus.CONFIRMED) {
+            throw new CommonException(ProductErrorCode.STOCK_RESERVATION_ALREADY_CONFIRMED);
+        }
+        if (releaseStock(reservation, StockReservationStatus.RELEASED)) {
+            log.info("재고 홀드 취소: reservationId={}", reservationId);
+        }
+    }
+
+    /** 만료된 홀드의 재고를 되돌립니다. 그 사이 확정/취소된 홀드는 건너뜁니다. */
+    @Transactional
+    public boolean expire(UUID reservationId) {
+        return stockReservationRepository
+                .findByIdWithItems(reservationId)
+                .map(reservation -> releaseStock(reservation, StockReservationStatus.EXPIRED))
+                .orElse(false);
+    }
+
+    /** 만료 시각이 지난 홀드 id 를 오래된 순으로 조회합니다. */
+    @Transactional(readOnly = true)
+    public List<UUID> findExpiredReservationIds(LocalDateTime now) {
+        return stockReservationRepository.findIdsByStatusAndExpiresAtBefore(
+                StockReservationStatus.HELD,
+                now,
+                PageRequest.of(0, stockProperties.reservation().sweepBatchSize()));
+    }
+
+    private StockReservation getReservation(UUID reservationId) {
+        return stockReservationRepository
+                .findByIdWithItems(reservationId)
+                .orElseThrow(
+                        () -> new CommonException(ProductErrorCode.STOCK_RESERVATION_NOT_FOUND));
+    }
+
+    /** HELD -> (RELEASED | EXPIRED) 전이에 성공한 경우에만 재고를 되돌립니다. */
+    private boolean releaseStock(StockReservation reservation, StockReservationStatus to) {
+        int updated =
+                stockReservationRepository.updateStatus(
+                        reservation.getId(), StockReservationStatus.HELD, to);
+        if (updated == 0) {
+            return false;
+        }
+
+        List<StockChange> stockChanges = toStockChanges(reservation.getItems());
+        stockEngine.increase(stockChanges);
+        stockChanges.forEach(
+                change ->
+                        eventPublisher.publishEvent(
+                                new StockChangedEvent(
+                                        change.optionValue().getId(), change.quantity())));
+        return true;
+    }
+
+    /** 홀드 항목을 옵션 재고 변경으로 바꿉니다. 그 사이 삭제된 옵션은 건너뜁니다. */
+    private List<StockChange> toStockChanges(List<StockReservationItem> items) {
+        Map<UUID, ProductOptionValue> povMap =
+                productOptionValueRepository
+                        .findAllByIds(
+                                items.stream().map(StockReservationItem::getOptionValueId).toList())
+                        .stream()
+                        .collect(Collectors.toMap(ProductOptionValue::getId, Function.identity()));
+
+        return items.stream()
+                .filter(item -> povMap.containsKey(item.getOptionValueId()))
+                .map(
+                        item ->
+                                new StockChange(
+                                        povMap.get(item.getOptionValueId()), item.getQuantity()))
+                .toList();
+    }
+}
@@ -0,0 +1,43 @@
+package com.irum.productservice.domain.product.Internal.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** 만료된 재고 홀드를 주기적으로 찾아 재고를 되돌립니다. 홀드마다 별도 트랜잭션으로 처리해 한 건의 실패가 나머지를 막지 않습니다. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationSweeper {
+
+    private final StockReservationService stockReservationService;
+
+    @Scheduled(fixedDelayString = "${product.stock.reservation.sweep-interval-ms:10000}")
+    public void sweep() {
+        List<UUID> expiredIds =
+                stockReservationService.findExpiredReservationIds(LocalDateTime.now());
+
+        int released = 0;
+        for (UUID reservationId : expiredIds) {
+            try {
+                if (stockReservationService.expire(reservationId)) {
+                    released++;
+                }
+            } catch (RuntimeException e) {
+                // 낙관적 락 충돌 등은 다음 실행에서 다시 처리
+                log.warn(
+                        "만료 재고 홀드 반환 실패: reservationId={}, 예외={}",
+                        reservationId,
+                        e.getClass().getSimpleName());
+            }
+        }
+
+        if (released > 0) {
+            log.info("만료 재고 홀드 반환 완료: {}건", released);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.irum.productservice.domain.product.Internal.service;
+
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.openfeign.product.dto.response.ProductInternalResponse;
+import com.irum.productservice.domain.product.Internal.service.stock.BatchStockResult;
+import com.irum.productservice.domain.product.Internal.service.stock.StockMetrics;
+import com.irum.productservice.global.infrastructure.properties.StockProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 차감 요청 묶음 처리기(group commit). 짧은 시간 안에 들어온 요청을 모아 한 트랜잭션에서 도착 순서대로 처리하고, 호출자마다 자신의 결과(성공 또는 재고
+ * 부족 등)를 돌려줍니다.
+ *
+ * <p>같은 옵션에 몰리는 요청이 트랜잭션마다 같은 행을 두고 경합하는 대신, 묶음당 한 번만 갱신하게 됩니다. product.stock.batch.enabled 로 켭니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockUpdateBatcher {
+
+    private static final long IDLE_POLL_MS = 100;
+
+    private final ProductStockService productStockService;
+    private final StockProperties stockProperties;
+    private final StockMetrics stockMetrics;
+
+    private final BlockingQueue<PendingRequest> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread worker;
+
+    public boolean isEnabled() {
+        return stockProperties.batch().enabled();
+    }
+
+    @PostConstruct
+    void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("stock-update-batcher").daemon().start(this::runLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false; // 남은 요청까지 처리한 뒤 종료
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /** 요청을 묶음에 넣고, 처리 결과가 나올 때까지 기다립니다. 실패는 처리 중 발생한 예외를 그대로 던집니다. */
+    public ProductInternalResponse submit(ProductInternalRequest request) {
+        if (!running) {
+            return productStockService.updateStockInTransaction(request);
+        }
+        PendingRequest pending = new PendingRequest(request, new CompletableFuture<>());
+        queue.add(pending);
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void runLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<PendingRequest> batch = collectBatch();
+                if (!batch.isEmpty()) {
+                    process(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                drainRemaining();
+                return;
+            }
+        }
+    }
+
+    /** 첫 요청을 기다린 뒤, 설정된 시간 동안 또는 최대 개수까지 이어지는 요청을 모읍니다. */
+    private List<PendingRequest> collectBatch() throws InterruptedException {
+        List<PendingRequest> batch = new ArrayList<>();
+        PendingRequest first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        int maxSize = stockProperties.batch().maxSize();
+        long deadline =
+                System.nanoTime()
+                        + TimeUnit.MILLISECONDS.toNanos(stockProperties.batch().windowMs());
+        while (batch.size() < maxSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingRequest next =
+                    remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void process(List<PendingRequest> batch) {
+        List<ProductInternalRequest> requests =
+                batch.stream().map(PendingRequest::request).toList();
+        List<BatchStockResult> results;
+        try {
+            results =
+                    stockMetrics.recordTransaction(
+                            StockMetrics.BATCH,
+                            () -> productStockService.updateStockInBatch(requests));
+        } catch (RuntimeException e) {
+            if (StockMetrics.isConflict(e)) {
+                stockMetrics.recordConflict(StockMetrics.BATCH, e);
+            }
+            // 묶음 트랜잭션 실패(다른 경로와의 낙관적 락 충돌 등) -> 요청별 개별 처리로 전환
+            log.warn(
+                    "재고 묶음 처리 실패, 개별 처리로 전환. 요청 수 : {}, 예외 : {}",
+                    batch.size(),
+                    e.getClass().getSimpleName());
+            processIndividually(batch);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            BatchStockResult result = results.get(i);
+            if (result.error() != null) {
+                batch.get(i).result().completeExceptionally(result.error());
+            } else {
+                batch.get(i).result().complete(result.response());
+            }
+        }
+    }
+
+    // 개별 처리에서 난 낙관적 락 예외는 호출자 쪽 @Retryable 이 다시 시도합니다.
+    private void processIndividually(List<PendingRequest> batch) {
+        for (PendingRequest pending : batch) {
+            try {
+                pending.result()
+                        .complete(productStockService.updateStockInTransaction(pending.request()));
+            } catch (RuntimeException e) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private void drainRemaining() {
+        List<PendingRequest> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            processIndividually(remaining);
+        }
+    }
+
+    private record PendingRequest(
+            ProductInternalRequest request, CompletableFuture<ProductInternalResponse> result) {}
+}
@@ -0,0 +1,16 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.openfeign.product.dto.response.ProductInternalResponse;
+
+/** 묶음 처리된 재고 차감 요청 하나의 결과. 성공이면 response, 실패면 error 만 채워집니다. */
+public record BatchStockResult(ProductInternalResponse response, CommonException error) {
+
+    public static BatchStockResult success(ProductInternalResponse response) {
+        return new BatchStockResult(response, null);
+    }
+
+    public static BatchStockResult failure(CommonException error) {
+        return new BatchStockResult(null, error);
+    }
+}
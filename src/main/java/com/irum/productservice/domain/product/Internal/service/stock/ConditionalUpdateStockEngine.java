@@ -0,0 +1,141 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionStockShard;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionStockShardRepository.ShardStock;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionStockShardRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조건부 단일 UPDATE 엔진. "stock_quantity >= :q" 조건을 건 UPDATE 한 번으로 재고 확인과 차감을 끝냅니다.
+ *
+ * <p>행 잠금은 DB 가 UPDATE 동안만 잡기 때문에 낙관적 락 충돌이 발생하지 않고, 경합 중인 주문도 재시도 없이 바로 성공하거나 PRODUCT_OUT_OF_STOCK
+ * 으로 실패합니다. 앞선 옵션이 차감된 뒤 실패하면 트랜잭션 롤백으로 함께 되돌아갑니다.
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "product.stock",
+        name = "engine",
+        havingValue = "conditional-update")
+@RequiredArgsConstructor
+@Slf4j
+public class ConditionalUpdateStockEngine implements StockEngine {
+
+    private static final int MAX_SPLIT_ROUNDS = 3; // 샤드에 나눠 차감할 때 다시 읽는 최대 횟수
+
+    private final ProductOptionValueRepository productOptionValueRepository;
+    private final ProductOptionStockShardRepository productOptionStockShardRepository;
+
+    @Override
+    public void decrease(List<StockChange> changes) {
+        Map<UUID, ProductOptionValue> povMap = optionValueMap(changes);
+
+        // 같은 옵션 합산 + id 순서로 정렬해 주문 간 행 잠금 순서를 맞춤 (교착 방지)
+        for (Map.Entry<UUID, Integer> entry : merge(changes).entrySet()) {
+            ProductOptionValue pov = povMap.get(entry.getKey());
+            boolean decreased =
+                    pov.isStockSharded()
+                            ? decreaseSharded(pov, entry.getValue())
+                            : productOptionValueRepository.decreaseStockIfAvailable(
+                                            entry.getKey(), entry.getValue())
+                                    == 1;
+            if (!decreased) {
+                log.warn(
+                        "Product out of stock. OptionValue ID: {}, Request: {}",
+                        entry.getKey(),
+                        entry.getValue());
+                throw new CommonException(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+            }
+        }
+    }
+
+    @Override
+    public void increase(List<StockChange> changes) {
+        Map<UUID, ProductOptionValue> povMap = optionValueMap(changes);
+
+        for (Map.Entry<UUID, Integer> entry : merge(changes).entrySet()) {
+            ProductOptionValue pov = povMap.get(entry.getKey());
+            if (pov.isStockSharded()) {
+                List<ProductOptionStockShard> shards = pov.getStockShards();
+                productOptionStockShardRepository.increaseStockBy(
+                        shards.get(ThreadLocalRandom.current().nextInt(shards.size())).getId(),
+                        entry.getValue());
+            } else {
+                productOptionValueRepository.increaseStockBy(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 샤딩된 옵션 차감. 임의의 샤드부터 한 샤드에서 전부 차감을 시도하고, 안 되면 여러 샤드에 나눠 차감한 뒤 남은 수량은 본 행 잔여분에서 차감합니다. 중간에 실패하면
+     * 호출 측 예외로 트랜잭션이 롤백되어 부분 차감도 되돌아갑니다.
+     *
+     * <p>나눠 차감할 때는 첫 시도에서 바뀐 샤드 재고를 다시 읽어 수량을 정하고, 그 사이 다른 주문이 가져가 조건부 UPDATE 가 실패하면 다시 읽어 시도합니다.
+     */
+    private boolean decreaseSharded(ProductOptionValue pov, int quantity) {
+        List<ProductOptionStockShard> shards = pov.getStockShards();
+        int start = ThreadLocalRandom.current().nextInt(shards.size());
+
+        for (int i = 0; i < shards.size(); i++) {
+            UUID shardId = shards.get((start + i) % shards.size()).getId();
+            if (productOptionStockShardRepository.decreaseStockIfAvailable(shardId, quantity)
+                    == 1) {
+                return true;
+            }
+        }
+
+        int remaining = quantity;
+        for (int round = 0; round < MAX_SPLIT_ROUNDS && remaining > 0; round++) {
+            List<ShardStock> stocks =
+                    productOptionStockShardRepository.findStocksByOptionValueId(pov.getId());
+            boolean contended = false;
+            for (int i = 0; i < stocks.size() && remaining > 0; i++) {
+                ShardStock shard = stocks.get((start + i) % stocks.size());
+                int take = Math.min(remaining, shard.getStockQuantity());
+                if (take <= 0) {
+                    continue;
+                }
+                if (productOptionStockShardRepository.decreaseStockIfAvailable(shard.getId(), take)
+                        == 1) {
+                    remaining -= take;
+                } else {
+                    contended = true;
+                }
+            }
+            if (!contended) {
+                break; // 샤드에 남은 재고를 모두 가져감
+            }
+        }
+        return remaining == 0
+                || productOptionValueRepository.decreaseStockIfAvailable(pov.getId(), remaining)
+                        == 1;
+    }
+
+    private Map<UUID, ProductOptionValue> optionValueMap(List<StockChange> changes) {
+        Map<UUID, ProductOptionValue> povMap = new HashMap<>();
+        for (StockChange change : changes) {
+            povMap.putIfAbsent(change.optionValue().getId(), change.optionValue());
+        }
+        return povMap;
+    }
+
+    private Map<UUID, Integer> merge(List<StockChange> changes) {
+        Map<UUID, Integer> merged = new TreeMap<>();
+        for (StockChange change : changes) {
+            merged.merge(change.optionValue().getId(), change.quantity(), Integer::sum);
+        }
+        return merged;
+    }
+}
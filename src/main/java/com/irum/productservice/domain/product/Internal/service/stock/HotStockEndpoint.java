@@ -0,0 +1,25 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.productservice.global.infrastructure.properties.StockProperties;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/** 재고 경합이 몰리는 옵션 조회. GET /actuator/hotstock?limit=10 */
+@Component
+@Endpoint(id = "hotstock")
+@RequiredArgsConstructor
+public class HotStockEndpoint {
+
+    private final HotStockTracker hotStockTracker;
+    private final StockProperties stockProperties;
+
+    @ReadOperation
+    public List<HotStockTracker.HotStock> hotStock(@Nullable Integer limit) {
+        int size = limit != null && limit > 0 ? limit : stockProperties.metrics().topK();
+        return hotStockTracker.top(size);
+    }
+}
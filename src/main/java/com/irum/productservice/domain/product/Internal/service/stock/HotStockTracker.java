@@ -0,0 +1,83 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.productservice.global.infrastructure.properties.StockProperties;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 변경 요청과 낙관적 락 충돌이 몰리는 옵션(상위 K개) 집계. 주기마다 값을 절반으로 줄여 최근 경합이 높은 옵션이 위로 올라오며, 추적 옵션 수가 상한에 닿으면 다음
+ * 감쇠로 자리가 날 때까지 새 옵션은 집계하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotStockTracker {
+
+    private final StockProperties stockProperties;
+
+    private final Map<UUID, Heat> heats = new ConcurrentHashMap<>();
+
+    public void recordRequest(Collection<UUID> optionValueIds) {
+        optionValueIds.forEach(id -> heat(id).ifPresent(heat -> heat.requests.incrementAndGet()));
+    }
+
+    public void recordConflict(Collection<UUID> optionValueIds) {
+        optionValueIds.forEach(id -> heat(id).ifPresent(heat -> heat.conflicts.incrementAndGet()));
+    }
+
+    /** 충돌 수, 요청 수 순으로 상위 limit 개 */
+    public List<HotStock> top(int limit) {
+        return heats.entrySet().stream()
+                .map(
+                        entry ->
+                                new HotStock(
+                                        entry.getKey(),
+                                        entry.getValue().requests.get(),
+                                        entry.getValue().conflicts.get()))
+                .sorted(
+                        Comparator.comparingLong(HotStock::conflicts)
+                                .thenComparingLong(HotStock::requests)
+                                .reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${product.stock.metrics.decay-interval-ms:60000}")
+    public void decay() {
+        heats.replaceAll(
+                (id, heat) -> {
+                    heat.requests.updateAndGet(value -> value / 2);
+                    heat.conflicts.updateAndGet(value -> value / 2);
+                    return heat;
+                });
+        heats.values().removeIf(heat -> heat.requests.get() == 0 && heat.conflicts.get() == 0);
+    }
+
+    private Optional<Heat> heat(UUID optionValueId) {
+        Heat heat = heats.get(optionValueId);
+        if (heat == null && heats.size() < stockProperties.metrics().maxTracked()) {
+            heat = heats.computeIfAbsent(optionValueId, id -> new Heat());
+        }
+        return Optional.ofNullable(heat);
+    }
+
+    private static final class Heat {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong conflicts = new AtomicLong();
+    }
+
+    /**
+     * @param optionValueId 옵션 값 ID
+     * @param requests 감쇠 반영된 재고 변경 요청 수
+     * @param conflicts 감쇠 반영된 낙관적 락 충돌 수
+     */
+    public record HotStock(UUID optionValueId, long requests, long conflicts) {}
+}
@@ -0,0 +1,77 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.productservice.domain.product.domain.entity.InventoryLedgerEntry;
+import com.irum.productservice.domain.product.domain.repository.InventoryLedgerEntryRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.global.infrastructure.properties.StockProperties;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 재고 원장 컴팩터. 반영 대기 변경분을 옵션별로 합쳐 stock_quantity 에 더하고 반영 완료로 표시합니다. 옵션마다 짧은 트랜잭션으로 처리해 주문 차감이 옵션 행을
+ * 기다리는 시간을 줄입니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product.stock", name = "engine", havingValue = "ledger")
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryLedgerCompactor {
+
+    private static final int MAX_ENTRIES_PER_COMPACTION = 1000; // 옵션당 한 번에 반영할 최대 변경분 수
+
+    private final InventoryLedgerEntryRepository inventoryLedgerEntryRepository;
+    private final ProductOptionValueRepository productOptionValueRepository;
+    private final ProductRepository productRepository;
+    private final StockProperties stockProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${product.stock.ledger.compact-interval-ms:1000}")
+    public void compact() {
+        List<UUID> optionValueIds =
+                inventoryLedgerEntryRepository.findPendingOptionValueIds(
+                        PageRequest.of(0, stockProperties.ledger().compactBatchSize()));
+        for (UUID optionValueId : optionValueIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> compact(optionValueId));
+            } catch (RuntimeException e) {
+                log.warn(
+                        "재고 원장 반영 실패, 다음 주기에 재시도. optionValueId : {}, 예외 : {}",
+                        optionValueId,
+                        e.getMessage());
+            }
+        }
+    }
+
+    private void compact(UUID optionValueId) {
+        // 차감 경로와 같은 옵션 행 잠금으로 가용 재고 확인과 반영이 겹치지 않게 함
+        boolean exists = productOptionValueRepository.findByIdForUpdate(optionValueId).isPresent();
+        List<InventoryLedgerEntry> pending =
+                inventoryLedgerEntryRepository.findPendingForUpdate(
+                        optionValueId, Limit.of(MAX_ENTRIES_PER_COMPACTION));
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 복구는 옵션 행을 잠그지 않으므로, 잠근 변경분만 합산하고 같은 id 만 표시
+        int delta = pending.stream().mapToInt(InventoryLedgerEntry::getDelta).sum();
+        // 삭제된 옵션은 반영할 행이 없으므로 표시만 함
+        if (exists && delta != 0) {
+            productOptionValueRepository.increaseStockBy(optionValueId, delta);
+            // 원장 기록 시점에는 stock_quantity 가 그대로이므로 반영과 함께 상품 재고 여부를 다시 계산
+            productRepository.refreshInStockByOptionValueIds(List.of(optionValueId));
+        }
+        inventoryLedgerEntryRepository.markCompacted(
+                pending.stream().map(InventoryLedgerEntry::getId).toList(), LocalDateTime.now());
+        log.debug("재고 원장 반영 완료. optionValueId : {}, 변경분 : {}", optionValueId, delta);
+    }
+}
@@ -0,0 +1,46 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** 기본 엔진. 엔티티 재고를 직접 변경하고 @Version 낙관적 락으로 충돌을 감지합니다. */
+@Component
+@ConditionalOnProperty(
+        prefix = "product.stock",
+        name = "engine",
+        havingValue = "jpa",
+        matchIfMissing = true)
+@Slf4j
+public class JpaStockEngine implements StockEngine {
+
+    @Override
+    public void decrease(List<StockChange> changes) {
+        for (StockChange change : changes) {
+            ProductOptionValue pov = change.optionValue();
+
+            // 재고보다 요청 수량이 많은지 체크
+            if (pov.getStockQuantity() < change.quantity()) {
+                log.warn(
+                        "Product out of stock. OptionValue ID: {}, Stock: {}, Request: {}",
+                        pov.getId(),
+                        pov.getStockQuantity(),
+                        change.quantity());
+                throw new CommonException(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+            }
+
+            pov.decreaseStock(change.quantity());
+        }
+    }
+
+    @Override
+    public void increase(List<StockChange> changes) {
+        for (StockChange change : changes) {
+            change.optionValue().increaseStock(change.quantity());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.productservice.domain.product.domain.entity.InventoryLedgerEntry;
+import com.irum.productservice.domain.product.domain.entity.InventoryLedgerReason;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.InventoryLedgerEntryRepository;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 원장 엔진. 옵션 행을 수정하지 않고 변경분만 p_inventory_ledger 에 추가하며, InventoryLedgerCompactor 가 주기적으로
+ * stock_quantity 에 합칩니다. 가용 재고는 stock_quantity 와 반영 대기 변경분의 합입니다.
+ *
+ * <p>재고 복구는 잠금 없이 추가만 합니다. 차감과 판매자 수정은 가용 재고를 확인해야 하므로 옵션 행을 비관적 락으로 잡지만, version 은 올리지 않아 낙관적 락
+ * 충돌과 재시도가 생기지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product.stock", name = "engine", havingValue = "ledger")
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerStockEngine implements StockEngine {
+
+    private final InventoryLedgerEntryRepository inventoryLedgerEntryRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public void decrease(List<StockChange> changes) {
+        Map<UUID, ProductOptionValue> povMap = new HashMap<>();
+        Map<UUID, Integer> merged = new TreeMap<>();
+        for (StockChange change : changes) {
+            povMap.putIfAbsent(change.optionValue().getId(), change.optionValue());
+            merged.merge(change.optionValue().getId(), change.quantity(), Integer::sum);
+        }
+
+        // id 순서로 잠가 주문 간 잠금 순서를 맞춤 (교착 방지)
+        for (Map.Entry<UUID, Integer> entry : merged.entrySet()) {
+            int available = lockAndGetAvailable(povMap.get(entry.getKey()));
+            if (available < entry.getValue()) {
+                log.warn(
+                        "Product out of stock. OptionValue ID: {}, Stock: {}, Request: {}",
+                        entry.getKey(),
+                        available,
+                        entry.getValue());
+                throw new CommonException(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+            }
+            inventoryLedgerEntryRepository.save(
+                    InventoryLedgerEntry.createEntry(
+                            entry.getKey(), -entry.getValue(), InventoryLedgerReason.ORDER));
+        }
+    }
+
+    @Override
+    public void increase(List<StockChange> changes) {
+        for (StockChange change : changes) {
+            inventoryLedgerEntryRepository.save(
+                    InventoryLedgerEntry.createEntry(
+                            change.optionValue().getId(),
+                            change.quantity(),
+                            InventoryLedgerReason.ROLLBACK));
+        }
+    }
+
+    /** 판매자 재고 수정. 요청 값과 현재 가용 재고의 차이를 변경분으로 기록하고, 옵션 행의 재고는 그대로 둡니다. */
+    @Override
+    public int adjust(ProductOptionValue optionValue, int stockQuantity) {
+        int delta = stockQuantity - lockAndGetAvailable(optionValue);
+        if (delta != 0) {
+            inventoryLedgerEntryRepository.save(
+                    InventoryLedgerEntry.createEntry(
+                            optionValue.getId(), delta, InventoryLedgerReason.ADJUSTMENT));
+        }
+        return optionValue.getStockQuantity();
+    }
+
+    @Override
+    public Map<UUID, Integer> availableStock(Collection<ProductOptionValue> optionValues) {
+        Map<UUID, Integer> available = StockEngine.super.availableStock(optionValues);
+        if (available.isEmpty()) {
+            return available;
+        }
+        for (InventoryLedgerEntryRepository.PendingDelta pending :
+                inventoryLedgerEntryRepository.sumPendingDeltas(available.keySet())) {
+            available.merge(
+                    pending.getOptionValueId(), Math.toIntExact(pending.getDelta()), Integer::sum);
+        }
+        return available;
+    }
+
+    // 옵션 행을 잠그면서 최신 상태로 다시 읽어, 컴팩터 반영과 겹치지 않게 합니다.
+    private int lockAndGetAvailable(ProductOptionValue pov) {
+        entityManager.refresh(pov, LockModeType.PESSIMISTIC_WRITE);
+        return pov.getStockQuantity() + inventoryLedgerEntryRepository.sumPendingDelta(pov.getId());
+    }
+}
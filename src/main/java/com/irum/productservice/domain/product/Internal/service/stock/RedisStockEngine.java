@@ -0,0 +1,386 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Redis 재고 엔진. 실시간 재고는 Redis 가 관리하고, 주문 하나의 모든 옵션을 Lua 스크립트 한 번으로 원자적으로 차감합니다.
+ *
+ * <p>차감분은 {stock}:pending 에 누적되고 RedisStockWriteBehind 가 배치로 DB 에 반영합니다. Redis 에 키가 없으면 (최초 조회,
+ * Redis 재시작) DB 재고에서 아직 반영되지 않은 누적분을 뺀 값으로 다시 적재합니다. DB 재고를 읽는 사이 반영이 커밋되면 같은 누적분을 두 번 빼거나 이미 팔린
+ * 수량을 다시 세게 되므로, 읽기 전의 반영 세대({stock}:flushed)가 그대로이고 반영 중인 누적분({stock}:inflight)이 없을 때만 적재합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product.stock", name = "engine", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisStockEngine implements StockEngine {
+
+    private static final int MAX_LOAD_ATTEMPTS = 20;
+    private static final long LOAD_RETRY_MILLIS = 20;
+    private static final int MAX_LOCK_ATTEMPTS = 250;
+
+    // KEYS : 옵션 재고 키 n개, pending, inflight, flushed
+    // ARGV : 수량 n개, 옵션 ID n개, DB 재고 n개, DB 재고를 읽기 전 반영 세대 n개 (적재 값이 없으면 빈 문자열)
+    // 적재할 수 없으면 nil 을 반환합니다.
+    private static final RedisScript<Long> DECREASE_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    local n = #KEYS - 3
+                    local pending, inflight, flushed = KEYS[n + 1], KEYS[n + 2], KEYS[n + 3]
+                    local function current(i)
+                      local stock = redis.call('GET', KEYS[i])
+                      if stock then return tonumber(stock) end
+                      local id = ARGV[n + i]
+                      if ARGV[2 * n + i] == ''
+                        or redis.call('HEXISTS', inflight, id) == 1
+                        or (redis.call('HGET', flushed, id) or '0') ~= ARGV[3 * n + i] then
+                        return nil
+                      end
+                      local loaded = tonumber(ARGV[2 * n + i])
+                        - tonumber(redis.call('HGET', pending, id) or '0')
+                      redis.call('SET', KEYS[i], loaded)
+                      return loaded
+                    end
+                    for i = 1, n do
+                      local stock = current(i)
+                      if not stock then return -i end
+                      if stock < tonumber(ARGV[i]) then return i end
+                    end
+                    for i = 1, n do
+                      redis.call('DECRBY', KEYS[i], ARGV[i])
+                      redis.call('HINCRBY', pending, ARGV[n + i], ARGV[i])
+                    end
+                    return 0
+                    """,
+                    Long.class);
+
+    // KEYS : 옵션 재고 키 n개, pending
+    // ARGV : 증감 수량 n개, 옵션 ID n개
+    // 재고 검사 없이 더합니다. 키가 없으면 누적분만 바꾸고, 다음 적재 때 반영됩니다.
+    private static final RedisScript<Long> ADD_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    local n = #KEYS - 1
+                    for i = 1, n do
+                      if redis.call('EXISTS', KEYS[i]) == 1 then
+                        redis.call('INCRBY', KEYS[i], ARGV[i])
+                      end
+                      redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], -tonumber(ARGV[i]))
+                    end
+                    return 0
+                    """,
+                    Long.class);
+
+    // KEYS : 옵션 재고 키, pending, inflight, flushed / ARGV : 옵션 ID
+    private static final RedisScript<Long> RESET_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    redis.call('DEL', KEYS[1])
+                    redis.call('HDEL', KEYS[2], ARGV[1])
+                    redis.call('HDEL', KEYS[3], ARGV[1])
+                    redis.call('HINCRBY', KEYS[4], ARGV[1], 1)
+                    return 1
+                    """,
+                    Long.class);
+
+    // KEYS : 옵션 재고 키 n개, pending, inflight / ARGV : 옵션 ID n개
+    // 옵션마다 (키 존재 여부, 키 값 또는 미반영 + 반영 중 누적분) 두 값을 반환합니다.
+    private static final RedisScript<List> STOCK_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    local n = #KEYS - 2
+                    local result = {}
+                    for i = 1, n do
+                      local stock = redis.call('GET', KEYS[i])
+                      if stock then
+                        result[2 * i - 1], result[2 * i] = 1, tonumber(stock)
+                      else
+                        result[2 * i - 1] = 0
+                        result[2 * i] = tonumber(redis.call('HGET', KEYS[n + 1], ARGV[i]) or '0')
+                          + tonumber(redis.call('HGET', KEYS[n + 2], ARGV[i]) or '0')
+                      end
+                    end
+                    return result
+                    """,
+                    List.class);
+
+    // 이 트랜잭션에서 판매자가 수정한 옵션 id (트랜잭션 리소스 키)
+    private static final Object ADJUSTED_RESOURCE = new Object();
+
+    private final StringRedisTemplate redisTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public void decrease(List<StockChange> changes) {
+        List<StockChange> merged = merge(changes);
+        List<String> loads = null;
+        Long result = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            result = redisTemplate.execute(DECREASE_SCRIPT, keys(merged), args(merged, loads));
+            if (result == null || result >= 0) {
+                break;
+            }
+            // 적재가 필요하거나, 반영 중인 누적분이 있어 아직 적재할 수 없음
+            if (attempt > 0) {
+                sleep(LOAD_RETRY_MILLIS);
+            }
+            loads = loadFromDatabase(merged);
+        }
+
+        if (result == null || result < 0) {
+            log.warn("Redis 재고 적재 실패: 반영 중인 누적분이 비워지지 않았습니다.");
+            throw new CommonException(ProductErrorCode.PRODUCT_RETRY_LIMIT_EXCEEDED);
+        }
+        if (result > 0) {
+            StockChange failed = merged.get(result.intValue() - 1);
+            log.warn(
+                    "Product out of stock. OptionValue ID: {}, Request: {}",
+                    failed.optionValue().getId(),
+                    failed.quantity());
+            throw new CommonException(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+        }
+
+        // 응답 생성 등 이후 단계에서 트랜잭션이 롤백되면 Redis 차감분도 되돌립니다.
+        onRollback(() -> add(merged, 1));
+    }
+
+    @Override
+    public void increase(List<StockChange> changes) {
+        List<StockChange> merged = merge(changes);
+        add(merged, 1);
+        // 복구 요청 트랜잭션이 롤백되면 늘린 재고를 다시 뺍니다.
+        onRollback(() -> add(merged, -1));
+    }
+
+    /**
+     * 판매자 재고 수정. 요청 값이 DB 에 덮어써지므로, 커밋되면 Redis 재고와 미반영/반영 중 누적분을 비우고 반영 세대를 올립니다.
+     *
+     * <p>트랜잭션이 끝날 때까지 write-behind 락을 잡아, 이미 가져간 누적분이 새 값 위에 반영되지 않게 합니다. 락을 잡기 전에 커밋된 반영은 옵션의
+     * version 을 올리므로 이 수정은 낙관적 락 충돌로 실패합니다.
+     */
+    @Override
+    public int adjust(ProductOptionValue optionValue, int stockQuantity) {
+        String lockToken = acquireFlushLock();
+        UUID optionValueId = optionValue.getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reset(optionValueId);
+            RedisStockFlushLock.unlock(redisTemplate, lockToken);
+            return stockQuantity;
+        }
+
+        adjustedInTransaction().add(optionValueId);
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        try {
+                            if (status == STATUS_COMMITTED) {
+                                reset(optionValueId);
+                            }
+                        } finally {
+                            TransactionSynchronizationManager.unbindResourceIfPossible(
+                                    ADJUSTED_RESOURCE);
+                            RedisStockFlushLock.unlock(redisTemplate, lockToken);
+                        }
+                    }
+                });
+        return stockQuantity;
+    }
+
+    /**
+     * 가용 재고. Redis 재고가 기준이고 DB 재고는 write-behind 전까지 미반영/반영 중 누적분만큼 뒤처지므로, Redis 키 값을 돌려줍니다. 키가 없으면
+     * DB 재고에서 두 누적분을 뺍니다. 반영이 커밋된 직후 누적분이 지워지기 전에는 잠시 적게 보일 수 있으며, 차감은 스크립트에서 다시 검사합니다.
+     *
+     * <p>이 트랜잭션에서 판매자가 수정한 옵션은 커밋 뒤에야 Redis 가 초기화되므로 엔티티 재고를 돌려줍니다. Redis 장애 시에는 DB 재고로 응답합니다.
+     */
+    @Override
+    public Map<UUID, Integer> availableStock(Collection<ProductOptionValue> optionValues) {
+        Map<UUID, Integer> available = StockEngine.super.availableStock(optionValues);
+        List<UUID> ids =
+                available.keySet().stream().filter(id -> !isAdjustedInTransaction(id)).toList();
+        if (ids.isEmpty()) {
+            return available;
+        }
+
+        List<?> result;
+        try {
+            List<String> keys = new ArrayList<>();
+            ids.forEach(id -> keys.add(RedisStockKeys.option(id)));
+            keys.add(RedisStockKeys.PENDING);
+            keys.add(RedisStockKeys.INFLIGHT);
+            result =
+                    redisTemplate.execute(
+                            STOCK_SCRIPT, keys, ids.stream().map(UUID::toString).toArray());
+        } catch (DataAccessException e) {
+            log.warn("Redis 재고 조회 실패, DB 재고로 응답합니다.", e);
+            return available;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            int value = ((Number) result.get(2 * i + 1)).intValue();
+            if (((Number) result.get(2 * i)).intValue() == 1) {
+                available.put(ids.get(i), value);
+            } else {
+                available.merge(ids.get(i), -value, Integer::sum);
+            }
+        }
+        return available;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<UUID> adjustedInTransaction() {
+        Set<UUID> adjusted =
+                (Set<UUID>) TransactionSynchronizationManager.getResource(ADJUSTED_RESOURCE);
+        if (adjusted == null) {
+            adjusted = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(ADJUSTED_RESOURCE, adjusted);
+        }
+        return adjusted;
+    }
+
+    private boolean isAdjustedInTransaction(UUID optionValueId) {
+        Object adjusted = TransactionSynchronizationManager.getResource(ADJUSTED_RESOURCE);
+        return adjusted instanceof Set<?> set && set.contains(optionValueId);
+    }
+
+    private void reset(UUID optionValueId) {
+        redisTemplate.execute(
+                RESET_SCRIPT,
+                List.of(
+                        RedisStockKeys.option(optionValueId),
+                        RedisStockKeys.PENDING,
+                        RedisStockKeys.INFLIGHT,
+                        RedisStockKeys.FLUSHED),
+                optionValueId.toString());
+        log.info("Redis 재고 초기화: optionValueId={}", optionValueId);
+    }
+
+    private String acquireFlushLock() {
+        for (int attempt = 0; attempt < MAX_LOCK_ATTEMPTS; attempt++) {
+            String lockToken = RedisStockFlushLock.tryLock(redisTemplate);
+            if (lockToken != null) {
+                return lockToken;
+            }
+            sleep(LOAD_RETRY_MILLIS);
+        }
+        log.warn("Redis 재고 write-behind 락 획득 실패");
+        throw new CommonException(ProductErrorCode.PRODUCT_RETRY_LIMIT_EXCEEDED);
+    }
+
+    /** sign 이 1 이면 재고를 늘리고, -1 이면 재고 검사 없이 뺍니다 (보상). */
+    private void add(List<StockChange> changes, int sign) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        changes.forEach(change -> keys.add(RedisStockKeys.option(change.optionValue().getId())));
+        keys.add(RedisStockKeys.PENDING);
+        changes.forEach(change -> args.add(String.valueOf(sign * change.quantity())));
+        changes.forEach(change -> args.add(change.optionValue().getId().toString()));
+        redisTemplate.execute(ADD_SCRIPT, keys, args.toArray());
+    }
+
+    private void onRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status == STATUS_ROLLED_BACK) {
+                            compensation.run();
+                        }
+                    }
+                });
+    }
+
+    /** 반영 세대를 먼저 읽고 DB 재고를 다시 읽습니다. 순서가 바뀌면 그 사이 커밋된 반영을 스크립트가 알아채지 못합니다. */
+    private List<String> loadFromDatabase(List<StockChange> changes) {
+        List<Object> generations =
+                redisTemplate
+                        .opsForHash()
+                        .multiGet(
+                                RedisStockKeys.FLUSHED,
+                                changes.stream()
+                                        .map(
+                                                change ->
+                                                        (Object)
+                                                                change.optionValue()
+                                                                        .getId()
+                                                                        .toString())
+                                        .toList());
+        List<String> loads = new ArrayList<>();
+        for (StockChange change : changes) {
+            entityManager.refresh(change.optionValue());
+            loads.add(String.valueOf(change.optionValue().getStockQuantity()));
+        }
+        generations.forEach(
+                generation -> loads.add(generation != null ? generation.toString() : "0"));
+        return loads;
+    }
+
+    /** 같은 옵션이 여러 번 들어오면 수량을 합쳐 한 번에 검사합니다. */
+    private List<StockChange> merge(List<StockChange> changes) {
+        Map<UUID, StockChange> merged = new LinkedHashMap<>();
+        for (StockChange change : changes) {
+            merged.merge(
+                    change.optionValue().getId(),
+                    change,
+                    (prev, next) ->
+                            new StockChange(prev.optionValue(), prev.quantity() + next.quantity()));
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private List<String> keys(List<StockChange> changes) {
+        List<String> keys = new ArrayList<>();
+        changes.forEach(change -> keys.add(RedisStockKeys.option(change.optionValue().getId())));
+        keys.add(RedisStockKeys.PENDING);
+        keys.add(RedisStockKeys.INFLIGHT);
+        keys.add(RedisStockKeys.FLUSHED);
+        return keys;
+    }
+
+    // loads 는 DB 재고 n개와 반영 세대 n개. 아직 읽지 않았으면 빈 값으로 넘겨 키가 없을 때 적재 요청을 받습니다.
+    private Object[] args(List<StockChange> changes, List<String> loads) {
+        List<String> args = new ArrayList<>();
+        changes.forEach(change -> args.add(String.valueOf(change.quantity())));
+        changes.forEach(change -> args.add(change.optionValue().getId().toString()));
+        if (loads != null) {
+            args.addAll(loads);
+        } else {
+            for (int i = 0; i < 2 * changes.size(); i++) {
+                args.add("");
+            }
+        }
+        return args.toArray();
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommonException(ProductErrorCode.PRODUCT_RETRY_LIMIT_EXCEEDED);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/** write-behind 반영과 판매자 재고 수정이 겹치지 않도록 둘 다 잡는 락 ({stock}:flush-lock). */
+final class RedisStockFlushLock {
+
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    if redis.call('GET', KEYS[1]) == ARGV[1] then
+                      return redis.call('DEL', KEYS[1])
+                    end
+                    return 0
+                    """,
+                    Long.class);
+
+    private RedisStockFlushLock() {}
+
+    /** 락을 잡으면 해제에 쓸 토큰을, 다른 쪽이 잡고 있으면 null 을 반환합니다. */
+    static String tryLock(StringRedisTemplate redisTemplate) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked =
+                redisTemplate
+                        .opsForValue()
+                        .setIfAbsent(RedisStockKeys.FLUSH_LOCK, token, LOCK_TIMEOUT);
+        return Boolean.TRUE.equals(locked) ? token : null;
+    }
+
+    static void unlock(StringRedisTemplate redisTemplate, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(RedisStockKeys.FLUSH_LOCK), token);
+    }
+}
@@ -0,0 +1,28 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import java.util.UUID;
+
+/** Redis 재고 엔진 키. 스크립트가 여러 키를 함께 다루므로 모두 같은 해시 슬롯({stock})에 둡니다. */
+final class RedisStockKeys {
+
+    /** 옵션별 실시간 재고 */
+    static final String OPTION_PREFIX = "{stock}:option:";
+
+    /** 아직 DB 에 반영되지 않은 옵션별 차감 누적분 (hash, field = optionValueId) */
+    static final String PENDING = "{stock}:pending";
+
+    /** DB 에 반영 중인 차감 누적분 (hash, field = optionValueId) */
+    static final String INFLIGHT = "{stock}:inflight";
+
+    /** 옵션별 DB 반영 세대 (hash, field = optionValueId). 반영이 커밋되거나 판매자가 재고를 수정할 때마다 1 씩 올라갑니다. */
+    static final String FLUSHED = "{stock}:flushed";
+
+    /** write-behind 동시 실행 방지 락 */
+    static final String FLUSH_LOCK = "{stock}:flush-lock";
+
+    private RedisStockKeys() {}
+
+    static String option(UUID optionValueId) {
+        return OPTION_PREFIX + optionValueId;
+    }
+}
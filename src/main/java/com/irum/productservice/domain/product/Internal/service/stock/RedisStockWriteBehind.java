@@ -0,0 +1,132 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.global.infrastructure.properties.StockProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Redis 재고 엔진의 write-behind. {stock}:pending 에 쌓인 차감 누적분을 주기적으로 가져와 배치 단위로 DB 에 반영합니다.
+ *
+ * <p>가져온 누적분은 {stock}:inflight 로 옮긴 뒤 배치마다 DB 커밋 후 삭제하고 옵션의 반영 세대를 올리므로, 반영 도중 실패하거나 프로세스가 내려가도 남은
+ * 누적분은 다음 실행(재시작 시 포함)에서 이어서 반영됩니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product.stock", name = "engine", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisStockWriteBehind {
+
+    // 반영 중인 누적분이 남아 있으면 그것부터 처리하고, 없을 때만 pending 을 inflight 로 옮깁니다.
+    private static final RedisScript<Long> TAKE_PENDING_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    if redis.call('EXISTS', KEYS[2]) == 1 then return 1 end
+                    if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+                    redis.call('RENAME', KEYS[1], KEYS[2])
+                    return 1
+                    """,
+                    Long.class);
+
+    // KEYS : inflight, flushed / ARGV : 옵션 ID n개
+    // DB 커밋이 끝난 누적분을 지우면서 반영 세대를 올려, 그 사이 DB 재고를 읽은 적재를 무효로 만듭니다.
+    private static final RedisScript<Long> COMPLETE_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    for i = 1, #ARGV do
+                      redis.call('HDEL', KEYS[1], ARGV[i])
+                      redis.call('HINCRBY', KEYS[2], ARGV[i], 1)
+                    end
+                    return #ARGV
+                    """,
+                    Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProductOptionValueRepository productOptionValueRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StockProperties stockProperties;
+
+    @Scheduled(fixedDelayString = "${product.stock.redis.flush-interval-ms:200}")
+    public void flush() {
+        String lockToken = RedisStockFlushLock.tryLock(redisTemplate);
+        if (lockToken == null) {
+            return; // 다른 인스턴스가 반영 중이거나 판매자가 재고를 수정 중
+        }
+
+        try {
+            Long taken =
+                    redisTemplate.execute(
+                            TAKE_PENDING_SCRIPT,
+                            List.of(RedisStockKeys.PENDING, RedisStockKeys.INFLIGHT));
+            if (taken == null || taken == 0) {
+                return;
+            }
+            applyInflight();
+        } finally {
+            RedisStockFlushLock.unlock(redisTemplate, lockToken);
+        }
+    }
+
+    /** 재시작 시 이전 프로세스가 반영하지 못한 누적분을 먼저 DB 에 반영합니다. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        log.info("Redis 재고 누적분 재반영 시작");
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void applyInflight() {
+        Map<Object, Object> inflight = redisTemplate.opsForHash().entries(RedisStockKeys.INFLIGHT);
+        List<Map.Entry<Object, Object>> entries = new ArrayList<>(inflight.entrySet());
+        int batchSize = stockProperties.redis().flushBatchSize();
+
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<Map.Entry<Object, Object>> batch =
+                    entries.subList(from, Math.min(from + batchSize, entries.size()));
+
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        List<UUID> changed = new ArrayList<>();
+                        for (Map.Entry<Object, Object> entry : batch) {
+                            int delta = Integer.parseInt(entry.getValue().toString());
+                            if (delta != 0) {
+                                UUID optionValueId = UUID.fromString(entry.getKey().toString());
+                                productOptionValueRepository.decreaseStockBy(optionValueId, delta);
+                                changed.add(optionValueId);
+                            }
+                        }
+                        // 주문 시점에는 DB 재고가 바뀌지 않으므로 반영과 함께 상품 재고 여부를 다시 계산
+                        if (!changed.isEmpty()) {
+                            productRepository.refreshInStockByOptionValueIds(changed);
+                        }
+                    });
+
+            redisTemplate.execute(
+                    COMPLETE_SCRIPT,
+                    List.of(RedisStockKeys.INFLIGHT, RedisStockKeys.FLUSHED),
+                    batch.stream().map(entry -> entry.getKey().toString()).toArray());
+        }
+
+        log.debug("Redis 재고 누적분 DB 반영 완료: {}건", entries.size());
+    }
+}
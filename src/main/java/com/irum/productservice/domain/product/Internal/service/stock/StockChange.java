@@ -0,0 +1,11 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+
+/**
+ * 옵션 하나에 대한 재고 변경 요청
+ *
+ * @param optionValue 대상 옵션 (영속 상태)
+ * @param quantity 변경 수량 (항상 양수)
+ */
+public record StockChange(ProductOptionValue optionValue, int quantity) {}
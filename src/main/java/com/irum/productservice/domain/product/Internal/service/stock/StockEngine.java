@@ -0,0 +1,44 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 옵션 재고를 실제로 차감/복구하는 엔진. product.stock.engine 설정으로 배포 단위로 선택합니다.
+ *
+ * <p>상점/옵션 검증과 응답 생성은 ProductStockService 가 담당하고, 엔진은 재고 수량 변경만 책임집니다.
+ */
+public interface StockEngine {
+
+    /** 주문에 포함된 옵션 재고를 차감합니다. 하나라도 부족하면 PRODUCT_OUT_OF_STOCK 예외를 던집니다. */
+    void decrease(List<StockChange> changes);
+
+    /** 주문에 포함된 옵션 재고를 되돌립니다. */
+    void increase(List<StockChange> changes);
+
+    /**
+     * 판매자 재고 수정. 기본은 요청 값을 그대로 엔티티에 덮어쓰고, 원장 엔진은 차이를 변경분으로 기록합니다.
+     *
+     * @return 엔티티에 반영할 재고 수량
+     */
+    default int adjust(ProductOptionValue optionValue, int stockQuantity) {
+        return stockQuantity;
+    }
+
+    /**
+     * 옵션별 가용 재고. 기본은 엔티티의 재고이고, 원장 엔진은 아직 반영되지 않은 변경분을 더하며, Redis 엔진은 Redis 재고를 읽습니다. 재고를 응답하거나 판단할
+     * 때는 엔티티 대신 이 값을 사용합니다.
+     */
+    default Map<UUID, Integer> availableStock(Collection<ProductOptionValue> optionValues) {
+        return optionValues.stream()
+                .collect(
+                        Collectors.toMap(
+                                ProductOptionValue::getId,
+                                ProductOptionValue::getStockQuantity,
+                                (a, b) -> a));
+    }
+}
@@ -0,0 +1,97 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.global.advice.exception.CommonException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.OptimisticLockException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.StaleObjectStateException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 경합 지표. 옵션별 태그는 값 종류가 많아 붙이지 않고, 옵션 단위 집계는 {@link HotStockTracker} 가 맡습니다.
+ *
+ * <ul>
+ *   <li>product.stock.attempts : 호출 1건이 성공/실패할 때까지 시도한 횟수
+ *   <li>product.stock.conflicts : 낙관적 락 충돌 횟수 (예외 타입별)
+ *   <li>product.stock.backoff : 재시도 전 대기한 시간
+ *   <li>product.stock.transaction : 시도 1회(트랜잭션 커밋 포함) 소요 시간
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class StockMetrics {
+
+    // @Retryable label 로도 사용하는 작업 이름
+    public static final String UPDATE = "update";
+    public static final String ROLLBACK = "rollback";
+    public static final String RESERVE = "reserve";
+    public static final String BATCH = "batch";
+
+    private final MeterRegistry meterRegistry;
+
+    /** 시도 1회를 실행하고 결과(success | rejected | conflict | error)별로 소요 시간을 기록합니다. */
+    public <T> T recordTransaction(String operation, Supplier<T> call) {
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } catch (CommonException e) {
+            outcome = "rejected";
+            throw e;
+        } catch (RuntimeException e) {
+            if (isConflict(e)) {
+                outcome = "conflict";
+            }
+            throw e;
+        } finally {
+            Timer.builder("product.stock.transaction")
+                    .description("재고 변경 시도 1회 소요 시간 (커밋 포함)")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordAttempts(String operation, String outcome, int attempts) {
+        DistributionSummary.builder("product.stock.attempts")
+                .description("재고 변경 호출 1건당 시도 횟수")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(attempts);
+    }
+
+    public void recordConflict(String operation, Throwable e) {
+        Counter.builder("product.stock.conflicts")
+                .description("재고 변경 낙관적 락 충돌 횟수")
+                .tag("operation", operation)
+                .tag("exception", e.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordBackoff(String operation, long nanos) {
+        Timer.builder("product.stock.backoff")
+                .description("재고 변경 재시도 전 대기 시간")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** 재시도 대상인 낙관적 락 충돌인지. JPA/Hibernate 예외도 Spring 예외로 변환된 상태로 올라옵니다. */
+    public static boolean isConflict(Throwable e) {
+        return e instanceof OptimisticLockingFailureException
+                || e instanceof OptimisticLockException
+                || e instanceof StaleObjectStateException;
+    }
+}
@@ -0,0 +1,75 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.openfeign.product.dto.request.RollbackStockRequest;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.support.Args;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 @Retryable 호출의 시도 횟수와 충돌을 기록합니다. 작업 이름은 @Retryable 의 label({@link StockMetrics#UPDATE} 등)을
+ * 사용하고, 옵션별 집계는 호출 인자의 옵션 ID 로 {@link HotStockTracker} 에 남깁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockRetryMetricsListener implements RetryListener {
+
+    private final StockMetrics stockMetrics;
+    private final HotStockTracker hotStockTracker;
+
+    @Override
+    public <T, E extends Throwable> void onError(
+            RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        if (StockMetrics.isConflict(throwable)) {
+            stockMetrics.recordConflict(operation(context), throwable);
+            hotStockTracker.recordConflict(optionValueIds(context));
+        }
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(
+            RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        // 실패한 시도만 retryCount 에 잡히므로 성공한 마지막 시도를 더함
+        int attempts = context.getRetryCount() + (throwable == null ? 1 : 0);
+        String outcome;
+        if (throwable == null) {
+            outcome = "success";
+        } else if (context.hasAttribute(RetryContext.EXHAUSTED)) {
+            outcome = "exhausted";
+        } else {
+            outcome = "failure";
+        }
+        stockMetrics.recordAttempts(operation(context), outcome, attempts);
+        // 호출 인자(ARGS)는 첫 시도 때 context 에 담기므로 open 이 아닌 close 에서 집계
+        hotStockTracker.recordRequest(optionValueIds(context));
+    }
+
+    static String operation(RetryContext context) {
+        Object name = context.getAttribute(RetryContext.NAME);
+        return name != null ? name.toString() : "unknown";
+    }
+
+    private List<UUID> optionValueIds(RetryContext context) {
+        if (!(context.getAttribute("ARGS") instanceof Args args)) {
+            return List.of();
+        }
+        for (Object arg : args.getArgs()) {
+            if (arg instanceof ProductInternalRequest request) {
+                return request.optionValueList().stream()
+                        .map(ProductInternalRequest.OptionValueRequest::optionValueId)
+                        .toList();
+            }
+            if (arg instanceof RollbackStockRequest request) {
+                return request.optionValueList().stream()
+                        .map(RollbackStockRequest.OptionValueRequest::optionValueId)
+                        .toList();
+            }
+        }
+        return List.of();
+    }
+}
@@ -0,0 +1,32 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.support.RetrySynchronizationManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * @Retryable 의 재시도 대기(backoff)를 수행하면서 대기 시간을 작업별로 기록합니다. @EnableRetry 가 이 빈을 찾아 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockRetrySleeper implements Sleeper {
+
+    private final StockMetrics stockMetrics;
+
+    @Override
+    public void sleep(long backOffPeriod) throws InterruptedException {
+        RetryContext context = RetrySynchronizationManager.getContext();
+        long startedAt = System.nanoTime();
+        try {
+            Thread.sleep(backOffPeriod);
+        } finally {
+            if (context != null) {
+                stockMetrics.recordBackoff(
+                        StockRetryMetricsListener.operation(context),
+                        System.nanoTime() - startedAt);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.irum.productservice.domain.product.Internal.service.stock;
+
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository.ShardedStockVersion;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 샤딩된 옵션 재고를 주기적으로 재분배합니다. 옵션마다 별도 트랜잭션으로 처리하고, 주문 차감과 충돌하면(낙관적 락) 건너뛰고 다음 실행에서 다시 시도합니다.
+ *
+ * <p>매 실행은 샤딩된 옵션의 재고 버전만 한 번에 읽고, 지난 실행 이후 버전이 바뀐 옵션만 다시 읽어 재분배합니다. 행을 잠그지 않고 샤드 version 으로 충돌을
+ * 확인하므로, 그 사이 주문이 샤드를 차감했으면 커밋이 실패하고 버전이 그대로 남아 다음 실행에서 다시 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockShardRebalancer {
+
+    private final ProductOptionValueRepository productOptionValueRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 옵션별로 마지막으로 확인한 재고 버전. 스케줄러 스레드에서만 접근합니다.
+    private Map<UUID, Long> checkedVersions = new HashMap<>();
+
+    @Scheduled(fixedDelayString = "${product.stock.shard.rebalance-interval-ms:5000}")
+    public void rebalance() {
+        Map<UUID, Long> versions = new HashMap<>();
+        for (ShardedStockVersion sharded :
+                productOptionValueRepository.findShardedStockVersions()) {
+            UUID optionValueId = sharded.getId();
+            Long version = sharded.getStockVersion();
+            if (Objects.equals(checkedVersions.get(optionValueId), version)) {
+                versions.put(optionValueId, version);
+                continue;
+            }
+            try {
+                Boolean changed =
+                        transactionTemplate.execute(
+                                status ->
+                                        productOptionValueRepository
+                                                .findByIdWithStockShards(optionValueId)
+                                                .map(ProductOptionValue::rebalanceStockShards)
+                                                .orElse(false));
+                if (Boolean.TRUE.equals(changed)) {
+                    // 재분배로 버전이 다시 오르므로 다음 실행에서 한 번 더 확인
+                    log.debug("재고 샤드 재분배 완료: optionValueId={}", optionValueId);
+                } else {
+                    versions.put(optionValueId, version);
+                }
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.debug("재고 샤드 재분배 충돌, 다음 실행에서 재시도: optionValueId={}", optionValueId);
+            }
+        }
+        // 샤딩이 해제되거나 삭제된 옵션은 버리기 위해 이번 실행 결과로 바꿈
+        checkedVersions = versions;
+    }
+}
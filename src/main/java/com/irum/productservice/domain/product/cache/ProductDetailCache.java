@@ -0,0 +1,214 @@
+package com.irum.productservice.domain.product.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.irum.productservice.domain.product.Internal.service.stock.StockEngine;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.dto.response.ProductDetailResponse;
+import com.irum.productservice.domain.product.dto.response.ProductOptionGroupResponse;
+import com.irum.productservice.domain.product.dto.response.ProductOptionValueResponse;
+import com.irum.productservice.domain.product.event.ProductDeletedEvent;
+import com.irum.productservice.domain.product.event.ProductDetailChangedEvent;
+import com.irum.productservice.global.infrastructure.config.datasource.DataSourceRoutingContext;
+import com.irum.productservice.global.infrastructure.properties.ProductCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 상세 조회 캐시. 인스턴스별 로컬 캐시(Caffeine) -> 공유 캐시(Redis, 사용 시) -> DB 순으로 읽고, 읽은 값은 앞 단계에 채웁니다.
+ *
+ * <p>상품/옵션/할인/이미지 변경이 커밋되면 해당 상품을 지우고, 공유 캐시를 쓰면 다른 인스턴스에도 알립니다. DB 조회와 무효화가 겹치면 로컬 캐시에는 옛 값이 남지
+ * 않지만, 공유 캐시에는 보관 시간(product.cache.detail.redis-ttl-seconds) 동안 남을 수 있습니다.
+ *
+ * <p>재고는 주문마다 바뀌므로 캐시 값의 재고는 쓰지 않고, 응답할 때마다 옵션 재고만 따로 읽어(StockEngine.availableStock) 채웁니다. 주문 때문에
+ * 인기 상품의 상세가 계속 지워지고 다시 읽히지 않게 하기 위함입니다.
+ *
+ * <ul>
+ *   <li>product.cache.detail.lookups : 조회 1건을 처리한 단계(local | redis | db)별 횟수
+ *   <li>cache.* (cache=product.detail) : 로컬 캐시 적중률, 크기, 축출 수
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ProductDetailCache {
+
+    private static final String LOOKUPS = "product.cache.detail.lookups";
+
+    private final ProductCacheProperties.Detail properties;
+    private final ProductDetailRedisStore redisStore;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final ProductOptionValueRepository productOptionValueRepository;
+    private final StockEngine stockEngine;
+
+    private final Cache<UUID, ProductDetailResponse> local;
+
+    public ProductDetailCache(
+            ProductCacheProperties productCacheProperties,
+            ObjectProvider<ProductDetailRedisStore> redisStore,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            ProductOptionValueRepository productOptionValueRepository,
+            StockEngine stockEngine) {
+        this.properties = productCacheProperties.detail();
+        this.redisStore = redisStore.getIfAvailable();
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.productOptionValueRepository = productOptionValueRepository;
+        this.stockEngine = stockEngine;
+
+        this.local =
+                Caffeine.newBuilder()
+                        .maximumSize(properties.localMaximumSize())
+                        .expireAfterWrite(Duration.ofSeconds(properties.localTtlSeconds()))
+                        .recordStats()
+                        .build();
+    }
+
+    @PostConstruct
+    void init() {
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "product.detail");
+        if (redisStore != null) {
+            redisStore.subscribe(this::evictLocal);
+        }
+    }
+
+    /**
+     * 캐시에서 상품 상세를 돌려주고, 없으면 loader 로 DB 에서 읽어 채웁니다. loader 는 읽기 전용 트랜잭션 안에서 실행되며, 같은 상품을 동시에 읽으면 한
+     * 번만 실행됩니다. loader 의 예외(상품 없음 등)는 그대로 던지고 캐시에 남기지 않습니다. 옵션 재고는 캐시 적중 여부와 관계없이 현재 값으로 채웁니다.
+     */
+    public ProductDetailResponse get(UUID productId, Supplier<ProductDetailResponse> loader) {
+        if (!properties.enabled()) {
+            return readOnlyTransaction.execute(status -> loader.get());
+        }
+        String[] source = {"local"};
+        ProductDetailResponse detail =
+                local.get(
+                        productId,
+                        id -> {
+                            ProductDetailResponse loaded = readShared(id).orElse(null);
+                            if (loaded != null) {
+                                source[0] = "redis";
+                            } else {
+                                source[0] = "db";
+                                // 캐시에 남는 값이므로 복제 지연이 없는 원본 DB 에서 읽음
+                                try (DataSourceRoutingContext.Scope scope =
+                                        DataSourceRoutingContext.open(true)) {
+                                    loaded = readOnlyTransaction.execute(status -> loader.get());
+                                }
+                                writeShared(loaded);
+                            }
+                            return loaded;
+                        });
+        Counter.builder(LOOKUPS)
+                .description("상품 상세 조회를 처리한 캐시 단계별 횟수")
+                .tag("source", source[0])
+                .register(meterRegistry)
+                .increment();
+        return withCurrentStock(detail);
+    }
+
+    /** 로컬/공유 캐시에서 지우고 다른 인스턴스에 알립니다. */
+    public void evict(Set<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        productIds.forEach(this::evictLocal);
+        if (redisStore != null) {
+            try {
+                redisStore.evict(productIds);
+            } catch (RuntimeException e) {
+                // 공유 캐시는 보관 시간이 지나면 다시 채워짐
+                log.warn("상품 상세 공유 캐시 무효화 실패: productIds={}, 예외 : {}", productIds, e.getMessage());
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductDetailChanged(ProductDetailChangedEvent event) {
+        evict(Set.of(event.getProductId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductDeleted(ProductDeletedEvent event) {
+        evict(Set.of(event.getProductId()));
+    }
+
+    void evictLocal(UUID productId) {
+        local.invalidate(productId);
+    }
+
+    private Optional<ProductDetailResponse> readShared(UUID productId) {
+        if (redisStore == null) {
+            return Optional.empty();
+        }
+        try {
+            return redisStore.get(productId);
+        } catch (RuntimeException e) {
+            // Redis 장애 시 DB 조회로 계속 동작
+            log.warn("상품 상세 공유 캐시 조회 실패: productId={}, 예외 : {}", productId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeShared(ProductDetailResponse detail) {
+        if (redisStore == null) {
+            return;
+        }
+        try {
+            redisStore.put(detail);
+        } catch (RuntimeException e) {
+            log.warn("상품 상세 공유 캐시 저장 실패: productId={}, 예외 : {}", detail.id(), e.getMessage());
+        }
+    }
+
+    // 옵션 id 로 한 번에 읽음. 그 사이 삭제된 옵션은 캐시 값을 그대로 둠 (상품 변경 이벤트로 곧 지워짐)
+    private ProductDetailResponse withCurrentStock(ProductDetailResponse detail) {
+        List<UUID> optionValueIds =
+                detail.optionGroups().stream()
+                        .flatMap(group -> group.optionValues().stream())
+                        .map(ProductOptionValueResponse::id)
+                        .toList();
+        if (optionValueIds.isEmpty()) {
+            return detail;
+        }
+        Map<UUID, Integer> stock =
+                readOnlyTransaction.execute(
+                        status ->
+                                stockEngine.availableStock(
+                                        productOptionValueRepository.findAllById(optionValueIds)));
+        return detail.withOptionGroups(
+                detail.optionGroups().stream().map(group -> withStock(group, stock)).toList());
+    }
+
+    private ProductOptionGroupResponse withStock(
+            ProductOptionGroupResponse group, Map<UUID, Integer> stock) {
+        return new ProductOptionGroupResponse(
+                group.id(),
+                group.name(),
+                group.optionValues().stream()
+                        .map(
+                                value ->
+                                        value.withStockQuantity(
+                                                stock.getOrDefault(
+                                                        value.id(), value.stockQuantity())))
+                        .toList());
+    }
+}
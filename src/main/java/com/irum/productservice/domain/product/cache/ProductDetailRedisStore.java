@@ -0,0 +1,109 @@
+package com.irum.productservice.domain.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.irum.productservice.domain.product.dto.response.ProductDetailResponse;
+import com.irum.productservice.global.infrastructure.properties.ProductCacheProperties;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 상세 공유 캐시(Redis)와 인스턴스 간 무효화 알림. product.cache.detail.redis-enabled=true 로 켭니다.
+ *
+ * <p>상세 응답은 JSON 으로 저장합니다. 재고는 ProductDetailCache 가 응답할 때마다 따로 읽으므로 주문으로는 지우지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "product.cache.detail",
+        name = "redis-enabled",
+        havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductDetailRedisStore {
+
+    static final String CHANNEL = "product:detail:evicted";
+    private static final String DETAIL_KEY_PREFIX = "product:detail:";
+
+    // 자신이 보낸 알림은 이미 반영했으므로 건너뜀
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductCacheProperties productCacheProperties;
+
+    private RedisMessageListenerContainer container;
+
+    public Optional<ProductDetailResponse> get(UUID productId) {
+        String json = stringRedisTemplate.opsForValue().get(DETAIL_KEY_PREFIX + productId);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, ProductDetailResponse.class));
+        } catch (JsonProcessingException e) {
+            // 응답 형태가 바뀐 이전 버전 값 등은 없는 것으로 보고 다시 채움
+            log.warn("상품 상세 캐시 역직렬화 실패: productId={}", productId);
+            return Optional.empty();
+        }
+    }
+
+    public void put(ProductDetailResponse detail) {
+        Duration ttl = Duration.ofSeconds(productCacheProperties.detail().redisTtlSeconds());
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(detail);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상품 상세 캐시 직렬화 실패", e);
+        }
+        stringRedisTemplate.opsForValue().set(DETAIL_KEY_PREFIX + detail.id(), json, ttl);
+    }
+
+    /** 공유 캐시에서 지우고 다른 인스턴스에 로컬 캐시를 비우도록 알립니다. */
+    public void evict(Collection<UUID> productIds) {
+        List<String> keys = new ArrayList<>();
+        productIds.forEach(id -> keys.add(DETAIL_KEY_PREFIX + id));
+        stringRedisTemplate.delete(keys);
+        for (UUID productId : productIds) {
+            stringRedisTemplate.convertAndSend(CHANNEL, instanceId + ":" + productId);
+        }
+    }
+
+    /** 다른 인스턴스가 보낸 무효화 알림을 받기 시작합니다. */
+    public void subscribe(Consumer<UUID> onEvicted) {
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(stringRedisTemplate.getRequiredConnectionFactory());
+        container.addMessageListener(
+                (message, pattern) -> {
+                    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+                    int separator = body.lastIndexOf(':');
+                    if (separator < 0 || body.substring(0, separator).equals(instanceId)) {
+                        return;
+                    }
+                    onEvicted.accept(UUID.fromString(body.substring(separator + 1)));
+                },
+                new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        if (container != null) {
+            container.destroy();
+        }
+    }
+}
@@ -50,16 +50,39 @@ public class ProductController {
     @GetMapping
     public ProductCursorResponse getProductList(
             @RequestParam(required = false) UUID categoryId,
-            @RequestParam(required = false) UUID cursor,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) Integer size,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) ProductSortType sort,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) Boolean inStock) {
+        ProductListFilter filter = new ProductListFilter(minPrice, maxPrice, minRating, inStock);
         log.info(
-                "상품 목록 조회 요청: categoryId={}, cursor={}, size={}, keyword={}",
+                "상품 목록 조회 요청: categoryId={}, cursor={}, size={}, keyword={}, sort={}, filter={}",
                 categoryId,
                 cursor,
                 size,
-                keyword);
-        return productService.getProductList(categoryId, cursor, size, keyword);
+                keyword,
+                sort,
+                filter);
+        return productService.getProductList(categoryId, cursor, size, keyword, sort, filter);
+    }
+
+    @GetMapping("/rankings")
+    public ProductCursorResponse getPopularProducts(
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) UUID storeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info(
+                "인기 상품 조회 요청: categoryId={}, storeId={}, cursor={}, size={}",
+                categoryId,
+                storeId,
+                cursor,
+                size);
+        return productService.getPopularProducts(categoryId, storeId, cursor, size);
     }
 
     @GetMapping("/{productId}")
@@ -109,6 +132,14 @@ public class ProductController {
         return productService.updateProductOptionValue(optionValueId, request);
     }
 
+    @PatchMapping("/options/values/{optionValueId}/stock-sharding")
+    public ProductOptionValueResponse updateProductOptionStockSharding(
+            @PathVariable UUID optionValueId,
+            @Valid @RequestBody ProductOptionStockShardingRequest request) {
+        log.info("상품 옵션 재고 샤딩 변경 요청: valueId={}, enabled={}", optionValueId, request.enabled());
+        return productService.updateProductOptionStockSharding(optionValueId, request);
+    }
+
     @DeleteMapping("/options/{optionGroupId}")
     public ResponseEntity<Void> deleteProductOptionGroup(@PathVariable UUID optionGroupId) {
         log.info("상품 옵션 그룹 삭제 요청: groupId={}", optionGroupId);
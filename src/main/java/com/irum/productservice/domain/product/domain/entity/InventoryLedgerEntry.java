@@ -0,0 +1,61 @@
+package com.irum.productservice.domain.product.domain.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 원장. 옵션 재고의 증감을 변경분(delta)으로만 추가하고 수정하지 않습니다. 컴팩터가 아직 반영되지 않은 변경분을 옵션의 stock_quantity 에 합친 뒤
+ * compacted_at 을 채웁니다.
+ *
+ * <p>반영 순서를 id 로 구분하기 위해 증가 id 를 사용합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_inventory_ledger")
+public class InventoryLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "inventory_ledger_id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "option_value_id", nullable = false, updatable = false)
+    private UUID optionValueId;
+
+    // 양수면 재고 증가, 음수면 재고 감소
+    @Column(name = "delta", nullable = false, updatable = false)
+    private int delta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reason", nullable = false, updatable = false, length = 20)
+    private InventoryLedgerReason reason;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "compacted_at")
+    private LocalDateTime compactedAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private InventoryLedgerEntry(UUID optionValueId, int delta, InventoryLedgerReason reason) {
+        this.optionValueId = optionValueId;
+        this.delta = delta;
+        this.reason = reason;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static InventoryLedgerEntry createEntry(
+            UUID optionValueId, int delta, InventoryLedgerReason reason) {
+        return InventoryLedgerEntry.builder()
+                .optionValueId(optionValueId)
+                .delta(delta)
+                .reason(reason)
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.irum.productservice.domain.product.domain.entity;
+
+/** 재고 원장 기록 사유 */
+public enum InventoryLedgerReason {
+    ORDER, // 주문(또는 홀드) 재고 차감
+    ROLLBACK, // 주문 취소/홀드 반환으로 재고 복구
+    ADJUSTMENT // 판매자 재고 수정
+}
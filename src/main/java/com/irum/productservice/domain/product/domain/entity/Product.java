@@ -5,6 +5,7 @@ import com.irum.global.domain.BaseEntity;
 import com.irum.productservice.domain.category.domain.entity.Category;
 import com.irum.productservice.domain.store.domain.entity.Store;
 import com.irum.productservice.global.exception.errorcode.CategoryErrorCode;
+import com.irum.productservice.global.util.UuidV7Generator;
 import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -23,7 +24,7 @@ import org.hibernate.annotations.Where;
 @Where(clause = "deleted_at IS NULL")
 public class Product extends BaseEntity {
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "product_id", updatable = false, nullable = false)
     private UUID id;
 
@@ -48,6 +49,10 @@ public class Product extends BaseEntity {
     @Column(name = "price", nullable = false)
     private int price;
 
+    // 옵션 재고(본 행 + 샤드) 중 하나라도 남아 있으면 true. ProductRepository.refreshInStock 으로만 갱신
+    @Column(name = "in_stock", nullable = false, updatable = false)
+    private boolean inStock;
+
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ProductOptionGroup> optionGroups = new ArrayList<>();
 
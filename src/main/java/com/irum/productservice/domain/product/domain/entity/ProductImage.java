@@ -1,6 +1,7 @@
 package com.irum.productservice.domain.product.domain.entity;
 
 import com.irum.global.domain.BaseEntity;
+import com.irum.productservice.global.util.UuidV7Generator;
 import jakarta.persistence.*;
 import java.util.UUID;
 import lombok.AccessLevel;
@@ -18,7 +19,7 @@ import org.hibernate.annotations.Where;
 public class ProductImage extends BaseEntity {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "product_image_id", updatable = false, nullable = false)
     private UUID id;
 
@@ -1,6 +1,7 @@
 package com.irum.productservice.domain.product.domain.entity;
 
 import com.irum.global.domain.BaseEntity;
+import com.irum.productservice.global.util.UuidV7Generator;
 import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,7 +20,7 @@ import org.hibernate.annotations.Where;
 @Where(clause = "deleted_at IS NULL")
 public class ProductOptionGroup extends BaseEntity {
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "option_group_id", updatable = false, nullable = false)
     private UUID id;
 
@@ -0,0 +1,70 @@
+package com.irum.productservice.domain.product.domain.entity;
+
+import com.irum.global.domain.BaseEntity;
+import com.irum.productservice.global.util.UuidV7Generator;
+import jakarta.persistence.*;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+
+/** 샤딩된 옵션 재고의 하위 행. 옵션 하나의 재고를 여러 행에 나눠 차감 경합을 분산합니다. */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_product_option_stock_shard")
+public class ProductOptionStockShard extends BaseEntity {
+    @Id
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(name = "stock_shard_id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "option_value_id", nullable = false)
+    private ProductOptionValue optionValue;
+
+    @Column(name = "shard_no", nullable = false)
+    private int shardNo;
+
+    @Column(name = "stock_quantity", nullable = false)
+    private int stockQuantity;
+
+    // 낙관적 락 버전 관리 필드 (샤드 단위)
+    @Version private Long version;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private ProductOptionStockShard(
+            ProductOptionValue optionValue, int shardNo, int stockQuantity) {
+        this.optionValue = optionValue;
+        this.shardNo = shardNo;
+        this.stockQuantity = stockQuantity;
+    }
+
+    public static ProductOptionStockShard createShard(
+            ProductOptionValue optionValue, int shardNo, int stockQuantity) {
+        return ProductOptionStockShard.builder()
+                .optionValue(optionValue)
+                .shardNo(shardNo)
+                .stockQuantity(stockQuantity)
+                .build();
+    }
+
+    /** 최대 quantity 만큼 차감하고 실제 차감한 수량을 반환합니다. */
+    public int take(int quantity) {
+        int taken = Math.min(Math.max(stockQuantity, 0), quantity);
+        if (taken > 0) {
+            this.stockQuantity -= taken;
+        }
+        return taken;
+    }
+
+    public void increaseStock(int quantity) {
+        this.stockQuantity += quantity;
+    }
+
+    protected void updateStockQuantity(int stockQuantity) {
+        this.stockQuantity = stockQuantity;
+    }
+}
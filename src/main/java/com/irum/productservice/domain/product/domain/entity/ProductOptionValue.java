@@ -3,8 +3,12 @@ package com.irum.productservice.domain.product.domain.entity;
 import static lombok.AccessLevel.*;
 
 import com.irum.global.domain.BaseEntity;
+import com.irum.productservice.global.util.UuidV7Generator;
 import jakarta.persistence.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +23,7 @@ import org.hibernate.annotations.Where;
 @Where(clause = "deleted_at IS NULL")
 public class ProductOptionValue extends BaseEntity {
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "option_value_id", updatable = false, nullable = false)
     private UUID id;
 
@@ -39,6 +43,14 @@ public class ProductOptionValue extends BaseEntity {
     // 낙관적 락 버전 관리 필드
     @Version private Long version;
 
+    // 재고 샤딩 여부. 샤딩된 옵션은 stockQuantity 에 샤드로 옮기지 못한 잔여분만 남습니다.
+    @Column(name = "stock_sharded", nullable = false)
+    private boolean stockSharded;
+
+    @OneToMany(mappedBy = "optionValue", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("shardNo")
+    private List<ProductOptionStockShard> stockShards = new ArrayList<>();
+
     @Builder(access = AccessLevel.PRIVATE)
     private ProductOptionValue(
             ProductOptionGroup optionGroup, String name, int stockQuantity, int extraPrice) {
@@ -61,8 +73,35 @@ public class ProductOptionValue extends BaseEntity {
         return value;
     }
 
+    /**
+     * 총 재고. 샤딩된 옵션은 본 행 잔여분과 샤드 재고의 합입니다. 원장 엔진에서는 반영 대기 변경분이 빠진 스냅샷이므로, 가용 재고는
+     * StockEngine.availableStock 으로 읽습니다.
+     */
+    public int getStockQuantity() {
+        if (!stockSharded) {
+            return stockQuantity;
+        }
+        return stockQuantity + shardStockSum();
+    }
+
+    /**
+     * 재고 차감. 샤딩된 옵션은 임의의 샤드부터 재고가 남은 샤드에서 차감하고, 샤드로 부족한 수량만 본 행에서 차감합니다. 본 행을 건드리지 않으면 본 행의 version
+     * 도 바뀌지 않아 다른 샤드를 고른 주문과 충돌하지 않습니다.
+     */
     public void decreaseStock(Integer quantity) {
-        this.stockQuantity -= quantity;
+        if (!stockSharded) {
+            this.stockQuantity -= quantity;
+            return;
+        }
+
+        int remaining = quantity;
+        int start = ThreadLocalRandom.current().nextInt(stockShards.size());
+        for (int i = 0; i < stockShards.size() && remaining > 0; i++) {
+            remaining -= stockShards.get((start + i) % stockShards.size()).take(remaining);
+        }
+        if (remaining > 0) {
+            this.stockQuantity -= remaining;
+        }
     }
 
     protected void setOptionGroup(ProductOptionGroup optionGroup) {
@@ -70,12 +109,82 @@ public class ProductOptionValue extends BaseEntity {
     }
 
     public void increaseStock(Integer quantity) {
-        this.stockQuantity += quantity;
+        if (!stockSharded) {
+            this.stockQuantity += quantity;
+            return;
+        }
+        stockShards
+                .get(ThreadLocalRandom.current().nextInt(stockShards.size()))
+                .increaseStock(quantity);
     }
 
     public void updateOptionValue(String name, int stockQuantity, Integer extraPrice) {
         this.name = name;
-        this.stockQuantity = stockQuantity;
+        // 샤딩된 옵션은 총 재고가 요청 값이 되도록 차이를 본 행에 두고, 재분배는 리밸런서가 처리
+        this.stockQuantity = stockSharded ? stockQuantity - shardStockSum() : stockQuantity;
         this.extraPrice = extraPrice;
     }
+
+    /** 재고 샤딩 적용. 현재 총 재고를 shardCount 개 샤드에 고르게 나눕니다. */
+    public void enableStockSharding(int shardCount) {
+        int total = getStockQuantity();
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            stockShards.add(
+                    ProductOptionStockShard.createShard(
+                            this, shardNo, evenShare(total, shardCount, shardNo)));
+        }
+        this.stockQuantity = 0;
+        this.stockSharded = true;
+    }
+
+    /** 재고 샤딩 해제. 샤드 재고를 본 행으로 합칩니다. */
+    public void disableStockSharding() {
+        this.stockQuantity = getStockQuantity();
+        stockShards.clear();
+        this.stockSharded = false;
+    }
+
+    /**
+     * 샤드 재분배. 본 행 잔여분이 있거나, 재고가 있는데 빈 샤드가 생기면 총 재고를 샤드에 다시 고르게 나눕니다. 총 재고가 음수(재고 엔진 write-behind 반영
+     * 등)면 샤드를 비우고 본 행에 둡니다.
+     *
+     * @return 변경이 있었는지 여부
+     */
+    public boolean rebalanceStockShards() {
+        if (!stockSharded || stockShards.isEmpty()) {
+            return false;
+        }
+
+        int total = getStockQuantity();
+        int min =
+                stockShards.stream()
+                        .mapToInt(ProductOptionStockShard::getStockQuantity)
+                        .min()
+                        .orElse(0);
+        int max =
+                stockShards.stream()
+                        .mapToInt(ProductOptionStockShard::getStockQuantity)
+                        .max()
+                        .orElse(0);
+        boolean skewed = min <= 0 && max > 1;
+        if (total < 0 ? (stockQuantity == total && max == 0) : (stockQuantity == 0 && !skewed)) {
+            return false;
+        }
+
+        int shardTotal = Math.max(total, 0);
+        for (ProductOptionStockShard shard : stockShards) {
+            shard.updateStockQuantity(
+                    evenShare(shardTotal, stockShards.size(), shard.getShardNo()));
+        }
+        this.stockQuantity = total - shardTotal;
+        return true;
+    }
+
+    private int shardStockSum() {
+        return stockShards.stream().mapToInt(ProductOptionStockShard::getStockQuantity).sum();
+    }
+
+    private static int evenShare(int total, int shardCount, int shardNo) {
+        return total / shardCount + (shardNo < total % shardCount ? 1 : 0);
+    }
 }
@@ -0,0 +1,58 @@
+package com.irum.productservice.domain.product.domain.entity;
+
+import com.irum.global.domain.BaseEntity;
+import com.irum.productservice.global.util.UuidV7Generator;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_stock_reservation")
+public class StockReservation extends BaseEntity {
+
+    @Id
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(name = "reservation_id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StockReservationStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @OneToMany(mappedBy = "reservation", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<StockReservationItem> items = new ArrayList<>();
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private StockReservation(UUID storeId, LocalDateTime expiresAt) {
+        this.storeId = storeId;
+        this.status = StockReservationStatus.HELD;
+        this.expiresAt = expiresAt;
+    }
+
+    public static StockReservation createReservation(UUID storeId, LocalDateTime expiresAt) {
+        return StockReservation.builder().storeId(storeId).expiresAt(expiresAt).build();
+    }
+
+    public void addItem(UUID optionValueId, int quantity) {
+        items.add(StockReservationItem.createItem(this, optionValueId, quantity));
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,49 @@
+package com.irum.productservice.domain.product.domain.entity;
+
+import com.irum.global.domain.BaseEntity;
+import com.irum.productservice.global.util.UuidV7Generator;
+import jakarta.persistence.*;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_stock_reservation_item")
+public class StockReservationItem extends BaseEntity {
+
+    @Id
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(name = "reservation_item_id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id", nullable = false)
+    private StockReservation reservation;
+
+    @Column(name = "option_value_id", nullable = false)
+    private UUID optionValueId;
+
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private StockReservationItem(StockReservation reservation, UUID optionValueId, int quantity) {
+        this.reservation = reservation;
+        this.optionValueId = optionValueId;
+        this.quantity = quantity;
+    }
+
+    public static StockReservationItem createItem(
+            StockReservation reservation, UUID optionValueId, int quantity) {
+        return StockReservationItem.builder()
+                .reservation(reservation)
+                .optionValueId(optionValueId)
+                .quantity(quantity)
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.irum.productservice.domain.product.domain.entity;
+
+/** 재고 홀드 상태 */
+public enum StockReservationStatus {
+    HELD, // 재고를 잡아둔 상태 (만료 시각 전까지 확정 가능)
+    CONFIRMED, // 주문 확정, 재고 차감 확정
+    RELEASED, // 주문 취소로 재고 반환
+    EXPIRED // 만료되어 스케줄러가 재고 반환
+}
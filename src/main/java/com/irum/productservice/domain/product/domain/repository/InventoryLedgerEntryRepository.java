@@ -0,0 +1,60 @@
+package com.irum.productservice.domain.product.domain.repository;
+
+import com.irum.productservice.domain.product.domain.entity.InventoryLedgerEntry;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface InventoryLedgerEntryRepository extends JpaRepository<InventoryLedgerEntry, Long> {
+
+    /** 아직 stock_quantity 에 반영되지 않은 변경분 합계 */
+    @Query(
+            "select coalesce(sum(e.delta), 0) from InventoryLedgerEntry e"
+                    + " where e.optionValueId = :optionValueId and e.compactedAt is null")
+    int sumPendingDelta(@Param("optionValueId") UUID optionValueId);
+
+    /** 여러 옵션의 반영 대기 변경분 합계. 변경분이 없는 옵션은 결과에 없습니다. */
+    @Query(
+            "select e.optionValueId as optionValueId, sum(e.delta) as delta"
+                    + " from InventoryLedgerEntry e"
+                    + " where e.optionValueId in :optionValueIds and e.compactedAt is null"
+                    + " group by e.optionValueId")
+    List<PendingDelta> sumPendingDeltas(@Param("optionValueIds") Collection<UUID> optionValueIds);
+
+    /** 반영 대기 변경분이 있는 옵션 id 를 오래된 변경분 순으로 조회 (컴팩터) */
+    @Query(
+            "select e.optionValueId from InventoryLedgerEntry e where e.compactedAt is null"
+                    + " group by e.optionValueId order by min(e.id)")
+    List<UUID> findPendingOptionValueIds(Pageable pageable);
+
+    /** 반영 대기 변경분을 잠그며 조회 (컴팩터). 잠근 행만 합산하고 표시해야, 조회 뒤에 커밋된 변경분이 합산 없이 반영 완료로 표시되지 않습니다. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+            "select e from InventoryLedgerEntry e"
+                    + " where e.optionValueId = :optionValueId and e.compactedAt is null"
+                    + " order by e.id")
+    List<InventoryLedgerEntry> findPendingForUpdate(
+            @Param("optionValueId") UUID optionValueId, Limit limit);
+
+    @Modifying
+    @Query("update InventoryLedgerEntry e set e.compactedAt = :compactedAt where e.id in :ids")
+    int markCompacted(
+            @Param("ids") Collection<Long> ids, @Param("compactedAt") LocalDateTime compactedAt);
+
+    List<InventoryLedgerEntry> findAllByOptionValueIdOrderByIdAsc(UUID optionValueId);
+
+    interface PendingDelta {
+        UUID getOptionValueId();
+
+        long getDelta();
+    }
+}
@@ -0,0 +1,43 @@
+package com.irum.productservice.domain.product.domain.repository;
+
+import com.irum.productservice.domain.product.domain.entity.ProductOptionStockShard;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductOptionStockShardRepository
+        extends JpaRepository<ProductOptionStockShard, UUID> {
+
+    /** 샤드별 현재 재고. 조건부 UPDATE 엔진이 여러 샤드에 나눠 차감할 때 영속성 컨텍스트를 거치지 않고 다시 읽습니다. */
+    @Query(
+            "select s.id as id, s.stockQuantity as stockQuantity from ProductOptionStockShard s"
+                    + " where s.optionValue.id = :optionValueId order by s.shardNo")
+    List<ShardStock> findStocksByOptionValueId(@Param("optionValueId") UUID optionValueId);
+
+    /** 조건부 샤드 재고 차감. 샤드 재고가 충분할 때만 차감되며, 갱신된 행 수(0 또는 1)를 반환합니다. */
+    @Modifying
+    @Query(
+            "update ProductOptionStockShard s set s.stockQuantity = s.stockQuantity - :quantity,"
+                    + " s.version = s.version + 1"
+                    + " where s.id = :id and s.stockQuantity >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    /** 샤드 재고 복구 (조건부 UPDATE 재고 엔진) */
+    @Modifying
+    @Query(
+            "update ProductOptionStockShard s set s.stockQuantity = s.stockQuantity + :quantity,"
+                    + " s.version = s.version + 1"
+                    + " where s.id = :id")
+    int increaseStockBy(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    interface ShardStock {
+        UUID getId();
+
+        int getStockQuantity();
+    }
+}
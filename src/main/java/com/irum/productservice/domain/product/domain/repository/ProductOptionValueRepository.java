@@ -4,9 +4,13 @@ import com.irum.productservice.domain.product.domain.entity.Product;
 import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
 import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
 import feign.Param;
+import jakarta.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -24,12 +28,83 @@ public interface ProductOptionValueRepository extends JpaRepository<ProductOptio
 
     @Query(
             """
-    SELECT pov
-    FROM ProductOptionValue pov
-    JOIN FETCH pov.optionGroup og
-    JOIN FETCH og.product p
-    JOIN FETCH p.store s
-    WHERE pov.id IN :ids
-    """)
+            SELECT pov
+            FROM ProductOptionValue pov
+            JOIN FETCH pov.optionGroup og
+            JOIN FETCH og.product p
+            JOIN FETCH p.store s
+            WHERE pov.id IN :ids
+            """)
     List<ProductOptionValue> findAllByIdWithFetchJoin(@Param("ids") List<UUID> ids);
+
+    /**
+     * 재고 변경분 반영 (Redis 재고 엔진 write-behind). 음수면 재고가 늘어납니다. 샤딩된 옵션은 본 행 잔여분에 반영되고 리밸런서가 샤드로 나눕니다.
+     */
+    @Modifying
+    @Query(
+            "update ProductOptionValue pov set pov.stockQuantity = pov.stockQuantity - :quantity,"
+                    + " pov.version = pov.version + 1"
+                    + " where pov.id = :id")
+    int decreaseStockBy(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    /** 조건부 재고 차감. 재고가 충분할 때만 차감되며, 갱신된 행 수(0 또는 1)를 반환합니다. */
+    @Modifying
+    @Query(
+            "update ProductOptionValue pov set pov.stockQuantity = pov.stockQuantity - :quantity,"
+                    + " pov.version = pov.version + 1"
+                    + " where pov.id = :id and pov.stockQuantity >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    /** 재고 복구 (조건부 UPDATE 재고 엔진) */
+    @Modifying
+    @Query(
+            "update ProductOptionValue pov set pov.stockQuantity = pov.stockQuantity + :quantity,"
+                    + " pov.version = pov.version + 1"
+                    + " where pov.id = :id")
+    int increaseStockBy(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    /**
+     * 주문 차감으로 재고가 바닥난 옵션의 상품 id. 본 행이 0 이하이고, 샤딩된 옵션은 샤드 하나라도 0 이하면 해당합니다. 동시 주문이 서로 다른 샤드를 비우면 각자
+     * 다른 샤드의 재고를 보게 되므로, 총 재고 대신 자신이 비운 행 기준으로 판단합니다.
+     */
+    @Query(
+            "select g.product.id from ProductOptionValue v join v.optionGroup g where v.id = :id"
+                    + " and v.stockQuantity <= 0 and (v.stockSharded = false or exists (select 1"
+                    + " from ProductOptionStockShard s where s.optionValue = v and s.stockQuantity"
+                    + " <= 0))")
+    Optional<UUID> findProductIdIfDepleted(@Param("id") UUID id);
+
+    /** 주문 복구로 재고가 0 이하에서 다시 생긴 옵션의 상품 id. 복구 후 총 재고(본 행 + 샤드 합)가 복구 수량 이하면 해당합니다. */
+    @Query(
+            "select g.product.id from ProductOptionValue v join v.optionGroup g where v.id = :id"
+                    + " and v.stockQuantity + coalesce((select sum(s.stockQuantity) from"
+                    + " ProductOptionStockShard s where s.optionValue = v), 0) <= :quantity")
+    Optional<UUID> findProductIdIfRestocked(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    /** 옵션 행 잠금 조회 (재고 원장 컴팩터). 잠금만 잡고 version 은 올리지 않습니다. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select pov from ProductOptionValue pov where pov.id = :id")
+    Optional<ProductOptionValue> findByIdForUpdate(@Param("id") UUID id);
+
+    /** 재고 샤딩된 옵션과 재고 버전 (샤드 리밸런서). 버전은 옵션 행과 샤드 version 의 합으로, 주문/반영/판매자 수정 어느 경로든 재고가 바뀌면 커집니다. */
+    @Query(
+            "select pov.id as id, pov.version + (select coalesce(sum(s.version), 0) from"
+                    + " ProductOptionStockShard s where s.optionValue = pov) as stockVersion"
+                    + " from ProductOptionValue pov where pov.stockSharded = true")
+    List<ShardedStockVersion> findShardedStockVersions();
+
+    @Query(
+            """
+            SELECT DISTINCT pov
+            FROM ProductOptionValue pov
+            LEFT JOIN FETCH pov.stockShards
+            WHERE pov.id = :id
+            """)
+    Optional<ProductOptionValue> findByIdWithStockShards(@Param("id") UUID id);
+
+    interface ShardedStockVersion {
+        UUID getId();
+
+        Long getStockVersion();
+    }
 }
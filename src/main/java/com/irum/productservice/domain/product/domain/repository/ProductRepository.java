@@ -1,10 +1,61 @@
 package com.irum.productservice.domain.product.domain.repository;
 
 import com.irum.productservice.domain.product.domain.entity.Product;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductRepository extends JpaRepository<Product, UUID>, ProductRepositoryCustom {
+    // 삭제되지 않은 옵션 값 중 총 재고(본 행 + 샤드 합)가 남은 것이 있으면 true
+    String HAS_STOCK =
+            "(case when exists (select 1 from ProductOptionValue v join v.optionGroup g"
+                    + " where g.product = p and v.stockQuantity + coalesce((select"
+                    + " sum(s.stockQuantity) from ProductOptionStockShard s where s.optionValue ="
+                    + " v), 0) > 0) then true else false end)";
+
+    // 조건(WHERE)에서 HAS_STOCK 과 다른 행만 남기므로 값을 뒤집으면 HAS_STOCK 이 됨 (SET 에서 HAS_STOCK 을 다시 계산하지 않음)
+    String TOGGLE_IN_STOCK = "case when p.inStock = true then false else true end";
+
     List<Product> findByStoreId(UUID storeId);
+
+    /** 상품 행 잠금 (재고 여부 재계산). 여러 상품은 id 순서로 잠가 교착을 막습니다. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id in :productIds order by p.id")
+    List<Product> findAllByIdForUpdate(@Param("productIds") Collection<UUID> productIds);
+
+    /**
+     * 상품의 재고 여부(in_stock)를 옵션 재고로 다시 계산합니다. 값이 바뀌는 행만 갱신하며, 판매자 수정과 부딪히지 않도록 version 은 올리지 않습니다.
+     */
+    @Modifying
+    @Query(
+            "update Product p set p.inStock = "
+                    + TOGGLE_IN_STOCK
+                    + " where p.id in :productIds and p.inStock <> "
+                    + HAS_STOCK)
+    int refreshInStock(@Param("productIds") Collection<UUID> productIds);
+
+    /** 옵션 값이 속한 상품의 재고 여부를 다시 계산합니다 (재고 엔진 DB 반영). */
+    @Modifying
+    @Query(
+            "update Product p set p.inStock = "
+                    + TOGGLE_IN_STOCK
+                    + " where p.id in (select og.product.id from ProductOptionValue ov join"
+                    + " ov.optionGroup og where ov.id in :optionValueIds) and p.inStock <> "
+                    + HAS_STOCK)
+    int refreshInStockByOptionValueIds(@Param("optionValueIds") Collection<UUID> optionValueIds);
+
+    /** 전체 상품의 재고 여부를 다시 계산합니다 (주기 보정). */
+    @Modifying
+    @Query(
+            "update Product p set p.inStock = "
+                    + TOGGLE_IN_STOCK
+                    + " where p.inStock <> "
+                    + HAS_STOCK)
+    int refreshAllInStock();
 }
@@ -1,18 +1,67 @@
 package com.irum.productservice.domain.product.domain.repository;
 
-import com.irum.productservice.domain.product.dto.response.ProductResponse;
+import com.irum.productservice.domain.product.dto.request.ProductListFilter;
+import com.irum.productservice.domain.product.dto.request.ProductSortType;
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
+import com.irum.productservice.domain.product.dto.response.ProductDetailResponse;
+import com.irum.productservice.domain.product.search.ProductFacetDocument;
+import com.irum.productservice.domain.product.search.ProductSearchDocument;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ProductRepositoryCustom {
-    List<ProductResponse> findProductsByCursor(UUID cursor, int size);
+    /**
+     * 상품 목록. 모든 목록 조회는 size 건까지 돌려주며, 다음 페이지 여부는 호출하는 쪽이 size + 1 건을 요청해 판단합니다.
+     *
+     * @param cursor 직전 페이지의 ProductSortType.cursorOf 값 (첫 페이지는 null)
+     * @param filter 가격/평점/재고 조건 (상점 상품 목록에는 없음)
+     */
+    List<ProductCardResponse> findProductsByCursor(
+            ProductSortType sort, String cursor, int size, ProductListFilter filter);
 
-    List<ProductResponse> findProductsByKeyword(UUID cursor, int size, String keyword);
+    List<ProductCardResponse> findProductsByKeyword(
+            ProductSortType sort,
+            String cursor,
+            int size,
+            ProductListFilter filter,
+            String keyword);
 
-    List<ProductResponse> findProductsByStoreWithCursor(UUID storeId, UUID cursor, int size);
+    List<ProductCardResponse> findProductsByStoreWithCursor(UUID storeId, UUID cursor, int size);
 
-    List<ProductResponse> findProductsByCategoryIds(UUID cursor, int size, List<UUID> categoryIds);
+    List<ProductCardResponse> findProductsByCategoryIds(
+            ProductSortType sort,
+            String cursor,
+            int size,
+            ProductListFilter filter,
+            List<UUID> categoryIds);
 
-    List<ProductResponse> findProductsByCategoryIdsAndKeyword(
-            UUID cursor, int size, List<UUID> categoryIds, String keyword);
+    List<ProductCardResponse> findProductsByCategoryIdsAndKeyword(
+            ProductSortType sort,
+            String cursor,
+            int size,
+            ProductListFilter filter,
+            List<UUID> categoryIds,
+            String keyword);
+
+    /**
+     * 인기 상품 랭킹 순 공개 상품. 상점이 있으면 상점 랭킹, 없으면 카테고리(첫 id) 또는 전체 랭킹을 읽고, 랭킹을 쓰지 않으면 빈 목록입니다.
+     *
+     * @param cursor 직전 페이지 마지막 상품 id (첫 페이지는 null). 그 상품이 랭킹에서 빠졌으면 PRODUCT_CURSOR_EXPIRED 입니다.
+     * @param categoryIds 자신을 포함한 하위 카테고리 id 목록 (없으면 null)
+     */
+    List<ProductCardResponse> findProductsByPopularity(
+            String cursor, int size, UUID storeId, List<UUID> categoryIds);
+
+    /** 상품 상세 조회. 옵션/이미지 수와 관계없이 쿼리 4번(상품+상점+카테고리, 옵션 그룹, 옵션 값, 이미지)으로 만듭니다. */
+    Optional<ProductDetailResponse> findProductDetail(UUID productId);
+
+    /** 검색 색인 재구성용. 삭제되지 않은 상품을 id 순으로 after 다음부터 size 건 읽습니다. */
+    List<ProductSearchDocument> findSearchDocuments(UUID after, int size);
+
+    /** facet 집계 재구성용. 삭제되지 않은 공개 상품을 id 순으로 after 다음부터 size 건 읽습니다. */
+    List<ProductFacetDocument> findFacetDocuments(UUID after, int size);
+
+    /** facet 집계 갱신용. 삭제되었거나 비공개인 상품은 빈 값입니다. */
+    Optional<ProductFacetDocument> findFacetDocument(UUID productId);
 }
@@ -0,0 +1,44 @@
+package com.irum.productservice.domain.product.domain.repository;
+
+import com.irum.productservice.domain.product.domain.entity.StockReservation;
+import com.irum.productservice.domain.product.domain.entity.StockReservationStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, UUID> {
+
+    @Query("select r from StockReservation r join fetch r.items where r.id = :id")
+    Optional<StockReservation> findByIdWithItems(@Param("id") UUID id);
+
+    /** 만료 시각이 지난 홀드 id 조회 (오래된 순) */
+    @Query(
+            """
+            SELECT r.id
+            FROM StockReservation r
+            WHERE r.status = :status AND r.expiresAt <= :now
+            ORDER BY r.expiresAt
+            """)
+    List<UUID> findIdsByStatusAndExpiresAtBefore(
+            @Param("status") StockReservationStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    /** 현재 상태가 from 일 때만 to 로 변경. 확정과 만료가 동시에 일어나도 한쪽만 성공합니다. */
+    @Modifying
+    @Query(
+            "update StockReservation r set r.status = :to"
+                    + " where r.id = :id and r.status = :from")
+    int updateStatus(
+            @Param("id") UUID id,
+            @Param("from") StockReservationStatus from,
+            @Param("to") StockReservationStatus to);
+}
@@ -0,0 +1,19 @@
+package com.irum.productservice.domain.product.dto.request;
+
+/**
+ * 상품 목록 필터. 값이 없는 조건은 적용하지 않습니다.
+ *
+ * @param minPrice 최저 가격 (포함)
+ * @param maxPrice 최고 가격 (포함)
+ * @param minRating 최소 평균 평점. 리뷰가 없는 상품은 0점으로 봅니다.
+ * @param inStock true 면 품절 상품(모든 옵션 재고가 0)을 뺍니다.
+ */
+public record ProductListFilter(
+        Integer minPrice, Integer maxPrice, Double minRating, Boolean inStock) {
+
+    public static final ProductListFilter NONE = new ProductListFilter(null, null, null, null);
+
+    public boolean inStockOnly() {
+        return Boolean.TRUE.equals(inStock);
+    }
+}
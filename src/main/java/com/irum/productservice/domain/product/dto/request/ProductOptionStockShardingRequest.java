@@ -0,0 +1,11 @@
+package com.irum.productservice.domain.product.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record ProductOptionStockShardingRequest(
+        @NotNull(message = "샤딩 여부는 필수입니다.") Boolean enabled,
+        @Min(value = 2, message = "샤드 수는 2 이상이어야 합니다.")
+                @Max(value = 64, message = "샤드 수는 64 이하여야 합니다.")
+                Integer shardCount) {}
@@ -0,0 +1,39 @@
+package com.irum.productservice.domain.product.dto.request;
+
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
+
+/**
+ * 상품 목록 정렬. 모든 정렬은 상품 id 를 마지막 키로 써 순서가 고정되고, 커서는 직전 페이지 마지막 상품의 정렬 키와 id 입니다.
+ *
+ * <p>커서 형식 : RELEVANCE, NEWEST, POPULARITY 는 상품 id, 나머지는 "정렬 키_상품 id" (평점/리뷰 수가 없으면 0).
+ */
+public enum ProductSortType {
+    /** 검색어 관련도 순. 검색 색인을 쓰지 않거나 검색어가 없으면 NEWEST 로 동작합니다. */
+    RELEVANCE,
+    /** 등록 시각(created_at), id 역순. 커서는 상품 id 이고 등록 시각은 조회할 때 읽습니다. */
+    NEWEST,
+    PRICE_ASC,
+    PRICE_DESC,
+    RATING,
+    REVIEW_COUNT,
+    /** 판매 랭킹 순. 랭킹에 오른 상품만 나오며, 랭킹을 쓰지 않으면(product.ranking.enabled=false) NEWEST 로 동작합니다. */
+    POPULARITY;
+
+    /** 요청에 정렬이 없으면 검색어가 있을 때 RELEVANCE, 없을 때 NEWEST. */
+    public static ProductSortType resolve(ProductSortType requested, boolean hasKeyword) {
+        if (requested != null) {
+            return requested;
+        }
+        return hasKeyword ? RELEVANCE : NEWEST;
+    }
+
+    public String cursorOf(ProductCardResponse card) {
+        return switch (this) {
+            case RELEVANCE, NEWEST, POPULARITY -> card.id().toString();
+            case PRICE_ASC, PRICE_DESC -> card.price() + "_" + card.id();
+            case RATING -> (card.avgRating() != null ? card.avgRating() : 0.0) + "_" + card.id();
+            case REVIEW_COUNT ->
+                    (card.reviewCount() != null ? card.reviewCount() : 0) + "_" + card.id();
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.irum.productservice.domain.product.dto.response;
+
+import java.util.UUID;
+
+/**
+ * 상품 목록(카드) 조회 DTO - 상세 설명(detailDescription)은 상세 조회(ProductDetailResponse)에서만 내려줍니다.
+ *
+ * @param id
+ * @param name
+ * @param description 요약 설명
+ * @param price
+ * @param isPublic
+ * @param avgRating
+ * @param reviewCount
+ * @param thumbnailUrl 대표 이미지 URL, 없으면 null
+ * @param categoryId
+ * @param categoryName
+ */
+public record ProductCardResponse(
+        UUID id,
+        String name,
+        String description,
+        int price,
+        boolean isPublic,
+        Double avgRating,
+        Integer reviewCount,
+        String thumbnailUrl,
+        UUID categoryId,
+        String categoryName) {}
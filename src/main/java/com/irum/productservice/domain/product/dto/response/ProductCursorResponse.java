@@ -1,11 +1,35 @@
 package com.irum.productservice.domain.product.dto.response;
 
+import com.irum.productservice.domain.product.dto.request.ProductSortType;
 import java.util.List;
-import java.util.UUID;
 
-public record ProductCursorResponse(List<ProductResponse> products, UUID nextCursor) {
-    public static ProductCursorResponse of(List<ProductResponse> products) {
-        UUID nextCursor = products.isEmpty() ? null : products.get(products.size() - 1).id();
-        return new ProductCursorResponse(products, nextCursor);
+/**
+ * @param products
+ * @param nextCursor 다음 페이지 요청에 넘길 커서 (다음 페이지가 없으면 null)
+ * @param hasNext
+ * @param facets 첫 페이지에만 채우는 facet (다음 페이지, 상점 상품 목록, 집계를 만들 수 없을 때는 null). 가격/평점/재고 필터와 관계없이
+ *     카테고리/검색어 조건 전체를 셉니다.
+ */
+public record ProductCursorResponse(
+        List<ProductCardResponse> products,
+        String nextCursor,
+        boolean hasNext,
+        ProductFacetResponse facets) {
+
+    /** size + 1 건을 조회한 결과로 응답을 만듭니다. 한 건이 더 있으면 다음 페이지가 있는 것으로 봅니다. */
+    public static ProductCursorResponse of(
+            List<ProductCardResponse> fetched, int size, ProductSortType sort) {
+        return of(fetched, size, sort, null);
+    }
+
+    public static ProductCursorResponse of(
+            List<ProductCardResponse> fetched,
+            int size,
+            ProductSortType sort,
+            ProductFacetResponse facets) {
+        boolean hasNext = fetched.size() > size;
+        List<ProductCardResponse> products = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? sort.cursorOf(products.get(products.size() - 1)) : null;
+        return new ProductCursorResponse(products, nextCursor, hasNext, facets);
     }
 }
@@ -1,13 +1,12 @@
 package com.irum.productservice.domain.product.dto.response;
 
 import com.irum.productservice.domain.category.dto.response.CategoryInfoResponse;
-import com.irum.productservice.domain.product.domain.entity.Product;
 import com.irum.productservice.domain.store.dto.response.StoreInfoResponse;
 import java.util.List;
 import java.util.UUID;
 
 /**
- * 상품 상세 조회 DTO - 추후 Store, Category, Images, Options 확장 예정
+ * 상품 상세 조회 DTO - ProductRepositoryCustom.findProductDetail 로 만듭니다.
  *
  * @param id
  * @param name
@@ -17,6 +16,10 @@ import java.util.UUID;
  * @param isPublic
  * @param avgRating
  * @param reviewCount
+ * @param store
+ * @param category
+ * @param images 대표 이미지가 먼저, 나머지는 등록 순
+ * @param optionGroups 옵션 그룹/값 모두 등록 순
  */
 public record ProductDetailResponse(
         UUID id,
@@ -29,20 +32,22 @@ public record ProductDetailResponse(
         Integer reviewCount,
         StoreInfoResponse store,
         CategoryInfoResponse category,
-        // TODO: List<ImageResponse> images,
+        List<ProductImageResponse> images,
         List<ProductOptionGroupResponse> optionGroups) {
-    public static ProductDetailResponse from(Product product) {
+
+    public ProductDetailResponse withOptionGroups(List<ProductOptionGroupResponse> optionGroups) {
         return new ProductDetailResponse(
-                product.getId(),
-                product.getName(),
-                product.getDescription(),
-                product.getDetailDescription(),
-                product.getPrice(),
-                product.isPublic(),
-                product.getAvgRating(),
-                product.getReviewCount(),
-                StoreInfoResponse.from(product.getStore()),
-                CategoryInfoResponse.from(product.getCategory()),
-                product.getOptionGroups().stream().map(ProductOptionGroupResponse::from).toList());
+                id,
+                name,
+                description,
+                detailDescription,
+                price,
+                isPublic,
+                avgRating,
+                reviewCount,
+                store,
+                category,
+                images,
+                optionGroups);
     }
 }
@@ -0,0 +1,42 @@
+package com.irum.productservice.domain.product.dto.response;
+
+import com.irum.productservice.domain.discount.dto.response.DiscountInfoResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 카탈로그 내보내기 한 줄 - ProductExportRepository.findExportDocuments 로 만듭니다.
+ *
+ * @param id
+ * @param name
+ * @param description
+ * @param detailDescription
+ * @param price
+ * @param avgRating
+ * @param reviewCount
+ * @param inStock 옵션 재고가 남아 있는지 여부 (p_product.in_stock)
+ * @param storeId
+ * @param categoryId
+ * @param categoryName
+ * @param defaultImageUrl 대표 이미지 URL, 없으면 null
+ * @param discount 할인, 없으면 null
+ * @param optionGroups 옵션 그룹/값 모두 등록 순. 재고는 내보낸 시점의 총 재고(본 행 + 샤드 합)
+ * @param updatedAt 상품 행의 마지막 수정 시각
+ */
+public record ProductExportDocument(
+        UUID id,
+        String name,
+        String description,
+        String detailDescription,
+        int price,
+        Double avgRating,
+        Integer reviewCount,
+        boolean inStock,
+        UUID storeId,
+        UUID categoryId,
+        String categoryName,
+        String defaultImageUrl,
+        DiscountInfoResponse discount,
+        List<ProductOptionGroupResponse> optionGroups,
+        LocalDateTime updatedAt) {}
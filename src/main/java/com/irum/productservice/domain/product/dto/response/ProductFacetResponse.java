@@ -0,0 +1,29 @@
+package com.irum.productservice.domain.product.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 상품 목록 facet. 목록 조건(카테고리, 검색어)에 맞는 공개 상품 수를 하위 카테고리/가격대/평점별로 셉니다.
+ *
+ * @param total 조건에 맞는 공개 상품 수
+ * @param categories 요청 카테고리 바로 아래 카테고리별 상품 수 (카테고리가 없으면 최상위 카테고리별, 0건은 제외)
+ * @param priceBands 가격대별 상품 수, 낮은 가격대부터
+ * @param ratings 평균 평점 N점 이상 상품 수, 4점부터 1점까지
+ */
+public record ProductFacetResponse(
+        long total,
+        List<CategoryCount> categories,
+        List<PriceBandCount> priceBands,
+        List<RatingCount> ratings) {
+
+    public record CategoryCount(UUID categoryId, String name, long count) {}
+
+    /**
+     * @param minPrice 구간 하한 (포함)
+     * @param maxPrice 구간 상한 (미포함, 마지막 구간은 null)
+     */
+    public record PriceBandCount(int minPrice, Integer maxPrice, long count) {}
+
+    public record RatingCount(int minRating, long count) {}
+}
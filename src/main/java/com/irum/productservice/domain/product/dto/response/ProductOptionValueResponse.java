@@ -9,4 +9,14 @@ public record ProductOptionValueResponse(
         return new ProductOptionValueResponse(
                 value.getId(), value.getName(), value.getStockQuantity(), value.getExtraPrice());
     }
+
+    public ProductOptionValueResponse withStockQuantity(int stockQuantity) {
+        return new ProductOptionValueResponse(id, name, stockQuantity, extraPrice);
+    }
+
+    /** 엔티티 재고 대신 가용 재고(StockEngine.availableStock)로 응답 */
+    public static ProductOptionValueResponse from(ProductOptionValue value, int stockQuantity) {
+        return new ProductOptionValueResponse(
+                value.getId(), value.getName(), stockQuantity, value.getExtraPrice());
+    }
 }
@@ -0,0 +1,15 @@
+package com.irum.productservice.domain.product.dto.response;
+
+import com.irum.openfeign.product.dto.response.ProductInternalResponse;
+import com.irum.productservice.domain.product.domain.entity.StockReservation;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record StockReservationResponse(
+        UUID reservationId, LocalDateTime expiresAt, ProductInternalResponse product) {
+    public static StockReservationResponse of(
+            StockReservation reservation, ProductInternalResponse product) {
+        return new StockReservationResponse(
+                reservation.getId(), reservation.getExpiresAt(), product);
+    }
+}
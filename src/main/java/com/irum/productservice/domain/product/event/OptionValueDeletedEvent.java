@@ -0,0 +1,11 @@
+package com.irum.productservice.domain.product.event;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class OptionValueDeletedEvent {
+    private final UUID optionValueId;
+}
@@ -0,0 +1,12 @@
+package com.irum.productservice.domain.product.event;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class OptionValuePriceChangedEvent {
+    private final UUID optionValueId;
+    private final Integer extraPrice;
+}
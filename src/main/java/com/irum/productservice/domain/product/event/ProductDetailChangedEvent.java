@@ -0,0 +1,12 @@
+package com.irum.productservice.domain.product.event;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 상품 상세 조회 결과가 바뀌는 변경 (상품, 옵션, 할인, 이미지, 평점). 상세 캐시 무효화와 facet 집계 갱신에 사용합니다. */
+@Getter
+@RequiredArgsConstructor
+public class ProductDetailChangedEvent {
+    private final UUID productId;
+}
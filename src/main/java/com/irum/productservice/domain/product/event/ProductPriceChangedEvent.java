@@ -0,0 +1,12 @@
+package com.irum.productservice.domain.product.event;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ProductPriceChangedEvent {
+    private final UUID productId;
+    private final int price;
+}
@@ -0,0 +1,14 @@
+package com.irum.productservice.domain.product.event;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 상품 생성 또는 상품명/설명 등 기본 정보 수정 */
+@Getter
+@RequiredArgsConstructor
+public class ProductSavedEvent {
+    private final UUID productId;
+    private final String name;
+    private final String description;
+}
@@ -0,0 +1,15 @@
+package com.irum.productservice.domain.product.event;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 주문 경로의 재고 차감 또는 재고 홀드 확정 1건(트랜잭션)에서 팔린 상품별 수량. 인기 상품 랭킹에 씁니다. */
+@Getter
+@RequiredArgsConstructor
+public class ProductSoldEvent {
+    private final List<Sale> sales;
+
+    public record Sale(UUID productId, UUID categoryId, UUID storeId, int quantity) {}
+}
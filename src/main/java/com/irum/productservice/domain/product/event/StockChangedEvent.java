@@ -0,0 +1,13 @@
+package com.irum.productservice.domain.product.event;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 주문 경로의 재고 증감. delta 가 음수면 차감, 양수면 반환입니다. */
+@Getter
+@RequiredArgsConstructor
+public class StockChangedEvent {
+    private final UUID optionValueId;
+    private final int delta;
+}
@@ -5,13 +5,21 @@ import com.irum.productservice.domain.discount.domain.entity.Discount;
 import com.irum.productservice.domain.product.domain.entity.Product;
 import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ProductMapper {
 
+    /**
+     * @param availableStock 옵션별 가용 재고 (StockEngine.availableStock)
+     */
     public ProductDto toDto(
-            Product product, List<ProductOptionValue> optionValues, Discount discount) {
+            Product product,
+            List<ProductOptionValue> optionValues,
+            Map<UUID, Integer> availableStock,
+            Discount discount) {
         return new ProductDto(
                 product.getId(),
                 product.getName(),
@@ -24,21 +32,20 @@ public class ProductMapper {
                 product.getCategory().getCategoryId(),
                 product.getCategory().getName(),
                 product.getStore().getId(),
-                toOptionDtoList(optionValues),
+                toOptionDtoList(optionValues, availableStock),
                 toDiscountDto(discount));
     }
 
     private List<ProductDto.ProductOptionDto> toOptionDtoList(
-            List<ProductOptionValue> optionValues) {
-        return optionValues.stream().map(this::toOptionDto).toList();
+            List<ProductOptionValue> optionValues, Map<UUID, Integer> availableStock) {
+        return optionValues.stream()
+                .map(option -> toOptionDto(option, availableStock.get(option.getId())))
+                .toList();
     }
 
-    private ProductDto.ProductOptionDto toOptionDto(ProductOptionValue option) {
+    private ProductDto.ProductOptionDto toOptionDto(ProductOptionValue option, int stockQuantity) {
         return new ProductDto.ProductOptionDto(
-                option.getId(),
-                option.getName(),
-                option.getExtraPrice(),
-                option.getStockQuantity());
+                option.getId(), option.getName(), option.getExtraPrice(), stockQuantity);
     }
 
     private ProductDto.DiscountDto toDiscountDto(Discount discount) {
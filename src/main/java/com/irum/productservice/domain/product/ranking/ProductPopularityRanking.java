@@ -0,0 +1,262 @@
+package com.irum.productservice.domain.product.ranking;
+
+import com.irum.productservice.domain.category.service.CategoryTreeIndex;
+import com.irum.productservice.domain.product.event.ProductSoldEvent;
+import com.irum.productservice.global.infrastructure.properties.RankingProperties;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 인기 상품 랭킹. 주문 재고 차감이 커밋되면 팔린 수량을 전체/카테고리(상위 카테고리 포함)/상점별 Redis sorted set 점수에 더합니다.
+ *
+ * <p>점수는 시간이 지날수록 작아지도록, 판매 시각이 기준 시각에서 멀수록 큰 가중치 2^(경과 시간 / 반감기)를 곱해 더합니다. 지난 점수를 주기적으로 줄이지 않아도
+ * 반감기 전의 판매가 지금 판매의 절반으로 계산됩니다. 기준 시각은 Redis 에 두고 점수 갱신 스크립트가 그 값으로 가중치를 계산하므로 인스턴스 간 조율이 필요 없습니다.
+ * 가중치가 double 범위를 넘지 않도록, 경과가 RENORMALIZE_HALF_LIVES 반감기를 넘으면 기준 시각을 반감기의 정수 배만큼 옮기고 모든 랭킹 점수에 같은
+ * 배율(2의 거듭제곱이라 정확함)을 곱합니다. 이동과 배율 적용은 스크립트 하나로 처리해 점수 갱신과 섞이지 않습니다.
+ *
+ * <p>한 주문의 점수 갱신은 스크립트 한 번(Redis 왕복 1회)으로 보내며, 실패해도 주문에는 영향을 주지 않고 로그만 남깁니다. 주문 취소(재고 롤백)는 점수에서 빼지
+ * 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductPopularityRanking {
+
+    static final String KEY_PREFIX = "product:ranking:";
+    // 랭킹 키를 SCAN 으로 찾을 때 섞이지 않도록 다른 접두어를 씀
+    static final String EPOCH_KEY = "product:ranking-meta:epoch";
+    static final String REGISTRY_KEY = "product:ranking-meta:keys";
+    // 기준 시각이 아직 없을 때의 값. 고정 기준 시각으로 쌓인 기존 점수와 맞춤
+    static final Instant INITIAL_EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+    // 가중치 2^64 에서 기준 시각을 옮김. double 한계(2^1023)까지 여유가 커서 이동이 늦어져도 넘치지 않음
+    static final int RENORMALIZE_HALF_LIVES = 64;
+
+    // KEYS : 기준 시각, 랭킹 키 목록, 랭킹 키 n개
+    // ARGV : 판매 시각(ms), 반감기(ms), 처음 기준 시각(ms), 남길 상위 수, 랭킹 키마다 [상품 수 m, (상품 id, 수량) m쌍]
+    // 가중치가 double 범위를 넘으면 점수를 더하지 않고 -1 을 반환합니다.
+    private static final RedisScript<Long> RECORD_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    local epoch = tonumber(redis.call('GET', KEYS[1]))
+                    if not epoch then
+                      epoch = tonumber(ARGV[3])
+                      redis.call('SET', KEYS[1], ARGV[3])
+                    end
+                    local weight = 2 ^ ((tonumber(ARGV[1]) - epoch) / tonumber(ARGV[2]))
+                    if weight == math.huge then return -1 end
+                    local keep = tonumber(ARGV[4])
+                    local i = 5
+                    for k = 3, #KEYS do
+                      redis.call('SADD', KEYS[2], KEYS[k])
+                      local m = tonumber(ARGV[i])
+                      for j = 1, m do
+                        redis.call('ZINCRBY', KEYS[k], tonumber(ARGV[i + 2 * j]) * weight,
+                          ARGV[i + 2 * j - 1])
+                      end
+                      redis.call('ZREMRANGEBYRANK', KEYS[k], 0, -(keep + 1))
+                      i = i + 1 + 2 * m
+                    end
+                    return 0
+                    """,
+                    Long.class);
+
+    // KEYS : 기준 시각, 랭킹 키 목록
+    // ARGV : 현재 기준 시각, 새 기준 시각, 점수 배율, 목록에 더할 랭킹 키(SCAN 결과)
+    // 다른 인스턴스가 먼저 옮겼으면(기준 시각이 다르면) 아무것도 하지 않고 0 을 반환합니다.
+    private static final RedisScript<Long> RENORMALIZE_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+                    for i = 4, #ARGV do
+                      redis.call('SADD', KEYS[2], ARGV[i])
+                    end
+                    for _, key in ipairs(redis.call('SMEMBERS', KEYS[2])) do
+                      if redis.call('EXISTS', key) == 1 then
+                        redis.call('ZUNIONSTORE', key, 1, key, 'WEIGHTS', ARGV[3])
+                      else
+                        redis.call('SREM', KEYS[2], key)
+                      end
+                    end
+                    redis.call('SET', KEYS[1], ARGV[2])
+                    return 1
+                    """,
+                    Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CategoryTreeIndex categoryTreeIndex;
+    private final RankingProperties rankingProperties;
+
+    public boolean isEnabled() {
+        return rankingProperties.enabled();
+    }
+
+    public static String allKey() {
+        return KEY_PREFIX + "all";
+    }
+
+    public static String categoryKey(UUID categoryId) {
+        return KEY_PREFIX + "category:" + categoryId;
+    }
+
+    public static String storeKey(UUID storeId) {
+        return KEY_PREFIX + "store:" + storeId;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProductSold(ProductSoldEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            record(event.getSales(), Instant.now());
+        } catch (RuntimeException e) {
+            log.warn("인기 상품 점수 갱신 실패. 예외 : {}", e.getMessage());
+        }
+    }
+
+    /** soldAt 시각의 판매로 점수를 더하고, 랭킹마다 상위 maxSize 건만 남깁니다. */
+    public void record(List<ProductSoldEvent.Sale> sales, Instant soldAt) {
+        Map<String, Map<String, Integer>> quantities = new LinkedHashMap<>();
+        for (ProductSoldEvent.Sale sale : sales) {
+            String productId = sale.productId().toString();
+            for (String key : keysOf(sale)) {
+                quantities
+                        .computeIfAbsent(key, k -> new LinkedHashMap<>())
+                        .merge(productId, sale.quantity(), Integer::sum);
+            }
+        }
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(List.of(EPOCH_KEY, REGISTRY_KEY));
+        List<String> args =
+                new ArrayList<>(
+                        List.of(
+                                String.valueOf(soldAt.toEpochMilli()),
+                                String.valueOf(halfLifeMillis()),
+                                String.valueOf(INITIAL_EPOCH.toEpochMilli()),
+                                String.valueOf(rankingProperties.maxSize())));
+        quantities.forEach(
+                (key, byProduct) -> {
+                    keys.add(key);
+                    args.add(String.valueOf(byProduct.size()));
+                    byProduct.forEach(
+                            (productId, quantity) -> {
+                                args.add(productId);
+                                args.add(String.valueOf(quantity));
+                            });
+                });
+        Long result = redisTemplate.execute(RECORD_SCRIPT, keys, args.toArray());
+        if (result != null && result < 0) {
+            log.warn("인기 상품 점수 가중치가 double 범위를 넘어 점수를 더하지 않았습니다. 기준 시각 이동이 필요합니다.");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.ranking.renormalize-interval-ms:3600000}")
+    public void renormalize() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            renormalize(Instant.now());
+        } catch (RuntimeException e) {
+            log.warn("인기 상품 기준 시각 이동 실패. 예외 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * now 기준 가중치가 2^RENORMALIZE_HALF_LIVES 이상이면 기준 시각을 반감기의 정수 배만큼 옮기고, 랭킹 점수에 같은 배율을 곱합니다.
+     *
+     * @return 기준 시각을 옮겼으면 true
+     */
+    public boolean renormalize(Instant now) {
+        redisTemplate
+                .opsForValue()
+                .setIfAbsent(EPOCH_KEY, String.valueOf(INITIAL_EPOCH.toEpochMilli()));
+        String epoch = redisTemplate.opsForValue().get(EPOCH_KEY);
+        if (epoch == null) {
+            return false;
+        }
+        long halfLifeMillis = halfLifeMillis();
+        long halfLives = (now.toEpochMilli() - Long.parseLong(epoch)) / halfLifeMillis;
+        if (halfLives < RENORMALIZE_HALF_LIVES) {
+            return false;
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(epoch);
+        args.add(String.valueOf(Long.parseLong(epoch) + halfLives * halfLifeMillis));
+        // 1074 반감기를 넘으면 0 (지난 점수를 모두 지움)
+        args.add(String.valueOf(Math.scalb(1.0, (int) -Math.min(halfLives, 1075))));
+        // 기준 시각 도입 전에 만들어져 목록에 없는 랭킹 키도 포함
+        try (Cursor<String> cursor =
+                redisTemplate.scan(
+                        ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            cursor.forEachRemaining(args::add);
+        }
+        Long moved =
+                redisTemplate.execute(
+                        RENORMALIZE_SCRIPT, List.of(EPOCH_KEY, REGISTRY_KEY), args.toArray());
+        if (moved == null || moved == 0) {
+            return false;
+        }
+        log.info("인기 상품 기준 시각 이동: {} 반감기", halfLives);
+        return true;
+    }
+
+    /** 커서(직전 페이지 마지막 상품) 다음 순위. 커서가 없으면 0, 커서가 랭킹에서 빠졌으면 -1 입니다. */
+    public long startAfter(String key, UUID cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        Long rank = redisTemplate.opsForZSet().reverseRank(key, cursor.toString());
+        return rank != null ? rank + 1 : -1;
+    }
+
+    /** 점수 높은 순으로 from 순위부터 count 건 */
+    public List<UUID> range(String key, long from, int count) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key, from, from + count - 1);
+        if (members == null) {
+            return List.of();
+        }
+        List<UUID> productIds = new ArrayList<>(members.size());
+        members.forEach(member -> productIds.add(UUID.fromString(member)));
+        return productIds;
+    }
+
+    private long halfLifeMillis() {
+        return Duration.ofHours(rankingProperties.halfLifeHours()).toMillis();
+    }
+
+    // 상위 카테고리 랭킹에도 더해 카테고리 목록(하위 포함)을 키 하나로 읽음
+    private List<String> keysOf(ProductSoldEvent.Sale sale) {
+        List<String> keys = new ArrayList<>();
+        keys.add(allKey());
+        List<CategoryTreeIndex.Node> path = categoryTreeIndex.breadcrumb(sale.categoryId());
+        if (path.isEmpty()) {
+            keys.add(categoryKey(sale.categoryId()));
+        } else {
+            path.forEach(node -> keys.add(categoryKey(node.categoryId())));
+        }
+        keys.add(storeKey(sale.storeId()));
+        return keys;
+    }
+}
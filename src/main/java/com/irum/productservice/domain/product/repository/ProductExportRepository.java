@@ -0,0 +1,227 @@
+package com.irum.productservice.domain.product.repository;
+
+import com.irum.productservice.domain.category.domain.entity.QCategory;
+import com.irum.productservice.domain.discount.domain.entity.QDiscount;
+import com.irum.productservice.domain.discount.dto.response.DiscountInfoResponse;
+import com.irum.productservice.domain.product.domain.entity.QProduct;
+import com.irum.productservice.domain.product.domain.entity.QProductImage;
+import com.irum.productservice.domain.product.domain.entity.QProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.QProductOptionStockShard;
+import com.irum.productservice.domain.product.domain.entity.QProductOptionValue;
+import com.irum.productservice.domain.product.dto.response.ProductExportDocument;
+import com.irum.productservice.domain.product.dto.response.ProductOptionGroupResponse;
+import com.irum.productservice.domain.product.dto.response.ProductOptionValueResponse;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+/** 카탈로그 내보내기 조회. 상품 id 는 커서로 흘려 읽고, 옵션/할인/이미지는 상품 묶음 단위로 한 번에 읽습니다. */
+@Repository
+@RequiredArgsConstructor
+public class ProductExportRepository {
+
+    private static final String EXPORT_IDS =
+            "SELECT p.product_id FROM p_product p WHERE p.deleted_at IS NULL AND p.is_public";
+
+    // 하위 행은 삭제된 것도 봐야 하므로 엔티티의 deleted_at 조건이 붙지 않는 SQL 로 씀
+    private static final String CHANGED_SINCE =
+            " AND (p.updated_at >= :since OR EXISTS (SELECT 1 FROM p_product_option_group g WHERE"
+                    + " g.product_id = p.product_id AND (g.updated_at >= :since OR g.deleted_at >="
+                    + " :since)) OR EXISTS (SELECT 1 FROM p_product_option_value v JOIN"
+                    + " p_product_option_group g ON g.option_group_id = v.option_group_id WHERE"
+                    + " g.product_id = p.product_id AND (v.updated_at >= :since OR v.deleted_at >="
+                    + " :since)) OR EXISTS (SELECT 1 FROM p_discount d WHERE d.product_id ="
+                    + " p.product_id AND (d.updated_at >= :since OR d.deleted_at >= :since)) OR"
+                    + " EXISTS (SELECT 1 FROM p_product_image i WHERE i.product_id = p.product_id"
+                    + " AND (i.updated_at >= :since OR i.deleted_at >= :since)))";
+
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 내보낼 공개 상품 id 를 id 순으로 흘려 읽는 커서. 트랜잭션 안에서 쓰고 닫아야 합니다.
+     *
+     * @param updatedSince 이 시각 이후 상품 또는 옵션 그룹/옵션 값/할인/이미지가 바뀐 상품만 (null 이면 전체)
+     */
+    public ScrollableResults<UUID> scrollExportIds(LocalDateTime updatedSince, int fetchSize) {
+        NativeQuery<UUID> query =
+                entityManager
+                        .unwrap(Session.class)
+                        .createNativeQuery(
+                                EXPORT_IDS
+                                        + (updatedSince != null ? CHANGED_SINCE : "")
+                                        + " ORDER BY p.product_id",
+                                UUID.class);
+        if (updatedSince != null) {
+            query.setParameter("since", updatedSince);
+        }
+        return query.setFetchSize(fetchSize).setReadOnly(true).scroll(ScrollMode.FORWARD_ONLY);
+    }
+
+    /** 상품 묶음의 내보내기 문서. 상품/옵션 그룹/옵션 값/할인/대표 이미지를 쿼리 한 번씩 읽고, productIds 순서로 돌려줍니다. */
+    public List<ProductExportDocument> findExportDocuments(List<UUID> productIds) {
+        QProduct product = QProduct.product;
+        QCategory category = QCategory.category;
+        QProductOptionGroup optionGroup = QProductOptionGroup.productOptionGroup;
+        QProductOptionValue optionValue = QProductOptionValue.productOptionValue;
+        QProductOptionStockShard stockShard = QProductOptionStockShard.productOptionStockShard;
+        QDiscount discount = QDiscount.discount;
+        QProductImage image = QProductImage.productImage;
+
+        Map<UUID, Tuple> rows = new HashMap<>();
+        for (Tuple row :
+                queryFactory
+                        .select(
+                                product.id,
+                                product.name,
+                                product.description,
+                                product.detailDescription,
+                                product.price,
+                                product.avgRating,
+                                product.reviewCount,
+                                product.inStock,
+                                product.store.id,
+                                category.categoryId,
+                                category.name,
+                                product.updatedAt)
+                        .from(product)
+                        .join(product.category, category)
+                        .where(product.id.in(productIds), product.isPublic.isTrue())
+                        .fetch()) {
+            rows.put(row.get(product.id), row);
+        }
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, UUID> productIdByGroupId = new HashMap<>();
+        Map<UUID, Map<UUID, String>> groupNamesByProduct = new HashMap<>();
+        for (Tuple group :
+                queryFactory
+                        .select(optionGroup.product.id, optionGroup.id, optionGroup.name)
+                        .from(optionGroup)
+                        .where(optionGroup.product.id.in(rows.keySet()))
+                        .orderBy(optionGroup.createdAt.asc(), optionGroup.id.asc())
+                        .fetch()) {
+            UUID productId = group.get(optionGroup.product.id);
+            productIdByGroupId.put(group.get(optionGroup.id), productId);
+            groupNamesByProduct
+                    .computeIfAbsent(productId, id -> new LinkedHashMap<>())
+                    .put(group.get(optionGroup.id), group.get(optionGroup.name));
+        }
+
+        // 상품 상세와 같이 총 재고(본 행 + 샤드 합)를 같은 쿼리에서 계산
+        NumberExpression<Integer> totalStock =
+                optionValue.stockQuantity.add(
+                        JPAExpressions.select(stockShard.stockQuantity.sum().coalesce(0))
+                                .from(stockShard)
+                                .where(stockShard.optionValue.eq(optionValue)));
+        Map<UUID, List<ProductOptionValueResponse>> valuesByGroup = new HashMap<>();
+        if (!productIdByGroupId.isEmpty()) {
+            for (Tuple value :
+                    queryFactory
+                            .select(
+                                    optionValue.optionGroup.id,
+                                    optionValue.id,
+                                    optionValue.name,
+                                    totalStock,
+                                    optionValue.extraPrice)
+                            .from(optionValue)
+                            .where(optionValue.optionGroup.id.in(productIdByGroupId.keySet()))
+                            .orderBy(optionValue.createdAt.asc(), optionValue.id.asc())
+                            .fetch()) {
+                Number stockQuantity = value.get(totalStock);
+                valuesByGroup
+                        .computeIfAbsent(
+                                value.get(optionValue.optionGroup.id), id -> new ArrayList<>())
+                        .add(
+                                new ProductOptionValueResponse(
+                                        value.get(optionValue.id),
+                                        value.get(optionValue.name),
+                                        stockQuantity != null ? stockQuantity.intValue() : 0,
+                                        value.get(optionValue.extraPrice)));
+            }
+        }
+
+        ConstructorExpression<DiscountInfoResponse> discountInfo =
+                Projections.constructor(
+                        DiscountInfoResponse.class,
+                        discount.id,
+                        discount.name,
+                        discount.amount,
+                        discount.product.id);
+        Map<UUID, DiscountInfoResponse> discounts = new HashMap<>();
+        queryFactory
+                .select(discountInfo)
+                .from(discount)
+                .where(discount.product.id.in(rows.keySet()))
+                .fetch()
+                .forEach(info -> discounts.put(info.productId(), info));
+
+        Map<UUID, String> defaultImages = new HashMap<>();
+        for (Tuple defaultImage :
+                queryFactory
+                        .select(image.product.id, image.imageUrl.max())
+                        .from(image)
+                        .where(image.product.id.in(rows.keySet()), image.isDefault.isTrue())
+                        .groupBy(image.product.id)
+                        .fetch()) {
+            defaultImages.put(
+                    defaultImage.get(image.product.id), defaultImage.get(1, String.class));
+        }
+
+        List<ProductExportDocument> documents = new ArrayList<>(rows.size());
+        for (UUID productId : productIds) {
+            Tuple row = rows.get(productId);
+            if (row == null) {
+                continue; // 커서를 연 뒤 삭제/비공개된 상품
+            }
+            List<ProductOptionGroupResponse> optionGroups = new ArrayList<>();
+            groupNamesByProduct
+                    .getOrDefault(productId, Map.of())
+                    .forEach(
+                            (groupId, groupName) ->
+                                    optionGroups.add(
+                                            new ProductOptionGroupResponse(
+                                                    groupId,
+                                                    groupName,
+                                                    valuesByGroup.getOrDefault(
+                                                            groupId, List.of()))));
+            documents.add(
+                    new ProductExportDocument(
+                            productId,
+                            row.get(product.name),
+                            row.get(product.description),
+                            row.get(product.detailDescription),
+                            row.get(product.price),
+                            row.get(product.avgRating),
+                            row.get(product.reviewCount),
+                            Boolean.TRUE.equals(row.get(product.inStock)),
+                            row.get(product.store.id),
+                            row.get(category.categoryId),
+                            row.get(category.name),
+                            defaultImages.get(productId),
+                            discounts.get(productId),
+                            optionGroups,
+                            row.get(product.updatedAt)));
+        }
+        return documents;
+    }
+}
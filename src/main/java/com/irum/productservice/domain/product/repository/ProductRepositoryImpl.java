@@ -1,66 +1,427 @@
 package com.irum.productservice.domain.product.repository;
 
+import com.irum.global.advice.exception.CommonException;
+import com.irum.productservice.domain.category.domain.entity.QCategory;
+import com.irum.productservice.domain.category.dto.response.CategoryInfoResponse;
 import com.irum.productservice.domain.product.domain.entity.QProduct;
+import com.irum.productservice.domain.product.domain.entity.QProductImage;
+import com.irum.productservice.domain.product.domain.entity.QProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.QProductOptionStockShard;
+import com.irum.productservice.domain.product.domain.entity.QProductOptionValue;
 import com.irum.productservice.domain.product.domain.repository.ProductRepositoryCustom;
-import com.irum.productservice.domain.product.dto.response.ProductResponse;
+import com.irum.productservice.domain.product.dto.request.ProductListFilter;
+import com.irum.productservice.domain.product.dto.request.ProductSortType;
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
+import com.irum.productservice.domain.product.dto.response.ProductDetailResponse;
+import com.irum.productservice.domain.product.dto.response.ProductImageResponse;
+import com.irum.productservice.domain.product.dto.response.ProductOptionGroupResponse;
+import com.irum.productservice.domain.product.dto.response.ProductOptionValueResponse;
+import com.irum.productservice.domain.product.ranking.ProductPopularityRanking;
+import com.irum.productservice.domain.product.search.ProductFacetDocument;
+import com.irum.productservice.domain.product.search.ProductSearchDocument;
+import com.irum.productservice.domain.product.search.ProductSearchIndex;
+import com.irum.productservice.domain.store.domain.entity.QStore;
+import com.irum.productservice.domain.store.dto.response.StoreInfoResponse;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import com.irum.productservice.global.infrastructure.properties.SearchProperties;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepositoryCustom {
+    // 검색 결과/판매 랭킹 id 를 DB 조건으로 거를 때 한 번에 조회할 id 수
+    private static final int RANKED_ID_CHUNK_SIZE = 100;
+
     private final JPAQueryFactory queryFactory;
+    private final ProductSearchIndex productSearchIndex;
+    private final SearchProperties searchProperties;
+    private final ProductPopularityRanking productPopularityRanking;
+    private final EntityManager entityManager;
+
+    /** 정렬별 키셋 조건. 직전 페이지 마지막 상품(커서) 다음 순서의 상품만 남깁니다. */
+    private BooleanExpression afterCursor(ProductSortType sort, String cursor, QProduct product) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            if (sort == ProductSortType.NEWEST) {
+                UUID id = UUID.fromString(cursor);
+                return after(product.createdAt, createdAtOf(id), false, product, id);
+            }
+            int separator = cursor.lastIndexOf('_');
+            String key = cursor.substring(0, separator);
+            UUID id = UUID.fromString(cursor.substring(separator + 1));
+            return switch (sort) {
+                case PRICE_ASC -> after(product.price, Integer.valueOf(key), true, product, id);
+                case PRICE_DESC -> after(product.price, Integer.valueOf(key), false, product, id);
+                case RATING -> after(rating(product), Double.valueOf(key), false, product, id);
+                case REVIEW_COUNT ->
+                        after(reviewCount(product), Integer.valueOf(key), false, product, id);
+                default -> throw new IllegalArgumentException(sort.name());
+            };
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new CommonException(ProductErrorCode.INVALID_PRODUCT_CURSOR);
+        }
+    }
 
-    private BooleanExpression ltCursor(UUID cursor, QProduct product) {
-        return cursor != null ? product.id.lt(cursor) : null;
+    /**
+     * (정렬 키, id) 행 값 비교. key > v or (key = v and id > c) 로 풀어 쓰면 PostgreSQL 이 정렬 인덱스(018)의 범위 조건으로
+     * 쓰지 못하고 인덱스를 처음부터 읽으며 거르므로, 행 값 비교 한 번으로 인덱스 탐색 시작 위치를 정합니다.
+     */
+    private BooleanExpression after(
+            Expression<?> key, Object value, boolean ascending, QProduct product, UUID id) {
+        return Expressions.booleanTemplate(
+                ascending ? "({0}, {1}) > ({2}, {3})" : "({0}, {1}) < ({2}, {3})",
+                key,
+                product.id,
+                value,
+                id);
+    }
+
+    /**
+     * 최신 순 커서 상품의 등록 시각. 커서 상품이 그 사이 삭제돼도 다음 페이지를 이어 읽도록 삭제 여부와 관계없이 읽습니다.
+     *
+     * <p>최신 순을 id 가 아닌 (created_at, id) 로 정렬하는 이유 : UUIDv7 이전의 v1(TIME) id 는 서버 IP 로 시작해 v7 id 보다
+     * 항상 크게 정렬되므로, id 역순이면 옛 상품이 계속 앞에 옵니다. 커서는 그대로 상품 id 라 응답/요청 형식은 바뀌지 않습니다.
+     */
+    private LocalDateTime createdAtOf(UUID productId) {
+        List<?> createdAt =
+                entityManager
+                        .createNativeQuery(
+                                "select created_at from p_product where product_id = :productId",
+                                LocalDateTime.class)
+                        .setParameter("productId", productId)
+                        .getResultList();
+        if (createdAt.isEmpty() || createdAt.get(0) == null) {
+            throw new CommonException(ProductErrorCode.INVALID_PRODUCT_CURSOR);
+        }
+        return (LocalDateTime) createdAt.get(0);
+    }
+
+    // 인덱스(018)와 같은 식이 되도록 상수를 쿼리에 그대로 둠
+    private NumberExpression<Double> rating(QProduct product) {
+        return Expressions.numberTemplate(Double.class, "coalesce({0}, 0.0)", product.avgRating);
+    }
+
+    private NumberExpression<Integer> reviewCount(QProduct product) {
+        return Expressions.numberTemplate(Integer.class, "coalesce({0}, 0)", product.reviewCount);
+    }
+
+    private OrderSpecifier<?>[] orderBy(ProductSortType sort, QProduct product) {
+        return switch (sort) {
+            case PRICE_ASC -> new OrderSpecifier<?>[] {product.price.asc(), product.id.asc()};
+            case PRICE_DESC -> new OrderSpecifier<?>[] {product.price.desc(), product.id.desc()};
+            case RATING -> new OrderSpecifier<?>[] {rating(product).desc(), product.id.desc()};
+            case REVIEW_COUNT ->
+                    new OrderSpecifier<?>[] {reviewCount(product).desc(), product.id.desc()};
+            default -> new OrderSpecifier<?>[] {product.createdAt.desc(), product.id.desc()};
+        };
     }
 
     private BooleanExpression containsKeyword(String keyword, QProduct product) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return null;
         }
-        return product.name.containsIgnoreCase(keyword);
+        BooleanExpression inName = product.name.containsIgnoreCase(keyword);
+        if (searchProperties.usesSearchIndex()) {
+            return inName; // 검색 색인 준비 전 임시 경로
+        }
+        // lower(name), lower(description) like '%kw%' -> PostgreSQL 에서는 trigram GIN 인덱스(016) 사용
+        return inName.or(product.description.containsIgnoreCase(keyword));
+    }
+
+    private Predicate containsAllTerms(List<String> terms, QProduct product) {
+        return Expressions.allOf(
+                terms.stream()
+                        .map(
+                                term ->
+                                        product.name
+                                                .containsIgnoreCase(term)
+                                                .or(product.description.containsIgnoreCase(term)))
+                        .toArray(BooleanExpression[]::new));
+    }
+
+    /**
+     * 가격/평점/재고 필터. 가격은 정렬 인덱스(018, 020)의 price 범위로, 평점은 정렬과 같은 coalesce 식으로 비교하고, 재고는 옵션 테이블을 조인하지
+     * 않고 상품의 in_stock 값만 봅니다.
+     */
+    private Predicate filterBy(ProductListFilter filter, QProduct product) {
+        if (filter == null) {
+            return null;
+        }
+        return Expressions.allOf(
+                filter.minPrice() != null ? product.price.goe(filter.minPrice()) : null,
+                filter.maxPrice() != null ? product.price.loe(filter.maxPrice()) : null,
+                filter.minRating() != null ? rating(product).goe(filter.minRating()) : null,
+                filter.inStockOnly() ? product.inStock.isTrue() : null);
+    }
+
+    // 목록 카드 컬럼. 대표 이미지는 상관 서브쿼리로 같은 쿼리에서 읽음
+    private ConstructorExpression<ProductCardResponse> card(QProduct product) {
+        QProductImage image = new QProductImage("thumbnail");
+        return Projections.constructor(
+                ProductCardResponse.class,
+                product.id,
+                product.name,
+                product.description,
+                product.price,
+                product.isPublic,
+                product.avgRating,
+                product.reviewCount,
+                JPAExpressions.select(image.imageUrl.max())
+                        .from(image)
+                        .where(image.product.eq(product), image.isDefault.isTrue()),
+                product.category.categoryId,
+                product.category.name);
+    }
+
+    private boolean useSearchIndex() {
+        return searchProperties.usesSearchIndex() && productSearchIndex.isReady();
+    }
+
+    @Override
+    public List<ProductCardResponse> findProductsByCursor(
+            ProductSortType sort, String cursor, int size, ProductListFilter filter) {
+        QProduct product = QProduct.product;
+
+        return findCards(
+                sort,
+                cursor,
+                size,
+                ProductPopularityRanking.allKey(),
+                product.isPublic.isTrue(),
+                filterBy(filter, product));
+    }
+
+    @Override
+    public List<ProductCardResponse> findProductsByKeyword(
+            ProductSortType sort,
+            String cursor,
+            int size,
+            ProductListFilter filter,
+            String keyword) {
+        QProduct product = QProduct.product;
+
+        if (useSearchIndex()) {
+            return findSearchedProducts(sort, cursor, size, filter, keyword, null);
+        }
+        return findCards(
+                sort,
+                cursor,
+                size,
+                ProductPopularityRanking.allKey(),
+                product.isPublic.isTrue(),
+                filterBy(filter, product),
+                containsKeyword(keyword, product));
     }
 
     @Override
-    public List<ProductResponse> findProductsByCursor(UUID cursor, int size) {
+    public List<ProductCardResponse> findProductsByStoreWithCursor(
+            UUID storeId, UUID cursor, int size) {
+        QProduct product = QProduct.product;
+
+        return findCards(
+                ProductSortType.NEWEST,
+                cursor != null ? cursor.toString() : null,
+                size,
+                null,
+                product.store.id.eq(storeId));
+    }
+
+    @Override
+    public List<ProductCardResponse> findProductsByCategoryIds(
+            ProductSortType sort,
+            String cursor,
+            int size,
+            ProductListFilter filter,
+            List<UUID> categoryIds) {
         QProduct product = QProduct.product;
 
+        return findCards(
+                sort,
+                cursor,
+                size,
+                popularityKey(categoryIds),
+                product.isPublic.isTrue(),
+                product.category.categoryId.in(categoryIds),
+                filterBy(filter, product));
+    }
+
+    @Override
+    public List<ProductCardResponse> findProductsByCategoryIdsAndKeyword(
+            ProductSortType sort,
+            String cursor,
+            int size,
+            ProductListFilter filter,
+            List<UUID> categoryIds,
+            String keyword) {
+        QProduct product = QProduct.product;
+
+        if (useSearchIndex()) {
+            return findSearchedProducts(sort, cursor, size, filter, keyword, categoryIds);
+        }
+        return findCards(
+                sort,
+                cursor,
+                size,
+                popularityKey(categoryIds),
+                product.isPublic.isTrue(),
+                product.category.categoryId.in(categoryIds),
+                filterBy(filter, product),
+                containsKeyword(keyword, product));
+    }
+
+    @Override
+    public List<ProductCardResponse> findProductsByPopularity(
+            String cursor, int size, UUID storeId, List<UUID> categoryIds) {
+        QProduct product = QProduct.product;
+
+        if (!productPopularityRanking.isEnabled()) {
+            return List.of();
+        }
+        return findPopularProducts(
+                storeId != null
+                        ? ProductPopularityRanking.storeKey(storeId)
+                        : popularityKey(categoryIds),
+                parseIdCursor(cursor),
+                size,
+                product.isPublic.isTrue(),
+                storeId != null ? product.store.id.eq(storeId) : null,
+                categoryIds != null ? product.category.categoryId.in(categoryIds) : null);
+    }
+
+    // 카테고리 목록은 요청 카테고리(하위 목록의 첫 id)의 랭킹을 씀. 상위 카테고리 랭킹에는 하위 카테고리 판매도 더해져 있음
+    private String popularityKey(List<UUID> categoryIds) {
+        return categoryIds != null
+                ? ProductPopularityRanking.categoryKey(categoryIds.get(0))
+                : ProductPopularityRanking.allKey();
+    }
+
+    /**
+     * 정렬 순서대로 커서 다음 size 건. 관련도 순(RELEVANCE)은 최신 순으로, 인기순(POPULARITY)은 popularityKey 랭킹 순(랭킹을 쓰지
+     * 않으면 최신 순)으로 처리합니다.
+     */
+    private List<ProductCardResponse> findCards(
+            ProductSortType sort,
+            String cursor,
+            int size,
+            String popularityKey,
+            Predicate... conditions) {
+        QProduct product = QProduct.product;
+        if (sort == ProductSortType.POPULARITY && productPopularityRanking.isEnabled()) {
+            return findPopularProducts(popularityKey, parseIdCursor(cursor), size, conditions);
+        }
+        ProductSortType keysetSort =
+                sort == ProductSortType.RELEVANCE || sort == ProductSortType.POPULARITY
+                        ? ProductSortType.NEWEST
+                        : sort;
+
         return queryFactory
-                .select(
-                        Projections.constructor(
-                                ProductResponse.class,
-                                product.id,
-                                product.name,
-                                product.description,
-                                product.detailDescription,
-                                product.price,
-                                product.isPublic,
-                                product.avgRating,
-                                product.reviewCount,
-                                product.category.categoryId,
-                                product.category.name))
+                .select(card(product))
                 .from(product)
-                .where(product.isPublic.isTrue(), ltCursor(cursor, product))
-                .orderBy(product.id.desc())
+                .where(conditions)
+                .where(afterCursor(keysetSort, cursor, product))
+                .orderBy(orderBy(keysetSort, product))
                 .limit(size)
                 .fetch();
     }
 
+    /**
+     * 관련도 순은 검색 색인 결과 순서대로, 그 밖의 정렬은 요청한 정렬 순으로 size 건.
+     *
+     * <p>색인 결과는 최대 product.search.max-hits 건이라 정렬 순 목록을 그 안에서 거르면 뒤쪽 상품이 빠지고 페이지가 일찍 끝납니다. 그래서 정렬 순
+     * 목록은 검색어 조건을 DB 에서 적용합니다. 검색어의 단어마다 상품명 또는 설명에 포함돼야 하며(trigram 인덱스 016), 단어 안의 n-gram 이 떨어져
+     * 있어도 맞는 색인 검색보다 조금 엄격합니다.
+     */
+    private List<ProductCardResponse> findSearchedProducts(
+            ProductSortType sort,
+            String cursor,
+            int size,
+            ProductListFilter filter,
+            String keyword,
+            List<UUID> categoryIds) {
+        QProduct product = QProduct.product;
+
+        if (sort == ProductSortType.RELEVANCE) {
+            return findRankedProducts(parseIdCursor(cursor), size, filter, keyword, categoryIds);
+        }
+        List<String> terms = productSearchIndex.terms(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        return findCards(
+                sort,
+                cursor,
+                size,
+                popularityKey(categoryIds),
+                containsAllTerms(terms, product),
+                product.isPublic.isTrue(),
+                categoryIds != null ? product.category.categoryId.in(categoryIds) : null,
+                filterBy(filter, product));
+    }
+
+    private UUID parseIdCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new CommonException(ProductErrorCode.INVALID_PRODUCT_CURSOR);
+        }
+    }
+
     @Override
-    public List<ProductResponse> findProductsByKeyword(UUID cursor, int size, String keyword) {
+    public Optional<ProductDetailResponse> findProductDetail(UUID productId) {
         QProduct product = QProduct.product;
+        QStore store = QStore.store;
+        QCategory category = QCategory.category;
+        QProductOptionGroup optionGroup = QProductOptionGroup.productOptionGroup;
+        QProductOptionValue optionValue = QProductOptionValue.productOptionValue;
+        QProductOptionStockShard stockShard = QProductOptionStockShard.productOptionStockShard;
+        QProductImage image = QProductImage.productImage;
 
-        return queryFactory
-                .select(
-                        Projections.constructor(
-                                ProductResponse.class,
-                                product.id,
+        ConstructorExpression<StoreInfoResponse> storeInfo =
+                Projections.constructor(
+                        StoreInfoResponse.class,
+                        store.id,
+                        store.name,
+                        store.contact,
+                        store.address,
+                        store.businessRegistrationNumber,
+                        store.telemarketingRegistrationNumber);
+        ConstructorExpression<CategoryInfoResponse> categoryInfo =
+                Projections.constructor(
+                        CategoryInfoResponse.class,
+                        category.categoryId,
+                        category.name,
+                        category.depth);
+        // 엔티티로 읽으면 Store 의 역방향 1:1(deliveryPolicy)이 따로 조회되므로 컬럼만 읽음
+        Tuple row =
+                queryFactory
+                        .select(
                                 product.name,
                                 product.description,
                                 product.detailDescription,
@@ -68,98 +429,240 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
                                 product.isPublic,
                                 product.avgRating,
                                 product.reviewCount,
-                                product.category.categoryId,
-                                product.category.name))
-                .from(product)
-                .where(
-                        product.isPublic.isTrue(),
-                        ltCursor(cursor, product),
-                        containsKeyword(keyword, product))
-                .orderBy(product.id.desc())
-                .limit(size)
-                .fetch();
+                                storeInfo,
+                                categoryInfo)
+                        .from(product)
+                        .join(product.store, store)
+                        .join(product.category, category)
+                        .where(product.id.eq(productId))
+                        .fetchOne();
+        if (row == null) {
+            return Optional.empty();
+        }
+
+        Map<UUID, String> groupNames = new LinkedHashMap<>();
+        for (Tuple group :
+                queryFactory
+                        .select(optionGroup.id, optionGroup.name)
+                        .from(optionGroup)
+                        .where(optionGroup.product.id.eq(productId))
+                        .orderBy(optionGroup.createdAt.asc(), optionGroup.id.asc())
+                        .fetch()) {
+            groupNames.put(group.get(optionGroup.id), group.get(optionGroup.name));
+        }
+
+        // 샤딩된 옵션의 총 재고(본 행 + 샤드 합)도 같은 쿼리에서 계산
+        NumberExpression<Integer> totalStock =
+                optionValue.stockQuantity.add(
+                        JPAExpressions.select(stockShard.stockQuantity.sum().coalesce(0))
+                                .from(stockShard)
+                                .where(stockShard.optionValue.eq(optionValue)));
+        Map<UUID, List<ProductOptionValueResponse>> valuesByGroup = new LinkedHashMap<>();
+        groupNames.keySet().forEach(groupId -> valuesByGroup.put(groupId, new ArrayList<>()));
+        if (!groupNames.isEmpty()) {
+            for (Tuple value :
+                    queryFactory
+                            .select(
+                                    optionValue.optionGroup.id,
+                                    optionValue.id,
+                                    optionValue.name,
+                                    totalStock,
+                                    optionValue.extraPrice)
+                            .from(optionValue)
+                            .where(optionValue.optionGroup.id.in(groupNames.keySet()))
+                            .orderBy(optionValue.createdAt.asc(), optionValue.id.asc())
+                            .fetch()) {
+                Number stockQuantity = value.get(totalStock);
+                valuesByGroup
+                        .get(value.get(optionValue.optionGroup.id))
+                        .add(
+                                new ProductOptionValueResponse(
+                                        value.get(optionValue.id),
+                                        value.get(optionValue.name),
+                                        stockQuantity != null ? stockQuantity.intValue() : 0,
+                                        value.get(optionValue.extraPrice)));
+            }
+        }
+        List<ProductOptionGroupResponse> optionGroups =
+                groupNames.entrySet().stream()
+                        .map(
+                                group ->
+                                        new ProductOptionGroupResponse(
+                                                group.getKey(),
+                                                group.getValue(),
+                                                valuesByGroup.get(group.getKey())))
+                        .toList();
+
+        List<ProductImageResponse> images =
+                queryFactory
+                        .select(
+                                Projections.constructor(
+                                        ProductImageResponse.class,
+                                        image.id,
+                                        image.imageUrl,
+                                        image.isDefault))
+                        .from(image)
+                        .where(image.product.id.eq(productId))
+                        .orderBy(image.isDefault.desc(), image.createdAt.asc(), image.id.asc())
+                        .fetch();
+
+        return Optional.of(
+                new ProductDetailResponse(
+                        productId,
+                        row.get(product.name),
+                        row.get(product.description),
+                        row.get(product.detailDescription),
+                        row.get(product.price),
+                        Boolean.TRUE.equals(row.get(product.isPublic)),
+                        row.get(product.avgRating),
+                        row.get(product.reviewCount),
+                        row.get(storeInfo),
+                        row.get(categoryInfo),
+                        images,
+                        optionGroups));
     }
 
     @Override
-    public List<ProductResponse> findProductsByStoreWithCursor(
-            UUID storeId, UUID cursor, int size) {
+    public List<ProductSearchDocument> findSearchDocuments(UUID after, int size) {
         QProduct product = QProduct.product;
 
         return queryFactory
                 .select(
                         Projections.constructor(
-                                ProductResponse.class,
+                                ProductSearchDocument.class,
                                 product.id,
                                 product.name,
-                                product.description,
-                                product.detailDescription,
-                                product.price,
-                                product.isPublic,
-                                product.avgRating,
-                                product.reviewCount))
+                                product.description))
                 .from(product)
-                .where(product.store.id.eq(storeId), ltCursor(cursor, product))
-                .orderBy(product.id.desc())
+                .where(after != null ? product.id.gt(after) : null)
+                .orderBy(product.id.asc())
                 .limit(size)
                 .fetch();
     }
 
     @Override
-    public List<ProductResponse> findProductsByCategoryIds(
-            UUID cursor, int size, List<UUID> categoryIds) {
+    public List<ProductFacetDocument> findFacetDocuments(UUID after, int size) {
         QProduct product = QProduct.product;
 
         return queryFactory
-                .select(
-                        Projections.constructor(
-                                ProductResponse.class,
-                                product.id,
-                                product.name,
-                                product.description,
-                                product.detailDescription,
-                                product.price,
-                                product.isPublic,
-                                product.avgRating,
-                                product.reviewCount,
-                                product.category.categoryId,
-                                product.category.name))
+                .select(facetDocument(product))
                 .from(product)
-                .where(
-                        product.isPublic.isTrue(),
-                        ltCursor(cursor, product),
-                        product.category.categoryId.in(categoryIds))
-                .orderBy(product.id.desc())
+                .where(product.isPublic.isTrue(), after != null ? product.id.gt(after) : null)
+                .orderBy(product.id.asc())
                 .limit(size)
                 .fetch();
     }
 
     @Override
-    public List<ProductResponse> findProductsByCategoryIdsAndKeyword(
-            UUID cursor, int size, List<UUID> categoryIds, String keyword) {
+    public Optional<ProductFacetDocument> findFacetDocument(UUID productId) {
         QProduct product = QProduct.product;
 
-        return queryFactory
-                .select(
-                        Projections.constructor(
-                                ProductResponse.class,
-                                product.id,
-                                product.name,
-                                product.description,
-                                product.detailDescription,
-                                product.price,
-                                product.isPublic,
-                                product.avgRating,
-                                product.reviewCount,
-                                product.category.categoryId,
-                                product.category.name))
-                .from(product)
-                .where(
-                        product.isPublic.isTrue(),
-                        ltCursor(cursor, product),
-                        product.category.categoryId.in(categoryIds),
-                        containsKeyword(keyword, product))
-                .orderBy(product.id.desc())
-                .limit(size)
-                .fetch();
+        return Optional.ofNullable(
+                queryFactory
+                        .select(facetDocument(product))
+                        .from(product)
+                        .where(product.id.eq(productId), product.isPublic.isTrue())
+                        .fetchOne());
+    }
+
+    // 카테고리는 외래 키 값만 읽어 조인하지 않음
+    private static ConstructorExpression<ProductFacetDocument> facetDocument(QProduct product) {
+        return Projections.constructor(
+                ProductFacetDocument.class,
+                product.id,
+                product.category.categoryId,
+                product.price,
+                product.avgRating);
+    }
+
+    /**
+     * 검색 색인이 돌려준 관련도 순 id 를 공개 여부/카테고리/필터 조건으로 걸러 size 건을 채웁니다. 커서는 직전 페이지의 마지막 상품 id 이고, 검색 결과에서 그
+     * 다음 순위부터 이어갑니다.
+     */
+    private List<ProductCardResponse> findRankedProducts(
+            UUID cursor,
+            int size,
+            ProductListFilter filter,
+            String keyword,
+            List<UUID> categoryIds) {
+        QProduct product = QProduct.product;
+        List<UUID> rankedIds = productSearchIndex.search(keyword);
+
+        int start = 0;
+        if (cursor != null) {
+            start = rankedIds.indexOf(cursor) + 1;
+            if (start == 0) {
+                return List.of(); // 커서가 현재 검색 결과에 없음 (삭제 등)
+            }
+        }
+
+        List<ProductCardResponse> products = new ArrayList<>(size);
+        for (int from = start; from < rankedIds.size() && products.size() < size; ) {
+            List<UUID> chunk =
+                    rankedIds.subList(
+                            from, Math.min(from + RANKED_ID_CHUNK_SIZE, rankedIds.size()));
+            from += chunk.size();
+            addInRankOrder(
+                    chunk,
+                    size,
+                    products,
+                    product.isPublic.isTrue(),
+                    categoryIds != null ? product.category.categoryId.in(categoryIds) : null,
+                    filterBy(filter, product));
+        }
+        return products;
+    }
+
+    /**
+     * 판매 랭킹 순서의 id 를 조건으로 걸러 size 건을 채웁니다. 커서는 직전 페이지의 마지막 상품 id 이고, 랭킹에서 그 다음 순위부터 이어갑니다. 랭킹에 없는
+     * (판매 기록이 없거나 상위 maxSize 밖인) 상품은 나오지 않으며, 커서 상품이 랭킹에서 빠졌으면 PRODUCT_CURSOR_EXPIRED 입니다.
+     */
+    private List<ProductCardResponse> findPopularProducts(
+            String popularityKey, UUID cursor, int size, Predicate... conditions) {
+        long from = productPopularityRanking.startAfter(popularityKey, cursor);
+        if (from < 0) {
+            // 커서 상품이 상위 maxSize 밖으로 밀려나 이어 읽을 위치를 알 수 없음
+            throw new CommonException(ProductErrorCode.PRODUCT_CURSOR_EXPIRED);
+        }
+
+        List<ProductCardResponse> products = new ArrayList<>(size);
+        while (products.size() < size) {
+            List<UUID> chunk =
+                    productPopularityRanking.range(popularityKey, from, RANKED_ID_CHUNK_SIZE);
+            from += chunk.size();
+            addInRankOrder(chunk, size, products, conditions);
+            if (chunk.size() < RANKED_ID_CHUNK_SIZE) {
+                break;
+            }
+        }
+        return products;
+    }
+
+    // 순위 순 id 묶음 중 조건에 맞는 상품을 순위 그대로 size 건까지 products 에 더함
+    private void addInRankOrder(
+            List<UUID> rankedIds,
+            int size,
+            List<ProductCardResponse> products,
+            Predicate... conditions) {
+        if (rankedIds.isEmpty()) {
+            return;
+        }
+        QProduct product = QProduct.product;
+        Map<UUID, ProductCardResponse> found =
+                queryFactory
+                        .select(card(product))
+                        .from(product)
+                        .where(product.id.in(rankedIds))
+                        .where(conditions)
+                        .fetch()
+                        .stream()
+                        .collect(Collectors.toMap(ProductCardResponse::id, Function.identity()));
+
+        for (UUID id : rankedIds) {
+            ProductCardResponse response = found.get(id);
+            if (response != null && products.size() < size) {
+                products.add(response);
+            }
+        }
     }
 }
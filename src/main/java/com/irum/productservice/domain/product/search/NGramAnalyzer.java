@@ -0,0 +1,26 @@
+package com.irum.productservice.domain.product.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+/**
+ * 색인용 분석기. 단어를 1~2글자 n-gram 으로 잘라 넣어, 형태소 분석 없이도 "티셔츠" 로 "반팔티셔츠" 를 찾을 수 있게 합니다.
+ *
+ * <p>검색어는 같은 규칙으로 2글자씩(한 글자 검색어는 그대로) 잘라 비교합니다. {@link ProductSearchIndex#search} 참고.
+ */
+class NGramAnalyzer extends Analyzer {
+
+    static final int MIN_GRAM = 1;
+    static final int MAX_GRAM = 2;
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        StandardTokenizer tokenizer = new StandardTokenizer();
+        TokenStream stream = new LowerCaseFilter(tokenizer);
+        stream = new NGramTokenFilter(stream, MIN_GRAM, MAX_GRAM, false);
+        return new TokenStreamComponents(tokenizer, stream);
+    }
+}
@@ -0,0 +1,7 @@
+package com.irum.productservice.domain.product.search;
+
+import java.util.UUID;
+
+/** facet 집계에 들어가는 공개 상품 필드 */
+public record ProductFacetDocument(
+        UUID productId, UUID categoryId, Integer price, Double avgRating) {}
@@ -0,0 +1,322 @@
+package com.irum.productservice.domain.product.search;
+
+import com.irum.productservice.domain.category.service.CategoryTreeIndex;
+import com.irum.productservice.domain.product.dto.response.ProductFacetResponse;
+import com.irum.productservice.global.infrastructure.properties.FacetProperties;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 목록 facet 집계 (메모리).
+ *
+ * <p>공개 상품마다 카테고리/가격대/평점 구간을 들고, 카테고리별로 상품 수, 가격대별 상품 수, 평점 구간별 상품 수를 더해 둡니다. 상품이 바뀌면 이전 값을 빼고 새 값을
+ * 더하므로, 목록 요청마다 p_product 를 GROUP BY 하지 않고 카테고리 수만큼의 합으로 facet 을 만듭니다. 검색 결과의 facet 은 검색 색인이 돌려준 상품
+ * id(최대 product.search.max-hits 건)를 여기서 찾아 셉니다.
+ *
+ * <p>상품 생성/수정/삭제 커밋 후 갱신되고, 기동 시와 주기적으로 DB 에서 새로 만들어 교체합니다. ProductFacetIndexer 참고.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductFacetIndex {
+
+    // 평점 구간은 평균 평점의 정수 부분 (0 ~ 5, 리뷰가 없으면 0)
+    private static final int RATING_BUCKETS = 6;
+    private static final int[] RATING_FACETS = {4, 3, 2, 1};
+
+    private final FacetProperties facetProperties;
+    private final CategoryTreeIndex categoryTreeIndex;
+
+    // 조회는 동시에, 갱신과 교체는 하나씩 처리합니다.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Counters current;
+    private Map<UUID, Optional<ProductFacetDocument>> changesDuringRebuild;
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    /** 공개 상품을 집계에 넣거나 이전 값을 바꿉니다. */
+    public void put(ProductFacetDocument document) {
+        apply(document.productId(), Optional.of(document));
+    }
+
+    /** 삭제되었거나 비공개가 된 상품을 집계에서 뺍니다. */
+    public void remove(UUID productId) {
+        apply(productId, Optional.empty());
+    }
+
+    /**
+     * 새 집계를 만든 뒤 한 번에 교체합니다. 만드는 동안 들어온 변경은 교체 직전에 새 집계에 다시 반영합니다.
+     *
+     * @param pageLoader 직전 페이지의 마지막 상품 id(첫 페이지는 null)를 받아 다음 페이지를 돌려주는 함수. 빈 목록이면 끝입니다.
+     */
+    public void rebuild(Function<UUID, List<ProductFacetDocument>> pageLoader) {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Counters rebuilt = new Counters();
+        try {
+            UUID after = null;
+            List<ProductFacetDocument> page;
+            while (!(page = pageLoader.apply(after)).isEmpty()) {
+                for (ProductFacetDocument document : page) {
+                    rebuilt.apply(document.productId(), entryOf(document));
+                }
+                after = page.get(page.size() - 1).productId();
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.forEach(
+                    (productId, document) ->
+                            rebuilt.apply(productId, document.map(this::entryOf).orElse(null)));
+            changesDuringRebuild = null;
+            current = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 facet 집계 재구성 완료: count={}", rebuilt.entries.size());
+    }
+
+    /**
+     * 카테고리(null 이면 전체) 아래 공개 상품의 facet. 집계가 아직 만들어지지 않았으면 빈 값입니다.
+     *
+     * <p>카테고리별 합계만 더하므로 상품 수와 관계없이 하위 카테고리 수만큼만 계산합니다.
+     */
+    public Optional<ProductFacetResponse> facets(UUID categoryId) {
+        CategoryScope scope = scopeOf(categoryId);
+        lock.readLock().lock();
+        try {
+            Counters counters = current;
+            if (counters == null) {
+                return Optional.empty();
+            }
+            Tally tally = new Tally();
+            Map<UUID, Long> childCounts = new HashMap<>();
+            counters.byCategory.forEach(
+                    (leafId, categoryTally) -> {
+                        if (scope.contains(leafId)) {
+                            tally.addAll(categoryTally);
+                            scope.countChild(childCounts, leafId, categoryTally.total);
+                        }
+                    });
+            return Optional.of(toResponse(tally, scope, childCounts));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 결과 상품 중 카테고리(null 이면 전체) 아래 공개 상품의 facet. 집계가 아직 만들어지지 않았으면 빈 값입니다.
+     *
+     * @param productIds 검색 색인이 돌려준 상품 id
+     */
+    public Optional<ProductFacetResponse> facets(UUID categoryId, Collection<UUID> productIds) {
+        CategoryScope scope = scopeOf(categoryId);
+        lock.readLock().lock();
+        try {
+            Counters counters = current;
+            if (counters == null) {
+                return Optional.empty();
+            }
+            Tally tally = new Tally();
+            Map<UUID, Long> childCounts = new HashMap<>();
+            for (UUID productId : productIds) {
+                Entry entry = counters.entries.get(productId);
+                if (entry != null && scope.contains(entry.categoryId())) {
+                    tally.add(entry, 1);
+                    scope.countChild(childCounts, entry.categoryId(), 1);
+                }
+            }
+            return Optional.of(toResponse(tally, scope, childCounts));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(UUID productId, Optional<ProductFacetDocument> document) {
+        Entry entry = document.map(this::entryOf).orElse(null);
+        lock.writeLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(productId, document);
+            }
+            Counters counters = current;
+            if (counters != null) {
+                counters.apply(productId, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Entry entryOf(ProductFacetDocument document) {
+        return new Entry(
+                document.categoryId(),
+                priceBandOf(document.price()),
+                ratingBucketOf(document.avgRating()));
+    }
+
+    // 가격 이하인 경계 수 = 구간 번호
+    private int priceBandOf(Integer price) {
+        int band = 0;
+        for (int boundary : facetProperties.priceBands()) {
+            if (price != null && price >= boundary) {
+                band++;
+            }
+        }
+        return band;
+    }
+
+    private static int ratingBucketOf(Double avgRating) {
+        if (avgRating == null || avgRating <= 0) {
+            return 0;
+        }
+        return (int) Math.min(Math.floor(avgRating), RATING_BUCKETS - 1);
+    }
+
+    private CategoryScope scopeOf(UUID categoryId) {
+        Set<UUID> categoryIds =
+                categoryId != null
+                        ? new HashSet<>(categoryTreeIndex.descendantIds(categoryId))
+                        : null;
+        Map<UUID, CategoryTreeIndex.Node> children = new LinkedHashMap<>();
+        Map<UUID, UUID> childOf = new HashMap<>();
+        for (CategoryTreeIndex.Node child : categoryTreeIndex.children(categoryId)) {
+            children.put(child.categoryId(), child);
+            for (UUID descendantId : categoryTreeIndex.descendantIds(child.categoryId())) {
+                childOf.put(descendantId, child.categoryId());
+            }
+        }
+        return new CategoryScope(categoryIds, children, childOf);
+    }
+
+    private ProductFacetResponse toResponse(
+            Tally tally, CategoryScope scope, Map<UUID, Long> childCounts) {
+        List<ProductFacetResponse.CategoryCount> categories = new ArrayList<>();
+        scope.children()
+                .forEach(
+                        (childId, child) -> {
+                            long count = childCounts.getOrDefault(childId, 0L);
+                            if (count > 0) {
+                                categories.add(
+                                        new ProductFacetResponse.CategoryCount(
+                                                childId, child.name(), count));
+                            }
+                        });
+
+        List<Integer> boundaries = facetProperties.priceBands();
+        List<ProductFacetResponse.PriceBandCount> priceBands = new ArrayList<>();
+        for (int band = 0; band <= boundaries.size(); band++) {
+            priceBands.add(
+                    new ProductFacetResponse.PriceBandCount(
+                            band == 0 ? 0 : boundaries.get(band - 1),
+                            band < boundaries.size() ? boundaries.get(band) : null,
+                            tally.priceBands[band]));
+        }
+
+        List<ProductFacetResponse.RatingCount> ratings = new ArrayList<>();
+        for (int minRating : RATING_FACETS) {
+            long count = Arrays.stream(tally.ratings, minRating, RATING_BUCKETS).sum();
+            ratings.add(new ProductFacetResponse.RatingCount(minRating, count));
+        }
+        return new ProductFacetResponse(tally.total, categories, priceBands, ratings);
+    }
+
+    private record Entry(UUID categoryId, int priceBand, int ratingBucket) {}
+
+    /**
+     * @param categoryIds 요청 카테고리와 그 하위 카테고리 id (null 이면 전체)
+     * @param children 요청 카테고리 바로 아래 카테고리 (요청 카테고리가 없으면 최상위 카테고리)
+     * @param childOf 하위 카테고리 id → 그 카테고리가 속한 children 의 id
+     */
+    private record CategoryScope(
+            Set<UUID> categoryIds,
+            Map<UUID, CategoryTreeIndex.Node> children,
+            Map<UUID, UUID> childOf) {
+
+        boolean contains(UUID categoryId) {
+            return categoryIds == null || categoryIds.contains(categoryId);
+        }
+
+        void countChild(Map<UUID, Long> childCounts, UUID categoryId, long count) {
+            UUID childId = childOf.get(categoryId);
+            if (childId != null) {
+                childCounts.merge(childId, count, Long::sum);
+            }
+        }
+    }
+
+    private final class Tally {
+        private long total;
+        private final long[] priceBands = new long[facetProperties.priceBands().size() + 1];
+        private final long[] ratings = new long[RATING_BUCKETS];
+
+        void add(Entry entry, int delta) {
+            total += delta;
+            priceBands[entry.priceBand()] += delta;
+            ratings[entry.ratingBucket()] += delta;
+        }
+
+        void addAll(Tally other) {
+            total += other.total;
+            for (int i = 0; i < priceBands.length; i++) {
+                priceBands[i] += other.priceBands[i];
+            }
+            for (int i = 0; i < ratings.length; i++) {
+                ratings[i] += other.ratings[i];
+            }
+        }
+    }
+
+    /** 상품별 구간과 카테고리별 합계. 잠금 안에서만 바꿉니다. */
+    private final class Counters {
+        private final Map<UUID, Entry> entries = new HashMap<>();
+        private final Map<UUID, Tally> byCategory = new HashMap<>();
+
+        // entry 가 null 이면 집계에서 뺌
+        void apply(UUID productId, Entry entry) {
+            Entry previous =
+                    entry != null ? entries.put(productId, entry) : entries.remove(productId);
+            if (previous != null) {
+                Tally tally = byCategory.get(previous.categoryId());
+                tally.add(previous, -1);
+                if (tally.total == 0) {
+                    byCategory.remove(previous.categoryId());
+                }
+            }
+            if (entry != null) {
+                byCategory.computeIfAbsent(entry.categoryId(), id -> new Tally()).add(entry, 1);
+            }
+        }
+    }
+}
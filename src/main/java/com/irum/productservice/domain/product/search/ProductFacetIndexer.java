@@ -0,0 +1,79 @@
+package com.irum.productservice.domain.product.search;
+
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.event.ProductDeletedEvent;
+import com.irum.productservice.domain.product.event.ProductDetailChangedEvent;
+import com.irum.productservice.domain.product.event.ProductSavedEvent;
+import com.irum.productservice.global.infrastructure.properties.FacetProperties;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 변경을 facet 집계에 반영합니다.
+ *
+ * <p>생성, 수정(가격/공개 여부/카테고리/평점 포함)은 커밋된 뒤 그 상품의 집계 필드를 기본 키로 한 번 다시 읽어 반영하고, 비공개가 되었으면 집계에서 뺍니다. 삭제는
+ * 바로 뺍니다. 이 서비스를 거치지 않은 변경(다른 인스턴스, 직접 수정 등)은 주기적인 전체 재구성으로 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductFacetIndexer {
+
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductRepository productRepository;
+    private final FacetProperties facetProperties;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductSaved(ProductSavedEvent event) {
+        refresh(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductDetailChanged(ProductDetailChangedEvent event) {
+        refresh(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductDeleted(ProductDeletedEvent event) {
+        productFacetIndex.remove(event.getProductId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${product.facet.rebuild-interval-ms:600000}",
+            fixedDelayString = "${product.facet.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            productFacetIndex.rebuild(
+                    after ->
+                            productRepository.findFacetDocuments(
+                                    after, facetProperties.rebuildBatchSize()));
+        } catch (RuntimeException e) {
+            // 실패해도 기존 집계(없으면 facet 없이 목록만)로 계속 동작
+            log.error("상품 facet 집계 재구성 실패", e);
+        }
+    }
+
+    private void refresh(UUID productId) {
+        try {
+            productRepository
+                    .findFacetDocument(productId)
+                    .ifPresentOrElse(
+                            productFacetIndex::put, () -> productFacetIndex.remove(productId));
+        } catch (RuntimeException e) {
+            // 커밋은 끝났으므로 예외를 넘기지 않고, 다음 재구성에서 맞춤
+            log.warn("상품 facet 집계 갱신 실패: productId={}", productId, e);
+        }
+    }
+}
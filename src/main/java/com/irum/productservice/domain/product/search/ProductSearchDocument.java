@@ -0,0 +1,6 @@
+package com.irum.productservice.domain.product.search;
+
+import java.util.UUID;
+
+/** 검색 색인에 들어가는 상품 필드 */
+public record ProductSearchDocument(UUID productId, String name, String description) {}
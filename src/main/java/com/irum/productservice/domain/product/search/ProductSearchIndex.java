@@ -0,0 +1,311 @@
+package com.irum.productservice.domain.product.search;
+
+import com.irum.productservice.global.infrastructure.properties.SearchProperties;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품명/설명 전문 검색 색인 (Lucene, 메모리).
+ *
+ * <p>검색은 관련도 순으로 정렬된 상품 id 만 돌려주고, 공개 여부/카테고리/커서 조건은 ProductRepositoryImpl 이 DB 에서 적용합니다. 색인은 상품
+ * 생성/수정/삭제 커밋 후 갱신되고, 기동 시와 주기적으로 DB 에서 새로 만들어 교체합니다. ProductSearchIndexer 참고.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchIndex {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_DESCRIPTION = "description";
+
+    private final SearchProperties searchProperties;
+
+    private final Analyzer indexAnalyzer = new NGramAnalyzer();
+    private final Analyzer queryAnalyzer = new StandardAnalyzer(CharArraySet.EMPTY_SET);
+
+    // 색인 교체 중에는 쓰기만 동시에 허용하고, 교체 순간에는 모든 쓰기를 막습니다.
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Segment current;
+    private volatile Map<UUID, Optional<ProductSearchDocument>> changesDuringRebuild;
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    public void index(ProductSearchDocument document) {
+        apply(document.productId(), Optional.of(document));
+    }
+
+    public void delete(UUID productId) {
+        apply(productId, Optional.empty());
+    }
+
+    /**
+     * 새 색인을 만든 뒤 한 번에 교체합니다. 만드는 동안 들어온 변경은 교체 직전에 새 색인에 다시 반영합니다.
+     *
+     * @param pageLoader 직전 페이지의 마지막 상품 id(첫 페이지는 null)를 받아 다음 페이지를 돌려주는 함수. 빈 목록이면 끝입니다.
+     */
+    public void rebuild(Function<UUID, List<ProductSearchDocument>> pageLoader) {
+        changesDuringRebuild = new ConcurrentHashMap<>();
+        Segment rebuilt = Segment.open(indexAnalyzer);
+        int count = 0;
+        try {
+            UUID after = null;
+            List<ProductSearchDocument> page;
+            while (!(page = pageLoader.apply(after)).isEmpty()) {
+                for (ProductSearchDocument document : page) {
+                    rebuilt.write(document.productId(), Optional.of(document));
+                }
+                count += page.size();
+                after = page.get(page.size() - 1).productId();
+            }
+        } catch (RuntimeException e) {
+            changesDuringRebuild = null;
+            rebuilt.close();
+            throw e;
+        }
+
+        Segment previous;
+        swapLock.writeLock().lock();
+        try {
+            changesDuringRebuild.forEach(rebuilt::write);
+            changesDuringRebuild = null;
+            rebuilt.refresh();
+            previous = current;
+            current = rebuilt;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        if (previous != null) {
+            previous.close();
+        }
+        log.info("상품 검색 색인 재구성 완료: count={}", count);
+    }
+
+    /**
+     * 검색어에 맞는 상품 id 를 관련도 순으로 돌려줍니다 (최대 product.search.max-hits 건).
+     *
+     * <p>검색어의 단어마다 2글자 n-gram 이 모두 상품명 또는 설명 한쪽에 있어야 합니다. 모든 단어가 상품명에 있는 상품을 먼저, 나머지를 그 뒤에 각각 점수
+     * 순으로 둡니다. 설명에만 드문 단어가 있는 상품이 점수로 상품명 일치를 앞지르지 않게 하기 위함입니다.
+     */
+    public List<UUID> search(String keyword) {
+        Segment segment = current;
+        List<List<String>> tokenGrams = tokenGrams(keyword);
+        if (segment == null || tokenGrams.isEmpty()) {
+            return List.of();
+        }
+        int maxHits = searchProperties.maxHits();
+        try {
+            IndexSearcher searcher = segment.searcherManager().acquire();
+            try {
+                StoredFields storedFields = searcher.storedFields();
+                Set<UUID> ids = new LinkedHashSet<>();
+                for (Query query :
+                        List.of(nameQuery(tokenGrams), nameOrDescriptionQuery(tokenGrams))) {
+                    for (ScoreDoc hit : searcher.search(query, maxHits).scoreDocs) {
+                        if (ids.size() == maxHits) {
+                            break;
+                        }
+                        ids.add(UUID.fromString(storedFields.document(hit.doc).get(FIELD_ID)));
+                    }
+                }
+                return List.copyOf(ids);
+            } finally {
+                segment.searcherManager().release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** 검색어를 색인 검색과 같은 규칙(소문자, 구두점 제거)으로 나눈 단어 목록. 빈 검색어는 빈 목록입니다. */
+    public List<String> terms(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        return tokenize(keyword);
+    }
+
+    @PreDestroy
+    void close() {
+        Segment segment = current;
+        current = null;
+        if (segment != null) {
+            segment.close();
+        }
+    }
+
+    private void apply(UUID productId, Optional<ProductSearchDocument> document) {
+        swapLock.readLock().lock();
+        try {
+            Map<UUID, Optional<ProductSearchDocument>> pending = changesDuringRebuild;
+            if (pending != null) {
+                pending.put(productId, document);
+            }
+            Segment segment = current;
+            if (segment != null) {
+                segment.write(productId, document);
+                segment.refresh();
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // 검색어 단어별 n-gram 목록. 빈 검색어는 빈 목록입니다.
+    private List<List<String>> tokenGrams(String keyword) {
+        return terms(keyword).stream().map(ProductSearchIndex::grams).toList();
+    }
+
+    private static Query nameQuery(List<List<String>> tokenGrams) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (List<String> grams : tokenGrams) {
+            query.add(allOf(FIELD_NAME, grams), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private static Query nameOrDescriptionQuery(List<List<String>> tokenGrams) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (List<String> grams : tokenGrams) {
+            BooleanQuery.Builder either = new BooleanQuery.Builder();
+            either.add(allOf(FIELD_NAME, grams), BooleanClause.Occur.SHOULD);
+            either.add(allOf(FIELD_DESCRIPTION, grams), BooleanClause.Occur.SHOULD);
+            query.add(either.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> tokenize(String keyword) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = queryAnalyzer.tokenStream(FIELD_NAME, keyword)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    // 색인과 같은 규칙의 n-gram 중 가장 긴 것만 사용. 한 글자 단어는 그대로 사용합니다.
+    private static List<String> grams(String token) {
+        int[] codePoints = token.codePoints().toArray();
+        if (codePoints.length < NGramAnalyzer.MAX_GRAM) {
+            return List.of(token);
+        }
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + NGramAnalyzer.MAX_GRAM <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, NGramAnalyzer.MAX_GRAM));
+        }
+        return grams;
+    }
+
+    private static Query allOf(String field, List<String> grams) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String gram : grams) {
+            builder.add(new TermQuery(new Term(field, gram)), BooleanClause.Occur.MUST);
+        }
+        return builder.build();
+    }
+
+    private record Segment(
+            Directory directory, IndexWriter writer, SearcherManager searcherManager) {
+
+        static Segment open(Analyzer analyzer) {
+            try {
+                Directory directory = new ByteBuffersDirectory();
+                IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+                return new Segment(directory, writer, new SearcherManager(writer, null));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void write(UUID productId, Optional<ProductSearchDocument> document) {
+            Term idTerm = new Term(FIELD_ID, productId.toString());
+            try {
+                if (document.isEmpty()) {
+                    writer.deleteDocuments(idTerm);
+                    return;
+                }
+                Document doc = new Document();
+                doc.add(new StringField(FIELD_ID, productId.toString(), Field.Store.YES));
+                doc.add(
+                        new TextField(
+                                FIELD_NAME, nullToEmpty(document.get().name()), Field.Store.NO));
+                doc.add(
+                        new TextField(
+                                FIELD_DESCRIPTION,
+                                nullToEmpty(document.get().description()),
+                                Field.Store.NO));
+                writer.updateDocument(idTerm, doc);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void refresh() {
+            try {
+                searcherManager.maybeRefreshBlocking();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void close() {
+            try {
+                searcherManager.close();
+                writer.close();
+                directory.close();
+            } catch (IOException e) {
+                log.warn("상품 검색 색인 닫기 실패", e);
+            }
+        }
+
+        private static String nullToEmpty(String value) {
+            return value != null ? value : "";
+        }
+    }
+}
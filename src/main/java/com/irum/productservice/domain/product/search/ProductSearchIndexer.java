@@ -0,0 +1,71 @@
+package com.irum.productservice.domain.product.search;
+
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.event.ProductDeletedEvent;
+import com.irum.productservice.domain.product.event.ProductSavedEvent;
+import com.irum.productservice.global.infrastructure.properties.SearchProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 변경을 검색 색인에 반영합니다.
+ *
+ * <p>product.search.engine 이 lucene 일 때만 동작합니다. 상품 생성/수정/삭제는 커밋된 뒤 바로 반영하고, 이 서비스를 거치지 않은 변경(다른
+ * 인스턴스, 직접 수정 등)은 주기적인 전체 재구성으로 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchIndexer {
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductRepository productRepository;
+    private final SearchProperties searchProperties;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductSaved(ProductSavedEvent event) {
+        if (!searchProperties.usesSearchIndex()) {
+            return;
+        }
+        productSearchIndex.index(
+                new ProductSearchDocument(
+                        event.getProductId(), event.getName(), event.getDescription()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductDeleted(ProductDeletedEvent event) {
+        if (!searchProperties.usesSearchIndex()) {
+            return;
+        }
+        productSearchIndex.delete(event.getProductId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${product.search.rebuild-interval-ms:600000}",
+            fixedDelayString = "${product.search.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!searchProperties.usesSearchIndex()) {
+            return;
+        }
+        try {
+            productSearchIndex.rebuild(
+                    after ->
+                            productRepository.findSearchDocuments(
+                                    after, searchProperties.rebuildBatchSize()));
+        } catch (RuntimeException e) {
+            // 실패해도 기존 색인(없으면 DB LIKE 검색)으로 계속 동작
+            log.error("상품 검색 색인 재구성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.irum.productservice.domain.product.service;
+
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.event.ProductDetailChangedEvent;
+import com.irum.productservice.domain.product.event.ProductSavedEvent;
+import com.irum.productservice.domain.product.event.StockChangedEvent;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 재고 여부(p_product.in_stock) 갱신. 목록의 품절 제외 필터가 옵션 테이블을 조인하지 않도록 상품 행에 둡니다.
+ *
+ * <p>상품 생성/옵션 변경은 커밋 직전에 같은 트랜잭션에서 상품 행을 잠그고 다시 계산합니다. 주문 경로의 재고 변경은 옵션 재고가 0 을 지날 때(품절, 품절 후 복구)만
+ * 커밋 후 새 트랜잭션에서 상품 행을 잠그고 다시 계산합니다. 커밋 직전에 계산하면 READ COMMITTED 에서 같은 상품의 다른 옵션을 동시에 품절시킨 주문이 서로의
+ * 차감을 보지 못해 재고 여부가 true 로 남기 때문입니다. 잠금을 잡은 뒤 실행하는 계산은 먼저 커밋된 주문을 모두 보므로, 마지막에 커밋된 주문이 최종 값을 맞춥니다. 0
+ * 을 지나지 않는 주문은 옵션 행 조회 한 번만 하므로 주문마다 상품 행을 갱신하거나 커넥션을 더 잡지 않습니다.
+ *
+ * <p>Redis/원장 재고 엔진은 DB 반영 시점에 다시 계산하고(RedisStockWriteBehind, InventoryLedgerCompactor), 이 경로들을 거치지
+ * 않은 변경은 주기적인 전체 보정으로 맞춥니다.
+ */
+@Component
+@Slf4j
+public class ProductAvailabilityUpdater {
+
+    private final ProductRepository productRepository;
+    private final ProductOptionValueRepository productOptionValueRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransaction;
+
+    public ProductAvailabilityUpdater(
+            ProductRepository productRepository,
+            ProductOptionValueRepository productOptionValueRepository,
+            TransactionTemplate transactionTemplate,
+            PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.productOptionValueRepository = productOptionValueRepository;
+        this.transactionTemplate = transactionTemplate;
+        // 커밋 후 콜백에서는 끝난 트랜잭션에 참여하지 않도록 새로 시작
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleProductSaved(ProductSavedEvent event) {
+        refresh(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleProductDetailChanged(ProductDetailChangedEvent event) {
+        refresh(event.getProductId());
+    }
+
+    /** 주문 트랜잭션 안에서 자신이 바꾼 옵션 재고로 0 을 지났는지 판단하고, 지났으면 커밋 후 다시 계산합니다. */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleStockChanged(StockChangedEvent event) {
+        Optional<UUID> productId =
+                transactionTemplate.execute(
+                        status ->
+                                event.getDelta() < 0
+                                        ? productOptionValueRepository.findProductIdIfDepleted(
+                                                event.getOptionValueId())
+                                        : productOptionValueRepository.findProductIdIfRestocked(
+                                                event.getOptionValueId(), event.getDelta()));
+        if (productId == null || productId.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshAfterCommit(productId.get());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        refreshAfterCommit(productId.get());
+                    }
+                });
+    }
+
+    @Scheduled(
+            initialDelayString = "${product.availability.reconcile-interval-ms:600000}",
+            fixedDelayString = "${product.availability.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            Integer updated =
+                    transactionTemplate.execute(status -> productRepository.refreshAllInStock());
+            log.info("상품 재고 여부 보정 완료: updated={}", updated);
+        } catch (RuntimeException e) {
+            log.error("상품 재고 여부 보정 실패", e);
+        }
+    }
+
+    // 발행한 트랜잭션에 참여하고, 트랜잭션 밖에서 발행되면 새로 시작
+    private void refresh(UUID productId) {
+        transactionTemplate.executeWithoutResult(status -> lockAndRefresh(productId));
+    }
+
+    private void refreshAfterCommit(UUID productId) {
+        try {
+            newTransaction.executeWithoutResult(status -> lockAndRefresh(productId));
+        } catch (RuntimeException e) {
+            // 커밋은 끝났으므로 예외를 넘기지 않고, 주기 보정에서 맞춤
+            log.warn("상품 재고 여부 갱신 실패: productId={}", productId, e);
+        }
+    }
+
+    // 잠금을 잡은 뒤의 갱신 문장은 그 사이 커밋된 재고 변경을 모두 봄 (READ COMMITTED 는 문장마다 스냅샷을 새로 잡음)
+    private void lockAndRefresh(UUID productId) {
+        productRepository.findAllByIdForUpdate(Set.of(productId));
+        productRepository.refreshInStock(Set.of(productId));
+    }
+}
@@ -7,6 +7,7 @@ import com.irum.productservice.domain.product.domain.entity.ProductImage;
 import com.irum.productservice.domain.product.domain.repository.ProductImageRepository;
 import com.irum.productservice.domain.product.domain.repository.ProductRepository;
 import com.irum.productservice.domain.product.dto.response.ProductImageResponse;
+import com.irum.productservice.domain.product.event.ProductDetailChangedEvent;
 import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
 import com.irum.productservice.global.exception.errorcode.ProductImageErrorCode;
 import com.irum.productservice.global.util.MemberUtil;
@@ -19,6 +20,7 @@ import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +36,7 @@ public class ProductImageService {
     private final ProductImageRepository productImageRepository;
     private final MemberUtil memberUtil;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Lazy @Autowired private ProductImageService self;
 
@@ -75,6 +78,7 @@ public class ProductImageService {
                     storedUrls.get(i),
                     isDefault);
         }
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(productId));
     }
 
     @Transactional
@@ -99,6 +103,7 @@ public class ProductImageService {
                 .ifPresent(ProductImage::unmarkAsDefault);
 
         target.markAsDefault();
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(productId));
         log.info("대표 이미지 변경 완료: productId={}, newDefaultImageId={}", productId, imageId);
     }
 
@@ -122,6 +127,7 @@ public class ProductImageService {
                     .findTopByProductIdOrderByCreatedAtDesc(productId)
                     .ifPresent(ProductImage::markAsDefault);
         }
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(productId));
 
         log.info("상품 이미지 삭제 완료: imageId={}, productId={}", imageId, productId);
     }
@@ -4,6 +4,9 @@ import com.irum.global.advice.exception.CommonException;
 import com.irum.openfeign.member.dto.response.MemberDto;
 import com.irum.productservice.domain.category.domain.entity.Category;
 import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.category.service.CategoryTreeIndex;
+import com.irum.productservice.domain.product.Internal.service.stock.StockEngine;
+import com.irum.productservice.domain.product.cache.ProductDetailCache;
 import com.irum.productservice.domain.product.domain.entity.Product;
 import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
 import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
@@ -13,20 +16,30 @@ import com.irum.productservice.domain.product.domain.repository.ProductRepositor
 import com.irum.productservice.domain.product.dto.request.*;
 import com.irum.productservice.domain.product.dto.response.*;
 import com.irum.productservice.domain.product.event.OptionGroupDeletedEvent;
+import com.irum.productservice.domain.product.event.OptionStockUpdatedEvent;
+import com.irum.productservice.domain.product.event.OptionValueDeletedEvent;
+import com.irum.productservice.domain.product.event.OptionValuePriceChangedEvent;
 import com.irum.productservice.domain.product.event.ProductDeletedEvent;
+import com.irum.productservice.domain.product.event.ProductDetailChangedEvent;
+import com.irum.productservice.domain.product.event.ProductPriceChangedEvent;
+import com.irum.productservice.domain.product.event.ProductSavedEvent;
+import com.irum.productservice.domain.product.search.ProductFacetIndex;
+import com.irum.productservice.domain.product.search.ProductSearchIndex;
 import com.irum.productservice.domain.store.domain.entity.Store;
 import com.irum.productservice.domain.store.domain.repository.StoreRepository;
 import com.irum.productservice.global.exception.errorcode.CategoryErrorCode;
 import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
 import com.irum.productservice.global.exception.errorcode.StoreErrorCode;
+import com.irum.productservice.global.infrastructure.properties.SearchProperties;
 import com.irum.productservice.global.util.MemberUtil;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -34,13 +47,22 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 @Slf4j
 public class ProductService {
+
+    private static final int DEFAULT_STOCK_SHARD_COUNT = 4;
+
     private final ProductRepository productRepository;
     private final ProductOptionGroupRepository optionGroupRepository;
     private final ProductOptionValueRepository optionValueRepository;
     private final StoreRepository storeRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryTreeIndex categoryTreeIndex;
     private final MemberUtil memberUtil;
     private final ApplicationEventPublisher eventPublisher;
+    private final StockEngine stockEngine;
+    private final ProductDetailCache productDetailCache;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductSearchIndex productSearchIndex;
+    private final SearchProperties searchProperties;
 
     public ProductResponse createProduct(ProductCreateRequest request) {
         MemberDto member = memberUtil.getCurrentMember();
@@ -88,6 +110,9 @@ public class ProductService {
         }
 
         productRepository.save(product);
+        eventPublisher.publishEvent(
+                new ProductSavedEvent(
+                        product.getId(), product.getName(), product.getDescription()));
         log.info("상품 등록 완료: storeId={}, productName={}", store.getId(), product.getName());
         return ProductResponse.from(product);
     }
@@ -134,7 +159,11 @@ public class ProductService {
                     product.getDetailDescription(),
                     updatedDetailDescription);
         }
-        if (product.getPrice() != updatedPrice) {
+        boolean textChanged =
+                !product.getName().equals(updatedName)
+                        || !product.getDescription().equals(updatedDescription);
+        boolean priceChanged = product.getPrice() != updatedPrice;
+        if (priceChanged) {
             log.info("상품 가격 변경: {} → {}", product.getPrice(), updatedPrice);
         }
         if (product.isPublic() != updatedIsPublic) {
@@ -147,6 +176,15 @@ public class ProductService {
                 updatedDetailDescription,
                 updatedPrice,
                 updatedIsPublic);
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(productId));
+
+        if (priceChanged) {
+            eventPublisher.publishEvent(new ProductPriceChangedEvent(productId, updatedPrice));
+        }
+        if (textChanged) {
+            eventPublisher.publishEvent(
+                    new ProductSavedEvent(productId, updatedName, updatedDescription));
+        }
 
         log.info("상품 수정 완료: productId={}", productId);
         return ProductResponse.from(product);
@@ -177,6 +215,7 @@ public class ProductService {
                 product.getDetailDescription(),
                 product.getPrice(),
                 newStatus);
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(productId));
 
         return ProductResponse.from(product);
     }
@@ -197,47 +236,122 @@ public class ProductService {
                                 () -> new CommonException(CategoryErrorCode.CATEGORY_NOT_FOUND));
 
         product.updateCategory(category);
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(productId));
         return ProductResponse.from(product);
     }
 
     @Transactional(readOnly = true)
     public ProductCursorResponse getProductList(
-            UUID categoryId, UUID cursor, Integer size, String keyword) {
-        if (size == null || (size != 10 && size != 30 && size != 50)) {
-            log.warn("허용되지 않은 size 요청: {} -> 기본값 10으로 대체", size);
-            size = 10;
-        }
-
-        List<ProductResponse> products;
-
-        if (categoryId != null && keyword != null && !keyword.trim().isEmpty()) {
-            List<UUID> categoryIds = getAllDescendantCategoryIds(categoryId);
+            UUID categoryId,
+            String cursor,
+            Integer size,
+            String keyword,
+            ProductSortType sort,
+            ProductListFilter filter) {
+        size = pageSize(size);
+        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
+        sort = ProductSortType.resolve(sort, hasKeyword);
+        filter = validateFilter(filter);
+        int limit = size + 1;
+
+        List<ProductCardResponse> products;
+
+        if (categoryId != null && hasKeyword) {
+            List<UUID> categoryIds = categoryTreeIndex.descendantIds(categoryId);
             products =
                     productRepository.findProductsByCategoryIdsAndKeyword(
-                            cursor, size, categoryIds, keyword);
+                            sort, cursor, limit, filter, categoryIds, keyword);
         } else if (categoryId != null) {
-            List<UUID> categoryIds = getAllDescendantCategoryIds(categoryId);
-            products = productRepository.findProductsByCategoryIds(cursor, size, categoryIds);
-        } else if (keyword != null && !keyword.trim().isEmpty()) {
-            log.info("상품 검색 요청: keyword={}, cursor={}, size={}", keyword, cursor, size);
-            products = productRepository.findProductsByKeyword(cursor, size, keyword);
+            List<UUID> categoryIds = categoryTreeIndex.descendantIds(categoryId);
+            products =
+                    productRepository.findProductsByCategoryIds(
+                            sort, cursor, limit, filter, categoryIds);
+        } else if (hasKeyword) {
+            log.info(
+                    "상품 검색 요청: keyword={}, sort={}, cursor={}, size={}",
+                    keyword,
+                    sort,
+                    cursor,
+                    size);
+            products =
+                    productRepository.findProductsByKeyword(sort, cursor, limit, filter, keyword);
         } else {
-            log.info("상품 목록 조회 요청: cursor={}, size={}", cursor, size);
-            products = productRepository.findProductsByCursor(cursor, size);
+            log.info("상품 목록 조회 요청: sort={}, cursor={}, size={}", sort, cursor, size);
+            products = productRepository.findProductsByCursor(sort, cursor, limit, filter);
         }
 
         log.info("상품 목록 조회 완료: keyword={}, count={}", keyword, products.size());
-        return ProductCursorResponse.of(products);
+        ProductFacetResponse facets =
+                cursor == null || cursor.isBlank()
+                        ? facetsOf(categoryId, hasKeyword ? keyword : null)
+                        : null;
+        return ProductCursorResponse.of(products, size, sort, facets);
     }
 
+    /** 인기 상품 랭킹. 카테고리(하위 포함) 또는 상점의 판매 점수 순이며, 랭킹을 쓰지 않으면 빈 목록입니다. */
     @Transactional(readOnly = true)
-    public ProductDetailResponse getProductById(UUID productId) {
-        Product product =
-                productRepository
-                        .findById(productId)
-                        .orElseThrow(() -> new CommonException(ProductErrorCode.PRODUCT_NOT_FOUND));
+    public ProductCursorResponse getPopularProducts(
+            UUID categoryId, UUID storeId, String cursor, Integer size) {
+        size = pageSize(size);
+        List<UUID> categoryIds =
+                categoryId != null ? categoryTreeIndex.descendantIds(categoryId) : null;
+        List<ProductCardResponse> products =
+                productRepository.findProductsByPopularity(cursor, size + 1, storeId, categoryIds);
+        return ProductCursorResponse.of(products, size, ProductSortType.POPULARITY);
+    }
 
-        return ProductDetailResponse.from(product);
+    private int pageSize(Integer size) {
+        if (size == null || (size != 10 && size != 30 && size != 50)) {
+            log.warn("허용되지 않은 size 요청: {} -> 기본값 10으로 대체", size);
+            return 10;
+        }
+        return size;
+    }
+
+    // 가격 범위가 뒤집혔거나 평점이 0 ~ 5 밖이면 빈 목록 대신 잘못된 요청으로 알림
+    private ProductListFilter validateFilter(ProductListFilter filter) {
+        if (filter == null) {
+            return ProductListFilter.NONE;
+        }
+        boolean invalidPrice =
+                (filter.minPrice() != null && filter.minPrice() < 0)
+                        || (filter.maxPrice() != null && filter.maxPrice() < 0)
+                        || (filter.minPrice() != null
+                                && filter.maxPrice() != null
+                                && filter.minPrice() > filter.maxPrice());
+        boolean invalidRating =
+                filter.minRating() != null && (filter.minRating() < 0 || filter.minRating() > 5);
+        if (invalidPrice || invalidRating) {
+            throw new CommonException(ProductErrorCode.INVALID_PRODUCT_FILTER);
+        }
+        return filter;
+    }
+
+    // 키워드 facet 은 검색 색인 결과로 세므로 DB 검색(engine=database)이나 색인 준비 전에는 생략
+    private ProductFacetResponse facetsOf(UUID categoryId, String keyword) {
+        if (keyword == null) {
+            return productFacetIndex.facets(categoryId).orElse(null);
+        }
+        if (!searchProperties.usesSearchIndex() || !productSearchIndex.isReady()) {
+            return null;
+        }
+        return productFacetIndex
+                .facets(categoryId, productSearchIndex.search(keyword))
+                .orElse(null);
+    }
+
+    // 캐시 적중 시 트랜잭션(커넥션) 없이 응답. DB 조회는 캐시가 읽기 전용 트랜잭션으로 실행
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductDetailResponse getProductById(UUID productId) {
+        return productDetailCache.get(
+                productId,
+                () ->
+                        productRepository
+                                .findProductDetail(productId)
+                                .orElseThrow(
+                                        () ->
+                                                new CommonException(
+                                                        ProductErrorCode.PRODUCT_NOT_FOUND)));
     }
 
     public void deleteProduct(UUID productId) {
@@ -288,6 +402,7 @@ public class ProductService {
         }
 
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(productId));
         log.info("상품 옵션 그룹 추가 완료: productId={}, groupName={}", productId, request.name());
     }
 
@@ -307,6 +422,8 @@ public class ProductService {
                 request.extraPrice() != null ? request.extraPrice() : 0);
 
         optionGroupRepository.save(optionGroup);
+        eventPublisher.publishEvent(
+                new ProductDetailChangedEvent(optionGroup.getProduct().getId()));
         log.info("옵션 값 추가 완료: optionGroupId={}, valueName={}", optionGroupId, request.name());
     }
 
@@ -321,6 +438,8 @@ public class ProductService {
         memberUtil.assertMemberResourceAccess(optionGroup.getProduct().getStore().getMember());
 
         optionGroup.updateOptionGroupName(request.name());
+        eventPublisher.publishEvent(
+                new ProductDetailChangedEvent(optionGroup.getProduct().getId()));
 
         return ProductOptionGroupResponse.from(optionGroup);
     }
@@ -355,12 +474,74 @@ public class ProductService {
 
         Integer updatedExtraPrice =
                 request.extraPrice() != null ? request.extraPrice() : optionValue.getExtraPrice();
+        boolean extraPriceChanged = !Objects.equals(optionValue.getExtraPrice(), updatedExtraPrice);
 
-        optionValue.updateOptionValue(updatedName, updatedStockQuantity, updatedExtraPrice);
+        // 재고 엔진에 따라 덮어쓰거나(기본) 차이를 원장에 기록(ledger)
+        int appliedStockQuantity =
+                request.stockQuantity() != null
+                        ? stockEngine.adjust(optionValue, updatedStockQuantity)
+                        : updatedStockQuantity;
+
+        optionValue.updateOptionValue(updatedName, appliedStockQuantity, updatedExtraPrice);
         optionValueRepository.save(optionValue);
+        eventPublisher.publishEvent(
+                new ProductDetailChangedEvent(optionValue.getOptionGroup().getProduct().getId()));
+
+        if (request.stockQuantity() != null) {
+            eventPublisher.publishEvent(
+                    new OptionStockUpdatedEvent(optionValueId, updatedStockQuantity));
+        }
+        if (extraPriceChanged) {
+            eventPublisher.publishEvent(
+                    new OptionValuePriceChangedEvent(optionValueId, updatedExtraPrice));
+        }
 
         log.info("상품 옵션 값 수정 완료: optionValueId={}", optionValueId);
 
+        return ProductOptionValueResponse.from(
+                optionValue, stockEngine.availableStock(List.of(optionValue)).get(optionValueId));
+    }
+
+    /** 옵션 재고 샤딩 적용/해제. 총 재고는 그대로 유지되며, 샤드 수가 바뀌면 다시 나눕니다. */
+    public ProductOptionValueResponse updateProductOptionStockSharding(
+            UUID optionValueId, ProductOptionStockShardingRequest request) {
+        ProductOptionValue optionValue =
+                optionValueRepository
+                        .findByIdWithStockShards(optionValueId)
+                        .orElseThrow(
+                                () -> new CommonException(ProductErrorCode.OPTION_VALUE_NOT_FOUND));
+
+        memberUtil.assertMemberResourceAccess(
+                optionValue.getOptionGroup().getProduct().getStore().getMember());
+
+        int shardCount =
+                request.shardCount() != null ? request.shardCount() : DEFAULT_STOCK_SHARD_COUNT;
+        boolean sameSharding =
+                optionValue.isStockSharded() == request.enabled()
+                        && (!request.enabled()
+                                || optionValue.getStockShards().size() == shardCount);
+        if (sameSharding) {
+            log.warn("옵션 재고 샤딩 변경 실패: 변경된 내용이 없습니다. optionValueId={}", optionValueId);
+            throw new CommonException(ProductErrorCode.PRODUCT_NOT_MODIFIED);
+        }
+
+        if (optionValue.isStockSharded()) {
+            optionValue.disableStockSharding();
+            // 기존 샤드 삭제를 먼저 반영해야 같은 shard_no 로 다시 만들 수 있음
+            optionValueRepository.saveAndFlush(optionValue);
+        }
+        if (request.enabled()) {
+            optionValue.enableStockSharding(shardCount);
+        }
+        eventPublisher.publishEvent(
+                new ProductDetailChangedEvent(optionValue.getOptionGroup().getProduct().getId()));
+
+        log.info(
+                "옵션 재고 샤딩 변경 완료: optionValueId={}, enabled={}, shardCount={}",
+                optionValueId,
+                request.enabled(),
+                request.enabled() ? shardCount : 0);
+
         return ProductOptionValueResponse.from(optionValue);
     }
 
@@ -376,6 +557,8 @@ public class ProductService {
 
         optionGroupRepository.delete(optionGroup);
         log.info("상품 옵션 그룹 삭제 완료: groupId={}", optionGroupId);
+        eventPublisher.publishEvent(
+                new ProductDetailChangedEvent(optionGroup.getProduct().getId()));
         eventPublisher.publishEvent(
                 new OptionGroupDeletedEvent(optionGroup.getId(), member.memberId()));
     }
@@ -402,6 +585,9 @@ public class ProductService {
                 optionValue.getOptionGroup().getProduct().getStore().getMember());
 
         optionValueRepository.delete(optionValue);
+        eventPublisher.publishEvent(new OptionValueDeletedEvent(optionValueId));
+        eventPublisher.publishEvent(
+                new ProductDetailChangedEvent(optionValue.getOptionGroup().getProduct().getId()));
         log.info("상품 옵션 값 삭제 완료: valueId={}", optionValueId);
     }
 
@@ -414,20 +600,7 @@ public class ProductService {
         }
         for (ProductOptionValue optionValue : optionValues) {
             optionValue.softDelete(deletedBy);
-        }
-    }
-
-    private List<UUID> getAllDescendantCategoryIds(UUID categoryId) {
-        List<UUID> ids = new ArrayList<>();
-        collectDescendants(categoryId, ids);
-        return ids;
-    }
-
-    private void collectDescendants(UUID categoryId, List<UUID> ids) {
-        ids.add(categoryId);
-        List<Category> children = categoryRepository.findChildrenByParentId(categoryId);
-        for (Category child : children) {
-            collectDescendants(child.getCategoryId(), ids);
+            eventPublisher.publishEvent(new OptionValueDeletedEvent(optionValue.getId()));
         }
     }
 }
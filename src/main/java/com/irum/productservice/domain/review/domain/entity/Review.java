@@ -2,6 +2,7 @@ package com.irum.productservice.domain.review.domain.entity;
 
 import com.irum.global.domain.BaseEntity;
 import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.global.util.UuidV7Generator;
 import jakarta.persistence.*;
 import java.util.UUID;
 import lombok.*;
@@ -20,7 +21,7 @@ import org.hibernate.annotations.Where;
 public class Review extends BaseEntity {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "review_id", updatable = false, nullable = false)
     private UUID id;
 
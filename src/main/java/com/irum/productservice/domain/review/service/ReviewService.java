@@ -6,6 +6,7 @@ import com.irum.openfeign.order.client.OrderClient;
 import com.irum.openfeign.order.dto.response.OrderDetailDto;
 import com.irum.productservice.domain.product.domain.entity.Product;
 import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.event.ProductDetailChangedEvent;
 import com.irum.productservice.domain.review.domain.entity.Review;
 import com.irum.productservice.domain.review.domain.entity.ReviewImage;
 import com.irum.productservice.domain.review.domain.repository.ReviewImageRepository;
@@ -19,6 +20,7 @@ import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,6 +36,7 @@ public class ReviewService {
     private final ReviewImageRepository reviewImageRepository;
     private final ProductRepository productRepository;
     private final OrderClient orderClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 리뷰 생성 */
     public ReviewResponse createReview(ReviewCreateRequest request) {
@@ -195,6 +198,7 @@ public class ReviewService {
 
         product.updateRating(avg, count);
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(product.getId()));
 
         log.info(
                 "상품 평점 갱신 완료: productId={}, avgRate={}, reviewCount={}",
@@ -5,6 +5,7 @@ import com.irum.global.constants.RegexConstants;
 import com.irum.global.domain.BaseEntity;
 import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
 import com.irum.productservice.global.exception.errorcode.StoreErrorCode;
+import com.irum.productservice.global.util.UuidV7Generator;
 import jakarta.persistence.*;
 import jakarta.persistence.Entity;
 import java.util.UUID;
@@ -23,7 +24,7 @@ public class Store extends BaseEntity {
 
     @Id
     @GeneratedValue
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "store_id", updatable = false, nullable = false)
     private UUID id;
 
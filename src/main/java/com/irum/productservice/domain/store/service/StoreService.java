@@ -3,8 +3,9 @@ package com.irum.productservice.domain.store.service;
 import com.irum.global.advice.exception.CommonException;
 import com.irum.openfeign.member.dto.response.MemberDto;
 import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.dto.request.ProductSortType;
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
 import com.irum.productservice.domain.product.dto.response.ProductCursorResponse;
-import com.irum.productservice.domain.product.dto.response.ProductResponse;
 import com.irum.productservice.domain.store.domain.entity.Store;
 import com.irum.productservice.domain.store.domain.repository.StoreRepository;
 import com.irum.productservice.domain.store.dto.request.StoreCreateRequest;
@@ -103,10 +104,10 @@ public class StoreService {
             size = 10;
         }
 
-        List<ProductResponse> products =
-                productRepository.findProductsByStoreWithCursor(storeId, cursor, size);
+        List<ProductCardResponse> products =
+                productRepository.findProductsByStoreWithCursor(storeId, cursor, size + 1);
 
-        return ProductCursorResponse.of(products);
+        return ProductCursorResponse.of(products, size, ProductSortType.NEWEST);
     }
 
     // 본인 소유 상점 검증
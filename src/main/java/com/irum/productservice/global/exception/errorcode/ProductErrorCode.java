@@ -14,11 +14,21 @@ public enum ProductErrorCode implements BaseErrorCode {
     PRODUCT_OUT_OF_STOCK(HttpStatus.BAD_REQUEST, "재고가 부족합니다"),
     PRODUCT_NOT_IN_STORE(HttpStatus.BAD_REQUEST, "해당 상점의 상품이 아닙니다."),
     PRODUCT_RETRY_LIMIT_EXCEEDED(HttpStatus.CONFLICT, "요청이 많아 처리에 실패했습니다. 잠시 후 다시 시도해주세요"),
+    INVALID_PRODUCT_CURSOR(HttpStatus.BAD_REQUEST, "상품 목록 커서가 올바르지 않습니다."),
+    INVALID_PRODUCT_FILTER(HttpStatus.BAD_REQUEST, "상품 목록 필터 조건이 올바르지 않습니다."),
+    PRODUCT_CURSOR_EXPIRED(HttpStatus.CONFLICT, "상품 목록 커서가 만료되었습니다. 첫 페이지부터 다시 조회해주세요."),
 
     PRODUCT_OPTION_VALUE_NOT_FOUND(HttpStatus.NOT_FOUND, "상품 옵션 정보를 찾을 수 없습니다."),
 
     OPTION_GROUP_NOT_FOUND(HttpStatus.NOT_FOUND, "상품 옵션 그룹을 찾을 수 없습니다."),
-    OPTION_VALUE_NOT_FOUND(HttpStatus.NOT_FOUND, "상품 옵션 값을 찾을 수 없습니다.");
+    OPTION_VALUE_NOT_FOUND(HttpStatus.NOT_FOUND, "상품 옵션 값을 찾을 수 없습니다."),
+
+    STOCK_RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "재고 홀드 정보를 찾을 수 없습니다."),
+    STOCK_RESERVATION_EXPIRED(HttpStatus.CONFLICT, "재고 홀드가 만료되었습니다."),
+    STOCK_RESERVATION_ALREADY_CONFIRMED(HttpStatus.CONFLICT, "이미 확정된 재고 홀드입니다."),
+
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "이미 다른 요청에 사용된 멱등키입니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -0,0 +1,55 @@
+package com.irum.productservice.global.infrastructure.config.datasource;
+
+/**
+ * 요청 단위 read-your-writes 상태. 범위 안에서 원본 DB 에 쓰는 트랜잭션이 한 번이라도 열리면, 이후 읽기 전용 트랜잭션도 원본 DB 로 보냅니다.
+ *
+ * <p>범위는 {@link ReadYourWritesFilter} 가 요청마다 열고 닫습니다. 범위 밖(스케줄러, 이벤트 처리 스레드 등)에서는 읽기 전용 트랜잭션을 항상
+ * 복제본으로 보냅니다.
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {}
+
+    /**
+     * @param pinned 처음부터 원본 DB 로 고정할지 여부
+     */
+    public static Scope open(boolean pinned) {
+        Scope scope = new Scope(CURRENT.get(), pinned);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static boolean isPinned() {
+        Scope scope = CURRENT.get();
+        return scope != null && scope.pinned;
+    }
+
+    static void markWritten() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.pinned = true;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private boolean pinned;
+
+        private Scope(Scope parent, boolean pinned) {
+            this.parent = parent;
+            this.pinned = pinned;
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
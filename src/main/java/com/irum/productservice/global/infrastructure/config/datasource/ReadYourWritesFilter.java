@@ -0,0 +1,38 @@
+package com.irum.productservice.global.infrastructure.config.datasource;
+
+import com.irum.productservice.global.infrastructure.properties.DataSourceRoutingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/** 요청마다 read-your-writes 범위를 엽니다. 헤더로 요청했거나 원본 고정 경로면 요청 전체를 원본 DB 로 보냅니다. */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final DataSourceRoutingProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (DataSourceRoutingContext.Scope scope =
+                DataSourceRoutingContext.open(isPinned(request))) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private boolean isPinned(HttpServletRequest request) {
+        if (Boolean.parseBoolean(request.getHeader(properties.readYourWritesHeader()))) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return properties.primaryPaths().stream()
+                .anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+}
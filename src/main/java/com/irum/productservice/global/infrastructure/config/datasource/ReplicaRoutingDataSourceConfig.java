@@ -0,0 +1,81 @@
+package com.irum.productservice.global.infrastructure.config.datasource;
+
+import com.irum.productservice.global.infrastructure.properties.DataSourceRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 원본/복제본 DataSource 구성. spring.datasource.replica.url 이 있을 때만 켜지고, 없으면 Spring Boot 기본 DataSource
+ * 하나를 그대로 씁니다.
+ *
+ * <p>원본은 spring.datasource(.hikari), 복제본은 spring.datasource.replica(.hikari) 설정을 씁니다. 복제 지연이 있으므로
+ * 방금 쓴 값을 읽어야 하는 요청은 {@link ReadYourWritesFilter} 로 원본에 고정합니다.
+ *
+ * <p>커넥션을 트랜잭션마다 새로 라우팅해야 하므로 open-in-view 는 꺼야 합니다. {@link ReplicaRoutingEnvironmentPostProcessor}
+ * 가 끄고, 명시적으로 켜 두었으면 기동을 멈춥니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class ReplicaRoutingDataSourceConfig {
+
+    @Bean(defaultCandidate = false)
+    @Qualifier("primary")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return pool(properties, "primary");
+    }
+
+    @Bean(defaultCandidate = false)
+    @Qualifier("replica")
+    @ConfigurationProperties("spring.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean(defaultCandidate = false)
+    @Qualifier("replica")
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replica") DataSourceProperties properties) {
+        return pool(properties, "replica");
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primary") DataSource primaryDataSource,
+            @Qualifier("replica") DataSource replicaDataSource,
+            MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(
+                        primaryDataSource, replicaDataSource, meterRegistry));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            DataSourceRoutingProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String poolName) {
+        HikariDataSource dataSource =
+                properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        // 커넥션 풀 지표(hikaricp.*)의 pool 태그. *.hikari.pool-name 으로 바꿀 수 있음
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
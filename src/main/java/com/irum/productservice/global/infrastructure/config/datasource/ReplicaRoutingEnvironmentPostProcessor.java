@@ -0,0 +1,42 @@
+package com.irum.productservice.global.infrastructure.config.datasource;
+
+import java.util.Map;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * 복제본 라우팅을 켜면(spring.datasource.replica.url) open-in-view 를 끕니다.
+ *
+ * <p>open-in-view 가 켜져 있으면 요청 전체가 EntityManager 하나와 그 커넥션을 공유합니다. 요청 안에서 처음 연 읽기 전용 트랜잭션이 복제본 커넥션을
+ * 잡으면, 이후의 쓰기 트랜잭션도 그 커넥션을 그대로 써서 복제본으로 갑니다. 설정 서버 등에서 읽은 값까지 확인하도록 설정 파일 처리 뒤에 실행하며, 명시적으로 켜 두었으면
+ * 기동을 멈춥니다.
+ */
+public class ReplicaRoutingEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    static final String REPLICA_URL = "spring.datasource.replica.url";
+    static final String OPEN_IN_VIEW = "spring.jpa.open-in-view";
+
+    @Override
+    public void postProcessEnvironment(
+            ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.containsProperty(REPLICA_URL)) {
+            return;
+        }
+        if (Boolean.TRUE.equals(environment.getProperty(OPEN_IN_VIEW, Boolean.class))) {
+            throw new IllegalStateException(
+                    "복제본 라우팅(" + REPLICA_URL + ")은 " + OPEN_IN_VIEW + "=false 가 필요합니다.");
+        }
+        environment
+                .getPropertySources()
+                .addLast(new MapPropertySource("replicaRouting", Map.of(OPEN_IN_VIEW, false)));
+    }
+
+    @Override
+    public int getOrder() {
+        return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+    }
+}
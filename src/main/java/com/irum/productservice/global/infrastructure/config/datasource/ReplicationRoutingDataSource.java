@@ -0,0 +1,56 @@
+package com.irum.productservice.global.infrastructure.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 나머지는 원본 DB 로 보내는 DataSource.
+ *
+ * <p>트랜잭션의 readOnly 여부는 트랜잭션 시작 뒤에 정해지므로, 실제 커넥션을 첫 쿼리 시점에 얻도록 LazyConnectionDataSourceProxy 로 감싸서
+ * 씁니다. 라우팅 결과는 product.datasource.routing 카운터(target, reason)로 남깁니다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final MeterRegistry meterRegistry;
+
+    public ReplicationRoutingDataSource(
+            DataSource primary, DataSource replica, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return route(PRIMARY, "no_transaction");
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            DataSourceRoutingContext.markWritten();
+            return route(PRIMARY, "write");
+        }
+        if (DataSourceRoutingContext.isPinned()) {
+            return route(PRIMARY, "read_your_writes");
+        }
+        return route(REPLICA, "read_only");
+    }
+
+    private String route(String target, String reason) {
+        Counter.builder("product.datasource.routing")
+                .description("DB 커넥션 라우팅 횟수")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return target;
+    }
+}
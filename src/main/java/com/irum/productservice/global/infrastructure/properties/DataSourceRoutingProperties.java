@@ -0,0 +1,20 @@
+package com.irum.productservice.global.infrastructure.properties;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 트랜잭션의 복제본 라우팅 설정. spring.datasource.replica.url 이 있을 때만 라우팅합니다.
+ *
+ * @param readYourWritesHeader 값이 true 면 요청 전체를 원본 DB 로 보내는 요청 헤더 (직전에 쓴 값을 바로 읽어야 하는 클라이언트용)
+ * @param primaryPaths 항상 원본 DB 로 보낼 경로 패턴. 기본값은 주문 서비스가 재고/가격을 확인하는 내부 API
+ */
+@ConfigurationProperties(prefix = "product.datasource.routing")
+public record DataSourceRoutingProperties(String readYourWritesHeader, List<String> primaryPaths) {
+
+    public DataSourceRoutingProperties {
+        if (readYourWritesHeader == null || readYourWritesHeader.isBlank())
+            readYourWritesHeader = "Read-Your-Writes";
+        if (primaryPaths == null) primaryPaths = List.of("/internal/**");
+    }
+}
@@ -0,0 +1,18 @@
+package com.irum.productservice.global.infrastructure.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 상품 카탈로그 내보내기(NDJSON) 설정
+ *
+ * @param fetchSize 상품 id 커서에서 DB 왕복 1회에 가져올 행 수
+ * @param batchSize 옵션/할인/이미지를 한 번에 읽어 내보낼 상품 수. 이 단위로 영속성 컨텍스트를 비우고 응답을 내보냅니다.
+ */
+@ConfigurationProperties(prefix = "product.export")
+public record ExportProperties(Integer fetchSize, Integer batchSize) {
+
+    public ExportProperties {
+        if (fetchSize == null || fetchSize <= 0) fetchSize = 1000;
+        if (batchSize == null || batchSize <= 0) batchSize = 200;
+    }
+}
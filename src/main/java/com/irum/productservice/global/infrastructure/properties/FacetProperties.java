@@ -0,0 +1,21 @@
+package com.irum.productservice.global.infrastructure.properties;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 상품 목록 facet 집계 설정
+ *
+ * @param priceBands 가격대 경계(원, 오름차순). [10000, 30000] 이면 1만원 미만, 1만~3만원 미만, 3만원 이상의 세 구간
+ * @param rebuildBatchSize 집계 재구성 시 DB 조회 1회에서 읽을 상품 수
+ */
+@ConfigurationProperties(prefix = "product.facet")
+public record FacetProperties(List<Integer> priceBands, Integer rebuildBatchSize) {
+
+    public FacetProperties {
+        if (priceBands == null || priceBands.isEmpty())
+            priceBands = List.of(10000, 30000, 50000, 100000);
+        priceBands = priceBands.stream().distinct().sorted().toList();
+        if (rebuildBatchSize == null || rebuildBatchSize <= 0) rebuildBatchSize = 1000;
+    }
+}
@@ -0,0 +1,29 @@
+package com.irum.productservice.global.infrastructure.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * outbox 이벤트 발행 설정
+ *
+ * @param publisher 발행 방식 (in-memory), 기본값 in-memory
+ * @param batchSize 발행 트랜잭션 1회에서 처리할 최대 이벤트 수
+ * @param retentionHours 발행 완료된 이벤트 보관 시간
+ * @param inMemoryCapacity in-memory 발행기가 보관할 최대 이벤트 수
+ * @param commitLagMs 기록 후 이 시간이 지난 이벤트만 발행. 늦게 커밋된 이벤트가 먼저 나간 뒤 id 가 뒤바뀌지 않도록 커밋 지연보다 크게 둡니다.
+ */
+@ConfigurationProperties(prefix = "product.outbox")
+public record OutboxProperties(
+        String publisher,
+        Integer batchSize,
+        Integer retentionHours,
+        Integer inMemoryCapacity,
+        Long commitLagMs) {
+
+    public OutboxProperties {
+        if (publisher == null) publisher = "in-memory";
+        if (batchSize == null || batchSize <= 0) batchSize = 100;
+        if (retentionHours == null || retentionHours <= 0) retentionHours = 72;
+        if (inMemoryCapacity == null || inMemoryCapacity <= 0) inMemoryCapacity = 10000;
+        if (commitLagMs == null || commitLagMs < 0) commitLagMs = 2000L;
+    }
+}
@@ -0,0 +1,38 @@
+package com.irum.productservice.global.infrastructure.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 상품 조회 캐시 설정
+ *
+ * @param detail 상품 상세 캐시 설정
+ */
+@ConfigurationProperties(prefix = "product.cache")
+public record ProductCacheProperties(Detail detail) {
+
+    public ProductCacheProperties {
+        if (detail == null) detail = new Detail(null, null, null, null, null);
+    }
+
+    /**
+     * @param enabled 캐시 사용 여부, 기본값 true
+     * @param localMaximumSize 인스턴스별 로컬(Caffeine) 캐시 최대 상품 수
+     * @param localTtlSeconds 로컬 캐시 보관 시간. Redis 보관 시간보다 짧게 둡니다.
+     * @param redisEnabled 공유(Redis) 캐시와 인스턴스 간 무효화 알림 사용 여부, 기본값 false
+     * @param redisTtlSeconds 공유 캐시 보관 시간
+     */
+    public record Detail(
+            Boolean enabled,
+            Integer localMaximumSize,
+            Integer localTtlSeconds,
+            Boolean redisEnabled,
+            Integer redisTtlSeconds) {
+        public Detail {
+            if (enabled == null) enabled = true;
+            if (localMaximumSize == null || localMaximumSize <= 0) localMaximumSize = 10000;
+            if (localTtlSeconds == null || localTtlSeconds <= 0) localTtlSeconds = 60;
+            if (redisEnabled == null) redisEnabled = false;
+            if (redisTtlSeconds == null || redisTtlSeconds <= 0) redisTtlSeconds = 600;
+        }
+    }
+}
@@ -4,5 +4,16 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties({RedisProperties.class, FileProperties.class})
+@EnableConfigurationProperties({
+    RedisProperties.class,
+    FileProperties.class,
+    StockProperties.class,
+    OutboxProperties.class,
+    SearchProperties.class,
+    ProductCacheProperties.class,
+    FacetProperties.class,
+    ExportProperties.class,
+    DataSourceRoutingProperties.class,
+    RankingProperties.class
+})
 public class PropertiesConfig {}
@@ -0,0 +1,20 @@
+package com.irum.productservice.global.infrastructure.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 인기 상품 랭킹(Redis sorted set) 설정
+ *
+ * @param enabled 주문 재고 차감으로 랭킹 점수를 쌓을지 여부, 기본값 false. 꺼져 있으면 인기순 정렬은 최신순으로 동작합니다.
+ * @param halfLifeHours 판매 점수가 절반이 되는 시간. 이 시간 전의 판매 1개는 지금 판매 1개의 절반으로 계산합니다.
+ * @param maxSize 랭킹(전체/카테고리/상점)마다 남겨 둘 상위 상품 수
+ */
+@ConfigurationProperties(prefix = "product.ranking")
+public record RankingProperties(Boolean enabled, Long halfLifeHours, Integer maxSize) {
+
+    public RankingProperties {
+        if (enabled == null) enabled = false;
+        if (halfLifeHours == null || halfLifeHours <= 0) halfLifeHours = 72L;
+        if (maxSize == null || maxSize <= 0) maxSize = 1000;
+    }
+}
@@ -0,0 +1,25 @@
+package com.irum.productservice.global.infrastructure.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 상품 검색 색인 설정
+ *
+ * @param engine 키워드 검색 방식 (lucene | database), 기본값 lucene. database 는 PostgreSQL trigram 인덱스를 타는
+ *     LIKE 검색
+ * @param maxHits 검색 1회에서 순위를 매겨 돌려줄 최대 상품 수. 관련도 순 목록에만 적용되고, 다른 정렬의 키워드 목록은 DB 에서 걸러 잘리지 않습니다.
+ * @param rebuildBatchSize 색인 재구성 시 DB 조회 1회에서 읽을 상품 수
+ */
+@ConfigurationProperties(prefix = "product.search")
+public record SearchProperties(String engine, Integer maxHits, Integer rebuildBatchSize) {
+
+    public SearchProperties {
+        if (engine == null) engine = "lucene";
+        if (maxHits == null || maxHits <= 0) maxHits = 1000;
+        if (rebuildBatchSize == null || rebuildBatchSize <= 0) rebuildBatchSize = 500;
+    }
+
+    public boolean usesSearchIndex() {
+        return "lucene".equals(engine);
+    }
+}
@@ -0,0 +1,99 @@
+package com.irum.productservice.global.infrastructure.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 재고 엔진 설정
+ *
+ * @param engine 재고 차감 방식 (jpa | conditional-update | redis | ledger), 기본값 jpa
+ * @param redis redis 엔진 write-behind 설정
+ * @param batch 재고 차감 요청 묶음 처리(group commit) 설정
+ * @param reservation 재고 홀드(reserve/confirm/release) 설정
+ * @param idempotency 내부 재고 API 멱등키 설정
+ * @param metrics 재고 경합 지표 설정
+ * @param ledger 재고 원장 엔진 설정
+ */
+@ConfigurationProperties(prefix = "product.stock")
+public record StockProperties(
+        String engine,
+        Redis redis,
+        Batch batch,
+        Reservation reservation,
+        Idempotency idempotency,
+        Metrics metrics,
+        Ledger ledger) {
+
+    public StockProperties {
+        if (engine == null) engine = "jpa";
+        if (redis == null) redis = new Redis(null);
+        if (batch == null) batch = new Batch(null, null, null);
+        if (reservation == null) reservation = new Reservation(null, null);
+        if (idempotency == null) idempotency = new Idempotency(null, null);
+        if (metrics == null) metrics = new Metrics(null, null);
+        if (ledger == null) ledger = new Ledger(null);
+    }
+
+    /**
+     * @param flushBatchSize write-behind 1회 트랜잭션에서 반영할 옵션 수
+     */
+    public record Redis(Integer flushBatchSize) {
+        public Redis {
+            if (flushBatchSize == null || flushBatchSize <= 0) flushBatchSize = 500;
+        }
+    }
+
+    /**
+     * @param enabled 묶음 처리 사용 여부, 기본값 false
+     * @param windowMs 첫 요청 이후 같은 묶음으로 모으는 최대 대기 시간(ms)
+     * @param maxSize 한 트랜잭션에서 처리할 최대 요청 수
+     */
+    public record Batch(Boolean enabled, Long windowMs, Integer maxSize) {
+        public Batch {
+            if (enabled == null) enabled = false;
+            if (windowMs == null || windowMs < 0) windowMs = 5L;
+            if (maxSize == null || maxSize <= 0) maxSize = 200;
+        }
+    }
+
+    /**
+     * @param ttlSeconds 홀드 유지 시간(초). 이 시간 안에 확정되지 않으면 스케줄러가 재고를 반환합니다.
+     * @param sweepBatchSize 스케줄러 1회 실행에서 처리할 최대 만료 홀드 수
+     */
+    public record Reservation(Long ttlSeconds, Integer sweepBatchSize) {
+        public Reservation {
+            if (ttlSeconds == null || ttlSeconds <= 0) ttlSeconds = 600L;
+            if (sweepBatchSize == null || sweepBatchSize <= 0) sweepBatchSize = 100;
+        }
+    }
+
+    /**
+     * @param ttlSeconds 처리 결과 보관 시간(초). 이 시간 안에 같은 키로 재요청하면 저장된 응답을 돌려줍니다.
+     * @param lockSeconds 처리 중 표시 유지 시간(초). 처리 도중 프로세스가 죽어도 이 시간이 지나면 재시도가 가능합니다.
+     */
+    public record Idempotency(Long ttlSeconds, Long lockSeconds) {
+        public Idempotency {
+            if (ttlSeconds == null || ttlSeconds <= 0) ttlSeconds = 86400L;
+            if (lockSeconds == null || lockSeconds <= 0) lockSeconds = 30L;
+        }
+    }
+
+    /**
+     * @param maxTracked 인기 옵션 집계에서 동시에 추적할 최대 옵션 수
+     * @param topK 인기 옵션 조회 시 기본 반환 개수
+     */
+    public record Metrics(Integer maxTracked, Integer topK) {
+        public Metrics {
+            if (maxTracked == null || maxTracked <= 0) maxTracked = 1000;
+            if (topK == null || topK <= 0) topK = 10;
+        }
+    }
+
+    /**
+     * @param compactBatchSize 컴팩터 1회 실행에서 반영할 최대 옵션 수
+     */
+    public record Ledger(Integer compactBatchSize) {
+        public Ledger {
+            if (compactBatchSize == null || compactBatchSize <= 0) compactBatchSize = 500;
+        }
+    }
+}
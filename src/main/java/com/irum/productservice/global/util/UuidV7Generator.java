@@ -0,0 +1,68 @@
+package com.irum.productservice.global.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+/**
+ * 시간 순 UUID(version 7, RFC 9562) 생성기. 엔티티 id 에 @UuidGenerator(algorithm = UuidV7Generator.class) 로
+ * 지정합니다.
+ *
+ * <p>앞 48비트가 밀리초 시각이라 바이트 순서(PostgreSQL uuid 비교 순서)가 생성 순서와 같고, 새 행이 기본 키 B-tree 의 오른쪽 끝에만 쌓입니다. 같은
+ * 밀리초 안에서는 rand_a 12비트를 카운터로 써(RFC 9562 6.2 Method 1) JVM 안에서 항상 증가하는 값을 돌려주고, 카운터가 넘치거나 시계가 뒤로 가면
+ * 직전 시각의 다음 밀리초로 넘겨 씁니다.
+ *
+ * <p>기존 Hibernate TIME(version 1) id 는 앞 4바이트가 서버 IP 라 시간 순이 아니지만, 주문 서비스/장바구니/Redis 재고 키가 그 값을 들고
+ * 있어 다시 발급하지 않고 그대로 둡니다.
+ */
+public class UuidV7Generator implements UuidValueGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+    // 상위 48비트 : 마지막 발급 시각(ms), 하위 12비트 : 그 시각의 카운터
+    private static long lastTimeAndCounter;
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return generate();
+    }
+
+    public static UUID generate() {
+        long timeAndCounter = next(System.currentTimeMillis());
+        long timestamp = timeAndCounter >>> COUNTER_BITS;
+        long counter = timeAndCounter & MAX_COUNTER;
+
+        long mostSigBits = (timestamp << 16) | (0x7L << 12) | counter;
+        long leastSigBits =
+                (ThreadLocalRandom.current().nextLong() & 0x3FFF_FFFF_FFFF_FFFFL)
+                        | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /** 생성 시각(ms). version 7 이 아니면 예외. */
+    public static long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("version 7 UUID 가 아닙니다: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static synchronized long next(long now) {
+        long last = lastTimeAndCounter;
+        long lastTimestamp = last >>> COUNTER_BITS;
+        long next;
+        if (now > lastTimestamp) {
+            // 새 밀리초는 카운터 절반 이하의 난수에서 시작해, 같은 밀리초 안에서 증가할 여유를 남김
+            next =
+                    (now << COUNTER_BITS)
+                            | ThreadLocalRandom.current().nextInt((MAX_COUNTER + 1) / 2);
+        } else {
+            // 같은 밀리초이거나 시계가 뒤로 간 경우. 카운터가 넘치면 다음 밀리초로 넘어감
+            next = last + 1;
+        }
+        lastTimeAndCounter = next;
+        return next;
+    }
+}
@@ -13,6 +13,8 @@ import static org.springframework.restdocs.request.RequestDocumentation.pathPara
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -21,6 +23,7 @@ import com.irum.productservice.domain.category.dto.request.CategoryCreateRequest
 import com.irum.productservice.domain.category.dto.request.CategoryUpdateRequest;
 import com.irum.productservice.domain.category.dto.response.CategoryInfoResponse;
 import com.irum.productservice.domain.category.dto.response.CategoryResponse;
+import com.irum.productservice.domain.category.dto.response.CategoryTreeResponse;
 import com.irum.productservice.domain.category.service.CategoryService;
 import com.irum.productservice.global.config.TestConfig;
 import java.util.List;
@@ -31,6 +34,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -143,6 +147,40 @@ class CategoryControllerTest {
                                                 .description("하위 카테고리 리스트"))));
     }
 
+    @Test
+    @DisplayName("카테고리 경로 조회 API")
+    void getBreadcrumb() throws Exception {
+        // Given
+        UUID categoryId = UUID.randomUUID();
+        List<CategoryInfoResponse> mockResponses =
+                List.of(
+                        new CategoryInfoResponse(UUID.randomUUID(), "식품", 1),
+                        new CategoryInfoResponse(UUID.randomUUID(), "음료", 2),
+                        new CategoryInfoResponse(categoryId, "탄산음료", 3));
+
+        when(categoryService.getBreadcrumb(categoryId)).thenReturn(mockResponses);
+
+        // When & Then
+        mockMvc.perform(get("/categories/{id}/breadcrumb", categoryId).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.status").value(HttpStatus.OK.value()))
+                .andExpect(jsonPath("$.data[0].name").value("식품"))
+                .andExpect(jsonPath("$.data[2].categoryId").value(categoryId.toString()))
+                .andDo(
+                        document(
+                                "categories/get-breadcrumb",
+                                pathParameters(parameterWithName("id").description("카테고리 ID")),
+                                responseFields(
+                                        fieldWithPath("success").description("요청 성공 여부"),
+                                        fieldWithPath("status").description("HTTP 상태 코드 ex) 200"),
+                                        fieldWithPath("timestamp").description("응답 시간"),
+                                        fieldWithPath("data[].categoryId").description("카테고리 ID"),
+                                        fieldWithPath("data[].name").description("카테고리명"),
+                                        fieldWithPath("data[].depth")
+                                                .description("카테고리 깊이 (최상위부터 순서대로)"))));
+    }
+
     @Test
     @DisplayName("카테고리 트리 조회 API")
     void getCategoryTree() throws Exception {
@@ -168,11 +206,14 @@ class CategoryControllerTest {
                                                 UUID.randomUUID(),
                                                 List.of()))));
 
-        when(categoryService.findCategoryTree()).thenReturn(mockTree);
+        when(categoryService.findCategoryTree())
+                .thenReturn(new CategoryTreeResponse("3f2a9c1d", mockTree));
 
         // When & Then
         mockMvc.perform(get("/categories/tree").with(csrf()))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3f2a9c1d\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.status").value(HttpStatus.OK.value()))
                 .andDo(
@@ -206,6 +247,22 @@ class CategoryControllerTest {
                                                 .optional())));
     }
 
+    @Test
+    @DisplayName("카테고리 트리 조회 API - ETag 가 같으면 본문 없이 304")
+    void getCategoryTree_NotModified() throws Exception {
+        // Given
+        when(categoryService.findCategoryTree())
+                .thenReturn(new CategoryTreeResponse("3f2a9c1d", List.of()));
+
+        // When & Then
+        mockMvc.perform(
+                        get("/categories/tree")
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"3f2a9c1d\"")
+                                .with(csrf()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     @DisplayName("카테고리 생성 API")
     void createCategory() throws Exception {
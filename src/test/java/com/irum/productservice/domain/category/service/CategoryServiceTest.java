@@ -10,10 +10,13 @@ import com.irum.productservice.domain.category.domain.entity.Category;
 import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
 import com.irum.productservice.domain.category.dto.request.CategoryCreateRequest;
 import com.irum.productservice.domain.category.dto.request.CategoryUpdateRequest;
+import com.irum.productservice.domain.category.dto.response.CategoryInfoResponse;
 import com.irum.productservice.domain.category.dto.response.CategoryResponse;
+import com.irum.productservice.domain.category.event.CategoryChangedEvent;
 import com.irum.productservice.global.exception.errorcode.CategoryErrorCode;
 import com.irum.productservice.global.util.MemberUtil;
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +27,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class CategoryServiceTest {
@@ -31,6 +35,8 @@ class CategoryServiceTest {
     @InjectMocks private CategoryService categoryService;
     @Mock private CategoryRepository categoryRepository;
     @Mock private MemberUtil memberUtil;
+    @Mock private CategoryTreeIndex categoryTreeIndex;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private UUID categoryId;
     private Category category;
@@ -127,6 +133,7 @@ class CategoryServiceTest {
         assertThat(category.getName()).isEqualTo("디저트");
         assertThat(response.name()).isEqualTo("디저트");
         verify(categoryRepository, times(1)).findById(categoryId);
+        verify(eventPublisher, times(1)).publishEvent(any(CategoryChangedEvent.class));
     }
 
     @DisplayName("카테고리 수정 실패 테스트 - 존재하지 않음")
@@ -175,4 +182,35 @@ class CategoryServiceTest {
         verify(categoryRepository, times(1)).findById(categoryId);
         verify(memberUtil, never()).getCurrentMember();
     }
+
+    @DisplayName("카테고리 경로 조회 성공 테스트")
+    @Test
+    void getBreadcrumb_SuccessTest() {
+        // given
+        UUID childId = UUID.randomUUID();
+        when(categoryTreeIndex.breadcrumb(childId))
+                .thenReturn(
+                        List.of(
+                                new CategoryTreeIndex.Node(categoryId, "음식", 1, null),
+                                new CategoryTreeIndex.Node(childId, "과자", 2, categoryId)));
+
+        // when
+        List<CategoryInfoResponse> response = categoryService.getBreadcrumb(childId);
+
+        // then
+        assertThat(response).extracting(CategoryInfoResponse::name).containsExactly("음식", "과자");
+        verifyNoInteractions(categoryRepository);
+    }
+
+    @DisplayName("카테고리 경로 조회 실패 테스트 - 존재하지 않음")
+    @Test
+    void getBreadcrumb_FailTest_WhenNotFound() {
+        // given
+        when(categoryTreeIndex.breadcrumb(categoryId)).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.getBreadcrumb(categoryId))
+                .isInstanceOf(CommonException.class)
+                .hasMessageContaining(CategoryErrorCode.CATEGORY_NOT_FOUND.getMessage());
+    }
 }
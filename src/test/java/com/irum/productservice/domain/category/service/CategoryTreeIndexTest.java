@@ -0,0 +1,170 @@
+package com.irum.productservice.domain.category.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.category.dto.response.CategoryResponse;
+import com.irum.productservice.domain.category.dto.response.CategoryTreeResponse;
+import com.irum.productservice.domain.category.event.CategoryChangedEvent;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeIndexTest {
+
+    @InjectMocks private CategoryTreeIndex categoryTreeIndex;
+    @Mock private CategoryRepository categoryRepository;
+
+    private Category food;
+    private Category drink;
+    private Category soda;
+    private Category snack;
+
+    @BeforeEach
+    void setUp() {
+        food = category(Category.createRootCategory("식품"));
+        drink = category(Category.createSubCategory("음료", food));
+        soda = category(Category.createSubCategory("탄산음료", drink));
+        snack = category(Category.createSubCategory("과자", food));
+    }
+
+    @DisplayName("하위 카테고리 조회 - 자신을 포함해 전위 순회 순서로 반환하고, 처음 한 번만 DB 조회")
+    @Test
+    void descendantIds_loadsOnce() {
+        when(categoryRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(food, drink, soda, snack));
+
+        assertThat(categoryTreeIndex.descendantIds(food.getCategoryId()))
+                .containsExactly(
+                        food.getCategoryId(),
+                        drink.getCategoryId(),
+                        soda.getCategoryId(),
+                        snack.getCategoryId());
+        assertThat(categoryTreeIndex.descendantIds(drink.getCategoryId()))
+                .containsExactly(drink.getCategoryId(), soda.getCategoryId());
+        assertThat(categoryTreeIndex.descendantIds(soda.getCategoryId()))
+                .containsExactly(soda.getCategoryId());
+
+        verify(categoryRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @DisplayName("하위 카테고리 조회 - 트리에 없는 카테고리는 자신만 반환")
+    @Test
+    void descendantIds_unknownCategory() {
+        when(categoryRepository.findAll(any(Sort.class))).thenReturn(List.of(food));
+        UUID unknownId = UUID.randomUUID();
+
+        assertThat(categoryTreeIndex.descendantIds(unknownId)).containsExactly(unknownId);
+    }
+
+    @DisplayName("경로 조회 - 최상위부터 해당 카테고리까지 반환")
+    @Test
+    void breadcrumb() {
+        when(categoryRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(food, drink, soda, snack));
+
+        assertThat(categoryTreeIndex.breadcrumb(soda.getCategoryId()))
+                .extracting(CategoryTreeIndex.Node::name)
+                .containsExactly("식품", "음료", "탄산음료");
+        assertThat(categoryTreeIndex.breadcrumb(UUID.randomUUID())).isEmpty();
+    }
+
+    @DisplayName("변경 이벤트 - 트리를 다시 읽어 새 카테고리 반영")
+    @Test
+    void handleCategoryChanged_refreshes() {
+        when(categoryRepository.findAll(any(Sort.class))).thenReturn(List.of(food, drink, soda));
+        assertThat(categoryTreeIndex.descendantIds(food.getCategoryId())).hasSize(3);
+
+        when(categoryRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(food, drink, soda, snack));
+        categoryTreeIndex.handleCategoryChanged(new CategoryChangedEvent(snack.getCategoryId()));
+
+        assertThat(categoryTreeIndex.descendantIds(food.getCategoryId()))
+                .contains(snack.getCategoryId());
+        verify(categoryRepository, times(2)).findAll(any(Sort.class));
+    }
+
+    @DisplayName("동시 갱신 - 먼저 시작한 갱신의 오래된 트리가 나중 갱신의 트리를 덮어쓰지 않음")
+    @Test
+    void refresh_olderSnapshotNeverWins() throws InterruptedException {
+        CountDownLatch firstReading = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+        when(categoryRepository.findAll(any(Sort.class)))
+                .thenAnswer(
+                        invocation -> {
+                            if (reads.incrementAndGet() == 1) {
+                                firstReading.countDown();
+                                releaseFirst.await(5, TimeUnit.SECONDS);
+                                return List.of(food);
+                            }
+                            return List.of(food, drink);
+                        });
+
+        // 주기 갱신이 변경 전 트리를 읽는 중에 변경 커밋 후 갱신이 들어옴
+        Thread scheduled = new Thread(categoryTreeIndex::refresh);
+        scheduled.start();
+        assertThat(firstReading.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread afterCommit =
+                new Thread(
+                        () ->
+                                categoryTreeIndex.handleCategoryChanged(
+                                        new CategoryChangedEvent(drink.getCategoryId())));
+        afterCommit.start();
+        afterCommit.join(200);
+        releaseFirst.countDown();
+        scheduled.join();
+        afterCommit.join();
+
+        assertThat(categoryTreeIndex.children(food.getCategoryId()))
+                .extracting(CategoryTreeIndex.Node::categoryId)
+                .containsExactly(drink.getCategoryId());
+    }
+
+    @DisplayName("트리 응답 - 한 번 읽은 결과로 전체 트리를 만들고, 내용이 같으면 버전도 같음")
+    @Test
+    void categoryTree_versionedByContent() {
+        when(categoryRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(food, drink, soda, snack));
+
+        CategoryTreeResponse tree = categoryTreeIndex.categoryTree();
+
+        assertThat(tree.categories()).hasSize(1);
+        CategoryResponse root = tree.categories().get(0);
+        assertThat(root.children()).extracting(CategoryResponse::name).containsExactly("음료", "과자");
+        assertThat(root.children().get(0).children())
+                .extracting(CategoryResponse::name)
+                .containsExactly("탄산음료");
+
+        // 같은 내용으로 다시 읽으면 같은 버전
+        categoryTreeIndex.refresh();
+        assertThat(categoryTreeIndex.categoryTree().version()).isEqualTo(tree.version());
+
+        // 이름이 바뀌면 버전도 바뀜
+        snack.updateName("스낵");
+        categoryTreeIndex.refresh();
+        assertThat(categoryTreeIndex.categoryTree().version()).isNotEqualTo(tree.version());
+    }
+
+    private Category category(Category category) {
+        ReflectionTestUtils.setField(category, "categoryId", UUID.randomUUID());
+        return category;
+    }
+}
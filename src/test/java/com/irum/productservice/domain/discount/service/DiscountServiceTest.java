@@ -32,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class DiscountServiceTest {
@@ -44,6 +45,7 @@ class DiscountServiceTest {
     @Mock private CategoryRepository categoryRepository;
     @Mock private MemberUtil memberUtil;
     @Mock private MemberClient memberClient;
+    @Mock private ApplicationEventPublisher eventPublisher;
     private MemberDto member;
     private Product product;
     private Store store;
@@ -0,0 +1,59 @@
+package com.irum.productservice.domain.outbox.relay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.irum.productservice.domain.outbox.domain.repository.OutboxEventRepository;
+import com.irum.productservice.global.infrastructure.properties.OutboxProperties;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock private OutboxEventRepository outboxEventRepository;
+    @Mock private OutboxPublisher outboxPublisher;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("발행 - commit-lag-ms 안에 기록된 이벤트는 아직 커밋되지 않은 앞 id 가 있을 수 있어 조회하지 않음")
+    void relay_skipsEventsWithinCommitLag() {
+        OutboxRelay relay =
+                new OutboxRelay(
+                        outboxEventRepository,
+                        outboxPublisher,
+                        new OutboxProperties(null, 10, null, null, 5000L),
+                        transactionTemplate);
+        given(transactionTemplate.execute(any()))
+                .willAnswer(
+                        invocation ->
+                                invocation
+                                        .<TransactionCallback<?>>getArgument(0)
+                                        .doInTransaction(null));
+        given(outboxEventRepository.findUnpublishedForUpdate(any(), any(Pageable.class)))
+                .willReturn(List.of());
+
+        LocalDateTime before = LocalDateTime.now();
+        relay.relay();
+
+        ArgumentCaptor<LocalDateTime> visibleBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository)
+                .findUnpublishedForUpdate(visibleBefore.capture(), any(Pageable.class));
+        assertThat(visibleBefore.getValue())
+                .isBeforeOrEqualTo(LocalDateTime.now().minusSeconds(5))
+                .isAfterOrEqualTo(before.minusSeconds(5));
+        verify(outboxPublisher, never()).publish(any());
+    }
+}
@@ -0,0 +1,210 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.openfeign.product.dto.request.RollbackStockRequest;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
+import com.irum.productservice.domain.deliverypolicy.domain.repository.DeliveryPolicyRepository;
+import com.irum.productservice.domain.product.Internal.service.ProductInternalService;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = "product.stock.engine=conditional-update")
+public class ConditionalStockUpdateIntegrationTest {
+
+    @Autowired private ProductInternalService productInternalService;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private DeliveryPolicyRepository deliveryPolicyRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionGroupRepository productOptionGroupRepository;
+    @Autowired private ProductOptionValueRepository productOptionValueRepository;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private UUID storeId;
+    private UUID optionValueId;
+    private UUID otherOptionValueId;
+
+    private final int INITIAL_STOCK = 20; // 초기 재고
+    private final int OTHER_INITIAL_STOCK = 5; // 두 번째 옵션 초기 재고
+    private final int USER_COUNT = 100; // 주문 요청 사용자 수
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        Store store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        storeId = store.getId();
+        deliveryPolicyRepository.save(DeliveryPolicy.createPolicy(3000, 30000, 5, store));
+
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category category1 =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        Category category2 =
+                categoryRepository.save(Category.createSubCategory("자식 카테고리", category1));
+
+        Product product =
+                productRepository.save(
+                        Product.createProduct(store, category2, "테스트 상품", "설명", "상세", 10000, true));
+        ProductOptionGroup optionGroup =
+                productOptionGroupRepository.save(
+                        ProductOptionGroup.createOptionGroup(product, "사이즈"));
+
+        optionValueId =
+                productOptionValueRepository
+                        .save(
+                                ProductOptionValue.createOptionValue(
+                                        optionGroup, "L", INITIAL_STOCK, 0))
+                        .getId();
+        otherOptionValueId =
+                productOptionValueRepository
+                        .save(
+                                ProductOptionValue.createOptionValue(
+                                        optionGroup, "XL", OTHER_INITIAL_STOCK, 0))
+                        .getId();
+    }
+
+    @Test
+    @DisplayName("주문 - 동시에 주문 - 조건부 UPDATE 는 재시도 없이 초과 판매하지 않음")
+    void updateStock_ConcurrencyTest() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(USER_COUNT);
+        CountDownLatch latch = new CountDownLatch(USER_COUNT);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger outOfStockCount = new AtomicInteger();
+        AtomicInteger otherFailureCount = new AtomicInteger();
+
+        ProductInternalRequest request =
+                new ProductInternalRequest(
+                        List.of(new ProductInternalRequest.OptionValueRequest(optionValueId, 1)),
+                        storeId);
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            executorService.submit(
+                    () -> {
+                        try {
+                            productInternalService.updateStock(request);
+                            successCount.incrementAndGet();
+                        } catch (CommonException e) {
+                            if (e.getErrorCode() == ProductErrorCode.PRODUCT_OUT_OF_STOCK) {
+                                outOfStockCount.incrementAndGet();
+                            } else {
+                                otherFailureCount.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            otherFailureCount.incrementAndGet();
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+        }
+
+        latch.await(15, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(outOfStockCount.get()).isEqualTo(USER_COUNT - INITIAL_STOCK);
+        assertThat(otherFailureCount.get()).isZero();
+        assertThat(stockOf(optionValueId)).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 - 여러 옵션 중 하나라도 부족하면 전체 차감이 롤백됨")
+    void updateStock_PartialOutOfStock() {
+        ProductInternalRequest request =
+                new ProductInternalRequest(
+                        List.of(
+                                new ProductInternalRequest.OptionValueRequest(optionValueId, 3),
+                                new ProductInternalRequest.OptionValueRequest(
+                                        otherOptionValueId, OTHER_INITIAL_STOCK + 1)),
+                        storeId);
+
+        assertThatThrownBy(() -> productInternalService.updateStock(request))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+
+        assertThat(stockOf(optionValueId)).isEqualTo(INITIAL_STOCK);
+        assertThat(stockOf(otherOptionValueId)).isEqualTo(OTHER_INITIAL_STOCK);
+    }
+
+    @Test
+    @DisplayName("롤백 동시성 테스트 - 모든 복구가 재시도 없이 반영됨")
+    void rollback_ConcurrencyTest() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(USER_COUNT);
+        CountDownLatch latch = new CountDownLatch(USER_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+
+        RollbackStockRequest request =
+                new RollbackStockRequest(
+                        List.of(new RollbackStockRequest.OptionValueRequest(optionValueId, 1)));
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            executorService.submit(
+                    () -> {
+                        try {
+                            productInternalService.rollbackStock(request);
+                            successCount.incrementAndGet();
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+        }
+
+        latch.await(15, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(USER_COUNT);
+        assertThat(stockOf(optionValueId)).isEqualTo(INITIAL_STOCK + USER_COUNT);
+    }
+
+    private int stockOf(UUID id) {
+        return productOptionValueRepository
+                .findById(id)
+                .orElseThrow(() -> new AssertionError("Test setup failed: Option not found"))
+                .getStockQuantity();
+    }
+}
@@ -0,0 +1,341 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.openfeign.product.dto.request.RollbackStockRequest;
+import com.irum.openfeign.product.dto.response.ProductDto;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
+import com.irum.productservice.domain.deliverypolicy.domain.repository.DeliveryPolicyRepository;
+import com.irum.productservice.domain.product.Internal.service.ProductInternalService;
+import com.irum.productservice.domain.product.Internal.service.ProductStockService;
+import com.irum.productservice.domain.product.Internal.service.stock.BatchStockResult;
+import com.irum.productservice.domain.product.Internal.service.stock.InventoryLedgerCompactor;
+import com.irum.productservice.domain.product.Internal.service.stock.StockEngine;
+import com.irum.productservice.domain.product.domain.entity.InventoryLedgerEntry;
+import com.irum.productservice.domain.product.domain.entity.InventoryLedgerReason;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.InventoryLedgerEntryRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(
+        properties = {
+            "product.stock.engine=ledger",
+            "product.stock.ledger.compact-interval-ms=3600000"
+        })
+public class LedgerStockIntegrationTest {
+
+    @Autowired private ProductInternalService productInternalService;
+    @Autowired private ProductStockService productStockService;
+    @Autowired private InventoryLedgerCompactor inventoryLedgerCompactor;
+    @MockitoSpyBean private InventoryLedgerEntryRepository inventoryLedgerEntryRepository;
+    @Autowired private StockEngine stockEngine;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private DeliveryPolicyRepository deliveryPolicyRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionGroupRepository productOptionGroupRepository;
+    @Autowired private ProductOptionValueRepository productOptionValueRepository;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private UUID storeId;
+    private UUID productId;
+    private UUID optionValueId;
+
+    private final int INITIAL_STOCK = 20; // 초기 재고
+    private final int USER_COUNT = 50; // 주문 요청 사용자 수
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        Store store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        storeId = store.getId();
+        deliveryPolicyRepository.save(DeliveryPolicy.createPolicy(3000, 30000, 5, store));
+
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category category1 =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        Category category2 =
+                categoryRepository.save(Category.createSubCategory("자식 카테고리", category1));
+
+        Product product =
+                productRepository.save(
+                        Product.createProduct(store, category2, "테스트 상품", "설명", "상세", 10000, true));
+        productId = product.getId();
+        ProductOptionGroup optionGroup =
+                productOptionGroupRepository.save(
+                        ProductOptionGroup.createOptionGroup(product, "사이즈"));
+        optionValueId =
+                productOptionValueRepository
+                        .save(
+                                ProductOptionValue.createOptionValue(
+                                        optionGroup, "L", INITIAL_STOCK, 0))
+                        .getId();
+    }
+
+    @Test
+    @DisplayName("주문/롤백 - 옵션 행은 그대로 두고 변경분만 기록, 컴팩터가 재고에 반영")
+    void orderAndRollback_compactedIntoSnapshot() {
+        Long version = versionOf(optionValueId);
+
+        productInternalService.updateStock(order(5));
+        productInternalService.updateStock(order(3));
+        productInternalService.rollbackStock(
+                new RollbackStockRequest(
+                        List.of(new RollbackStockRequest.OptionValueRequest(optionValueId, 3))));
+
+        assertThat(stockOf(optionValueId)).isEqualTo(INITIAL_STOCK);
+        assertThat(versionOf(optionValueId)).isEqualTo(version);
+        assertThat(inventoryLedgerEntryRepository.findAllByOptionValueIdOrderByIdAsc(optionValueId))
+                .extracting(InventoryLedgerEntry::getDelta, InventoryLedgerEntry::getReason)
+                .containsExactly(
+                        tuple(-5, InventoryLedgerReason.ORDER),
+                        tuple(-3, InventoryLedgerReason.ORDER),
+                        tuple(3, InventoryLedgerReason.ROLLBACK));
+
+        inventoryLedgerCompactor.compact();
+
+        assertThat(stockOf(optionValueId)).isEqualTo(INITIAL_STOCK - 5);
+        assertThat(inventoryLedgerEntryRepository.sumPendingDelta(optionValueId)).isZero();
+        // 원장 기록은 지우지 않고 반영 시각만 채움
+        assertThat(inventoryLedgerEntryRepository.findAllByOptionValueIdOrderByIdAsc(optionValueId))
+                .hasSize(3)
+                .allMatch(entry -> entry.getCompactedAt() != null);
+    }
+
+    @Test
+    @DisplayName("재고 부족 - 반영 대기 변경분까지 합친 가용 재고로 판단")
+    void outOfStock_countsPendingDeltas() {
+        productInternalService.updateStock(order(INITIAL_STOCK - 2));
+
+        assertThatThrownBy(() -> productInternalService.updateStock(order(3)))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+        assertThat(inventoryLedgerEntryRepository.sumPendingDelta(optionValueId))
+                .isEqualTo(-(INITIAL_STOCK - 2));
+    }
+
+    @Test
+    @DisplayName("재고 조회 - 상품 조회와 묶음 차감도 반영 대기 변경분을 더한 가용 재고를 사용")
+    void reads_countPendingDeltas() {
+        productInternalService.updateStock(order(INITIAL_STOCK - 2));
+
+        assertThat(productInternalService.getProduct(productId).options())
+                .extracting(ProductDto.ProductOptionDto::stockQuantity)
+                .containsExactly(2);
+
+        List<BatchStockResult> results =
+                productStockService.updateStockInBatch(List.of(order(3), order(2)));
+        assertThat(results.get(0).error().getErrorCode())
+                .isEqualTo(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+        assertThat(results.get(1).error()).isNull();
+        assertThat(inventoryLedgerEntryRepository.sumPendingDelta(optionValueId))
+                .isEqualTo(-INITIAL_STOCK);
+    }
+
+    @Test
+    @DisplayName("판매자 재고 수정 - 덮어쓰지 않고 가용 재고와의 차이를 기록")
+    void sellerAdjustment_recordedAsDelta() {
+        productInternalService.updateStock(order(5));
+
+        // 판매자가 가용 재고를 30 으로 맞춤 -> 15 + 15
+        int applied =
+                transactionTemplate.execute(
+                        status ->
+                                stockEngine.adjust(
+                                        productOptionValueRepository
+                                                .findById(optionValueId)
+                                                .orElseThrow(),
+                                        30));
+
+        assertThat(applied).isEqualTo(INITIAL_STOCK);
+        assertThat(inventoryLedgerEntryRepository.findAllByOptionValueIdOrderByIdAsc(optionValueId))
+                .last()
+                .extracting(InventoryLedgerEntry::getDelta, InventoryLedgerEntry::getReason)
+                .containsExactly(15, InventoryLedgerReason.ADJUSTMENT);
+
+        inventoryLedgerCompactor.compact();
+        assertThat(stockOf(optionValueId)).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("동시 주문 - 낙관적 락 충돌 없이 재고만큼만 성공하고, 컴팩트 중에도 정합성 유지")
+    void concurrentOrders_noConflict() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(
+                status -> productRepository.refreshInStock(List.of(productId)));
+        assertThat(productRepository.findById(productId).orElseThrow().isInStock()).isTrue();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(USER_COUNT);
+        CountDownLatch latch = new CountDownLatch(USER_COUNT);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger outOfStockCount = new AtomicInteger();
+        AtomicInteger otherFailureCount = new AtomicInteger();
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            int index = i;
+            executorService.submit(
+                    () -> {
+                        try {
+                            if (index % 10 == 0) {
+                                inventoryLedgerCompactor.compact();
+                            }
+                            productInternalService.updateStock(order(1));
+                            successCount.incrementAndGet();
+                        } catch (CommonException e) {
+                            if (e.getErrorCode() == ProductErrorCode.PRODUCT_OUT_OF_STOCK) {
+                                outOfStockCount.incrementAndGet();
+                            } else {
+                                otherFailureCount.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            otherFailureCount.incrementAndGet();
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+        }
+
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+        inventoryLedgerCompactor.compact();
+
+        assertThat(successCount.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(outOfStockCount.get()).isEqualTo(USER_COUNT - INITIAL_STOCK);
+        assertThat(otherFailureCount.get()).isZero();
+        assertThat(stockOf(optionValueId)).isZero();
+        // 컴팩터가 재고를 반영하면서 상품 재고 여부도 다시 계산
+        assertThat(productRepository.findById(productId).orElseThrow().isInStock()).isFalse();
+    }
+
+    @Test
+    @DisplayName("컴팩트 중 롤백 - 합산 뒤 커밋된 복구 변경분도 유실 없이 반영")
+    void compactDuringRollback_keepsLateEntries() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        // 먼저 id 를 받은 복구가 커밋을 미루는 동안 뒤 id 의 복구가 커밋됨
+        Future<?> lateRollback =
+                executorService.submit(
+                        () ->
+                                transactionTemplate.executeWithoutResult(
+                                        status -> {
+                                            rollback(4);
+                                            inserted.countDown();
+                                            awaitQuietly(commit);
+                                        }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+        rollback(3);
+
+        // 컴팩터가 변경분을 읽은 직후 앞 id 의 복구가 커밋됨
+        Answer<?> repository =
+                mockingDetails(inventoryLedgerEntryRepository)
+                        .getMockCreationSettings()
+                        .getDefaultAnswer();
+        willAnswer(
+                        invocation -> {
+                            Object pending = repository.answer(invocation);
+                            commit.countDown();
+                            lateRollback.get(10, TimeUnit.SECONDS);
+                            return pending;
+                        })
+                .given(inventoryLedgerEntryRepository)
+                .findPendingForUpdate(any(), any());
+        inventoryLedgerCompactor.compact();
+        executorService.shutdown();
+
+        assertThat(
+                        stockOf(optionValueId)
+                                + inventoryLedgerEntryRepository.sumPendingDelta(optionValueId))
+                .isEqualTo(INITIAL_STOCK + 3 + 4);
+        inventoryLedgerCompactor.compact();
+        assertThat(stockOf(optionValueId)).isEqualTo(INITIAL_STOCK + 3 + 4);
+    }
+
+    private ProductInternalRequest order(int quantity) {
+        return new ProductInternalRequest(
+                List.of(new ProductInternalRequest.OptionValueRequest(optionValueId, quantity)),
+                storeId);
+    }
+
+    private void rollback(int quantity) {
+        productInternalService.rollbackStock(
+                new RollbackStockRequest(
+                        List.of(
+                                new RollbackStockRequest.OptionValueRequest(
+                                        optionValueId, quantity))));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int stockOf(UUID id) {
+        return productOptionValueRepository
+                .findById(id)
+                .orElseThrow(() -> new AssertionError("Test setup failed: Option not found"))
+                .getStockQuantity();
+    }
+
+    private Long versionOf(UUID id) {
+        return productOptionValueRepository.findById(id).orElseThrow().getVersion();
+    }
+}
@@ -0,0 +1,165 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.openfeign.product.dto.request.RollbackStockRequest;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
+import com.irum.productservice.domain.deliverypolicy.domain.repository.DeliveryPolicyRepository;
+import com.irum.productservice.domain.outbox.domain.entity.OutboxEvent;
+import com.irum.productservice.domain.outbox.domain.repository.OutboxEventRepository;
+import com.irum.productservice.domain.outbox.relay.InMemoryOutboxPublisher;
+import com.irum.productservice.domain.outbox.relay.OutboxMessage;
+import com.irum.productservice.domain.outbox.relay.OutboxRelay;
+import com.irum.productservice.domain.product.Internal.service.ProductInternalService;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(
+        properties = {
+            "product.outbox.poll-interval-ms=3600000",
+            "product.outbox.purge-interval-ms=3600000",
+            "product.outbox.batch-size=2",
+            "product.outbox.commit-lag-ms=0"
+        })
+public class OutboxIntegrationTest {
+
+    @Autowired private ProductInternalService productInternalService;
+    @Autowired private OutboxRelay outboxRelay;
+    @Autowired private InMemoryOutboxPublisher outboxPublisher;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private DeliveryPolicyRepository deliveryPolicyRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionGroupRepository productOptionGroupRepository;
+    @Autowired private ProductOptionValueRepository productOptionValueRepository;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private UUID storeId;
+    private UUID optionValueId;
+
+    private final int INITIAL_STOCK = 10; // 초기 재고
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        Store store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        storeId = store.getId();
+        deliveryPolicyRepository.save(DeliveryPolicy.createPolicy(3000, 30000, 5, store));
+
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category category1 =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        Category category2 =
+                categoryRepository.save(Category.createSubCategory("자식 카테고리", category1));
+
+        Product product =
+                productRepository.save(
+                        Product.createProduct(store, category2, "테스트 상품", "설명", "상세", 10000, true));
+        ProductOptionGroup optionGroup =
+                productOptionGroupRepository.save(
+                        ProductOptionGroup.createOptionGroup(product, "사이즈"));
+        optionValueId =
+                productOptionValueRepository
+                        .save(
+                                ProductOptionValue.createOptionValue(
+                                        optionGroup, "L", INITIAL_STOCK, 0))
+                        .getId();
+    }
+
+    @Test
+    @DisplayName("재고 변경 - 변경과 함께 outbox 에 기록되고, 묶음 단위로 순서대로 발행")
+    void stockChange_relayedInOrder() {
+        productInternalService.updateStock(order(3));
+        productInternalService.updateStock(order(2));
+        productInternalService.rollbackStock(
+                new RollbackStockRequest(
+                        List.of(new RollbackStockRequest.OptionValueRequest(optionValueId, 3))));
+
+        List<OutboxEvent> pending = eventsOf(optionValueId);
+        assertThat(pending).hasSize(3).allMatch(event -> event.getPublishedAt() == null);
+
+        // batch-size(2) 를 넘는 만큼 이어서 발행
+        outboxRelay.relay();
+
+        List<OutboxMessage> messages = messagesOf(optionValueId);
+        assertThat(messages)
+                .extracting(OutboxMessage::eventType)
+                .containsExactly("STOCK_DECREASED", "STOCK_DECREASED", "STOCK_INCREASED");
+        assertThat(messages).extracting(OutboxMessage::id).isSorted();
+        assertThat(messages.get(0).payload()).contains("\"delta\":-3");
+        assertThat(eventsOf(optionValueId)).allMatch(event -> event.getPublishedAt() != null);
+
+        // 이미 발행된 이벤트는 다시 보내지 않음
+        outboxRelay.relay();
+        assertThat(messagesOf(optionValueId)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("재고 부족 - 변경이 롤백되면 outbox 기록도 남지 않음")
+    void outOfStock_noOutboxEvent() {
+        assertThatThrownBy(() -> productInternalService.updateStock(order(INITIAL_STOCK + 1)))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+
+        assertThat(eventsOf(optionValueId)).isEmpty();
+    }
+
+    private ProductInternalRequest order(int quantity) {
+        return new ProductInternalRequest(
+                List.of(new ProductInternalRequest.OptionValueRequest(optionValueId, quantity)),
+                storeId);
+    }
+
+    private List<OutboxEvent> eventsOf(UUID aggregateId) {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getAggregateId().equals(aggregateId))
+                .toList();
+    }
+
+    private List<OutboxMessage> messagesOf(UUID aggregateId) {
+        return outboxPublisher.getMessages().stream()
+                .filter(message -> message.aggregateId().equals(aggregateId))
+                .toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.dto.request.ProductListFilter;
+import com.irum.productservice.domain.product.dto.request.ProductSortType;
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
+import com.irum.productservice.domain.product.search.ProductSearchIndex;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = "product.search.engine=database")
+public class ProductDatabaseSearchIntegrationTest {
+
+    @Autowired private ProductSearchIndex productSearchIndex;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private String marker; // 다른 테스트 데이터와 겹치지 않는 검색어
+    private Store store;
+    private Category category;
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+        marker = "검색" + random10Digits();
+
+        store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category parentCategory =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        category = categoryRepository.save(Category.createSubCategory("자식 카테고리", parentCategory));
+    }
+
+    @Test
+    @DisplayName("DB 검색 - 검색 색인 없이 상품명/설명 부분 일치를 id 역순 커서로 조회")
+    void search_byDatabase() {
+        UUID inName = save(marker + "티셔츠", "설명", true);
+        UUID inDescription = save("반바지", "어울리는 " + marker.toUpperCase() + " 상품", true);
+        save(marker + "티셔츠", "설명", false);
+
+        assertThat(productSearchIndex.isReady()).isFalse();
+
+        List<ProductCardResponse> firstPage =
+                productRepository.findProductsByKeyword(
+                        ProductSortType.RELEVANCE, null, 1, ProductListFilter.NONE, marker);
+        assertThat(ids(firstPage)).containsExactly(inDescription);
+
+        List<ProductCardResponse> secondPage =
+                productRepository.findProductsByCategoryIdsAndKeyword(
+                        ProductSortType.RELEVANCE,
+                        firstPage.get(0).id().toString(),
+                        10,
+                        ProductListFilter.NONE,
+                        List.of(category.getCategoryId()),
+                        marker);
+        assertThat(ids(secondPage)).containsExactly(inName);
+    }
+
+    private UUID save(String name, String description, boolean isPublic) {
+        return productRepository
+                .save(
+                        Product.createProduct(
+                                store, category, name, description, "상세", 10000, isPublic))
+                .getId();
+    }
+
+    private List<UUID> ids(List<ProductCardResponse> products) {
+        return products.stream().map(ProductCardResponse::id).toList();
+    }
+}
@@ -0,0 +1,132 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
+import com.irum.productservice.domain.deliverypolicy.domain.repository.DeliveryPolicyRepository;
+import com.irum.productservice.domain.product.Internal.service.ProductInternalService;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.dto.response.ProductDetailResponse;
+import com.irum.productservice.domain.product.service.ProductService;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest
+public class ProductDetailCacheIntegrationTest {
+
+    @Autowired private ProductService productService;
+    @Autowired private ProductInternalService productInternalService;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private DeliveryPolicyRepository deliveryPolicyRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionGroupRepository productOptionGroupRepository;
+    @Autowired private ProductOptionValueRepository productOptionValueRepository;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private UUID storeId;
+    private UUID productId;
+    private UUID optionValueId;
+
+    private final int INITIAL_STOCK = 10; // 초기 재고
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        Store store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        storeId = store.getId();
+        deliveryPolicyRepository.save(DeliveryPolicy.createPolicy(3000, 30000, 5, store));
+
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category category1 =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        Category category2 =
+                categoryRepository.save(Category.createSubCategory("자식 카테고리", category1));
+
+        Product product =
+                productRepository.save(
+                        Product.createProduct(store, category2, "테스트 상품", "설명", "상세", 10000, true));
+        productId = product.getId();
+        ProductOptionGroup optionGroup =
+                productOptionGroupRepository.save(
+                        ProductOptionGroup.createOptionGroup(product, "사이즈"));
+        optionValueId =
+                productOptionValueRepository
+                        .save(
+                                ProductOptionValue.createOptionValue(
+                                        optionGroup, "L", INITIAL_STOCK, 0))
+                        .getId();
+    }
+
+    @Test
+    @DisplayName("상품 상세 - 두 번째 조회는 캐시에서 응답하고, 주문으로 재고가 바뀌어도 캐시에서 현재 재고로 응답")
+    void getProductById_cachedWithCurrentStock() {
+        double dbLookups = lookups("db");
+        double localLookups = lookups("local");
+
+        ProductDetailResponse first = productService.getProductById(productId);
+        ProductDetailResponse second = productService.getProductById(productId);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(stockOf(first)).isEqualTo(INITIAL_STOCK);
+        assertThat(lookups("db") - dbLookups).isEqualTo(1);
+        assertThat(lookups("local") - localLookups).isEqualTo(1);
+
+        productInternalService.updateStock(
+                new ProductInternalRequest(
+                        List.of(new ProductInternalRequest.OptionValueRequest(optionValueId, 3)),
+                        storeId));
+
+        assertThat(stockOf(productService.getProductById(productId))).isEqualTo(INITIAL_STOCK - 3);
+        assertThat(lookups("db") - dbLookups).isEqualTo(1);
+        assertThat(lookups("local") - localLookups).isEqualTo(2);
+    }
+
+    private int stockOf(ProductDetailResponse detail) {
+        return detail.optionGroups().get(0).optionValues().get(0).stockQuantity();
+    }
+
+    private double lookups(String source) {
+        Counter counter =
+                meterRegistry.find("product.cache.detail.lookups").tag("source", source).counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
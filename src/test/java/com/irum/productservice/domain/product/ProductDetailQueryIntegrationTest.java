@@ -0,0 +1,190 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
+import com.irum.productservice.domain.deliverypolicy.domain.repository.DeliveryPolicyRepository;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductImage;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductImageRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
+import com.irum.productservice.domain.product.dto.response.ProductDetailResponse;
+import com.irum.productservice.domain.product.dto.response.ProductImageResponse;
+import com.irum.productservice.domain.product.dto.response.ProductOptionGroupResponse;
+import com.irum.productservice.domain.product.dto.response.ProductOptionValueResponse;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.testsupport.QueryCounter;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(
+        properties =
+                "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                        + "com.irum.productservice.testsupport.QueryCounter")
+public class ProductDetailQueryIntegrationTest {
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private DeliveryPolicyRepository deliveryPolicyRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionGroupRepository productOptionGroupRepository;
+    @Autowired private ProductOptionValueRepository productOptionValueRepository;
+    @Autowired private ProductImageRepository productImageRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private Store store;
+    private Category category;
+
+    private final int DETAIL_QUERY_COUNT = 4; // 상품+상점+카테고리, 옵션 그룹, 옵션 값, 이미지
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        deliveryPolicyRepository.save(DeliveryPolicy.createPolicy(3000, 30000, 5, store));
+
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category category1 =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        category = categoryRepository.save(Category.createSubCategory("자식 카테고리", category1));
+    }
+
+    @Test
+    @DisplayName("상품 상세 - 옵션/이미지 수와 관계없이 같은 수의 쿼리로 조회")
+    void findProductDetail_constantQueryCount() {
+        UUID smallProductId = saveProduct(1, 1, 0);
+        UUID largeProductId = saveProduct(5, 6, 4);
+
+        assertThat(queryCountOf(smallProductId)).isEqualTo(DETAIL_QUERY_COUNT);
+        assertThat(queryCountOf(largeProductId)).isEqualTo(DETAIL_QUERY_COUNT);
+    }
+
+    @Test
+    @DisplayName("상품 상세 - 상점/카테고리/이미지/옵션을 채우고 샤딩된 옵션은 총 재고로 응답")
+    void findProductDetail_fillsAllSections() {
+        UUID productId = saveProduct(2, 3, 3);
+
+        ProductDetailResponse detail = read(productId);
+
+        assertThat(detail.store().name()).isEqualTo("테스트 상점");
+        assertThat(detail.category().name()).isEqualTo("자식 카테고리");
+        assertThat(detail.images()).hasSize(3);
+        assertThat(detail.images().get(0).isDefault()).isTrue();
+        assertThat(detail.images().stream().filter(ProductImageResponse::isDefault)).hasSize(1);
+        assertThat(detail.optionGroups())
+                .extracting(ProductOptionGroupResponse::name)
+                .containsExactly("그룹0", "그룹1");
+        assertThat(detail.optionGroups().get(0).optionValues())
+                .extracting(
+                        ProductOptionValueResponse::name, ProductOptionValueResponse::stockQuantity)
+                .containsExactly(tuple("값0", 10), tuple("값1", 11), tuple("값2", 12));
+    }
+
+    @Test
+    @DisplayName("상품 상세 - 없는 상품은 빈 값")
+    void findProductDetail_notFound() {
+        Optional<ProductDetailResponse> detail =
+                new TransactionTemplate(transactionManager)
+                        .execute(status -> productRepository.findProductDetail(UUID.randomUUID()));
+
+        assertThat(detail).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품 목록 - 상세 설명 없이 대표 이미지 URL 을 담아 페이지당 쿼리 1번으로 조회")
+    void findProductsByStoreWithCursor_cardWithThumbnail() {
+        UUID withImages = saveProduct(1, 1, 2);
+        UUID withoutImage = saveProduct(1, 1, 0);
+
+        AtomicReference<List<ProductCardResponse>> page = new AtomicReference<>();
+        int queryCount =
+                QueryCounter.count(
+                        () ->
+                                page.updateAndGet(
+                                        ignored ->
+                                                productRepository.findProductsByStoreWithCursor(
+                                                        store.getId(), null, 10)));
+
+        assertThat(queryCount).isEqualTo(1);
+        assertThat(page.get())
+                .extracting(ProductCardResponse::id, ProductCardResponse::thumbnailUrl)
+                .containsExactlyInAnyOrder(
+                        tuple(withImages, "https://cdn.irum.com/p/0.jpg"),
+                        tuple(withoutImage, null));
+        assertThat(page.get())
+                .allSatisfy(card -> assertThat(card.categoryName()).isEqualTo("자식 카테고리"));
+    }
+
+    // 옵션 값 재고는 10, 11, 12 ... 이고 각 그룹의 첫 옵션은 샤딩해 둠. 첫 이미지가 대표 이미지
+    private UUID saveProduct(int groupCount, int valuesPerGroup, int imageCount) {
+        Product product =
+                productRepository.save(
+                        Product.createProduct(store, category, "테스트 상품", "설명", "상세", 10000, true));
+        for (int g = 0; g < groupCount; g++) {
+            ProductOptionGroup optionGroup =
+                    productOptionGroupRepository.save(
+                            ProductOptionGroup.createOptionGroup(product, "그룹" + g));
+            for (int v = 0; v < valuesPerGroup; v++) {
+                ProductOptionValue optionValue =
+                        ProductOptionValue.createOptionValue(optionGroup, "값" + v, 10 + v, 0);
+                if (v == 0) {
+                    optionValue.enableStockSharding(4);
+                }
+                productOptionValueRepository.save(optionValue);
+            }
+        }
+        for (int i = 0; i < imageCount; i++) {
+            productImageRepository.save(
+                    ProductImage.create(product, "https://cdn.irum.com/p/" + i + ".jpg", i == 0));
+        }
+        return product.getId();
+    }
+
+    private int queryCountOf(UUID productId) {
+        return QueryCounter.count(() -> read(productId));
+    }
+
+    private ProductDetailResponse read(UUID productId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(
+                status -> productRepository.findProductDetail(productId).orElseThrow());
+    }
+}
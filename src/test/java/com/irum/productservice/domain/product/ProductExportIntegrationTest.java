@@ -0,0 +1,187 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.discount.domain.entity.Discount;
+import com.irum.productservice.domain.discount.domain.repository.DiscountRepository;
+import com.irum.productservice.domain.product.Internal.service.ProductCatalogExporter;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductImage;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductImageRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.dto.response.ProductExportDocument;
+import com.irum.productservice.domain.product.dto.response.ProductOptionValueResponse;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.testsupport.QueryCounter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(
+        properties = {
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                    + "com.irum.productservice.testsupport.QueryCounter",
+            "product.export.batch-size=2"
+        })
+public class ProductExportIntegrationTest {
+
+    @Autowired private ProductCatalogExporter productCatalogExporter;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionGroupRepository productOptionGroupRepository;
+    @Autowired private ProductOptionValueRepository productOptionValueRepository;
+    @Autowired private ProductImageRepository productImageRepository;
+    @Autowired private DiscountRepository discountRepository;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private Store store;
+    private Category category;
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category parentCategory =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        category = categoryRepository.save(Category.createSubCategory("내보내기 카테고리", parentCategory));
+    }
+
+    @Test
+    @DisplayName("내보내기 - 공개 상품만 옵션/할인/대표 이미지와 함께 한 줄씩 씀")
+    void export_writesPublicProducts() {
+        Product product = save("셔츠", true);
+        ProductOptionGroup sizeGroup =
+                productOptionGroupRepository.save(
+                        ProductOptionGroup.createOptionGroup(product, "사이즈"));
+        ProductOptionValue large =
+                productOptionValueRepository.save(
+                        ProductOptionValue.createOptionValue(sizeGroup, "L", 5, 1000));
+        productImageRepository.save(ProductImage.create(product, "https://img/sub.png", false));
+        productImageRepository.save(ProductImage.create(product, "https://img/main.png", true));
+        Discount discount = discountRepository.save(Discount.create("가을 할인", 2000, product));
+        Product hidden = save("비공개", false);
+
+        List<ProductExportDocument> documents = export(null);
+
+        assertThat(documents)
+                .extracting(ProductExportDocument::id)
+                .containsExactly(product.getId());
+        ProductExportDocument document = documents.get(0);
+        assertThat(document.name()).isEqualTo("셔츠");
+        assertThat(document.categoryId()).isEqualTo(category.getCategoryId());
+        assertThat(document.categoryName()).isEqualTo("내보내기 카테고리");
+        assertThat(document.defaultImageUrl()).isEqualTo("https://img/main.png");
+        assertThat(document.discount().discountId()).isEqualTo(discount.getId());
+        assertThat(document.discount().amount()).isEqualTo(2000);
+        assertThat(document.optionGroups()).hasSize(1);
+        assertThat(document.optionGroups().get(0).name()).isEqualTo("사이즈");
+        assertThat(document.optionGroups().get(0).optionValues())
+                .containsExactly(new ProductOptionValueResponse(large.getId(), "L", 5, 1000));
+        assertThat(documents).extracting(ProductExportDocument::id).doesNotContain(hidden.getId());
+    }
+
+    @Test
+    @DisplayName("내보내기 - updatedSince 이후 상품이나 하위 행이 바뀐 상품만")
+    void export_updatedSince() {
+        Product unchanged = save("그대로", true);
+        Product discounted = save("할인 추가", true);
+        LocalDateTime watermark = LocalDateTime.now();
+
+        discountRepository.save(Discount.create("새 할인", 1000, discounted));
+        Product created = save("신규", true);
+
+        assertThat(export(watermark))
+                .extracting(ProductExportDocument::id)
+                .containsExactlyInAnyOrder(discounted.getId(), created.getId());
+        assertThat(export(null)).extracting(ProductExportDocument::id).contains(unchanged.getId());
+    }
+
+    @Test
+    @DisplayName("내보내기 - 쿼리 수는 상품 수가 아니라 묶음 수에 비례")
+    void export_queriesPerBatch() {
+        LocalDateTime watermark = LocalDateTime.now();
+        for (int i = 0; i < 4; i++) {
+            Product product = save("상품 " + i, true);
+            ProductOptionGroup group =
+                    productOptionGroupRepository.save(
+                            ProductOptionGroup.createOptionGroup(product, "색상"));
+            productOptionValueRepository.save(
+                    ProductOptionValue.createOptionValue(group, "빨강", 1, 0));
+            productOptionValueRepository.save(
+                    ProductOptionValue.createOptionValue(group, "파랑", 1, 0));
+        }
+
+        List<ProductExportDocument> documents = new ArrayList<>();
+        int queries = QueryCounter.count(() -> documents.addAll(export(watermark)));
+
+        assertThat(documents).hasSize(4);
+        // id 커서 1회 + 묶음(2건)마다 상품/옵션 그룹/옵션 값/할인/대표 이미지 5회
+        assertThat(queries).isEqualTo(1 + 2 * 5);
+    }
+
+    private Product save(String name, boolean isPublic) {
+        return productRepository.save(
+                Product.createProduct(store, category, name, "설명", "상세", 10000, isPublic));
+    }
+
+    // 다른 테스트가 남긴 상품을 빼고 이 상점 상품만
+    private List<ProductExportDocument> export(LocalDateTime updatedSince) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            productCatalogExporter.export(updatedSince, out);
+            List<ProductExportDocument> documents = new ArrayList<>();
+            for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+                if (!line.isEmpty()) {
+                    ProductExportDocument document =
+                            objectMapper.readValue(line, ProductExportDocument.class);
+                    if (document.storeId().equals(store.getId())) {
+                        documents.add(document);
+                    }
+                }
+            }
+            return documents;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.category.service.CategoryTreeIndex;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.dto.response.ProductFacetResponse;
+import com.irum.productservice.domain.product.event.ProductDeletedEvent;
+import com.irum.productservice.domain.product.event.ProductDetailChangedEvent;
+import com.irum.productservice.domain.product.search.ProductFacetIndex;
+import com.irum.productservice.domain.product.search.ProductFacetIndexer;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest
+public class ProductFacetIntegrationTest {
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private CategoryTreeIndex categoryTreeIndex;
+    @Autowired private ProductFacetIndex productFacetIndex;
+    @Autowired private ProductFacetIndexer productFacetIndexer;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private Store store;
+    private Category parentCategory;
+    private Category shirtCategory;
+    private Category pantsCategory;
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        parentCategory =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        shirtCategory = categoryRepository.save(Category.createSubCategory("셔츠", parentCategory));
+        pantsCategory = categoryRepository.save(Category.createSubCategory("바지", parentCategory));
+        categoryTreeIndex.refresh();
+    }
+
+    @Test
+    @DisplayName("facet - 재구성 후 공개 상품만 카테고리/가격대/평점별로 세고, 변경 이벤트로 갱신")
+    void facets_rebuildAndUpdate() {
+        save(shirtCategory, 5000, 4.5, true);
+        Product shirt = save(shirtCategory, 25000, 3.0, true);
+        Product pants = save(pantsCategory, 120000, null, true);
+        save(pantsCategory, 8000, 5.0, false);
+        productFacetIndexer.rebuild();
+
+        ProductFacetResponse facets =
+                productFacetIndex.facets(parentCategory.getCategoryId()).orElseThrow();
+        assertThat(facets.total()).isEqualTo(3);
+        assertThat(facets.categories())
+                .containsExactly(
+                        new ProductFacetResponse.CategoryCount(
+                                pantsCategory.getCategoryId(), "바지", 1),
+                        new ProductFacetResponse.CategoryCount(
+                                shirtCategory.getCategoryId(), "셔츠", 2));
+        assertThat(facets.priceBands())
+                .extracting(ProductFacetResponse.PriceBandCount::count)
+                .containsExactly(1L, 1L, 0L, 0L, 1L);
+        assertThat(facets.ratings())
+                .extracting(ProductFacetResponse.RatingCount::count)
+                .containsExactly(1L, 2L, 2L, 2L);
+
+        // 셔츠 하나를 비공개로, 바지를 삭제
+        shirt.updateProduct(
+                shirt.getName(),
+                shirt.getDescription(),
+                shirt.getDetailDescription(),
+                shirt.getPrice(),
+                false);
+        productRepository.save(shirt);
+        productFacetIndexer.handleProductDetailChanged(
+                new ProductDetailChangedEvent(shirt.getId()));
+        productFacetIndexer.handleProductDeleted(new ProductDeletedEvent(pants.getId(), 1L));
+
+        facets = productFacetIndex.facets(parentCategory.getCategoryId()).orElseThrow();
+        assertThat(facets.total()).isEqualTo(1);
+        assertThat(facets.categories())
+                .containsExactly(
+                        new ProductFacetResponse.CategoryCount(
+                                shirtCategory.getCategoryId(), "셔츠", 1));
+    }
+
+    private Product save(Category category, int price, Double avgRating, boolean isPublic) {
+        Product product =
+                Product.createProduct(store, category, "facet 상품", "설명", "상세", price, isPublic);
+        product.updateRating(avgRating, avgRating != null ? 1 : 0);
+        return productRepository.save(product);
+    }
+}
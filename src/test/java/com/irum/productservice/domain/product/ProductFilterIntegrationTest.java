@@ -0,0 +1,233 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.openfeign.product.dto.request.RollbackStockRequest;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
+import com.irum.productservice.domain.deliverypolicy.domain.repository.DeliveryPolicyRepository;
+import com.irum.productservice.domain.product.Internal.service.ProductInternalService;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.dto.request.ProductListFilter;
+import com.irum.productservice.domain.product.dto.request.ProductSortType;
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
+import com.irum.productservice.domain.product.service.ProductAvailabilityUpdater;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest
+public class ProductFilterIntegrationTest {
+
+    @Autowired private ProductInternalService productInternalService;
+    @Autowired private ProductAvailabilityUpdater productAvailabilityUpdater;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private DeliveryPolicyRepository deliveryPolicyRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionGroupRepository productOptionGroupRepository;
+    @Autowired private ProductOptionValueRepository productOptionValueRepository;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private Store store;
+    private Category category;
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        deliveryPolicyRepository.save(DeliveryPolicy.createPolicy(3000, 30000, 5, store));
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category parentCategory =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        category = categoryRepository.save(Category.createSubCategory("필터 카테고리", parentCategory));
+    }
+
+    @Test
+    @DisplayName("목록 필터 - 가격 범위(경계 포함), 최소 평점(리뷰 없으면 0점), 품절 제외")
+    void filters() {
+        UUID cheap = save(5000, 4.5, 3).getOptionGroup().getProduct().getId();
+        UUID middle = save(25000, 3.0, 0).getOptionGroup().getProduct().getId();
+        UUID expensive = save(40000, null, 10).getOptionGroup().getProduct().getId();
+        productAvailabilityUpdater.reconcile();
+
+        assertThat(ids(new ProductListFilter(5000, 25000, null, null)))
+                .containsExactly(middle, cheap);
+        assertThat(ids(new ProductListFilter(10000, null, null, null)))
+                .containsExactly(expensive, middle);
+        assertThat(ids(new ProductListFilter(null, null, 3.0, null)))
+                .containsExactly(middle, cheap);
+        assertThat(ids(new ProductListFilter(null, null, 0.0, null)))
+                .containsExactly(expensive, middle, cheap);
+        assertThat(ids(new ProductListFilter(null, null, null, true)))
+                .containsExactly(expensive, cheap);
+        assertThat(ids(new ProductListFilter(null, null, null, false)))
+                .containsExactly(expensive, middle, cheap);
+        assertThat(ids(new ProductListFilter(null, 30000, 4.0, true))).containsExactly(cheap);
+    }
+
+    @Test
+    @DisplayName("재고 여부 - 주문으로 재고가 0이 되면 품절, 롤백하면 다시 노출")
+    void inStock_followsOrders() {
+        ProductOptionValue optionValue = save(10000, null, 2);
+        UUID productId = optionValue.getOptionGroup().getProduct().getId();
+        productAvailabilityUpdater.reconcile();
+        assertThat(inStock(productId)).isTrue();
+
+        productInternalService.updateStock(
+                new ProductInternalRequest(
+                        List.of(
+                                new ProductInternalRequest.OptionValueRequest(
+                                        optionValue.getId(), 2)),
+                        store.getId()));
+        assertThat(inStock(productId)).isFalse();
+        assertThat(ids(new ProductListFilter(null, null, null, true))).isEmpty();
+
+        productInternalService.rollbackStock(
+                new RollbackStockRequest(
+                        List.of(
+                                new RollbackStockRequest.OptionValueRequest(
+                                        optionValue.getId(), 1))));
+        assertThat(inStock(productId)).isTrue();
+        assertThat(ids(new ProductListFilter(null, null, null, true))).containsExactly(productId);
+    }
+
+    @Test
+    @DisplayName("재고 여부 - 다른 옵션 재고가 남아 있으면 품절이 아니고, 모든 옵션이 팔리면 품절")
+    void inStock_soldOutWhenEveryOptionIsSoldOut() {
+        ProductOptionValue first = save(10000, null, 1);
+        ProductOptionValue second = addOption(first.getOptionGroup(), 1);
+        UUID productId = first.getOptionGroup().getProduct().getId();
+        productAvailabilityUpdater.reconcile();
+
+        order(first.getId());
+        assertThat(inStock(productId)).isTrue();
+
+        order(second.getId());
+        assertThat(inStock(productId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재고 여부 - 같은 상품의 서로 다른 옵션을 동시에 품절시켜도 품절로 남음")
+    void inStock_concurrentSellOutsOfDifferentOptions() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 10; i++) {
+                ProductOptionValue first = save(10000, null, 1);
+                ProductOptionValue second = addOption(first.getOptionGroup(), 1);
+                UUID productId = first.getOptionGroup().getProduct().getId();
+                productAvailabilityUpdater.reconcile();
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> orders =
+                        List.of(
+                                executorService.submit(
+                                        () -> {
+                                            start.await();
+                                            order(first.getId());
+                                            return null;
+                                        }),
+                                executorService.submit(
+                                        () -> {
+                                            start.await();
+                                            order(second.getId());
+                                            return null;
+                                        }));
+                start.countDown();
+                for (Future<?> order : orders) {
+                    order.get(10, TimeUnit.SECONDS);
+                }
+
+                assertThat(inStock(productId)).isFalse();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("재고 여부 - 샤드에 남은 재고도 재고로 봄")
+    void inStock_countsShards() {
+        ProductOptionValue optionValue = save(10000, null, 4);
+        optionValue.enableStockSharding(2);
+        productOptionValueRepository.save(optionValue);
+
+        productAvailabilityUpdater.reconcile();
+
+        assertThat(inStock(optionValue.getOptionGroup().getProduct().getId())).isTrue();
+    }
+
+    private ProductOptionValue save(int price, Double avgRating, int stockQuantity) {
+        Product product = Product.createProduct(store, category, "필터 상품", "설명", "상세", price, true);
+        product.updateRating(avgRating, avgRating != null ? 1 : 0);
+        productRepository.save(product);
+        ProductOptionGroup optionGroup =
+                productOptionGroupRepository.save(
+                        ProductOptionGroup.createOptionGroup(product, "사이즈"));
+        return productOptionValueRepository.save(
+                ProductOptionValue.createOptionValue(optionGroup, "L", stockQuantity, 0));
+    }
+
+    private ProductOptionValue addOption(ProductOptionGroup optionGroup, int stockQuantity) {
+        return productOptionValueRepository.save(
+                ProductOptionValue.createOptionValue(optionGroup, "M", stockQuantity, 0));
+    }
+
+    private void order(UUID optionValueId) {
+        productInternalService.updateStock(
+                new ProductInternalRequest(
+                        List.of(new ProductInternalRequest.OptionValueRequest(optionValueId, 1)),
+                        store.getId()));
+    }
+
+    private List<UUID> ids(ProductListFilter filter) {
+        return productRepository
+                .findProductsByCategoryIds(
+                        ProductSortType.NEWEST, null, 10, filter, List.of(category.getCategoryId()))
+                .stream()
+                .map(ProductCardResponse::id)
+                .toList();
+    }
+
+    private boolean inStock(UUID productId) {
+        return productRepository.findById(productId).orElseThrow().isInStock();
+    }
+}
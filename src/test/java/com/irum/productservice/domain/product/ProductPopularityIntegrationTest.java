@@ -0,0 +1,204 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
+import com.irum.productservice.domain.deliverypolicy.domain.repository.DeliveryPolicyRepository;
+import com.irum.productservice.domain.product.Internal.service.ProductInternalService;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.dto.request.ProductListFilter;
+import com.irum.productservice.domain.product.dto.request.ProductSortType;
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
+import com.irum.productservice.domain.product.dto.response.ProductCursorResponse;
+import com.irum.productservice.domain.product.event.ProductSoldEvent;
+import com.irum.productservice.domain.product.ranking.ProductPopularityRanking;
+import com.irum.productservice.domain.product.service.ProductService;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+@SpringBootTest
+@RecordApplicationEvents
+public class ProductPopularityIntegrationTest {
+
+    @Autowired private ProductService productService;
+    @Autowired private ProductInternalService productInternalService;
+    @Autowired private ApplicationEvents applicationEvents;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private DeliveryPolicyRepository deliveryPolicyRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionGroupRepository productOptionGroupRepository;
+    @Autowired private ProductOptionValueRepository productOptionValueRepository;
+
+    @MockitoBean private ProductPopularityRanking productPopularityRanking;
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private Store store;
+    private Category category;
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        deliveryPolicyRepository.save(DeliveryPolicy.createPolicy(3000, 30000, 5, store));
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category parentCategory =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        category = categoryRepository.save(Category.createSubCategory("인기 카테고리", parentCategory));
+    }
+
+    @Test
+    @DisplayName("인기순 - 랭킹 순서대로 공개/필터 조건에 맞는 상품만, 커서 다음 순위부터")
+    void popularitySort_followsRanking() {
+        UUID cheap = save(5000, true).getId();
+        UUID hidden = save(7000, false).getId();
+        UUID expensive = save(40000, true).getId();
+        save(9000, true); // 랭킹에 없음
+        String key = ProductPopularityRanking.categoryKey(category.getCategoryId());
+        given(productPopularityRanking.isEnabled()).willReturn(true);
+        given(productPopularityRanking.startAfter(key, null)).willReturn(0L);
+        given(productPopularityRanking.range(key, 0, 100))
+                .willReturn(List.of(expensive, hidden, cheap));
+        given(productPopularityRanking.startAfter(key, expensive)).willReturn(1L);
+        given(productPopularityRanking.range(key, 1, 100)).willReturn(List.of(hidden, cheap));
+
+        assertThat(ids(null, 10, ProductListFilter.NONE)).containsExactly(expensive, cheap);
+        assertThat(ids(null, 10, new ProductListFilter(null, 10000, null, null)))
+                .containsExactly(cheap);
+        assertThat(ids(null, 1, ProductListFilter.NONE)).containsExactly(expensive);
+        assertThat(ids(expensive.toString(), 10, ProductListFilter.NONE)).containsExactly(cheap);
+    }
+
+    @Test
+    @DisplayName("인기순 - 커서 상품이 랭킹에서 빠졌으면 커서 만료")
+    void popularitySort_expiredCursor() {
+        UUID trimmed = save(5000, true).getId();
+        String key = ProductPopularityRanking.categoryKey(category.getCategoryId());
+        given(productPopularityRanking.isEnabled()).willReturn(true);
+        given(productPopularityRanking.startAfter(key, trimmed)).willReturn(-1L);
+
+        assertThatThrownBy(() -> ids(trimmed.toString(), 10, ProductListFilter.NONE))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.PRODUCT_CURSOR_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("인기순 - 랭킹을 쓰지 않으면 최신순")
+    void popularitySort_fallsBackToNewest() {
+        UUID older = save(5000, true).getId();
+        UUID newer = save(6000, true).getId();
+        given(productPopularityRanking.isEnabled()).willReturn(false);
+
+        assertThat(ids(null, 10, ProductListFilter.NONE)).containsExactly(newer, older);
+    }
+
+    @Test
+    @DisplayName("인기 상품 API - 상점 랭킹 순, 다음 페이지 커서는 마지막 상품 id")
+    void popularProducts_byStore() {
+        List<UUID> ranked = List.of(save(1000, true).getId(), save(2000, true).getId());
+        String key = ProductPopularityRanking.storeKey(store.getId());
+        given(productPopularityRanking.isEnabled()).willReturn(true);
+        given(productPopularityRanking.startAfter(key, null)).willReturn(0L);
+        given(productPopularityRanking.range(key, 0, 100)).willReturn(ranked);
+
+        ProductCursorResponse response =
+                productService.getPopularProducts(null, store.getId(), null, 10);
+
+        assertThat(response.products())
+                .extracting(ProductCardResponse::id)
+                .containsExactlyElementsOf(ranked);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("재고 차감 - 팔린 수량을 상품별로 합쳐 ProductSoldEvent 로 발행")
+    void updateStock_publishesProductSold() {
+        Product product = save(10000, true);
+        ProductOptionGroup group =
+                productOptionGroupRepository.save(
+                        ProductOptionGroup.createOptionGroup(product, "사이즈"));
+        ProductOptionValue large =
+                productOptionValueRepository.save(
+                        ProductOptionValue.createOptionValue(group, "L", 10, 0));
+        ProductOptionValue medium =
+                productOptionValueRepository.save(
+                        ProductOptionValue.createOptionValue(group, "M", 10, 0));
+
+        productInternalService.updateStock(
+                new ProductInternalRequest(
+                        List.of(
+                                new ProductInternalRequest.OptionValueRequest(large.getId(), 1),
+                                new ProductInternalRequest.OptionValueRequest(medium.getId(), 2)),
+                        store.getId()));
+
+        assertThat(applicationEvents.stream(ProductSoldEvent.class))
+                .singleElement()
+                .extracting(ProductSoldEvent::getSales)
+                .isEqualTo(
+                        List.of(
+                                new ProductSoldEvent.Sale(
+                                        product.getId(),
+                                        category.getCategoryId(),
+                                        store.getId(),
+                                        3)));
+    }
+
+    private Product save(int price, boolean isPublic) {
+        return productRepository.save(
+                Product.createProduct(store, category, "인기 상품", "설명", "상세", price, isPublic));
+    }
+
+    private List<UUID> ids(String cursor, int size, ProductListFilter filter) {
+        return productRepository
+                .findProductsByCategoryIds(
+                        ProductSortType.POPULARITY,
+                        cursor,
+                        size,
+                        filter,
+                        List.of(category.getCategoryId()))
+                .stream()
+                .map(ProductCardResponse::id)
+                .toList();
+    }
+}
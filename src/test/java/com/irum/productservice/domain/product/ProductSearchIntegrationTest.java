@@ -0,0 +1,188 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.dto.request.ProductListFilter;
+import com.irum.productservice.domain.product.dto.request.ProductSortType;
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
+import com.irum.productservice.domain.product.event.ProductDeletedEvent;
+import com.irum.productservice.domain.product.event.ProductSavedEvent;
+import com.irum.productservice.domain.product.search.ProductSearchIndexer;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.global.infrastructure.properties.SearchProperties;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+public class ProductSearchIntegrationTest {
+
+    @Autowired private ProductSearchIndexer productSearchIndexer;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+    @MockitoSpyBean private SearchProperties searchProperties;
+
+    private String marker; // 다른 테스트 데이터와 겹치지 않는 검색어
+    private Category parentCategory;
+    private Category childCategory;
+    private Category otherCategory;
+    private Store store;
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+        marker = "검색" + random10Digits();
+
+        store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        parentCategory =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        childCategory =
+                categoryRepository.save(Category.createSubCategory("자식 카테고리", parentCategory));
+        otherCategory =
+                categoryRepository.save(Category.createSubCategory("다른 카테고리", parentCategory));
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 관련도 순으로 비공개/다른 카테고리를 거르고 커서로 이어서 조회")
+    void search_rankedWithCategoryAndCursor() {
+        UUID inName = save(childCategory, marker + "티셔츠", "설명", true);
+        UUID inDescription = save(childCategory, "반바지", "어울리는 " + marker + "티셔츠", true);
+        UUID hidden = save(childCategory, marker + "티셔츠", "설명", false);
+        UUID otherCategoryId = save(otherCategory, marker + "티셔츠", "설명", true);
+        productSearchIndexer.rebuild();
+
+        String keyword = marker + "티셔츠";
+        List<ProductCardResponse> firstPage =
+                productRepository.findProductsByKeyword(
+                        ProductSortType.RELEVANCE, null, 2, ProductListFilter.NONE, keyword);
+        assertThat(ids(firstPage)).hasSize(2).doesNotContain(hidden, inDescription);
+
+        List<ProductCardResponse> secondPage =
+                productRepository.findProductsByKeyword(
+                        ProductSortType.RELEVANCE,
+                        firstPage.get(1).id().toString(),
+                        2,
+                        ProductListFilter.NONE,
+                        keyword);
+        assertThat(ids(secondPage)).containsExactly(inDescription);
+
+        List<ProductCardResponse> inChild =
+                productRepository.findProductsByCategoryIdsAndKeyword(
+                        ProductSortType.RELEVANCE,
+                        null,
+                        10,
+                        ProductListFilter.NONE,
+                        List.of(childCategory.getCategoryId()),
+                        keyword);
+        assertThat(ids(inChild)).containsExactly(inName, inDescription);
+        assertThat(ids(firstPage)).containsExactlyInAnyOrder(inName, otherCategoryId);
+    }
+
+    @Test
+    @DisplayName("키워드 검색 가격 순 - 검색 결과 최대 건수(max-hits)를 넘는 상품도 빠지지 않고 커서로 이어서 조회")
+    void search_sortedBeyondMaxHits() {
+        given(searchProperties.maxHits()).willReturn(1);
+        UUID expensive = save(childCategory, marker + "모자", "설명", true, 3000);
+        UUID cheap = save(childCategory, "모자", "가벼운 " + marker, true, 1000);
+        UUID middle = save(childCategory, marker + "모자", "설명", true, 2000);
+        save(childCategory, "모자", "설명", true, 500);
+        productSearchIndexer.rebuild();
+
+        List<ProductCardResponse> firstPage =
+                productRepository.findProductsByKeyword(
+                        ProductSortType.PRICE_ASC, null, 2, ProductListFilter.NONE, marker);
+        assertThat(ids(firstPage)).containsExactly(cheap, middle);
+
+        List<ProductCardResponse> secondPage =
+                productRepository.findProductsByKeyword(
+                        ProductSortType.PRICE_ASC,
+                        firstPage.get(1).price() + "_" + firstPage.get(1).id(),
+                        2,
+                        ProductListFilter.NONE,
+                        marker);
+        assertThat(ids(secondPage)).containsExactly(expensive);
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 상품 저장/삭제 이벤트가 검색 결과에 반영")
+    void search_followsProductEvents() {
+        productSearchIndexer.rebuild();
+        UUID productId = save(childCategory, marker + "가방", "설명", true);
+
+        eventPublisher.publishEvent(new ProductSavedEvent(productId, marker + "가방", "설명"));
+        assertThat(
+                        ids(
+                                productRepository.findProductsByKeyword(
+                                        ProductSortType.RELEVANCE,
+                                        null,
+                                        10,
+                                        ProductListFilter.NONE,
+                                        marker)))
+                .containsExactly(productId);
+
+        transactionTemplate.executeWithoutResult(
+                status -> eventPublisher.publishEvent(new ProductDeletedEvent(productId, 1L)));
+        assertThat(
+                        productRepository.findProductsByKeyword(
+                                ProductSortType.RELEVANCE,
+                                null,
+                                10,
+                                ProductListFilter.NONE,
+                                marker))
+                .isEmpty();
+    }
+
+    private UUID save(Category category, String name, String description, boolean isPublic) {
+        return save(category, name, description, isPublic, 10000);
+    }
+
+    private UUID save(
+            Category category, String name, String description, boolean isPublic, int price) {
+        return productRepository
+                .save(
+                        Product.createProduct(
+                                store, category, name, description, "상세", price, isPublic))
+                .getId();
+    }
+
+    private List<UUID> ids(List<ProductCardResponse> products) {
+        return products.stream().map(ProductCardResponse::id).toList();
+    }
+}
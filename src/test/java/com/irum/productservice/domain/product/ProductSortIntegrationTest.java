@@ -0,0 +1,216 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.dto.request.ProductListFilter;
+import com.irum.productservice.domain.product.dto.request.ProductSortType;
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
+import com.irum.productservice.domain.product.dto.response.ProductCursorResponse;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest
+public class ProductSortIntegrationTest {
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private static final int PAGE_SIZE = 2;
+
+    private Store store;
+    private Category category;
+    private final List<UUID> savedIds = new ArrayList<>();
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category parentCategory =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        category = categoryRepository.save(Category.createSubCategory("자식 카테고리", parentCategory));
+
+        // 가격/평점/리뷰 수가 겹치는 상품을 두어 페이지 경계의 동점 처리까지 확인
+        save(3000, 4.5, 10);
+        save(1000, null, null);
+        save(2000, 4.5, 30);
+        save(2000, 3.0, 5);
+        save(5000, 5.0, 10);
+        save(2000, 0.0, 0);
+    }
+
+    @Test
+    @DisplayName("정렬별 커서 목록 - 페이지를 끝까지 넘기면 중복/누락 없이 정렬 키, id 순으로 조회")
+    void walk_eachSort() {
+        List<UUID> newest = walk(ProductSortType.NEWEST);
+        assertThat(newest).hasSize(6).doesNotHaveDuplicates();
+        Map<UUID, ProductCardResponse> cards =
+                productRepository
+                        .findProductsByCategoryIds(
+                                ProductSortType.NEWEST,
+                                null,
+                                10,
+                                ProductListFilter.NONE,
+                                List.of(category.getCategoryId()))
+                        .stream()
+                        .collect(Collectors.toMap(ProductCardResponse::id, Function.identity()));
+
+        // 동점이면 id 역순(여기서는 NEWEST 와 같음), PRICE_ASC 만 id 정순
+        List<UUID> oldest = new ArrayList<>(newest.reversed());
+        assertThat(walk(ProductSortType.PRICE_ASC))
+                .containsExactlyElementsOf(
+                        sorted(oldest, Comparator.comparing(id -> cards.get(id).price())));
+        assertThat(walk(ProductSortType.PRICE_DESC))
+                .containsExactlyElementsOf(
+                        sorted(
+                                newest,
+                                Comparator.<UUID, Integer>comparing(id -> cards.get(id).price())
+                                        .reversed()));
+        assertThat(walk(ProductSortType.RATING))
+                .containsExactlyElementsOf(
+                        sorted(
+                                newest,
+                                Comparator.<UUID, Double>comparing(
+                                                id -> zeroIfNull(cards.get(id).avgRating()))
+                                        .reversed()));
+        assertThat(walk(ProductSortType.REVIEW_COUNT))
+                .containsExactlyElementsOf(
+                        sorted(
+                                newest,
+                                Comparator.<UUID, Integer>comparing(
+                                                id -> zeroIfNull(cards.get(id).reviewCount()))
+                                        .reversed()));
+    }
+
+    @Test
+    @DisplayName("최신 순 - 등록 역순으로 조회")
+    void newest_followsCreationOrder() {
+        assertThat(savedIds).hasSize(6).allSatisfy(id -> assertThat(id.version()).isEqualTo(7));
+        assertThat(walk(ProductSortType.NEWEST)).containsExactlyElementsOf(savedIds.reversed());
+    }
+
+    @Test
+    @DisplayName("최신 순 - id 가 더 커도 먼저 등록된 상품(UUIDv7 이전 id)은 뒤에 옴")
+    void newest_ordersByCreatedAtNotId() {
+        // 가장 큰 id 의 상품을 가장 먼저 등록된 상품으로 만듦 (v1 id 가 v7 id 보다 크게 정렬되는 기존 상품)
+        UUID legacyId = savedIds.getLast();
+        jdbcTemplate.update(
+                "UPDATE p_product SET created_at = ? WHERE product_id = ?",
+                LocalDateTime.of(2024, 1, 1, 0, 0),
+                legacyId);
+
+        List<UUID> expected = new ArrayList<>(savedIds.subList(0, savedIds.size() - 1).reversed());
+        expected.add(legacyId);
+        assertThat(walk(ProductSortType.NEWEST)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("정렬별 커서 목록 - 마지막 페이지는 hasNext=false, 다음 커서 없음")
+    void lastPage_hasNoNext() {
+        ProductCursorResponse first = page(ProductSortType.PRICE_ASC, null, 4);
+        ProductCursorResponse last = page(ProductSortType.PRICE_ASC, first.nextCursor(), 4);
+
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.nextCursor()).startsWith("2000_");
+        assertThat(last.products()).hasSize(2);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("정렬별 커서 목록 - 정렬과 맞지 않는 커서는 INVALID_PRODUCT_CURSOR")
+    void invalidCursor() {
+        assertThatThrownBy(() -> page(ProductSortType.PRICE_ASC, UUID.randomUUID().toString(), 2))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.INVALID_PRODUCT_CURSOR);
+        assertThatThrownBy(() -> page(ProductSortType.NEWEST, "1000_abc", 2))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.INVALID_PRODUCT_CURSOR);
+    }
+
+    private void save(int price, Double avgRating, Integer reviewCount) {
+        Product product = Product.createProduct(store, category, "정렬 상품", "설명", "상세", price, true);
+        product.updateRating(avgRating, reviewCount);
+        savedIds.add(productRepository.save(product).getId());
+    }
+
+    private List<UUID> walk(ProductSortType sort) {
+        List<UUID> ids = new ArrayList<>();
+        String cursor = null;
+        ProductCursorResponse page;
+        do {
+            page = page(sort, cursor, PAGE_SIZE);
+            page.products().forEach(card -> ids.add(card.id()));
+            cursor = page.nextCursor();
+        } while (page.hasNext());
+        return ids;
+    }
+
+    private ProductCursorResponse page(ProductSortType sort, String cursor, int size) {
+        List<ProductCardResponse> fetched =
+                productRepository.findProductsByCategoryIds(
+                        sort,
+                        cursor,
+                        size + 1,
+                        ProductListFilter.NONE,
+                        List.of(category.getCategoryId()));
+        return ProductCursorResponse.of(fetched, size, sort);
+    }
+
+    private static List<UUID> sorted(List<UUID> ids, Comparator<UUID> comparator) {
+        return ids.stream().sorted(comparator).toList();
+    }
+
+    private static double zeroIfNull(Double value) {
+        return value != null ? value : 0.0;
+    }
+
+    private static int zeroIfNull(Integer value) {
+        return value != null ? value : 0;
+    }
+}
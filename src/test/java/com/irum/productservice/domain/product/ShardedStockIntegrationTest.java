@@ -0,0 +1,238 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.openfeign.product.dto.request.RollbackStockRequest;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
+import com.irum.productservice.domain.deliverypolicy.domain.repository.DeliveryPolicyRepository;
+import com.irum.productservice.domain.product.Internal.service.ProductInternalService;
+import com.irum.productservice.domain.product.Internal.service.stock.StockShardRebalancer;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionStockShard;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(
+        properties = {
+            "product.stock.engine=conditional-update",
+            "product.stock.shard.rebalance-interval-ms=600000"
+        })
+public class ShardedStockIntegrationTest {
+
+    @Autowired private ProductInternalService productInternalService;
+    @Autowired private StockShardRebalancer stockShardRebalancer;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private DeliveryPolicyRepository deliveryPolicyRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionGroupRepository productOptionGroupRepository;
+    @Autowired private ProductOptionValueRepository productOptionValueRepository;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private UUID storeId;
+    private UUID optionValueId;
+
+    private final int INITIAL_STOCK = 20; // 초기 재고
+    private final int SHARD_COUNT = 4; // 샤드 수
+    private final int USER_COUNT = 100; // 주문 요청 사용자 수
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        Store store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        storeId = store.getId();
+        deliveryPolicyRepository.save(DeliveryPolicy.createPolicy(3000, 30000, 5, store));
+
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category category1 =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        Category category2 =
+                categoryRepository.save(Category.createSubCategory("자식 카테고리", category1));
+
+        Product product =
+                productRepository.save(
+                        Product.createProduct(store, category2, "테스트 상품", "설명", "상세", 10000, true));
+        ProductOptionGroup optionGroup =
+                productOptionGroupRepository.save(
+                        ProductOptionGroup.createOptionGroup(product, "사이즈"));
+
+        ProductOptionValue optionValue =
+                ProductOptionValue.createOptionValue(optionGroup, "L", INITIAL_STOCK, 0);
+        optionValue.enableStockSharding(SHARD_COUNT);
+        optionValueId = productOptionValueRepository.save(optionValue).getId();
+    }
+
+    @Test
+    @DisplayName("샤딩 적용 - 총 재고가 샤드에 고르게 나뉘고 합계는 그대로")
+    void enableStockSharding_splitsEvenly() {
+        ProductOptionValue optionValue = loadWithShards();
+
+        assertThat(optionValue.getStockQuantity()).isEqualTo(INITIAL_STOCK);
+        assertThat(optionValue.getStockShards())
+                .extracting(ProductOptionStockShard::getStockQuantity)
+                .containsOnly(INITIAL_STOCK / SHARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("주문 - 동시에 주문 - 샤드로 나뉜 재고도 초과 판매하지 않음")
+    void updateStock_ConcurrencyTest() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(USER_COUNT);
+        CountDownLatch latch = new CountDownLatch(USER_COUNT);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger outOfStockCount = new AtomicInteger();
+        AtomicInteger otherFailureCount = new AtomicInteger();
+
+        ProductInternalRequest request = order(1);
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            executorService.submit(
+                    () -> {
+                        try {
+                            productInternalService.updateStock(request);
+                            successCount.incrementAndGet();
+                        } catch (CommonException e) {
+                            if (e.getErrorCode() == ProductErrorCode.PRODUCT_OUT_OF_STOCK) {
+                                outOfStockCount.incrementAndGet();
+                            } else {
+                                otherFailureCount.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            otherFailureCount.incrementAndGet();
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+        }
+
+        latch.await(15, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(outOfStockCount.get()).isEqualTo(USER_COUNT - INITIAL_STOCK);
+        assertThat(otherFailureCount.get()).isZero();
+        assertThat(loadWithShards().getStockQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 - 한 샤드로 부족한 수량은 여러 샤드에 나눠 차감")
+    void updateStock_SpansShards() {
+        productInternalService.updateStock(order(INITIAL_STOCK - 1));
+
+        ProductOptionValue optionValue = loadWithShards();
+        assertThat(optionValue.getStockQuantity()).isEqualTo(1);
+        assertThat(optionValue.getStockShards())
+                .extracting(ProductOptionStockShard::getStockQuantity)
+                .containsExactlyInAnyOrder(1, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("리밸런서 - 본 행 잔여분과 비어 있는 샤드를 다시 고르게 나눔")
+    void rebalance_evensShards() {
+        // 롤백으로 한 샤드에 재고가 몰리고, 본 행에 직접 반영된 잔여분(write-behind 등)이 생긴 상황
+        productInternalService.updateStock(order(INITIAL_STOCK));
+        productInternalService.rollbackStock(
+                new RollbackStockRequest(
+                        List.of(new RollbackStockRequest.OptionValueRequest(optionValueId, 6))));
+        transactionTemplate.executeWithoutResult(
+                status -> productOptionValueRepository.increaseStockBy(optionValueId, 2));
+
+        stockShardRebalancer.rebalance();
+
+        ProductOptionValue optionValue = loadWithShards();
+        assertThat(optionValue.getStockQuantity()).isEqualTo(8);
+        assertThat(optionValue.getStockShards())
+                .extracting(ProductOptionStockShard::getStockQuantity)
+                .containsOnly(2);
+    }
+
+    @Test
+    @DisplayName("리밸런서 - 지난 실행 이후 재고 버전이 그대로인 옵션은 다시 나누지 않음")
+    void rebalance_skipsUnchangedOptions() {
+        stockShardRebalancer.rebalance();
+
+        // version 을 올리지 않고 한 샤드 재고를 본 행으로 옮김
+        jdbcTemplate.update(
+                "update p_product_option_stock_shard set stock_quantity = 0"
+                        + " where option_value_id = ? and shard_no = 0",
+                optionValueId);
+        jdbcTemplate.update(
+                "update p_product_option_value set stock_quantity = 5 where option_value_id = ?",
+                optionValueId);
+
+        stockShardRebalancer.rebalance();
+        assertThat(loadWithShards().getStockShards())
+                .extracting(ProductOptionStockShard::getStockQuantity)
+                .containsExactly(0, 5, 5, 5);
+
+        // 주문 경로의 변경으로 버전이 오르면 다시 나눔
+        productInternalService.rollbackStock(
+                new RollbackStockRequest(
+                        List.of(new RollbackStockRequest.OptionValueRequest(optionValueId, 1))));
+        stockShardRebalancer.rebalance();
+
+        ProductOptionValue optionValue = loadWithShards();
+        assertThat(optionValue.getStockQuantity()).isEqualTo(INITIAL_STOCK + 1);
+        assertThat(optionValue.getStockShards())
+                .extracting(ProductOptionStockShard::getStockQuantity)
+                .containsExactly(6, 5, 5, 5);
+    }
+
+    private ProductInternalRequest order(int quantity) {
+        return new ProductInternalRequest(
+                List.of(new ProductInternalRequest.OptionValueRequest(optionValueId, quantity)),
+                storeId);
+    }
+
+    private ProductOptionValue loadWithShards() {
+        return productOptionValueRepository
+                .findByIdWithStockShards(optionValueId)
+                .orElseThrow(() -> new AssertionError("Test setup failed: Option not found"));
+    }
+}
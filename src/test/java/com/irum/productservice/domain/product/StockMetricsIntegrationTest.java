@@ -0,0 +1,175 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
+import com.irum.productservice.domain.deliverypolicy.domain.repository.DeliveryPolicyRepository;
+import com.irum.productservice.domain.product.Internal.service.ProductInternalService;
+import com.irum.productservice.domain.product.Internal.service.stock.HotStockEndpoint;
+import com.irum.productservice.domain.product.Internal.service.stock.HotStockTracker;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.search.Search;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = "product.stock.metrics.decay-interval-ms=600000")
+public class StockMetricsIntegrationTest {
+
+    @Autowired private ProductInternalService productInternalService;
+    @Autowired private HotStockEndpoint hotStockEndpoint;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private DeliveryPolicyRepository deliveryPolicyRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionGroupRepository productOptionGroupRepository;
+    @Autowired private ProductOptionValueRepository productOptionValueRepository;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private UUID storeId;
+    private UUID optionValueId;
+
+    private final int INITIAL_STOCK = 100; // 초기 재고 (재고 부족 없이 경합만 발생)
+    private final int USER_COUNT = 30; // 주문 요청 사용자 수
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        Store store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        storeId = store.getId();
+        deliveryPolicyRepository.save(DeliveryPolicy.createPolicy(3000, 30000, 5, store));
+
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category category1 =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        Category category2 =
+                categoryRepository.save(Category.createSubCategory("자식 카테고리", category1));
+
+        Product product =
+                productRepository.save(
+                        Product.createProduct(store, category2, "테스트 상품", "설명", "상세", 10000, true));
+        ProductOptionGroup optionGroup =
+                productOptionGroupRepository.save(
+                        ProductOptionGroup.createOptionGroup(product, "사이즈"));
+        optionValueId =
+                productOptionValueRepository
+                        .save(
+                                ProductOptionValue.createOptionValue(
+                                        optionGroup, "L", INITIAL_STOCK, 0))
+                        .getId();
+    }
+
+    @Test
+    @DisplayName("재고 경합 지표 - 시도/충돌/트랜잭션 지표가 서로 맞고 경합 옵션이 상위에 집계됨")
+    void updateStock_recordsContentionMetrics() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(USER_COUNT);
+        CountDownLatch latch = new CountDownLatch(USER_COUNT);
+
+        ProductInternalRequest request =
+                new ProductInternalRequest(
+                        List.of(new ProductInternalRequest.OptionValueRequest(optionValueId, 1)),
+                        storeId);
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            executorService.submit(
+                    () -> {
+                        try {
+                            productInternalService.updateStock(request);
+                        } catch (Exception ignored) {
+                            // 재시도 초과도 지표에 포함되므로 결과는 따로 세지 않음
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+        }
+
+        latch.await(15, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // 호출 건수 = 시도 횟수 분포의 건수, 시도 횟수 합 = 트랜잭션 타이머 건수
+        double calls =
+                meterRegistry
+                        .find("product.stock.attempts")
+                        .tag("operation", "update")
+                        .summaries()
+                        .stream()
+                        .mapToLong(summary -> summary.count())
+                        .sum();
+        double attempts =
+                meterRegistry
+                        .find("product.stock.attempts")
+                        .tag("operation", "update")
+                        .summaries()
+                        .stream()
+                        .mapToDouble(summary -> summary.totalAmount())
+                        .sum();
+        assertThat(calls).isEqualTo(USER_COUNT);
+        assertThat(attempts).isEqualTo(transactionCount(null));
+
+        // 충돌 카운터 = 충돌로 끝난 트랜잭션 수
+        double conflicts =
+                meterRegistry
+                        .find("product.stock.conflicts")
+                        .tag("operation", "update")
+                        .counters()
+                        .stream()
+                        .mapToDouble(counter -> counter.count())
+                        .sum();
+        assertThat(conflicts).isEqualTo(transactionCount("conflict"));
+
+        List<HotStockTracker.HotStock> hotStocks = hotStockEndpoint.hotStock(null);
+        assertThat(hotStocks).isNotEmpty();
+        assertThat(hotStocks.get(0).optionValueId()).isEqualTo(optionValueId);
+        assertThat(hotStocks.get(0).requests()).isEqualTo(USER_COUNT);
+        assertThat(hotStocks.get(0).conflicts()).isEqualTo((long) conflicts);
+    }
+
+    private long transactionCount(String outcome) {
+        Search search = meterRegistry.find("product.stock.transaction").tag("operation", "update");
+        if (outcome != null) {
+            search = search.tag("outcome", outcome);
+        }
+        return search.timers().stream().mapToLong(Timer::count).sum();
+    }
+}
@@ -0,0 +1,228 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
+import com.irum.productservice.domain.deliverypolicy.domain.repository.DeliveryPolicyRepository;
+import com.irum.productservice.domain.product.Internal.service.ProductInternalService;
+import com.irum.productservice.domain.product.Internal.service.StockReservationSweeper;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.entity.StockReservationStatus;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.domain.repository.StockReservationRepository;
+import com.irum.productservice.domain.product.dto.response.StockReservationResponse;
+import com.irum.productservice.domain.product.event.ProductSoldEvent;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+@SpringBootTest(
+        properties = {
+            "product.stock.reservation.ttl-seconds=1",
+            "product.stock.reservation.sweep-interval-ms=3600000"
+        })
+@RecordApplicationEvents
+public class StockReservationIntegrationTest {
+
+    @Autowired private ProductInternalService productInternalService;
+    @Autowired private StockReservationSweeper stockReservationSweeper;
+    @Autowired private ApplicationEvents applicationEvents;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private DeliveryPolicyRepository deliveryPolicyRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionGroupRepository productOptionGroupRepository;
+    @Autowired private ProductOptionValueRepository productOptionValueRepository;
+    @Autowired private StockReservationRepository stockReservationRepository;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private UUID storeId;
+    private UUID optionValueId;
+
+    private final int INITIAL_STOCK = 20; // 초기 재고
+    private final int ORDER_QUANTITY = 3; // 주문 수량
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        Store store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        storeId = store.getId();
+        deliveryPolicyRepository.save(DeliveryPolicy.createPolicy(3000, 30000, 5, store));
+
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category category1 =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        Category category2 =
+                categoryRepository.save(Category.createSubCategory("자식 카테고리", category1));
+
+        Product product =
+                productRepository.save(
+                        Product.createProduct(store, category2, "테스트 상품", "설명", "상세", 10000, true));
+        ProductOptionGroup optionGroup =
+                productOptionGroupRepository.save(
+                        ProductOptionGroup.createOptionGroup(product, "사이즈"));
+        optionValueId =
+                productOptionValueRepository
+                        .save(
+                                ProductOptionValue.createOptionValue(
+                                        optionGroup, "L", INITIAL_STOCK, 0))
+                        .getId();
+    }
+
+    @Test
+    @DisplayName("홀드 확정 - 재고는 홀드 시점에 차감되고 만료 이후에도 유지")
+    void reserveAndConfirm() throws InterruptedException {
+        StockReservationResponse response = productInternalService.reserveStock(order());
+        assertThat(response.product().storeId()).isEqualTo(storeId);
+        assertThat(stockOf(optionValueId)).isEqualTo(INITIAL_STOCK - ORDER_QUANTITY);
+
+        productInternalService.confirmReservation(response.reservationId());
+        productInternalService.confirmReservation(response.reservationId()); // 중복 확정은 무시
+
+        Thread.sleep(1100);
+        stockReservationSweeper.sweep();
+
+        assertThat(statusOf(response.reservationId())).isEqualTo(StockReservationStatus.CONFIRMED);
+        assertThat(stockOf(optionValueId)).isEqualTo(INITIAL_STOCK - ORDER_QUANTITY);
+    }
+
+    @Test
+    @DisplayName("홀드 만료 - 스케줄러가 재고를 한 번만 반환하고, 이후 확정은 실패")
+    void reserveAndExpire() throws InterruptedException {
+        StockReservationResponse response = productInternalService.reserveStock(order());
+
+        Thread.sleep(1100);
+        stockReservationSweeper.sweep();
+        stockReservationSweeper.sweep();
+
+        assertThat(statusOf(response.reservationId())).isEqualTo(StockReservationStatus.EXPIRED);
+        assertThat(stockOf(optionValueId)).isEqualTo(INITIAL_STOCK);
+
+        assertThatThrownBy(
+                        () -> productInternalService.confirmReservation(response.reservationId()))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.STOCK_RESERVATION_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("홀드 취소 - 재고를 즉시 반환하고 중복 취소/만료 시 다시 반환하지 않음")
+    void reserveAndRelease() throws InterruptedException {
+        StockReservationResponse response = productInternalService.reserveStock(order());
+
+        productInternalService.releaseReservation(response.reservationId());
+        productInternalService.releaseReservation(response.reservationId());
+
+        Thread.sleep(1100);
+        stockReservationSweeper.sweep();
+
+        assertThat(statusOf(response.reservationId())).isEqualTo(StockReservationStatus.RELEASED);
+        assertThat(stockOf(optionValueId)).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    @DisplayName("홀드 판매 집계 - 확정된 홀드만 판매 이벤트를 발행하고, 취소/만료된 홀드는 인기 상품 랭킹에 남기지 않음")
+    void onlyConfirmedHoldsCountAsSales() throws InterruptedException {
+        StockReservationResponse released = productInternalService.reserveStock(order());
+        productInternalService.reserveStock(order()); // 만료
+        assertThat(applicationEvents.stream(ProductSoldEvent.class)).isEmpty();
+
+        productInternalService.releaseReservation(released.reservationId());
+        Thread.sleep(1100);
+        stockReservationSweeper.sweep();
+        assertThat(applicationEvents.stream(ProductSoldEvent.class)).isEmpty();
+        assertThat(stockOf(optionValueId)).isEqualTo(INITIAL_STOCK);
+
+        StockReservationResponse confirmed = productInternalService.reserveStock(order());
+        productInternalService.confirmReservation(confirmed.reservationId());
+        productInternalService.confirmReservation(confirmed.reservationId()); // 중복 확정은 무시
+
+        assertThat(applicationEvents.stream(ProductSoldEvent.class))
+                .singleElement()
+                .satisfies(
+                        event ->
+                                assertThat(event.getSales())
+                                        .extracting(ProductSoldEvent.Sale::quantity)
+                                        .containsExactly(ORDER_QUANTITY));
+    }
+
+    @Test
+    @DisplayName("홀드 생성 실패 - 재고가 부족하면 홀드를 남기지 않음")
+    void reserve_OutOfStock() {
+        ProductInternalRequest request =
+                new ProductInternalRequest(
+                        List.of(
+                                new ProductInternalRequest.OptionValueRequest(
+                                        optionValueId, INITIAL_STOCK + 1)),
+                        storeId);
+        long before = stockReservationRepository.count();
+
+        assertThatThrownBy(() -> productInternalService.reserveStock(request))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+
+        assertThat(stockReservationRepository.count()).isEqualTo(before);
+        assertThat(stockOf(optionValueId)).isEqualTo(INITIAL_STOCK);
+    }
+
+    private ProductInternalRequest order() {
+        return new ProductInternalRequest(
+                List.of(
+                        new ProductInternalRequest.OptionValueRequest(
+                                optionValueId, ORDER_QUANTITY)),
+                storeId);
+    }
+
+    private int stockOf(UUID id) {
+        return productOptionValueRepository
+                .findById(id)
+                .orElseThrow(() -> new AssertionError("Test setup failed: Option not found"))
+                .getStockQuantity();
+    }
+
+    private StockReservationStatus statusOf(UUID reservationId) {
+        return stockReservationRepository
+                .findById(reservationId)
+                .orElseThrow(() -> new AssertionError("reservation not found"))
+                .getStatus();
+    }
+}
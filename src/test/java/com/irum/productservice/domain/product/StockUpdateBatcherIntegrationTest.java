@@ -0,0 +1,249 @@
+package com.irum.productservice.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
+import com.irum.productservice.domain.deliverypolicy.domain.repository.DeliveryPolicyRepository;
+import com.irum.productservice.domain.product.Internal.service.ProductInternalService;
+import com.irum.productservice.domain.product.Internal.service.ProductStockService;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import jakarta.persistence.OptimisticLockException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StaleObjectStateException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@Slf4j
+@SpringBootTest(
+        properties = {"product.stock.batch.enabled=true", "product.stock.batch.window-ms=5"})
+public class StockUpdateBatcherIntegrationTest {
+
+    @Autowired private ProductInternalService productInternalService;
+    @Autowired private ProductStockService productStockService;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private DeliveryPolicyRepository deliveryPolicyRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionGroupRepository productOptionGroupRepository;
+    @Autowired private ProductOptionValueRepository productOptionValueRepository;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private UUID storeId;
+    private ProductOptionGroup optionGroup;
+
+    private final int INITIAL_STOCK = 20; // 초기 재고
+    private final int USER_COUNT = 100; // 주문 요청 사용자 수
+
+    private final int BENCH_THREADS = 50; // 벤치마크 동시 호출 수
+    private final int BENCH_REQUESTS = 1000; // 벤치마크 전체 요청 수
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        Store store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        storeId = store.getId();
+        deliveryPolicyRepository.save(DeliveryPolicy.createPolicy(3000, 30000, 5, store));
+
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category category1 =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        Category category2 =
+                categoryRepository.save(Category.createSubCategory("자식 카테고리", category1));
+
+        Product product =
+                productRepository.save(
+                        Product.createProduct(store, category2, "테스트 상품", "설명", "상세", 10000, true));
+        optionGroup =
+                productOptionGroupRepository.save(
+                        ProductOptionGroup.createOptionGroup(product, "사이즈"));
+    }
+
+    @Test
+    @DisplayName("주문 - 동시에 주문 - 묶음 처리로 재시도 없이 호출자별 결과 반환")
+    void updateStock_ConcurrencyTest() throws InterruptedException {
+        UUID optionValueId = createOption(INITIAL_STOCK);
+        ProductInternalRequest request = order(optionValueId);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(USER_COUNT);
+        CountDownLatch latch = new CountDownLatch(USER_COUNT);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger outOfStockCount = new AtomicInteger();
+        AtomicInteger otherFailureCount = new AtomicInteger();
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            executorService.submit(
+                    () -> {
+                        try {
+                            productInternalService.updateStock(request);
+                            successCount.incrementAndGet();
+                        } catch (CommonException e) {
+                            if (e.getErrorCode() == ProductErrorCode.PRODUCT_OUT_OF_STOCK) {
+                                outOfStockCount.incrementAndGet();
+                            } else {
+                                otherFailureCount.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            otherFailureCount.incrementAndGet();
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+        }
+
+        latch.await(15, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(outOfStockCount.get()).isEqualTo(USER_COUNT - INITIAL_STOCK);
+        assertThat(otherFailureCount.get()).isZero();
+        assertThat(stockOf(optionValueId)).isZero();
+    }
+
+    // 1000건을 두 번 돌려 오래 걸리므로 기본 test 작업에서는 제외하고 ./gradlew stressTest 로 실행
+    @Test
+    @Tag("stress")
+    @DisplayName("벤치마크 - 같은 옵션 경합 시 기존 경로(낙관적 락 + 재시도)와 묶음 처리 비교")
+    void updateStock_ContentionBenchmark() throws InterruptedException {
+        // 기존 경로 : ProductInternalService.updateStock 의 @Retryable 정책과 동일한 재시도
+        RetryTemplate retryTemplate =
+                RetryTemplate.builder()
+                        .maxAttempts(3)
+                        .retryOn(
+                                List.of(
+                                        OptimisticLockException.class,
+                                        StaleObjectStateException.class,
+                                        ObjectOptimisticLockingFailureException.class))
+                        .exponentialBackoff(50, 1.5, 500, true)
+                        .build();
+        UUID directOptionId = createOption(BENCH_REQUESTS);
+        BenchResult direct =
+                runBench(
+                        order(directOptionId),
+                        req ->
+                                retryTemplate.execute(
+                                        ctx -> productStockService.updateStockInTransaction(req)));
+
+        UUID batchedOptionId = createOption(BENCH_REQUESTS);
+        BenchResult batched = runBench(order(batchedOptionId), productInternalService::updateStock);
+
+        log.info("기존 경로 {}", direct);
+        log.info("묶음 처리 {}", batched);
+
+        assertThat(batched.success()).isEqualTo(BENCH_REQUESTS);
+        assertThat(stockOf(batchedOptionId)).isZero();
+        assertThat(stockOf(directOptionId)).isEqualTo(BENCH_REQUESTS - direct.success());
+    }
+
+    private BenchResult runBench(
+            ProductInternalRequest request, Function<ProductInternalRequest, ?> call)
+            throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(BENCH_THREADS);
+        CountDownLatch latch = new CountDownLatch(BENCH_REQUESTS);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger successCount = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < BENCH_REQUESTS; i++) {
+            executorService.submit(
+                    () -> {
+                        long begin = System.nanoTime();
+                        try {
+                            call.apply(request);
+                            successCount.incrementAndGet();
+                        } catch (Exception ignored) {
+                            // 재시도 초과 등 실패는 성공 건수에서 빠짐
+                        } finally {
+                            latencies.add(System.nanoTime() - begin);
+                            latch.countDown();
+                        }
+                    });
+        }
+        // 시간 안에 끝나지 않은 요청이 있으면 집계가 어긋나므로 실패로 봄
+        assertThat(latch.await(5, TimeUnit.MINUTES)).isTrue();
+        long elapsed = System.nanoTime() - startedAt;
+        executorService.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        return new BenchResult(
+                successCount.get(),
+                BENCH_REQUESTS / (elapsed / 1_000_000_000.0),
+                TimeUnit.NANOSECONDS.toMillis(p99));
+    }
+
+    private record BenchResult(int success, double throughput, long p99Millis) {
+        @Override
+        public String toString() {
+            return String.format(
+                    "성공: %d, 처리량: %.0f req/s, p99: %d ms", success, throughput, p99Millis);
+        }
+    }
+
+    private UUID createOption(int stock) {
+        return productOptionValueRepository
+                .save(ProductOptionValue.createOptionValue(optionGroup, "L", stock, 0))
+                .getId();
+    }
+
+    private ProductInternalRequest order(UUID optionValueId) {
+        return new ProductInternalRequest(
+                List.of(new ProductInternalRequest.OptionValueRequest(optionValueId, 1)), storeId);
+    }
+
+    private int stockOf(UUID id) {
+        return productOptionValueRepository
+                .findById(id)
+                .orElseThrow(() -> new AssertionError("Test setup failed: Option not found"))
+                .getStockQuantity();
+    }
+}
@@ -0,0 +1,184 @@
+package com.irum.productservice.domain.product.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.irum.productservice.global.util.UuidV7Generator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.hibernate.id.uuid.CustomVersionOneStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * 상품 id 벤치마크 : 기존 Hibernate TIME(version 1) id 와 UuidV7Generator id 로 같은 수의 행을 넣어 삽입 처리량, 기본 키 인덱스
+ * 크기, id 순서와 생성 순서가 어긋난 비율을 비교합니다.
+ *
+ * <p>PostgreSQL 이 필요해 기본 test 작업에서는 제외되며, ./gradlew idBenchmark
+ * -Pbenchmark.url=jdbc:postgresql://... 로 실행합니다. 별도 테이블(bench_p_id_*)에 id.benchmark.rows 건(기본
+ * 100만)을 넣고 끝나면 지웁니다. version 1 id 는 앞 8바이트가 인스턴스(IP + JVM)마다 달라, id.benchmark.instances 개(기본 4)
+ * 인스턴스가 번갈아 넣고 10분의 1 마다 재시작하는 상황으로 만듭니다. 결과는 build/reports/benchmark 에 남습니다.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.url", matches = ".+")
+class ProductIdInsertBenchmark {
+
+    private static final String V1_TABLE = "bench_p_id_v1";
+    private static final String V7_TABLE = "bench_p_id_v7";
+    private static final int BATCH_SIZE = 1_000;
+
+    private final int rows = Integer.getInteger("id.benchmark.rows", 1_000_000);
+    private final int instances = Integer.getInteger("id.benchmark.instances", 4);
+
+    @Test
+    @DisplayName("벤치마크 - version 1 id 와 version 7 id 의 삽입 처리량/기본 키 인덱스 크기 비교")
+    void compareVersion1WithVersion7() throws SQLException, IOException {
+        List<String> report = new ArrayList<>();
+        report.add("rows: " + rows + ", instances(version 1): " + instances);
+        try (Connection connection =
+                DriverManager.getConnection(
+                        System.getProperty("benchmark.url"),
+                        System.getProperty("benchmark.username"),
+                        System.getProperty("benchmark.password"))) {
+            try {
+                InsertStats v1 = insert(connection, V1_TABLE, new HibernateTimeIds());
+                InsertStats v7 = insert(connection, V7_TABLE, UuidV7Generator::generate);
+                report.add("== Hibernate TIME (version 1) ==");
+                report.add(v1.toString());
+                report.add("== UuidV7Generator (version 7) ==");
+                report.add(v7.toString());
+
+                assertThat(v7.outOfOrderRatio()).isZero();
+                assertThat(v7.indexBytes()).isLessThanOrEqualTo(v1.indexBytes());
+            } finally {
+                execute(connection, "DROP TABLE IF EXISTS " + V1_TABLE);
+                execute(connection, "DROP TABLE IF EXISTS " + V7_TABLE);
+            }
+        }
+
+        report.forEach(System.out::println);
+        Path reportDir =
+                Path.of(System.getProperty("benchmark.reportDir", "build/reports/benchmark"));
+        Files.createDirectories(reportDir);
+        Files.write(reportDir.resolve("product-id-insert.txt"), report);
+    }
+
+    private InsertStats insert(Connection connection, String table, Supplier<UUID> ids)
+            throws SQLException {
+        execute(connection, "DROP TABLE IF EXISTS " + table);
+        execute(
+                connection,
+                "CREATE TABLE "
+                        + table
+                        + " (product_id UUID PRIMARY KEY, seq BIGINT NOT NULL, name VARCHAR(255)"
+                        + " NOT NULL, price INT NOT NULL)");
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        long begin = System.nanoTime();
+        try (PreparedStatement statement =
+                connection.prepareStatement(
+                        "INSERT INTO "
+                                + table
+                                + " (product_id, seq, name, price) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                statement.setObject(1, ids.get());
+                statement.setLong(2, i);
+                statement.setString(3, "상품 " + i);
+                statement.setInt(4, 1000 + i % 100 * 100);
+                statement.addBatch();
+                if (i % BATCH_SIZE == 0 || i == rows) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        execute(connection, "ANALYZE " + table);
+        String outOfOrderSql =
+                "SELECT count(*) FROM (SELECT row_number() OVER (ORDER BY product_id) AS by_id,"
+                        + " row_number() OVER (ORDER BY seq) AS by_insert FROM "
+                        + table
+                        + ") AS t WHERE by_id <> by_insert";
+        return new InsertStats(
+                rows * (double) TimeUnit.SECONDS.toNanos(1) / elapsed,
+                queryLong(connection, "SELECT pg_relation_size('" + table + "_pkey')"),
+                queryLong(connection, outOfOrderSql) / (double) rows);
+    }
+
+    private long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * 운영과 같은 version 1 id. 앞 8바이트(IP + JVM 식별자)는 인스턴스마다 고정이고 뒤 8바이트는 시각(ms)과 카운터입니다
+     * (CustomVersionOneStrategy). 인스턴스가 번갈아 만들고, 전체의 10분의 1 마다 한 인스턴스가 재시작해 JVM 식별자가 바뀝니다.
+     */
+    private class HibernateTimeIds implements Supplier<UUID> {
+
+        private final long[] mostSigBits = new long[instances];
+        private int generated;
+
+        HibernateTimeIds() {
+            for (int i = 0; i < instances; i++) {
+                mostSigBits[i] = instancePrefix(i);
+            }
+        }
+
+        @Override
+        public UUID get() {
+            int instance = generated % instances;
+            if (generated > 0 && generated % Math.max(rows / 10, 1) == 0) {
+                mostSigBits[instance] = instancePrefix(instance);
+            }
+            generated++;
+            return new UUID(
+                    mostSigBits[instance],
+                    CustomVersionOneStrategy.generateLeastSignificantBits(
+                            System.currentTimeMillis()));
+        }
+
+        // 10.0.0.x 대역 IP + 임의의 JVM 식별자, version 1
+        private long instancePrefix(int instance) {
+            long ip = 0x0A00_0000L | (instance + 1);
+            long jvm = ThreadLocalRandom.current().nextInt() & 0xFFFF_0FFFL | 0x1000L;
+            return ip << 32 | jvm;
+        }
+    }
+
+    private record InsertStats(double rowsPerSecond, long indexBytes, double outOfOrderRatio) {
+        @Override
+        public String toString() {
+            return String.format(
+                    "삽입 처리량: %,.0f rows/s, 기본 키 인덱스: %,d KB, id 순서가 생성 순서와 다른 행: %.2f%%",
+                    rowsPerSecond, indexBytes / 1024, outOfOrderRatio * 100);
+        }
+    }
+}
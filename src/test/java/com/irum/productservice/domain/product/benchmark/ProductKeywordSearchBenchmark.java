@@ -0,0 +1,180 @@
+package com.irum.productservice.domain.product.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * 키워드 검색 벤치마크 : 인덱스 없는 부분 일치(LIKE '%kw%') 전체 스캔과 trigram GIN 인덱스(016 changeset)를 같은 데이터로 비교합니다.
+ *
+ * <p>PostgreSQL 이 필요해 기본 test 작업에서는 제외되며, ./gradlew searchBenchmark
+ * -Pbenchmark.url=jdbc:postgresql://... 로 실행합니다. 별도 테이블(bench_p_product)에 search.benchmark.rows
+ * 건(기본 100만)을 만들고 끝나면 지웁니다. 결과(검색어별 평균/p99, 실행 계획)는 build/reports/benchmark 에 남습니다.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.url", matches = ".+")
+class ProductKeywordSearchBenchmark {
+
+    private static final String TABLE = "bench_p_product";
+    private static final List<String> KEYWORDS = List.of("티셔츠", "가죽", "캐시미어", "세트");
+
+    // 실제 상품 목록 조회와 같은 형태 : 공개/미삭제 조건, id 역순, 페이지 크기 10
+    private static final String SEARCH_SQL =
+            "SELECT product_id FROM "
+                    + TABLE
+                    + " WHERE is_public AND deleted_at IS NULL"
+                    + " AND (lower(name) LIKE ? OR lower(description) LIKE ?)"
+                    + " ORDER BY product_id DESC LIMIT 10";
+
+    private final int rows = Integer.getInteger("search.benchmark.rows", 1_000_000);
+    private final int iterations = Integer.getInteger("search.benchmark.iterations", 50);
+
+    @Test
+    @DisplayName("벤치마크 - 부분 일치 전체 스캔과 trigram GIN 인덱스 비교")
+    void compareSubstringScanWithTrigramIndex() throws SQLException, IOException {
+        List<String> report = new ArrayList<>();
+        try (Connection connection =
+                DriverManager.getConnection(
+                        System.getProperty("benchmark.url"),
+                        System.getProperty("benchmark.username"),
+                        System.getProperty("benchmark.password"))) {
+            seed(connection);
+            try {
+                report.add("rows: " + rows + ", iterations: " + iterations);
+                report.add("== 인덱스 없음 (전체 스캔) ==");
+                List<Long> scan = run(connection, report);
+
+                createTrigramIndexes(connection);
+                report.add("== trigram GIN 인덱스 ==");
+                List<Long> indexed = run(connection, report);
+
+                for (int i = 0; i < KEYWORDS.size(); i++) {
+                    // 검색어별 평균 응답 시간이 인덱스 사용 시 더 짧아야 함
+                    assertThat(indexed.get(i)).isLessThan(scan.get(i));
+                }
+            } finally {
+                execute(connection, "DROP TABLE IF EXISTS " + TABLE);
+            }
+        }
+
+        report.forEach(System.out::println);
+        Path reportDir =
+                Path.of(System.getProperty("benchmark.reportDir", "build/reports/benchmark"));
+        Files.createDirectories(reportDir);
+        Files.write(reportDir.resolve("product-keyword-search.txt"), report);
+    }
+
+    // 형용사 + 소재 + 품목 조합의 상품명, 문장형 설명을 generate_series 로 한 번에 생성
+    private void seed(Connection connection) throws SQLException {
+        execute(connection, "CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        execute(connection, "DROP TABLE IF EXISTS " + TABLE);
+        execute(
+                connection,
+                "CREATE TABLE "
+                        + TABLE
+                        + " (product_id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL,"
+                        + " description VARCHAR(255) NOT NULL, is_public BOOLEAN NOT NULL,"
+                        + " deleted_at TIMESTAMP)");
+        execute(
+                connection,
+                "INSERT INTO "
+                        + TABLE
+                        + " SELECT gen_random_uuid(), (ARRAY['여름','겨울','데일리','오버핏','슬림'])[1 + i %"
+                        + " 5] || ' ' || (ARRAY['면','린넨','가죽','울','캐시미어','데님','나일론'])[1 + i % 7] ||"
+                        + " (ARRAY['티셔츠','셔츠','바지','가방','니트','코트','원피스','모자','양말','스커트','자켓'])[1 +"
+                        + " i % 11] || ' ' || i, (ARRAY['선물하기 좋은','가볍게 입는','오래 쓰는','세탁이 쉬운'])[1 + i"
+                        + " % 4] || ' 상품입니다 ' || md5(i::text), i % 10 <> 0, CASE WHEN i % 50 = 0"
+                        + " THEN now() END FROM generate_series(1, "
+                        + rows
+                        + ") AS i");
+        execute(connection, "ANALYZE " + TABLE);
+    }
+
+    private void createTrigramIndexes(Connection connection) throws SQLException {
+        execute(
+                connection,
+                "CREATE INDEX ON "
+                        + TABLE
+                        + " USING gin (lower(name) gin_trgm_ops) WHERE deleted_at IS NULL");
+        execute(
+                connection,
+                "CREATE INDEX ON "
+                        + TABLE
+                        + " USING gin (lower(description) gin_trgm_ops) WHERE deleted_at IS NULL");
+        execute(connection, "ANALYZE " + TABLE);
+    }
+
+    /** 검색어별로 반복 실행해 평균(ms) 을 돌려주고, 평균/p99/실행 계획을 보고서에 남깁니다. */
+    private List<Long> run(Connection connection, List<String> report) throws SQLException {
+        List<Long> averages = new ArrayList<>();
+        for (String keyword : KEYWORDS) {
+            String pattern = "%" + keyword + "%";
+            List<Long> latencies = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement(SEARCH_SQL)) {
+                statement.setString(1, pattern);
+                statement.setString(2, pattern);
+                for (int i = 0; i < iterations; i++) {
+                    long begin = System.nanoTime();
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            // 결과를 끝까지 읽음
+                        }
+                    }
+                    latencies.add(System.nanoTime() - begin);
+                }
+            }
+            Collections.sort(latencies);
+            long average =
+                    TimeUnit.NANOSECONDS.toMillis(
+                            (long)
+                                    latencies.stream()
+                                            .mapToLong(Long::longValue)
+                                            .average()
+                                            .orElse(0));
+            long p99 =
+                    TimeUnit.NANOSECONDS.toMillis(
+                            latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1));
+            averages.add(average);
+            report.add(String.format("%s -> 평균: %d ms, p99: %d ms", keyword, average, p99));
+            report.addAll(explain(connection, pattern));
+        }
+        return averages;
+    }
+
+    private List<String> explain(Connection connection, String pattern) throws SQLException {
+        List<String> plan = new ArrayList<>();
+        try (PreparedStatement statement =
+                connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + SEARCH_SQL)) {
+            statement.setString(1, pattern);
+            statement.setString(2, pattern);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add("    " + resultSet.getString(1));
+                }
+            }
+        }
+        return plan;
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.irum.productservice.domain.product.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * 상품 목록 벤치마크 : 상세 설명(TEXT)까지 읽던 기존 목록 컬럼과 카드 컬럼(ProductCardResponse, 대표 이미지 포함)을 같은 데이터로 비교합니다.
+ *
+ * <p>PostgreSQL 이 필요해 기본 test 작업에서는 제외되며, ./gradlew listBenchmark
+ * -Pbenchmark.url=jdbc:postgresql://... 로 실행합니다. 별도 테이블(bench_p_list_*)에 list.benchmark.rows 건(기본
+ * 20만)을 만들고 끝나면 지웁니다. 커서로 list.benchmark.pages 페이지(기본 200)를 넘기며 페이지당 조회 시간과 JSON 응답 크기를 재고, 결과는
+ * build/reports/benchmark 에 남습니다.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.url", matches = ".+")
+class ProductListPayloadBenchmark {
+
+    private static final String PRODUCT = "bench_p_list_product";
+    private static final String CATEGORY = "bench_p_list_category";
+    private static final String IMAGE = "bench_p_list_product_image";
+    private static final int PAGE_SIZE = 30;
+    private static final UUID FIRST_CURSOR = new UUID(-1L, -1L);
+
+    // 변경 전 ProductResponse 목록 쿼리와 같은 컬럼
+    private static final String FULL_SQL =
+            "SELECT p.product_id, p.name, p.description, p.detail_description, p.price,"
+                    + " p.is_public, p.avg_rating, p.review_count, c.category_id, c.name AS"
+                    + " category_name FROM "
+                    + PRODUCT
+                    + " p JOIN "
+                    + CATEGORY
+                    + " c ON c.category_id = p.category_id"
+                    + " WHERE p.is_public AND p.deleted_at IS NULL AND p.product_id < ?"
+                    + " ORDER BY p.product_id DESC LIMIT "
+                    + PAGE_SIZE;
+
+    // ProductRepositoryImpl.card 와 같은 컬럼 (대표 이미지는 상관 서브쿼리)
+    private static final String CARD_SQL =
+            "SELECT p.product_id, p.name, p.description, p.price, p.is_public, p.avg_rating,"
+                    + " p.review_count, (SELECT max(i.image_url) FROM "
+                    + IMAGE
+                    + " i WHERE i.product_id = p.product_id AND i.is_default AND i.deleted_at IS"
+                    + " NULL) AS thumbnail_url, c.category_id, c.name AS category_name FROM "
+                    + PRODUCT
+                    + " p JOIN "
+                    + CATEGORY
+                    + " c ON c.category_id = p.category_id"
+                    + " WHERE p.is_public AND p.deleted_at IS NULL AND p.product_id < ?"
+                    + " ORDER BY p.product_id DESC LIMIT "
+                    + PAGE_SIZE;
+
+    private final int rows = Integer.getInteger("list.benchmark.rows", 200_000);
+    private final int pages = Integer.getInteger("list.benchmark.pages", 200);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("벤치마크 - 상품 목록 전체 컬럼과 카드 컬럼의 응답 크기/조회 시간 비교")
+    void compareFullRowWithCardProjection() throws SQLException, IOException {
+        List<String> report = new ArrayList<>();
+        try (Connection connection =
+                DriverManager.getConnection(
+                        System.getProperty("benchmark.url"),
+                        System.getProperty("benchmark.username"),
+                        System.getProperty("benchmark.password"))) {
+            seed(connection);
+            try {
+                report.add("rows: " + rows + ", pages: " + pages + ", page size: " + PAGE_SIZE);
+                // 첫 측정이 캐시를 데우는 비용을 떠안지 않도록 한 번씩 미리 실행
+                walk(connection, FULL_SQL);
+                walk(connection, CARD_SQL);
+
+                PageStats full = walk(connection, FULL_SQL);
+                PageStats card = walk(connection, CARD_SQL);
+                report.add("== 전체 컬럼 (detail_description 포함) ==");
+                report.add(full.toString());
+                report.add("== 카드 컬럼 (대표 이미지 포함) ==");
+                report.add(card.toString());
+
+                assertThat(card.averageBytes()).isLessThan(full.averageBytes());
+            } finally {
+                execute(connection, "DROP TABLE IF EXISTS " + IMAGE);
+                execute(connection, "DROP TABLE IF EXISTS " + PRODUCT);
+                execute(connection, "DROP TABLE IF EXISTS " + CATEGORY);
+            }
+        }
+
+        report.forEach(System.out::println);
+        Path reportDir =
+                Path.of(System.getProperty("benchmark.reportDir", "build/reports/benchmark"));
+        Files.createDirectories(reportDir);
+        Files.write(reportDir.resolve("product-list-payload.txt"), report);
+    }
+
+    // 상세 설명은 1~4KB, 상품 10개 중 8개에 대표 이미지 1장과 일반 이미지 2장
+    private void seed(Connection connection) throws SQLException {
+        execute(connection, "DROP TABLE IF EXISTS " + IMAGE);
+        execute(connection, "DROP TABLE IF EXISTS " + PRODUCT);
+        execute(connection, "DROP TABLE IF EXISTS " + CATEGORY);
+        execute(
+                connection,
+                "CREATE TABLE "
+                        + CATEGORY
+                        + " (category_id UUID PRIMARY KEY, name VARCHAR(50) NOT NULL)");
+        execute(
+                connection,
+                "INSERT INTO "
+                        + CATEGORY
+                        + " SELECT gen_random_uuid(), '카테고리 ' || i FROM generate_series(1, 100) AS"
+                        + " i");
+        execute(
+                connection,
+                "CREATE TABLE "
+                        + PRODUCT
+                        + " (product_id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL,"
+                        + " description VARCHAR(255) NOT NULL, detail_description TEXT NOT NULL,"
+                        + " price INT NOT NULL, is_public BOOLEAN NOT NULL, avg_rating DOUBLE"
+                        + " PRECISION, review_count INT, category_id UUID NOT NULL, deleted_at"
+                        + " TIMESTAMP)");
+        execute(
+                connection,
+                "INSERT INTO "
+                        + PRODUCT
+                        + " SELECT gen_random_uuid(), '상품 ' || i, '요약 설명 ' || md5(i::text),"
+                        + " repeat('<p>상세 설명 ' || md5(i::text) || '</p>', 20 + i % 60),"
+                        + " 1000 + i % 100 * 100, i % 10 <> 0, (i % 50) / 10.0, i % 300,"
+                        + " (SELECT category_id FROM "
+                        + CATEGORY
+                        + " ORDER BY category_id OFFSET i % 100 LIMIT 1), CASE WHEN i % 50 = 0"
+                        + " THEN now() END FROM generate_series(1, "
+                        + rows
+                        + ") AS i");
+        execute(
+                connection,
+                "CREATE TABLE "
+                        + IMAGE
+                        + " (product_image_id UUID PRIMARY KEY, product_id UUID NOT NULL,"
+                        + " image_url TEXT NOT NULL, is_default BOOLEAN NOT NULL, deleted_at"
+                        + " TIMESTAMP)");
+        execute(
+                connection,
+                "INSERT INTO "
+                        + IMAGE
+                        + " SELECT gen_random_uuid(), p.product_id, 'https://cdn.irum.com/p/' ||"
+                        + " p.product_id || '/' || n || '.jpg', n = 0, NULL FROM "
+                        + PRODUCT
+                        + " p CROSS JOIN generate_series(0, 2) AS n"
+                        + " WHERE get_byte(uuid_send(p.product_id), 0) % 10 < 8");
+        // 017 changeset 과 같은 인덱스
+        execute(connection, "CREATE INDEX ON " + IMAGE + " (product_id, is_default)");
+        execute(connection, "ANALYZE " + CATEGORY);
+        execute(connection, "ANALYZE " + PRODUCT);
+        execute(connection, "ANALYZE " + IMAGE);
+    }
+
+    /** 커서로 pages 페이지를 차례로 읽으며 페이지별 조회 시간과 JSON 직렬화 크기를 잽니다. */
+    private PageStats walk(Connection connection, String sql) throws SQLException, IOException {
+        List<Long> latencies = new ArrayList<>();
+        long totalBytes = 0;
+        UUID cursor = FIRST_CURSOR;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int page = 0; page < pages; page++) {
+                statement.setObject(1, cursor);
+                List<Map<String, Object>> rowsOfPage = new ArrayList<>(PAGE_SIZE);
+                long begin = System.nanoTime();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    ResultSetMetaData metaData = resultSet.getMetaData();
+                    while (resultSet.next()) {
+                        Map<String, Object> row = new LinkedHashMap<>();
+                        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                            row.put(metaData.getColumnLabel(column), resultSet.getObject(column));
+                        }
+                        rowsOfPage.add(row);
+                    }
+                }
+                latencies.add(System.nanoTime() - begin);
+                if (rowsOfPage.isEmpty()) {
+                    cursor = FIRST_CURSOR;
+                    continue;
+                }
+                totalBytes += objectMapper.writeValueAsBytes(rowsOfPage).length;
+                cursor = (UUID) rowsOfPage.get(rowsOfPage.size() - 1).get("product_id");
+            }
+        }
+        Collections.sort(latencies);
+        return new PageStats(
+                totalBytes / pages,
+                latencies.stream().mapToLong(Long::longValue).sum() / pages,
+                latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1));
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private record PageStats(long averageBytes, long averageNanos, long p99Nanos) {
+        @Override
+        public String toString() {
+            return String.format(
+                    "페이지당 응답 크기: %,d bytes, 조회 평균: %.2f ms, p99: %.2f ms",
+                    averageBytes,
+                    averageNanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                    p99Nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.irum.productservice.domain.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.productservice.domain.category.dto.response.CategoryInfoResponse;
+import com.irum.productservice.domain.product.Internal.service.stock.JpaStockEngine;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.dto.response.ProductDetailResponse;
+import com.irum.productservice.domain.product.dto.response.ProductOptionGroupResponse;
+import com.irum.productservice.domain.product.dto.response.ProductOptionValueResponse;
+import com.irum.productservice.domain.product.event.ProductDetailChangedEvent;
+import com.irum.productservice.domain.store.dto.response.StoreInfoResponse;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import com.irum.productservice.global.infrastructure.properties.ProductCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ProductDetailCacheTest {
+
+    private final UUID productId = UUID.randomUUID();
+    private final UUID optionValueId = UUID.randomUUID();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductDetailCache productDetailCache;
+    private AtomicInteger loads;
+    private ProductOptionValueRepository productOptionValueRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productOptionValueRepository = mock(ProductOptionValueRepository.class);
+        productDetailCache = cache(null);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("조회 - 처음은 DB, 이후는 로컬 캐시에서 응답하고 단계별 횟수 기록")
+    void get_readThrough() {
+        ProductDetailResponse first = productDetailCache.get(productId, loader());
+        ProductDetailResponse second = productDetailCache.get(productId, loader());
+
+        assertThat(second).isEqualTo(first);
+        assertThat(loads).hasValue(1);
+        assertThat(lookups("db")).isEqualTo(1);
+        assertThat(lookups("local")).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화 - 상품 변경 이벤트 후 다시 DB 에서 읽음")
+    void evict_onEvents() {
+        productDetailCache.get(productId, loader());
+
+        productDetailCache.handleProductDetailChanged(new ProductDetailChangedEvent(productId));
+        productDetailCache.get(productId, loader());
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("재고 - 캐시를 지우지 않고 응답할 때마다 현재 옵션 재고로 채움")
+    void get_overlaysCurrentStock() {
+        ProductOptionValue optionValue = mock(ProductOptionValue.class);
+        given(optionValue.getId()).willReturn(optionValueId);
+        given(optionValue.getStockQuantity()).willReturn(10, 7);
+        given(productOptionValueRepository.findAllById(List.of(optionValueId)))
+                .willReturn(List.of(optionValue));
+
+        assertThat(stockOf(productDetailCache.get(productId, loader()))).isEqualTo(10);
+        assertThat(stockOf(productDetailCache.get(productId, loader()))).isEqualTo(7);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회 실패 - 예외를 그대로 던지고 캐시에 남기지 않음")
+    void get_loaderFailure_notCached() {
+        Supplier<ProductDetailResponse> notFound =
+                () -> {
+                    throw new CommonException(ProductErrorCode.PRODUCT_NOT_FOUND);
+                };
+
+        assertThatThrownBy(() -> productDetailCache.get(productId, notFound))
+                .isInstanceOf(CommonException.class);
+        productDetailCache.get(productId, loader());
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("공유 캐시 - 로컬에 없으면 공유 캐시에서 채우고, 무효화는 공유 캐시에도 전달")
+    void get_fromRedis_andEvictShared() {
+        ProductDetailRedisStore redisStore = mock(ProductDetailRedisStore.class);
+        given(redisStore.get(productId)).willReturn(Optional.of(detail()));
+        productDetailCache = cache(redisStore);
+
+        productDetailCache.get(productId, loader());
+        productDetailCache.handleProductDetailChanged(new ProductDetailChangedEvent(productId));
+
+        assertThat(loads).hasValue(0);
+        assertThat(lookups("redis")).isEqualTo(1);
+        verify(redisStore).subscribe(any());
+        verify(redisStore).evict(Set.of(productId));
+    }
+
+    private ProductDetailCache cache(ProductDetailRedisStore redisStore) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if (redisStore != null) {
+            beanFactory.addBean("productDetailRedisStore", redisStore);
+        }
+        ProductDetailCache cache =
+                new ProductDetailCache(
+                        new ProductCacheProperties(null),
+                        beanFactory.getBeanProvider(ProductDetailRedisStore.class),
+                        mock(PlatformTransactionManager.class),
+                        meterRegistry,
+                        productOptionValueRepository,
+                        new JpaStockEngine());
+        cache.init();
+        return cache;
+    }
+
+    private Supplier<ProductDetailResponse> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return detail();
+        };
+    }
+
+    private ProductDetailResponse detail() {
+        return new ProductDetailResponse(
+                productId,
+                "라운드 반팔 티셔츠",
+                "설명",
+                "상세",
+                10000,
+                true,
+                0.0,
+                0,
+                new StoreInfoResponse(UUID.randomUUID(), "상점", "010", "주소", "123", "456"),
+                new CategoryInfoResponse(UUID.randomUUID(), "티셔츠", 3),
+                List.of(),
+                List.of(
+                        new ProductOptionGroupResponse(
+                                UUID.randomUUID(),
+                                "사이즈",
+                                List.of(
+                                        new ProductOptionValueResponse(
+                                                optionValueId, "L", 10, 0)))));
+    }
+
+    private int stockOf(ProductDetailResponse detail) {
+        return detail.optionGroups().get(0).optionValues().get(0).stockQuantity();
+    }
+
+    private double lookups(String source) {
+        return meterRegistry
+                .get("product.cache.detail.lookups")
+                .tag("source", source)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,108 @@
+package com.irum.productservice.domain.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.irum.productservice.domain.category.dto.response.CategoryInfoResponse;
+import com.irum.productservice.domain.product.dto.response.ProductDetailResponse;
+import com.irum.productservice.domain.product.dto.response.ProductImageResponse;
+import com.irum.productservice.domain.product.dto.response.ProductOptionGroupResponse;
+import com.irum.productservice.domain.product.dto.response.ProductOptionValueResponse;
+import com.irum.productservice.domain.store.dto.response.StoreInfoResponse;
+import com.irum.productservice.global.infrastructure.properties.ProductCacheProperties;
+import com.irum.productservice.testsupport.EmbeddedRedisConfig;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataRedisTest
+@ActiveProfiles("test")
+@Import(EmbeddedRedisConfig.class)
+class ProductDetailRedisStoreTest {
+
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+
+    private ProductDetailRedisStore store;
+    private ProductDetailRedisStore otherInstance;
+
+    private final UUID productId = UUID.randomUUID();
+    private final UUID optionValueId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        store = newStore();
+        otherInstance = newStore();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.stop();
+        otherInstance.stop();
+        stringRedisTemplate.delete("product:detail:" + productId);
+    }
+
+    @Test
+    @DisplayName("저장/조회 - 상세 응답을 그대로 돌려줌")
+    void putAndGet() {
+        store.put(detail());
+
+        assertThat(store.get(productId)).contains(detail());
+        assertThat(stringRedisTemplate.getExpire("product:detail:" + productId)).isPositive();
+    }
+
+    @Test
+    @DisplayName("무효화 - 공유 캐시에서 지우고 다른 인스턴스에만 알림")
+    void evict_notifiesOtherInstances() throws InterruptedException {
+        BlockingQueue<UUID> received = new LinkedBlockingQueue<>();
+        BlockingQueue<UUID> ownReceived = new LinkedBlockingQueue<>();
+        otherInstance.subscribe(received::add);
+        store.subscribe(ownReceived::add);
+        Thread.sleep(200); // 구독 준비 대기
+        store.put(detail());
+
+        store.evict(Set.of(productId));
+
+        assertThat(store.get(productId)).isEmpty();
+        assertThat(received.poll(5, TimeUnit.SECONDS)).isEqualTo(productId);
+        assertThat(ownReceived.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private ProductDetailRedisStore newStore() {
+        return new ProductDetailRedisStore(
+                stringRedisTemplate, new ObjectMapper(), new ProductCacheProperties(null));
+    }
+
+    private ProductDetailResponse detail() {
+        return new ProductDetailResponse(
+                productId,
+                "라운드 반팔 티셔츠",
+                "설명",
+                "상세",
+                10000,
+                true,
+                4.5,
+                3,
+                new StoreInfoResponse(productId, "상점", "010", "주소", "123", "456"),
+                new CategoryInfoResponse(productId, "티셔츠", 3),
+                List.of(new ProductImageResponse(productId, "https://cdn.irum.com/p/1.jpg", true)),
+                List.of(
+                        new ProductOptionGroupResponse(
+                                productId,
+                                "사이즈",
+                                List.of(
+                                        new ProductOptionValueResponse(
+                                                optionValueId, "L", 10, 0)))));
+    }
+}
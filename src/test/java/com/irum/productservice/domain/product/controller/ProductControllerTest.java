@@ -21,12 +21,16 @@ import com.irum.productservice.domain.category.dto.response.CategoryInfoResponse
 import com.irum.productservice.domain.product.dto.request.ProductCategoryUpdateRequest;
 import com.irum.productservice.domain.product.dto.request.ProductCreateRequest;
 import com.irum.productservice.domain.product.dto.request.ProductOptionGroupRequest;
+import com.irum.productservice.domain.product.dto.request.ProductOptionStockShardingRequest;
 import com.irum.productservice.domain.product.dto.request.ProductOptionValueRequest;
 import com.irum.productservice.domain.product.dto.request.ProductOptionValueUpdateRequest;
 import com.irum.productservice.domain.product.dto.request.ProductPublicUpdateRequest;
 import com.irum.productservice.domain.product.dto.request.ProductUpdateRequest;
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
 import com.irum.productservice.domain.product.dto.response.ProductCursorResponse;
 import com.irum.productservice.domain.product.dto.response.ProductDetailResponse;
+import com.irum.productservice.domain.product.dto.response.ProductFacetResponse;
+import com.irum.productservice.domain.product.dto.response.ProductImageResponse;
 import com.irum.productservice.domain.product.dto.response.ProductOptionGroupResponse;
 import com.irum.productservice.domain.product.dto.response.ProductOptionValueResponse;
 import com.irum.productservice.domain.product.dto.response.ProductResponse;
@@ -358,36 +362,53 @@ class ProductControllerTest {
         // given
         UUID categoryId = UUID.randomUUID();
 
-        ProductResponse product1 =
-                new ProductResponse(
+        ProductCardResponse product1 =
+                new ProductCardResponse(
                         UUID.randomUUID(),
                         "반팔 티셔츠",
                         "가벼운 여름용 반팔",
-                        "통기성 좋은 면 소재 반팔입니다.",
                         15000,
                         true,
                         4.5,
                         12,
+                        "https://cdn.irum.com/p/1.jpg",
                         categoryId,
                         "상의");
 
-        ProductResponse product2 =
-                new ProductResponse(
+        ProductCardResponse product2 =
+                new ProductCardResponse(
                         UUID.randomUUID(),
                         "후드티",
                         "따뜻한 기모 후드티",
-                        "겨울용 보온성 높은 기모 후드입니다.",
                         35000,
                         true,
                         4.8,
                         31,
+                        null,
                         categoryId,
                         "상의");
 
         ProductCursorResponse response =
-                new ProductCursorResponse(List.of(product1, product2), product2.id());
-
-        Mockito.when(productService.getProductList(any(), any(), any(), any()))
+                new ProductCursorResponse(
+                        List.of(product1, product2),
+                        "15000_" + product1.id(),
+                        true,
+                        new ProductFacetResponse(
+                                2,
+                                List.of(
+                                        new ProductFacetResponse.CategoryCount(
+                                                categoryId, "반팔", 2)),
+                                List.of(
+                                        new ProductFacetResponse.PriceBandCount(0, 10000, 0),
+                                        new ProductFacetResponse.PriceBandCount(10000, 30000, 1),
+                                        new ProductFacetResponse.PriceBandCount(30000, null, 1)),
+                                List.of(
+                                        new ProductFacetResponse.RatingCount(4, 2),
+                                        new ProductFacetResponse.RatingCount(3, 2),
+                                        new ProductFacetResponse.RatingCount(2, 2),
+                                        new ProductFacetResponse.RatingCount(1, 2))));
+
+        Mockito.when(productService.getProductList(any(), any(), any(), any(), any(), any()))
                 .thenReturn(response);
 
         // when & then
@@ -396,6 +417,11 @@ class ProductControllerTest {
                                 .param("categoryId", categoryId.toString())
                                 .param("size", "10")
                                 .param("keyword", "티셔츠")
+                                .param("sort", "PRICE_ASC")
+                                .param("minPrice", "10000")
+                                .param("maxPrice", "50000")
+                                .param("minRating", "4.0")
+                                .param("inStock", "true")
                                 .with(csrf().asHeader()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
@@ -420,6 +446,135 @@ class ProductControllerTest {
                                                 .optional(),
                                         parameterWithName("keyword")
                                                 .description("검색어 (선택)")
+                                                .optional(),
+                                        parameterWithName("sort")
+                                                .description(
+                                                        "정렬 (선택, RELEVANCE | NEWEST | PRICE_ASC |"
+                                                            + " PRICE_DESC | RATING | REVIEW_COUNT"
+                                                            + " | POPULARITY, 기본값: 검색어가 있으면"
+                                                            + " RELEVANCE, 없으면 NEWEST)")
+                                                .optional(),
+                                        parameterWithName("minPrice")
+                                                .description("최저 가격, 포함 (선택)")
+                                                .optional(),
+                                        parameterWithName("maxPrice")
+                                                .description("최고 가격, 포함 (선택)")
+                                                .optional(),
+                                        parameterWithName("minRating")
+                                                .description("최소 평균 평점 0 ~ 5, 리뷰가 없으면 0점 (선택)")
+                                                .optional(),
+                                        parameterWithName("inStock")
+                                                .description("true 면 품절 상품 제외 (선택)")
+                                                .optional()),
+                                responseFields(
+                                        fieldWithPath("success").description("API 성공 여부"),
+                                        fieldWithPath("status").description("HTTP 상태 코드 ex) 200"),
+                                        fieldWithPath("timestamp").description("응답 시각"),
+                                        fieldWithPath("data.products[].id").description("상품 ID"),
+                                        fieldWithPath("data.products[].name").description("상품명"),
+                                        fieldWithPath("data.products[].description")
+                                                .description("요약 설명"),
+                                        fieldWithPath("data.products[].price").description("가격"),
+                                        fieldWithPath("data.products[].isPublic")
+                                                .description("공개 여부"),
+                                        fieldWithPath("data.products[].avgRating")
+                                                .description("평균 평점"),
+                                        fieldWithPath("data.products[].reviewCount")
+                                                .description("리뷰 수"),
+                                        fieldWithPath("data.products[].thumbnailUrl")
+                                                .description("대표 이미지 URL (없을 경우 null)")
+                                                .optional(),
+                                        fieldWithPath("data.products[].categoryId")
+                                                .description("카테고리 ID"),
+                                        fieldWithPath("data.products[].categoryName")
+                                                .description("카테고리명"),
+                                        fieldWithPath("data.nextCursor")
+                                                .description(
+                                                        "다음 페이지 커서, 같은 정렬로 다음 요청의 cursor 에 전달 (없을"
+                                                                + " 경우 null)"),
+                                        fieldWithPath("data.hasNext").description("다음 페이지 존재 여부"),
+                                        fieldWithPath("data.facets")
+                                                .description(
+                                                        "facet, 첫 페이지에만 포함 (다음 페이지이거나 집계 준비 전,"
+                                                                + " DB 키워드 검색이면 null)")
+                                                .optional(),
+                                        fieldWithPath("data.facets.total")
+                                                .description("조건에 맞는 공개 상품 수"),
+                                        fieldWithPath("data.facets.categories[].categoryId")
+                                                .description(
+                                                        "요청 카테고리 바로 아래 카테고리 ID (카테고리가 없으면 최상위"
+                                                                + " 카테고리)"),
+                                        fieldWithPath("data.facets.categories[].name")
+                                                .description("카테고리명"),
+                                        fieldWithPath("data.facets.categories[].count")
+                                                .description("상품 수 (0건인 카테고리는 제외)"),
+                                        fieldWithPath("data.facets.priceBands[].minPrice")
+                                                .description("가격대 하한 (포함)"),
+                                        fieldWithPath("data.facets.priceBands[].maxPrice")
+                                                .description("가격대 상한 (미포함, 마지막 구간은 null)")
+                                                .optional(),
+                                        fieldWithPath("data.facets.priceBands[].count")
+                                                .description("가격대 상품 수"),
+                                        fieldWithPath("data.facets.ratings[].minRating")
+                                                .description("평균 평점 하한 (4, 3, 2, 1)"),
+                                        fieldWithPath("data.facets.ratings[].count")
+                                                .description("평균 평점이 하한 이상인 상품 수"))));
+    }
+
+    @Test
+    @DisplayName("인기 상품 조회 API")
+    void getPopularProductsTest() throws Exception {
+        // given
+        UUID categoryId = UUID.randomUUID();
+        UUID storeId = UUID.randomUUID();
+
+        ProductCardResponse product =
+                new ProductCardResponse(
+                        UUID.randomUUID(),
+                        "반팔 티셔츠",
+                        "가벼운 여름용 반팔",
+                        15000,
+                        true,
+                        4.5,
+                        12,
+                        "https://cdn.irum.com/p/1.jpg",
+                        categoryId,
+                        "상의");
+
+        ProductCursorResponse response =
+                new ProductCursorResponse(List.of(product), product.id().toString(), true, null);
+
+        Mockito.when(productService.getPopularProducts(any(), any(), any(), any()))
+                .thenReturn(response);
+
+        // when & then
+        mockMvc.perform(
+                        get("/products/rankings")
+                                .param("categoryId", categoryId.toString())
+                                .param("storeId", storeId.toString())
+                                .param("size", "10")
+                                .with(csrf().asHeader()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.products[0].name").value("반팔 티셔츠"))
+                .andDo(
+                        document(
+                                "product-rankings",
+                                preprocessRequest(prettyPrint()),
+                                preprocessResponse(prettyPrint()),
+                                queryParameters(
+                                        parameterWithName("categoryId")
+                                                .description("카테고리 ID, 하위 카테고리 판매 포함 (선택)")
+                                                .optional(),
+                                        parameterWithName("storeId")
+                                                .description("상점 ID, 있으면 상점 랭킹 (선택)")
+                                                .optional(),
+                                        parameterWithName("cursor")
+                                                .description("다음 페이지 커서 (선택)")
+                                                .optional(),
+                                        parameterWithName("size")
+                                                .description(
+                                                        "페이지 크기 (선택, 기본값 10 / 허용값: 10, 30, 50)")
                                                 .optional()),
                                 responseFields(
                                         fieldWithPath("success").description("API 성공 여부"),
@@ -429,8 +584,6 @@ class ProductControllerTest {
                                         fieldWithPath("data.products[].name").description("상품명"),
                                         fieldWithPath("data.products[].description")
                                                 .description("요약 설명"),
-                                        fieldWithPath("data.products[].detailDescription")
-                                                .description("상세 설명"),
                                         fieldWithPath("data.products[].price").description("가격"),
                                         fieldWithPath("data.products[].isPublic")
                                                 .description("공개 여부"),
@@ -438,12 +591,19 @@ class ProductControllerTest {
                                                 .description("평균 평점"),
                                         fieldWithPath("data.products[].reviewCount")
                                                 .description("리뷰 수"),
+                                        fieldWithPath("data.products[].thumbnailUrl")
+                                                .description("대표 이미지 URL (없을 경우 null)")
+                                                .optional(),
                                         fieldWithPath("data.products[].categoryId")
                                                 .description("카테고리 ID"),
                                         fieldWithPath("data.products[].categoryName")
                                                 .description("카테고리명"),
                                         fieldWithPath("data.nextCursor")
-                                                .description("다음 페이지 커서 (없을 경우 null)"))));
+                                                .description("다음 페이지 커서, 마지막 상품 ID (없을 경우 null)"),
+                                        fieldWithPath("data.hasNext").description("다음 페이지 존재 여부"),
+                                        fieldWithPath("data.facets")
+                                                .description("인기 상품 조회에서는 항상 null")
+                                                .optional())));
     }
 
     @Test
@@ -485,6 +645,9 @@ class ProductControllerTest {
                         32,
                         store,
                         category,
+                        List.of(
+                                new ProductImageResponse(
+                                        UUID.randomUUID(), "https://cdn.irum.com/p/1.jpg", true)),
                         List.of(optionGroup));
 
         Mockito.when(productService.getProductById(productId)).thenReturn(response);
@@ -534,6 +697,12 @@ class ProductControllerTest {
                                         fieldWithPath("data.category.name").description("카테고리명"),
                                         fieldWithPath("data.category.depth")
                                                 .description("카테고리 깊이 (1=대분류, 2=중분류, 3=소분류)"),
+                                        // Images
+                                        fieldWithPath("data.images[].id").description("이미지 ID"),
+                                        fieldWithPath("data.images[].imageUrl")
+                                                .description("이미지 URL"),
+                                        fieldWithPath("data.images[].isDefault")
+                                                .description("대표 이미지 여부 (대표 이미지가 먼저 옵니다)"),
                                         // Option Groups
                                         fieldWithPath("data.optionGroups[].id")
                                                 .description("옵션 그룹 ID"),
@@ -783,6 +952,50 @@ class ProductControllerTest {
                                         fieldWithPath("data.extraPrice").description("추가 금액"))));
     }
 
+    @Test
+    @DisplayName("상품 옵션 재고 샤딩 변경 API")
+    void updateProductOptionStockShardingTest() throws Exception {
+        UUID optionValueId = UUID.randomUUID();
+
+        ProductOptionStockShardingRequest request = new ProductOptionStockShardingRequest(true, 4);
+
+        ProductOptionValueResponse response =
+                new ProductOptionValueResponse(optionValueId, "검정", 30, 2000);
+
+        Mockito.when(productService.updateProductOptionStockSharding(optionValueId, request))
+                .thenReturn(response);
+
+        mockMvc.perform(
+                        patch(
+                                        "/products/options/values/{optionValueId}/stock-sharding",
+                                        optionValueId)
+                                .with(csrf().asHeader())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.status").value(HttpStatus.OK.value()))
+                .andDo(
+                        document(
+                                "product-option-value-stock-sharding",
+                                pathParameters(
+                                        parameterWithName("optionValueId")
+                                                .description("재고 샤딩을 변경할 옵션 값 ID")),
+                                requestFields(
+                                        fieldWithPath("enabled").description("재고 샤딩 적용 여부"),
+                                        fieldWithPath("shardCount")
+                                                .description("샤드 수 (2~64, 생략 시 4)")
+                                                .optional()),
+                                responseFields(
+                                        fieldWithPath("success").description("API 성공 여부"),
+                                        fieldWithPath("status").description("HTTP 상태 코드 ex) 200"),
+                                        fieldWithPath("timestamp").description("응답 시각"),
+                                        fieldWithPath("data.id").description("옵션 값 ID"),
+                                        fieldWithPath("data.name").description("옵션명"),
+                                        fieldWithPath("data.stockQuantity").description("총 재고 수량"),
+                                        fieldWithPath("data.extraPrice").description("추가 금액"))));
+    }
+
     @Test
     @DisplayName("상품 옵션 값 삭제 API")
     void deleteProductOptionValueTest() throws Exception {
@@ -0,0 +1,170 @@
+package com.irum.productservice.domain.product.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.irum.productservice.domain.category.service.CategoryTreeIndex;
+import com.irum.productservice.domain.product.event.ProductSoldEvent;
+import com.irum.productservice.global.infrastructure.properties.RankingProperties;
+import com.irum.productservice.testsupport.EmbeddedRedisConfig;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataRedisTest
+@ActiveProfiles("test")
+@Import(EmbeddedRedisConfig.class)
+class ProductPopularityRankingTest {
+
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+
+    private final CategoryTreeIndex categoryTreeIndex = mock(CategoryTreeIndex.class);
+
+    private final UUID parentCategoryId = UUID.randomUUID();
+    private final UUID categoryId = UUID.randomUUID();
+    private final UUID storeId = UUID.randomUUID();
+    private final UUID otherStoreId = UUID.randomUUID();
+    private final Instant now = Instant.parse("2026-03-01T00:00:00Z");
+
+    private ProductPopularityRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        given(categoryTreeIndex.breadcrumb(categoryId))
+                .willReturn(
+                        List.of(
+                                new CategoryTreeIndex.Node(parentCategoryId, "상의", 1, null),
+                                new CategoryTreeIndex.Node(categoryId, "반팔", 2, parentCategoryId)));
+        ranking = newRanking(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(
+                List.of(
+                        ProductPopularityRanking.allKey(),
+                        ProductPopularityRanking.categoryKey(parentCategoryId),
+                        ProductPopularityRanking.categoryKey(categoryId),
+                        ProductPopularityRanking.storeKey(storeId),
+                        ProductPopularityRanking.storeKey(otherStoreId),
+                        ProductPopularityRanking.EPOCH_KEY,
+                        ProductPopularityRanking.REGISTRY_KEY));
+    }
+
+    @Test
+    @DisplayName("점수 - 반감기가 지난 판매는 절반으로 계산하고, 상위 카테고리/상점 랭킹에도 더함")
+    void record_decaysOverTime() {
+        UUID steady = UUID.randomUUID();
+        UUID trending = UUID.randomUUID();
+        // 반감기 2번 전에 3개 판매(0.75) < 지금 1개 판매(1)
+        ranking.record(List.of(sale(steady, storeId, 3)), now.minus(Duration.ofHours(144)));
+        ranking.record(List.of(sale(trending, otherStoreId, 1)), now);
+
+        String parentKey = ProductPopularityRanking.categoryKey(parentCategoryId);
+        assertThat(ranking.range(parentKey, 0, 10)).containsExactly(trending, steady);
+        assertThat(ranking.range(ProductPopularityRanking.allKey(), 0, 10))
+                .containsExactly(trending, steady);
+        assertThat(ranking.range(ProductPopularityRanking.storeKey(storeId), 0, 10))
+                .containsExactly(steady);
+        assertThat(
+                        stringRedisTemplate.opsForZSet().score(parentKey, steady.toString())
+                                / stringRedisTemplate
+                                        .opsForZSet()
+                                        .score(parentKey, trending.toString()))
+                .isCloseTo(0.75, offset(1e-9));
+
+        // 같은 시각의 추가 판매는 그대로 쌓임
+        ranking.record(List.of(sale(steady, storeId, 1)), now);
+        assertThat(ranking.range(parentKey, 0, 10)).containsExactly(steady, trending);
+    }
+
+    @Test
+    @DisplayName("랭킹 크기 - 상위 maxSize 건만 남기고, 커서 다음 순위부터 이어서 읽음")
+    void record_trimsAndPages() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        UUID fourth = UUID.randomUUID();
+        ranking.record(
+                List.of(
+                        sale(first, storeId, 4),
+                        sale(second, storeId, 3),
+                        sale(third, storeId, 2),
+                        sale(fourth, storeId, 1)),
+                now);
+
+        String key = ProductPopularityRanking.categoryKey(categoryId);
+        assertThat(ranking.range(key, 0, 10)).containsExactly(first, second, third);
+
+        assertThat(ranking.startAfter(key, null)).isZero();
+        long next = ranking.startAfter(key, second);
+        assertThat(ranking.range(key, next, 10)).containsExactly(third);
+        assertThat(ranking.startAfter(key, fourth)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("기준 시각 이동 - 반감기 정수 배만큼 옮기고 점수를 같은 배율로 줄여, 이동 전후 판매의 비율이 유지됨")
+    void renormalize_keepsRelativeScores() {
+        UUID steady = UUID.randomUUID();
+        UUID trending = UUID.randomUUID();
+        ranking.record(List.of(sale(steady, storeId, 3)), now.minus(Duration.ofHours(144)));
+        String parentKey = ProductPopularityRanking.categoryKey(parentCategoryId);
+        double before = score(parentKey, steady);
+
+        // 2025-01-01 부터 약 140 반감기 (72시간)
+        assertThat(ranking.renormalize(now)).isTrue();
+        assertThat(ranking.renormalize(now)).isFalse();
+        assertThat(score(parentKey, steady)).isLessThan(before).isGreaterThan(0.0);
+
+        ranking.record(List.of(sale(trending, otherStoreId, 1)), now);
+        assertThat(score(parentKey, steady) / score(parentKey, trending))
+                .isCloseTo(0.75, offset(1e-9));
+        assertThat(
+                        score(ProductPopularityRanking.storeKey(storeId), steady)
+                                / score(parentKey, trending))
+                .isCloseTo(0.75, offset(1e-9));
+    }
+
+    @Test
+    @DisplayName("기준 시각 이동 - 가중치가 double 범위를 넘는 반감기도 이동 후에는 점수를 쌓음")
+    void renormalize_preventsOverflow() {
+        // 반감기 1시간이면 2025-01-01 부터의 가중치가 double 범위를 넘음
+        ProductPopularityRanking shortHalfLife =
+                new ProductPopularityRanking(
+                        stringRedisTemplate, categoryTreeIndex, new RankingProperties(true, 1L, 3));
+        UUID product = UUID.randomUUID();
+        String key = ProductPopularityRanking.allKey();
+
+        shortHalfLife.record(List.of(sale(product, storeId, 1)), now);
+        assertThat(shortHalfLife.range(key, 0, 10)).isEmpty();
+
+        assertThat(shortHalfLife.renormalize(now)).isTrue();
+        shortHalfLife.record(List.of(sale(product, storeId, 1)), now);
+        assertThat(score(key, product)).isFinite().isBetween(1.0, 2.0);
+    }
+
+    private ProductPopularityRanking newRanking(int maxSize) {
+        return new ProductPopularityRanking(
+                stringRedisTemplate, categoryTreeIndex, new RankingProperties(true, 72L, maxSize));
+    }
+
+    private double score(String key, UUID productId) {
+        return stringRedisTemplate.opsForZSet().score(key, productId.toString());
+    }
+
+    private ProductSoldEvent.Sale sale(UUID productId, UUID storeId, int quantity) {
+        return new ProductSoldEvent.Sale(productId, categoryId, storeId, quantity);
+    }
+}
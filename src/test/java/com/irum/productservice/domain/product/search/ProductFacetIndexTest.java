@@ -0,0 +1,159 @@
+package com.irum.productservice.domain.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.irum.productservice.domain.category.service.CategoryTreeIndex;
+import com.irum.productservice.domain.product.dto.response.ProductFacetResponse;
+import com.irum.productservice.global.infrastructure.properties.FacetProperties;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductFacetIndexTest {
+
+    // 최상위 A(하위 A1), B(하위 B1)
+    private final UUID categoryA = UUID.randomUUID();
+    private final UUID categoryA1 = UUID.randomUUID();
+    private final UUID categoryB = UUID.randomUUID();
+    private final UUID categoryB1 = UUID.randomUUID();
+
+    private final UUID product1 = UUID.randomUUID();
+    private final UUID product2 = UUID.randomUUID();
+    private final UUID product3 = UUID.randomUUID();
+
+    private ProductFacetIndex facetIndex;
+
+    @BeforeEach
+    void setUp() {
+        CategoryTreeIndex categoryTreeIndex = mock(CategoryTreeIndex.class);
+        when(categoryTreeIndex.children(null))
+                .thenReturn(
+                        List.of(
+                                new CategoryTreeIndex.Node(categoryA, "A", 1, null),
+                                new CategoryTreeIndex.Node(categoryB, "B", 1, null)));
+        when(categoryTreeIndex.children(categoryA))
+                .thenReturn(List.of(new CategoryTreeIndex.Node(categoryA1, "A1", 2, categoryA)));
+        when(categoryTreeIndex.descendantIds(categoryA)).thenReturn(List.of(categoryA, categoryA1));
+        when(categoryTreeIndex.descendantIds(categoryA1)).thenReturn(List.of(categoryA1));
+        when(categoryTreeIndex.descendantIds(categoryB)).thenReturn(List.of(categoryB, categoryB1));
+
+        facetIndex =
+                new ProductFacetIndex(
+                        new FacetProperties(List.of(30000, 10000), null), categoryTreeIndex);
+        facetIndex.rebuild(
+                after ->
+                        after != null
+                                ? List.of()
+                                : List.of(
+                                        new ProductFacetDocument(product1, categoryA1, 5000, 4.5),
+                                        new ProductFacetDocument(product2, categoryA1, 20000, null),
+                                        new ProductFacetDocument(
+                                                product3, categoryB1, 120000, 3.2)));
+    }
+
+    @Test
+    @DisplayName("facet - 최상위 카테고리별, 가격대별, 평점 N점 이상 상품 수")
+    void facets_all() {
+        ProductFacetResponse facets = facetIndex.facets(null).orElseThrow();
+
+        assertThat(facets.total()).isEqualTo(3);
+        assertThat(facets.categories())
+                .containsExactly(
+                        new ProductFacetResponse.CategoryCount(categoryA, "A", 2),
+                        new ProductFacetResponse.CategoryCount(categoryB, "B", 1));
+        assertThat(facets.priceBands())
+                .containsExactly(
+                        new ProductFacetResponse.PriceBandCount(0, 10000, 1),
+                        new ProductFacetResponse.PriceBandCount(10000, 30000, 1),
+                        new ProductFacetResponse.PriceBandCount(30000, null, 1));
+        assertThat(facets.ratings())
+                .containsExactly(
+                        new ProductFacetResponse.RatingCount(4, 1),
+                        new ProductFacetResponse.RatingCount(3, 2),
+                        new ProductFacetResponse.RatingCount(2, 2),
+                        new ProductFacetResponse.RatingCount(1, 2));
+    }
+
+    @Test
+    @DisplayName("facet - 카테고리를 지정하면 그 아래 상품만, 바로 아래 카테고리별로 셈")
+    void facets_category() {
+        ProductFacetResponse facets = facetIndex.facets(categoryA).orElseThrow();
+
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.categories())
+                .containsExactly(new ProductFacetResponse.CategoryCount(categoryA1, "A1", 2));
+    }
+
+    @Test
+    @DisplayName("갱신 - 카테고리/가격 변경은 이전 값을 빼고 새 값을 더하고, 비공개/삭제는 뺌")
+    void putAndRemove() {
+        facetIndex.put(new ProductFacetDocument(product1, categoryB1, 50000, 4.5));
+        facetIndex.remove(product2);
+
+        ProductFacetResponse facets = facetIndex.facets(null).orElseThrow();
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.categories())
+                .containsExactly(new ProductFacetResponse.CategoryCount(categoryB, "B", 2));
+        assertThat(facets.priceBands())
+                .extracting(ProductFacetResponse.PriceBandCount::count)
+                .containsExactly(0L, 0L, 2L);
+        assertThat(facetIndex.facets(categoryA).orElseThrow().total()).isZero();
+    }
+
+    @Test
+    @DisplayName("검색 facet - 검색 결과 중 집계에 있는(공개) 상품만 셈")
+    void facets_searchHits() {
+        ProductFacetResponse facets =
+                facetIndex
+                        .facets(null, List.of(product1, product3, UUID.randomUUID()))
+                        .orElseThrow();
+
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.categories())
+                .containsExactly(
+                        new ProductFacetResponse.CategoryCount(categoryA, "A", 1),
+                        new ProductFacetResponse.CategoryCount(categoryB, "B", 1));
+        assertThat(facetIndex.facets(categoryA, List.of(product1, product3)).orElseThrow().total())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재구성 - 만드는 동안 들어온 변경을 교체 직전에 다시 반영")
+    void rebuild_replaysChangesDuringRebuild() {
+        UUID product4 = UUID.randomUUID();
+        facetIndex.rebuild(
+                after -> {
+                    if (after != null) {
+                        return List.of();
+                    }
+                    // 페이지를 읽은 뒤 커밋된 변경
+                    facetIndex.remove(product1);
+                    facetIndex.put(new ProductFacetDocument(product4, categoryB1, 1000, null));
+                    return List.of(
+                            new ProductFacetDocument(product1, categoryA1, 5000, 4.5),
+                            new ProductFacetDocument(product2, categoryA1, 20000, null));
+                });
+
+        ProductFacetResponse facets = facetIndex.facets(null).orElseThrow();
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.categories())
+                .containsExactly(
+                        new ProductFacetResponse.CategoryCount(categoryA, "A", 1),
+                        new ProductFacetResponse.CategoryCount(categoryB, "B", 1));
+    }
+
+    @Test
+    @DisplayName("재구성 전에는 facet 없음")
+    void facets_notReady() {
+        ProductFacetIndex empty =
+                new ProductFacetIndex(
+                        new FacetProperties(null, null), mock(CategoryTreeIndex.class));
+
+        assertThat(empty.isReady()).isFalse();
+        assertThat(empty.facets(null)).isEmpty();
+    }
+}
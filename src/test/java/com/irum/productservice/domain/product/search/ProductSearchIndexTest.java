@@ -0,0 +1,100 @@
+package com.irum.productservice.domain.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.irum.productservice.global.infrastructure.properties.SearchProperties;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex productSearchIndex;
+
+    private final UUID shirtId = UUID.randomUUID();
+    private final UUID pantsId = UUID.randomUUID();
+    private final UUID bagId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex(new SearchProperties(null, null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        productSearchIndex.close();
+    }
+
+    @Test
+    @DisplayName("재구성 전 - 준비되지 않은 상태이고 검색 결과 없음")
+    void search_notReady() {
+        assertThat(productSearchIndex.isReady()).isFalse();
+        assertThat(productSearchIndex.search("셔츠")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 - 띄어쓰기 없이 붙은 단어 일부, 대소문자 무관하게 찾음")
+    void search_partialKoreanWord() {
+        rebuildWithDefaults();
+
+        assertThat(productSearchIndex.search("티셔츠")).containsExactly(shirtId);
+        assertThat(productSearchIndex.search("반팔")).containsExactly(shirtId);
+        assertThat(productSearchIndex.search("cotton")).containsExactly(shirtId);
+        assertThat(productSearchIndex.search("가")).containsExactlyInAnyOrder(pantsId, bagId);
+        assertThat(productSearchIndex.search("청바지 셔츠")).isEmpty();
+        assertThat(productSearchIndex.search("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 순위 - 상품명에 있는 상품이 설명에만 있는 상품보다 앞")
+    void search_nameRankedFirst() {
+        rebuildWithDefaults();
+
+        assertThat(productSearchIndex.search("가방")).containsExactly(bagId, pantsId);
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 수정과 삭제가 바로 검색에 반영")
+    void indexAndDelete_reflected() {
+        rebuildWithDefaults();
+
+        productSearchIndex.index(new ProductSearchDocument(shirtId, "긴팔 니트", "겨울용"));
+        productSearchIndex.delete(bagId);
+
+        assertThat(productSearchIndex.search("티셔츠")).isEmpty();
+        assertThat(productSearchIndex.search("니트")).containsExactly(shirtId);
+        assertThat(productSearchIndex.search("가방")).containsExactly(pantsId);
+    }
+
+    @Test
+    @DisplayName("재구성 중 변경 - 새 색인으로 교체할 때 함께 반영")
+    void rebuild_replaysConcurrentChanges() {
+        rebuildWithDefaults();
+
+        productSearchIndex.rebuild(
+                after -> {
+                    if (after != null) {
+                        return List.of();
+                    }
+                    // DB 를 읽은 뒤 커밋된 삭제
+                    productSearchIndex.delete(bagId);
+                    return defaults();
+                });
+
+        assertThat(productSearchIndex.search("가방")).containsExactly(pantsId);
+    }
+
+    private void rebuildWithDefaults() {
+        productSearchIndex.rebuild(after -> after == null ? defaults() : List.of());
+    }
+
+    private List<ProductSearchDocument> defaults() {
+        return List.of(
+                new ProductSearchDocument(shirtId, "여름 반팔티셔츠", "Cotton 100%"),
+                new ProductSearchDocument(pantsId, "청바지", "가방과 어울리는 바지"),
+                new ProductSearchDocument(bagId, "가죽 가방", "수납이 넉넉한 가방"));
+    }
+}
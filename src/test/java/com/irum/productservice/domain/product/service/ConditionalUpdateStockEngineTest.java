@@ -0,0 +1,113 @@
+package com.irum.productservice.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.product.Internal.service.stock.ConditionalUpdateStockEngine;
+import com.irum.productservice.domain.product.Internal.service.stock.StockChange;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionStockShard;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionStockShardRepository.ShardStock;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionStockShardRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalUpdateStockEngineTest {
+
+    @Mock private ProductOptionValueRepository productOptionValueRepository;
+    @Mock private ProductOptionStockShardRepository productOptionStockShardRepository;
+
+    private ConditionalUpdateStockEngine engine;
+    private ProductOptionValue optionValue;
+
+    // DB 의 샤드 재고 (조건부 UPDATE 는 이 값으로 판단)
+    private final Map<UUID, Integer> shardStocks = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        engine =
+                new ConditionalUpdateStockEngine(
+                        productOptionValueRepository, productOptionStockShardRepository);
+
+        Store store =
+                Store.createStore(
+                        "테스트 상점", "010-1234-5678", "서울시 강남구", "1234567890", "2025123456", 1L);
+        Category category = mock(Category.class);
+        given(category.getDepth()).willReturn(3);
+        Product product = Product.createProduct(store, category, "테스트 상품", "설명", "상세", 10000, true);
+        optionValue =
+                ProductOptionValue.createOptionValue(
+                        ProductOptionGroup.createOptionGroup(product, "사이즈"), "L", 20, 0);
+        ReflectionTestUtils.setField(optionValue, "id", UUID.randomUUID());
+        optionValue.enableStockSharding(4);
+        for (ProductOptionStockShard shard : optionValue.getStockShards()) {
+            UUID shardId = UUID.randomUUID();
+            ReflectionTestUtils.setField(shard, "id", shardId);
+            shardStocks.put(shardId, shard.getStockQuantity());
+        }
+
+        given(productOptionStockShardRepository.decreaseStockIfAvailable(any(), anyInt()))
+                .willAnswer(
+                        invocation -> {
+                            UUID shardId = invocation.getArgument(0);
+                            int quantity = invocation.getArgument(1);
+                            if (shardStocks.get(shardId) < quantity) {
+                                return 0;
+                            }
+                            shardStocks.merge(shardId, -quantity, Integer::sum);
+                            return 1;
+                        });
+        given(productOptionStockShardRepository.findStocksByOptionValueId(optionValue.getId()))
+                .willAnswer(
+                        invocation ->
+                                shardStocks.entrySet().stream()
+                                        .map(entry -> shardStock(entry.getKey(), entry.getValue()))
+                                        .toList());
+    }
+
+    @Test
+    @DisplayName("샤드 나눠 차감 - 읽어 둔 샤드 재고가 아니라 DB 의 현재 샤드 재고로 수량을 정함")
+    void decrease_spansShardsWithCurrentStock() {
+        // 엔티티를 읽은 뒤 다른 주문/복구로 샤드 재고가 5,5,5,5 -> 0,0,7,5 로 바뀐 상황
+        List<UUID> shardIds = List.copyOf(shardStocks.keySet());
+        shardStocks.put(shardIds.get(0), 0);
+        shardStocks.put(shardIds.get(1), 0);
+        shardStocks.put(shardIds.get(2), 7);
+
+        engine.decrease(List.of(new StockChange(optionValue, 12)));
+
+        assertThat(shardStocks.values()).containsOnly(0);
+    }
+
+    private static ShardStock shardStock(UUID id, int stockQuantity) {
+        return new ShardStock() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public int getStockQuantity() {
+                return stockQuantity;
+            }
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.irum.productservice.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.irum.productservice.domain.product.Internal.service.stock.HotStockTracker;
+import com.irum.productservice.global.infrastructure.properties.StockProperties;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HotStockTrackerTest {
+
+    private HotStockTracker hotStockTracker;
+
+    private final UUID hotOptionId = UUID.randomUUID();
+    private final UUID busyOptionId = UUID.randomUUID();
+    private final UUID quietOptionId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        hotStockTracker =
+                new HotStockTracker(
+                        new StockProperties(
+                                null,
+                                null,
+                                null,
+                                null,
+                                null,
+                                new StockProperties.Metrics(3, 2),
+                                null));
+    }
+
+    @Test
+    @DisplayName("상위 K개 - 충돌 수, 요청 수 순으로 정렬")
+    void top_ordersByConflictsThenRequests() {
+        record(hotOptionId, 5, 3);
+        record(busyOptionId, 10, 0);
+        record(quietOptionId, 1, 0);
+
+        List<HotStockTracker.HotStock> top = hotStockTracker.top(2);
+
+        assertThat(top)
+                .extracting(HotStockTracker.HotStock::optionValueId)
+                .containsExactly(hotOptionId, busyOptionId);
+        assertThat(top.get(0).requests()).isEqualTo(5);
+        assertThat(top.get(0).conflicts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("감쇠 - 값이 절반으로 줄고 0 이 된 옵션은 추적에서 빠짐")
+    void decay_halvesAndEvicts() {
+        record(hotOptionId, 4, 2);
+        record(quietOptionId, 1, 0);
+
+        hotStockTracker.decay();
+
+        assertThat(hotStockTracker.top(10))
+                .containsExactly(new HotStockTracker.HotStock(hotOptionId, 2, 1));
+    }
+
+    @Test
+    @DisplayName("추적 상한 - 상한에 닿으면 새 옵션은 집계하지 않음")
+    void record_ignoresNewOptionWhenFull() {
+        record(hotOptionId, 1, 0);
+        record(busyOptionId, 1, 0);
+        record(quietOptionId, 1, 0);
+
+        record(UUID.randomUUID(), 100, 100);
+
+        assertThat(hotStockTracker.top(10))
+                .extracting(HotStockTracker.HotStock::optionValueId)
+                .containsExactlyInAnyOrder(hotOptionId, busyOptionId, quietOptionId);
+    }
+
+    private void record(UUID optionValueId, int requests, int conflicts) {
+        for (int i = 0; i < requests; i++) {
+            hotStockTracker.recordRequest(List.of(optionValueId));
+        }
+        for (int i = 0; i < conflicts; i++) {
+            hotStockTracker.recordConflict(List.of(optionValueId));
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 public class ProductImageServiceTest {
@@ -38,6 +39,7 @@ public class ProductImageServiceTest {
     @Mock private MemberUtil memberUtil;
     @Mock private StoreRepository storeRepository;
     @Mock private CategoryRepository categoryRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private ProductImage productImage;
     private Product product;
@@ -10,6 +10,9 @@ import com.irum.openfeign.product.dto.request.ProductInternalRequest;
 import com.irum.openfeign.product.dto.response.ProductInternalResponse;
 import com.irum.productservice.domain.product.Internal.service.ProductInternalService;
 import com.irum.productservice.domain.product.Internal.service.ProductStockService;
+import com.irum.productservice.domain.product.Internal.service.StockUpdateBatcher;
+import com.irum.productservice.domain.product.Internal.service.stock.StockMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +29,8 @@ class ProductInternalServiceTest {
     @InjectMocks private ProductInternalService productInternalService;
 
     @Mock private ProductStockService productStockService;
+    @Mock private StockUpdateBatcher stockUpdateBatcher;
+    @Spy private StockMetrics stockMetrics = new StockMetrics(new SimpleMeterRegistry());
 
     @Test
     @DisplayName("재고 업데이트 성공 - ProductStockService로 위임")
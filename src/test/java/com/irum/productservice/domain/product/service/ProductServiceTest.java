@@ -9,6 +9,10 @@ import com.irum.openfeign.member.client.MemberClient;
 import com.irum.openfeign.member.dto.response.MemberDto;
 import com.irum.productservice.domain.category.domain.entity.Category;
 import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.category.service.CategoryTreeIndex;
+import com.irum.productservice.domain.product.Internal.service.stock.JpaStockEngine;
+import com.irum.productservice.domain.product.Internal.service.stock.StockEngine;
+import com.irum.productservice.domain.product.cache.ProductDetailCache;
 import com.irum.productservice.domain.product.domain.entity.Product;
 import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
 import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
@@ -16,21 +20,29 @@ import com.irum.productservice.domain.product.domain.repository.ProductOptionGro
 import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
 import com.irum.productservice.domain.product.domain.repository.ProductRepository;
 import com.irum.productservice.domain.product.dto.request.*;
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
+import com.irum.productservice.domain.product.dto.response.ProductCursorResponse;
+import com.irum.productservice.domain.product.dto.response.ProductFacetResponse;
 import com.irum.productservice.domain.product.event.OptionGroupDeletedEvent;
 import com.irum.productservice.domain.product.event.ProductDeletedEvent;
+import com.irum.productservice.domain.product.search.ProductFacetIndex;
+import com.irum.productservice.domain.product.search.ProductSearchIndex;
 import com.irum.productservice.domain.store.domain.entity.Store;
 import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.global.infrastructure.properties.SearchProperties;
 import com.irum.productservice.global.util.MemberUtil;
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
@@ -44,9 +56,15 @@ class ProductServiceTest {
     @Mock private ProductOptionValueRepository optionValueRepository;
     @Mock private StoreRepository storeRepository;
     @Mock private CategoryRepository categoryRepository;
+    @Mock private CategoryTreeIndex categoryTreeIndex;
     @Mock private MemberUtil memberUtil;
     @Mock private ApplicationEventPublisher eventPublisher;
     @Mock private MemberClient memberClient;
+    @Spy private StockEngine stockEngine = new JpaStockEngine();
+    @Mock private ProductDetailCache productDetailCache;
+    @Mock private ProductFacetIndex productFacetIndex;
+    @Mock private ProductSearchIndex productSearchIndex;
+    @Mock private SearchProperties searchProperties;
 
     private MemberDto member;
     private Store store;
@@ -361,17 +379,21 @@ class ProductServiceTest {
         verify(eventPublisher, times(2)).publishEvent(any(ProductDeletedEvent.class));
     }
 
-    @DisplayName("상품 목록 조회 - 키워드 검색")
+    @DisplayName("상품 목록 조회 - 키워드 검색은 정렬이 없으면 관련도 순")
     @Test
     void getProductList_KeywordOnly() {
         String keyword = "바디워시";
         int size = 10;
 
-        when(productRepository.findProductsByKeyword(null, size, keyword)).thenReturn(List.of());
+        when(productRepository.findProductsByKeyword(
+                        ProductSortType.RELEVANCE, null, size + 1, ProductListFilter.NONE, keyword))
+                .thenReturn(List.of());
 
-        productService.getProductList(null, null, size, keyword);
+        productService.getProductList(null, null, size, keyword, null, null);
 
-        verify(productRepository, times(1)).findProductsByKeyword(null, size, keyword);
+        verify(productRepository, times(1))
+                .findProductsByKeyword(
+                        ProductSortType.RELEVANCE, null, size + 1, ProductListFilter.NONE, keyword);
     }
 
     @DisplayName("상품 목록 조회 - 카테고리 검색")
@@ -380,51 +402,205 @@ class ProductServiceTest {
         UUID categoryId = UUID.randomUUID();
         int size = 10;
 
-        when(categoryRepository.findChildrenByParentId(any())).thenReturn(List.of());
+        when(categoryTreeIndex.descendantIds(categoryId)).thenReturn(List.of(categoryId));
 
-        when(productRepository.findProductsByCategoryIds(null, size, List.of(categoryId)))
+        when(productRepository.findProductsByCategoryIds(
+                        ProductSortType.PRICE_ASC,
+                        null,
+                        size + 1,
+                        ProductListFilter.NONE,
+                        List.of(categoryId)))
                 .thenReturn(List.of());
 
-        productService.getProductList(categoryId, null, size, null);
+        productService.getProductList(
+                categoryId, null, size, null, ProductSortType.PRICE_ASC, null);
 
         verify(productRepository, times(1))
-                .findProductsByCategoryIds(null, size, List.of(categoryId));
+                .findProductsByCategoryIds(
+                        ProductSortType.PRICE_ASC,
+                        null,
+                        size + 1,
+                        ProductListFilter.NONE,
+                        List.of(categoryId));
     }
 
     @DisplayName("상품 목록 조회 - 카테고리 + 키워드 검색")
     @Test
     void getProductList_CategoryAndKeyword() {
         UUID categoryId = UUID.randomUUID();
-        UUID cursor = null;
+        String cursor = null;
         String keyword = "로션";
         int size = 10;
 
         // 하위 카테고리 목록 모킹
-        when(categoryRepository.findChildrenByParentId(any()))
-                .thenReturn(List.of()); // leaf category
+        when(categoryTreeIndex.descendantIds(categoryId))
+                .thenReturn(List.of(categoryId)); // leaf category
 
         when(productRepository.findProductsByCategoryIdsAndKeyword(
-                        cursor, size, List.of(categoryId), keyword))
+                        ProductSortType.RELEVANCE,
+                        cursor,
+                        size + 1,
+                        ProductListFilter.NONE,
+                        List.of(categoryId),
+                        keyword))
                 .thenReturn(List.of());
 
         // when
-        productService.getProductList(categoryId, cursor, size, keyword);
+        productService.getProductList(categoryId, cursor, size, keyword, null, null);
 
         // then
         verify(productRepository, times(1))
-                .findProductsByCategoryIdsAndKeyword(cursor, size, List.of(categoryId), keyword);
+                .findProductsByCategoryIdsAndKeyword(
+                        ProductSortType.RELEVANCE,
+                        cursor,
+                        size + 1,
+                        ProductListFilter.NONE,
+                        List.of(categoryId),
+                        keyword);
     }
 
-    @DisplayName("상품 목록 조회 - 기본 전체 조회")
+    @DisplayName("상품 목록 조회 - 기본 전체 조회는 최신 순")
     @Test
     void getProductList_DefaultCursorPaging() {
         int size = 10;
 
-        when(productRepository.findProductsByCursor(null, size)).thenReturn(List.of());
+        when(productRepository.findProductsByCursor(
+                        ProductSortType.NEWEST, null, size + 1, ProductListFilter.NONE))
+                .thenReturn(List.of());
+
+        ProductCursorResponse response =
+                productService.getProductList(null, null, size, null, null, null);
+
+        verify(productRepository, times(1))
+                .findProductsByCursor(
+                        ProductSortType.NEWEST, null, size + 1, ProductListFilter.NONE);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @DisplayName("상품 목록 조회 - size + 1 건이 조회되면 size 건만 돌려주고 다음 페이지 커서를 채움")
+    @Test
+    void getProductList_HasNext() {
+        int size = 10;
+        List<ProductCardResponse> fetched =
+                IntStream.range(0, size + 1)
+                        .mapToObj(
+                                i ->
+                                        new ProductCardResponse(
+                                                UUID.randomUUID(),
+                                                "상품" + i,
+                                                "설명",
+                                                1000 * (i + 1),
+                                                true,
+                                                null,
+                                                null,
+                                                null,
+                                                UUID.randomUUID(),
+                                                "카테고리"))
+                        .toList();
+        when(productRepository.findProductsByCursor(
+                        ProductSortType.PRICE_ASC, null, size + 1, ProductListFilter.NONE))
+                .thenReturn(fetched);
+
+        ProductCursorResponse response =
+                productService.getProductList(
+                        null, null, size, null, ProductSortType.PRICE_ASC, null);
+
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.products()).hasSize(size);
+        assertThat(response.nextCursor()).isEqualTo("10000_" + fetched.get(size - 1).id());
+    }
+
+    @DisplayName("상품 목록 조회 - 첫 페이지에만 카테고리 facet 을 붙임")
+    @Test
+    void getProductList_FacetsOnFirstPage() {
+        UUID categoryId = UUID.randomUUID();
+        int size = 10;
+        ProductFacetResponse facets = new ProductFacetResponse(3, List.of(), List.of(), List.of());
+        when(categoryTreeIndex.descendantIds(categoryId)).thenReturn(List.of(categoryId));
+        when(productFacetIndex.facets(categoryId)).thenReturn(Optional.of(facets));
+
+        ProductCursorResponse first =
+                productService.getProductList(categoryId, null, size, null, null, null);
+        ProductCursorResponse next =
+                productService.getProductList(
+                        categoryId, UUID.randomUUID().toString(), size, null, null, null);
+
+        assertThat(first.facets()).isEqualTo(facets);
+        assertThat(next.facets()).isNull();
+        verify(productFacetIndex, times(1)).facets(categoryId);
+    }
+
+    @DisplayName("상품 목록 조회 - 키워드 facet 은 검색 색인 결과로 셈")
+    @Test
+    void getProductList_KeywordFacets() {
+        String keyword = "바디워시";
+        List<UUID> hits = List.of(UUID.randomUUID(), UUID.randomUUID());
+        ProductFacetResponse facets = new ProductFacetResponse(2, List.of(), List.of(), List.of());
+        when(searchProperties.usesSearchIndex()).thenReturn(true);
+        when(productSearchIndex.isReady()).thenReturn(true);
+        when(productSearchIndex.search(keyword)).thenReturn(hits);
+        when(productFacetIndex.facets(null, hits)).thenReturn(Optional.of(facets));
+
+        ProductCursorResponse response =
+                productService.getProductList(null, null, 10, keyword, null, null);
+
+        assertThat(response.facets()).isEqualTo(facets);
+    }
+
+    @DisplayName("상품 목록 조회 - DB 검색(engine=database)이면 키워드 facet 없음")
+    @Test
+    void getProductList_KeywordFacets_DatabaseEngine() {
+        when(searchProperties.usesSearchIndex()).thenReturn(false);
+
+        ProductCursorResponse response =
+                productService.getProductList(null, null, 10, "바디워시", null, null);
+
+        assertThat(response.facets()).isNull();
+        verifyNoInteractions(productFacetIndex, productSearchIndex);
+    }
+
+    @DisplayName("상품 목록 조회 - 가격/평점/재고 필터를 목록 조회에 넘김")
+    @Test
+    void getProductList_Filter() {
+        int size = 10;
+        ProductListFilter filter = new ProductListFilter(10000, 30000, 4.0, true);
+        when(productRepository.findProductsByCursor(
+                        ProductSortType.PRICE_ASC, null, size + 1, filter))
+                .thenReturn(List.of());
+
+        productService.getProductList(null, null, size, null, ProductSortType.PRICE_ASC, filter);
 
-        productService.getProductList(null, null, size, null);
+        verify(productRepository, times(1))
+                .findProductsByCursor(ProductSortType.PRICE_ASC, null, size + 1, filter);
+    }
+
+    @DisplayName("상품 목록 조회 실패 - 최저 가격이 최고 가격보다 크거나 평점이 0 ~ 5 밖")
+    @Test
+    void getProductList_InvalidFilter() {
+        assertThatThrownBy(
+                        () ->
+                                productService.getProductList(
+                                        null,
+                                        null,
+                                        10,
+                                        null,
+                                        null,
+                                        new ProductListFilter(30000, 10000, null, null)))
+                .isInstanceOf(CommonException.class)
+                .hasMessageContaining("상품 목록 필터 조건이 올바르지 않습니다.");
+        assertThatThrownBy(
+                        () ->
+                                productService.getProductList(
+                                        null,
+                                        null,
+                                        10,
+                                        null,
+                                        null,
+                                        new ProductListFilter(null, null, 5.5, null)))
+                .isInstanceOf(CommonException.class);
 
-        verify(productRepository, times(1)).findProductsByCursor(null, size);
+        verifyNoInteractions(productRepository);
     }
 
     @DisplayName("옵션 그룹 생성 성공 테스트 - 옵션 값 포함")
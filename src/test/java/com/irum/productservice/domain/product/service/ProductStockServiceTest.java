@@ -10,6 +10,8 @@ import com.irum.productservice.domain.category.domain.entity.Category;
 import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
 import com.irum.productservice.domain.discount.domain.repository.DiscountRepository;
 import com.irum.productservice.domain.product.Internal.service.ProductStockService;
+import com.irum.productservice.domain.product.Internal.service.stock.BatchStockResult;
+import com.irum.productservice.domain.product.Internal.service.stock.JpaStockEngine;
 import com.irum.productservice.domain.product.domain.entity.Product;
 import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
 import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
@@ -17,6 +19,7 @@ import com.irum.productservice.domain.product.domain.repository.ProductOptionVal
 import com.irum.productservice.domain.product.mapper.UpdateStockMapper;
 import com.irum.productservice.domain.store.domain.entity.Store;
 import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +41,7 @@ class ProductStockServiceTest {
     @Mock private ProductOptionValueRepository productOptionValueRepository;
     @Mock private DiscountRepository discountRepository;
     @Mock private UpdateStockMapper updateStockMapper;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private UUID storeId;
     private UUID optionValueId1;
@@ -53,7 +58,9 @@ class ProductStockServiceTest {
                         productOptionValueRepository,
                         discountRepository,
                         storeRepository,
-                        updateStockMapper);
+                        updateStockMapper,
+                        new JpaStockEngine(),
+                        eventPublisher);
     }
 
     @Test
@@ -117,4 +124,72 @@ class ProductStockServiceTest {
         assertThat(pov1.getStockQuantity()).isEqualTo(95);
         assertThat(pov2.getStockQuantity()).isEqualTo(40);
     }
+
+    @Test
+    @DisplayName("묶음 재고 업데이트 - 도착 순서대로 판단해 주문별 결과를 돌려주고 성공분만 차감")
+    void updateStockInBatch_perRequestResult() {
+        // given
+        Store mockStore =
+                Store.createStore(
+                        "테스트 상점", "010-1234-5678", "서울시 강남구", "1234567890", "2025123456", 1L);
+        ReflectionTestUtils.setField(mockStore, "id", storeId);
+
+        Category testCategory = org.mockito.Mockito.mock(Category.class);
+        lenient().when(testCategory.getDepth()).thenReturn(3);
+
+        DeliveryPolicy mockPolicy = org.mockito.Mockito.mock(DeliveryPolicy.class);
+        lenient().when(mockPolicy.getDefaultDeliveryFee()).thenReturn(3000);
+        ReflectionTestUtils.setField(mockStore, "deliveryPolicy", mockPolicy);
+
+        Product mockProduct =
+                Product.createProduct(
+                        mockStore, testCategory, "테스트 상품", "상품 설명", "상품 상세", 10000, true);
+        ProductOptionGroup mockGroup = ProductOptionGroup.createOptionGroup(mockProduct, "색상");
+        ProductOptionValue pov1 = ProductOptionValue.createOptionValue(mockGroup, "빨강", 100, 0);
+        ProductOptionValue pov2 = ProductOptionValue.createOptionValue(mockGroup, "파랑", 50, 0);
+        ReflectionTestUtils.setField(pov1, "id", optionValueId1);
+        ReflectionTestUtils.setField(pov2, "id", optionValueId2);
+
+        lenient()
+                .when(storeRepository.findByIdWithDeliveryPolicy(storeId))
+                .thenReturn(Optional.of(mockStore));
+        lenient()
+                .when(productOptionValueRepository.findAllByIdWithFetchJoin(anyList()))
+                .thenReturn(List.of(pov1, pov2));
+        lenient().when(discountRepository.findAllByProductIds(anyList())).thenReturn(List.of());
+
+        // 60 성공 -> (60 + 파랑 60) 재고 부족 -> 30 성공 -> 20 재고 부족
+        List<ProductInternalRequest> requests =
+                List.of(
+                        order(optionValueId1, 60),
+                        new ProductInternalRequest(
+                                List.of(
+                                        new ProductInternalRequest.OptionValueRequest(
+                                                optionValueId1, 5),
+                                        new ProductInternalRequest.OptionValueRequest(
+                                                optionValueId2, 60)),
+                                storeId),
+                        order(optionValueId1, 30),
+                        order(optionValueId1, 20));
+
+        // when
+        List<BatchStockResult> results = productStockService.updateStockInBatch(requests);
+
+        // then
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0).response()).isNotNull();
+        assertThat(results.get(1).error().getErrorCode())
+                .isEqualTo(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+        assertThat(results.get(2).response()).isNotNull();
+        assertThat(results.get(3).error().getErrorCode())
+                .isEqualTo(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+        assertThat(pov1.getStockQuantity()).isEqualTo(10);
+        assertThat(pov2.getStockQuantity()).isEqualTo(50);
+    }
+
+    private ProductInternalRequest order(UUID optionValueId, int quantity) {
+        return new ProductInternalRequest(
+                List.of(new ProductInternalRequest.OptionValueRequest(optionValueId, quantity)),
+                storeId);
+    }
 }
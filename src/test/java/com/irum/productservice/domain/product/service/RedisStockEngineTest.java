@@ -0,0 +1,407 @@
+package com.irum.productservice.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.openfeign.product.dto.request.RollbackStockRequest;
+import com.irum.openfeign.product.dto.response.ProductInternalResponse;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
+import com.irum.productservice.domain.discount.domain.repository.DiscountRepository;
+import com.irum.productservice.domain.product.Internal.service.ProductStockService;
+import com.irum.productservice.domain.product.Internal.service.stock.BatchStockResult;
+import com.irum.productservice.domain.product.Internal.service.stock.RedisStockEngine;
+import com.irum.productservice.domain.product.Internal.service.stock.RedisStockWriteBehind;
+import com.irum.productservice.domain.product.Internal.service.stock.StockChange;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.mapper.UpdateStockMapper;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import com.irum.productservice.global.infrastructure.properties.StockProperties;
+import com.irum.productservice.testsupport.EmbeddedRedisConfig;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataRedisTest
+@ActiveProfiles("test")
+@Import(EmbeddedRedisConfig.class)
+@ExtendWith(MockitoExtension.class)
+class RedisStockEngineTest {
+
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+
+    @Mock private StoreRepository storeRepository;
+    @Mock private ProductOptionValueRepository productOptionValueRepository;
+    @Mock private ProductRepository productRepository;
+    @Mock private DiscountRepository discountRepository;
+    @Mock private UpdateStockMapper updateStockMapper;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private EntityManager entityManager;
+
+    private ProductStockService productStockService;
+    private RedisStockEngine redisStockEngine;
+    private RedisStockWriteBehind writeBehind;
+
+    private UUID storeId;
+    private UUID optionValueId1;
+    private UUID optionValueId2;
+    private ProductOptionValue pov1;
+    private ProductOptionValue pov2;
+
+    @BeforeEach
+    void setUp() {
+        storeId = UUID.randomUUID();
+        optionValueId1 = UUID.randomUUID();
+        optionValueId2 = UUID.randomUUID();
+
+        redisStockEngine = new RedisStockEngine(stringRedisTemplate, entityManager);
+        productStockService =
+                new ProductStockService(
+                        productOptionValueRepository,
+                        discountRepository,
+                        storeRepository,
+                        updateStockMapper,
+                        redisStockEngine,
+                        eventPublisher);
+        writeBehind =
+                new RedisStockWriteBehind(
+                        stringRedisTemplate,
+                        productOptionValueRepository,
+                        productRepository,
+                        new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                        new StockProperties(null, null, null, null, null, null, null));
+
+        // Store
+        Store mockStore =
+                Store.createStore(
+                        "테스트 상점", "010-1234-5678", "서울시 강남구", "1234567890", "2025123456", 1L);
+        ReflectionTestUtils.setField(mockStore, "id", storeId);
+
+        Category testCategory = mock(Category.class);
+        lenient().when(testCategory.getDepth()).thenReturn(3);
+
+        DeliveryPolicy mockPolicy = mock(DeliveryPolicy.class);
+        lenient().when(mockPolicy.getDefaultDeliveryFee()).thenReturn(3000);
+        ReflectionTestUtils.setField(mockStore, "deliveryPolicy", mockPolicy);
+
+        Product mockProduct =
+                Product.createProduct(
+                        mockStore, testCategory, "테스트 상품", "상품 설명", "상품 상세", 10000, true);
+        ProductOptionGroup mockGroup = ProductOptionGroup.createOptionGroup(mockProduct, "색상");
+        pov1 = ProductOptionValue.createOptionValue(mockGroup, "빨강", 100, 0);
+        pov2 = ProductOptionValue.createOptionValue(mockGroup, "파랑", 50, 0);
+        ReflectionTestUtils.setField(pov1, "id", optionValueId1);
+        ReflectionTestUtils.setField(pov2, "id", optionValueId2);
+
+        lenient()
+                .when(storeRepository.findByIdWithDeliveryPolicy(storeId))
+                .thenReturn(Optional.of(mockStore));
+        lenient()
+                .when(productOptionValueRepository.findAllByIdWithFetchJoin(anyList()))
+                .thenReturn(List.of(pov1, pov2));
+        lenient()
+                .when(productOptionValueRepository.findAllByIds(anyList()))
+                .thenReturn(List.of(pov1, pov2));
+        lenient().when(discountRepository.findAllByProductIds(anyList())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(
+                List.of(
+                        stockKey(optionValueId1),
+                        stockKey(optionValueId2),
+                        "{stock}:pending",
+                        "{stock}:inflight",
+                        "{stock}:flushed",
+                        "{stock}:flush-lock"));
+    }
+
+    @Test
+    @DisplayName("재고 업데이트 성공 - Redis 재고가 요청 수량만큼 감소하고 DB 반영분이 누적")
+    void updateStockInTransaction_success() {
+        // when
+        ProductInternalResponse result = productStockService.updateStockInTransaction(order(5, 10));
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(redisStock(optionValueId1)).isEqualTo(95);
+        assertThat(redisStock(optionValueId2)).isEqualTo(40);
+        assertThat(pending(optionValueId1)).isEqualTo("5");
+        assertThat(pending(optionValueId2)).isEqualTo("10");
+
+        // DB 엔티티는 write-behind 전까지 그대로
+        assertThat(pov1.getStockQuantity()).isEqualTo(100);
+        assertThat(pov2.getStockQuantity()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("재고 부족 - 한 옵션이라도 부족하면 어떤 옵션도 차감하지 않음")
+    void updateStockInTransaction_outOfStock() {
+        assertThatThrownBy(() -> productStockService.updateStockInTransaction(order(5, 60)))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+
+        assertThat(redisStock(optionValueId1)).isEqualTo(100);
+        assertThat(redisStock(optionValueId2)).isEqualTo(50);
+        assertThat(pending(optionValueId1)).isNull();
+    }
+
+    @Test
+    @DisplayName("재고 롤백 - Redis 재고가 늘어나고 누적분이 상쇄")
+    void rollbackStockInTransactional_success() {
+        productStockService.updateStockInTransaction(order(5, 10));
+
+        productStockService.rollbackStockInTransactional(
+                new RollbackStockRequest(
+                        List.of(new RollbackStockRequest.OptionValueRequest(optionValueId1, 5))));
+
+        assertThat(redisStock(optionValueId1)).isEqualTo(100);
+        assertThat(pending(optionValueId1)).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("write-behind - 누적된 차감분을 DB 에 반영하고 비움")
+    void flush_appliesPendingToDatabase() {
+        productStockService.updateStockInTransaction(order(5, 10));
+
+        writeBehind.flush();
+
+        verify(productOptionValueRepository).decreaseStockBy(optionValueId1, 5);
+        verify(productOptionValueRepository).decreaseStockBy(optionValueId2, 10);
+        verify(productRepository)
+                .refreshInStockByOptionValueIds(
+                        argThat(ids -> ids.containsAll(List.of(optionValueId1, optionValueId2))));
+        assertThat(stringRedisTemplate.hasKey("{stock}:pending")).isFalse();
+        assertThat(stringRedisTemplate.hasKey("{stock}:inflight")).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재 - 반영 중인 누적분이 있으면 적재하지 않고, 반영이 끝난 뒤 DB 재고로 적재")
+    void load_waitsForInflight() {
+        stringRedisTemplate.opsForHash().put("{stock}:inflight", optionValueId1.toString(), "5");
+
+        assertThatThrownBy(() -> productStockService.updateStockInTransaction(order(5, 10)))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.PRODUCT_RETRY_LIMIT_EXCEEDED);
+        assertThat(stringRedisTemplate.hasKey(stockKey(optionValueId1))).isFalse();
+
+        // 반영 커밋: DB 재고가 줄고 inflight 가 비워지며 세대가 오름
+        pov1.decreaseStock(5);
+        stringRedisTemplate.execute(
+                new DefaultRedisScript<>(
+                        "redis.call('HDEL', KEYS[1], ARGV[1]) redis.call('HINCRBY', KEYS[2],"
+                                + " ARGV[1], 1) return 1",
+                        Long.class),
+                List.of("{stock}:inflight", "{stock}:flushed"),
+                optionValueId1.toString());
+
+        productStockService.updateStockInTransaction(order(5, 10));
+
+        assertThat(redisStock(optionValueId1)).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("적재 - DB 재고를 읽는 사이 반영이 커밋되면 다시 읽어 이미 팔린 수량을 다시 세지 않음")
+    void load_rereadsWhenFlushCommitsDuringRead() {
+        // 첫 번째 읽기는 반영(5) 커밋 전 재고(100)를 읽고, 직후 반영이 커밋되어 누적분이 비워지고 세대가 오름
+        stringRedisTemplate.opsForHash().put("{stock}:pending", optionValueId1.toString(), "5");
+        AtomicInteger reads = new AtomicInteger();
+        doAnswer(
+                        invocation -> {
+                            if (invocation.getArgument(0) != pov1) {
+                                return null;
+                            }
+                            if (reads.getAndIncrement() == 0) {
+                                stringRedisTemplate
+                                        .opsForHash()
+                                        .delete("{stock}:pending", optionValueId1.toString());
+                                stringRedisTemplate
+                                        .opsForHash()
+                                        .increment("{stock}:flushed", optionValueId1.toString(), 1);
+                            } else {
+                                ReflectionTestUtils.setField(pov1, "stockQuantity", 95);
+                            }
+                            return null;
+                        })
+                .when(entityManager)
+                .refresh(any());
+
+        productStockService.updateStockInTransaction(order(5, 10));
+
+        assertThat(redisStock(optionValueId1)).isEqualTo(90);
+        assertThat(redisStock(optionValueId2)).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("판매자 재고 수정 - Redis 재고, 미반영/반영 중 누적분을 비우고 세대를 올림")
+    void adjust_resetsRedisState() {
+        productStockService.updateStockInTransaction(order(5, 10));
+        stringRedisTemplate.opsForHash().put("{stock}:inflight", optionValueId1.toString(), "3");
+
+        assertThat(redisStockEngine.adjust(pov1, 70)).isEqualTo(70);
+
+        assertThat(stringRedisTemplate.hasKey(stockKey(optionValueId1))).isFalse();
+        assertThat(pending(optionValueId1)).isNull();
+        assertThat(
+                        stringRedisTemplate
+                                .opsForHash()
+                                .get("{stock}:inflight", optionValueId1.toString()))
+                .isNull();
+        assertThat(
+                        stringRedisTemplate
+                                .opsForHash()
+                                .get("{stock}:flushed", optionValueId1.toString()))
+                .isEqualTo("1");
+        assertThat(stringRedisTemplate.hasKey("{stock}:flush-lock")).isFalse();
+        // 다른 옵션은 그대로
+        assertThat(redisStock(optionValueId2)).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("재고 복구 - 복구 트랜잭션이 롤백되면 늘린 재고와 누적분을 되돌림")
+    void increase_compensatedOnRollback() {
+        productStockService.updateStockInTransaction(order(5, 10));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            redisStockEngine.increase(List.of(new StockChange(pov1, 5)));
+            assertThat(redisStock(optionValueId1)).isEqualTo(100);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(
+                            sync ->
+                                    sync.afterCompletion(
+                                            TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(redisStock(optionValueId1)).isEqualTo(95);
+        assertThat(pending(optionValueId1)).isEqualTo("5");
+    }
+
+    @Test
+    @DisplayName("가용 재고 - DB 재고 대신 Redis 재고, 키가 없으면 DB 재고에서 미반영/반영 중 누적분을 뺌")
+    void availableStock_readsRedis() {
+        productStockService.updateStockInTransaction(order(5, 10));
+
+        // DB 엔티티는 write-behind 전까지 그대로지만 가용 재고는 Redis 기준
+        assertThat(redisStockEngine.availableStock(List.of(pov1, pov2)))
+                .containsEntry(optionValueId1, 95)
+                .containsEntry(optionValueId2, 40);
+
+        // Redis 재시작 등으로 키가 없음 : 100 - 미반영 5 - 반영 중 3
+        stringRedisTemplate.delete(stockKey(optionValueId1));
+        stringRedisTemplate.opsForHash().put("{stock}:inflight", optionValueId1.toString(), "3");
+        assertThat(redisStockEngine.availableStock(List.of(pov1)))
+                .containsEntry(optionValueId1, 92);
+    }
+
+    @Test
+    @DisplayName("가용 재고 - 판매자가 수정한 옵션은 커밋 전까지 엔티티 재고, 커밋 뒤에는 초기화된 Redis 기준")
+    void availableStock_adjustedInTransaction() {
+        productStockService.updateStockInTransaction(order(5, 10));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            redisStockEngine.adjust(pov1, 70);
+            ReflectionTestUtils.setField(pov1, "stockQuantity", 70);
+
+            assertThat(redisStockEngine.availableStock(List.of(pov1, pov2)))
+                    .containsEntry(optionValueId1, 70)
+                    .containsEntry(optionValueId2, 40);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(
+                            sync ->
+                                    sync.afterCompletion(
+                                            TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(redisStockEngine.availableStock(List.of(pov1)))
+                .containsEntry(optionValueId1, 70);
+    }
+
+    @Test
+    @DisplayName("묶음 차감 - DB 에 반영되지 않은 복구분까지 Redis 재고 기준으로 판단")
+    void updateStockInBatch_decidesAgainstRedisStock() {
+        // 매진이 DB 에 반영된 뒤 5개가 복구됨 : DB 0, Redis 5
+        productStockService.updateStockInTransaction(order(100, 1));
+        writeBehind.flush();
+        ReflectionTestUtils.setField(pov1, "stockQuantity", 0);
+        productStockService.rollbackStockInTransactional(
+                new RollbackStockRequest(
+                        List.of(new RollbackStockRequest.OptionValueRequest(optionValueId1, 5))));
+
+        List<BatchStockResult> results =
+                productStockService.updateStockInBatch(List.of(order(3, 1), order(3, 1)));
+
+        assertThat(results.get(0).error()).isNull();
+        assertThat(results.get(1).error().getErrorCode())
+                .isEqualTo(ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+        assertThat(redisStock(optionValueId1)).isEqualTo(2);
+        assertThat(redisStock(optionValueId2)).isEqualTo(48);
+    }
+
+    private ProductInternalRequest order(int quantity1, int quantity2) {
+        return new ProductInternalRequest(
+                List.of(
+                        new ProductInternalRequest.OptionValueRequest(optionValueId1, quantity1),
+                        new ProductInternalRequest.OptionValueRequest(optionValueId2, quantity2)),
+                storeId);
+    }
+
+    private String stockKey(UUID optionValueId) {
+        return "{stock}:option:" + optionValueId;
+    }
+
+    private int redisStock(UUID optionValueId) {
+        return Integer.parseInt(stringRedisTemplate.opsForValue().get(stockKey(optionValueId)));
+    }
+
+    private String pending(UUID optionValueId) {
+        return (String)
+                stringRedisTemplate.opsForHash().get("{stock}:pending", optionValueId.toString());
+    }
+}
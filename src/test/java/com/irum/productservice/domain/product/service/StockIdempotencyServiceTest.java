@@ -0,0 +1,357 @@
+package com.irum.productservice.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.spy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.irum.global.advice.exception.CommonException;
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.openfeign.product.dto.response.ProductInternalResponse;
+import com.irum.productservice.domain.product.Internal.service.StockIdempotencyService;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import com.irum.productservice.global.infrastructure.properties.StockProperties;
+import com.irum.productservice.testsupport.EmbeddedRedisConfig;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataRedisTest
+@ActiveProfiles("test")
+@Import(EmbeddedRedisConfig.class)
+class StockIdempotencyServiceTest {
+
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+
+    private StockIdempotencyService stockIdempotencyService;
+    private String idempotencyKey;
+    private ProductInternalRequest request;
+    private ProductInternalResponse response;
+
+    @BeforeEach
+    void setUp() {
+        stockIdempotencyService =
+                new StockIdempotencyService(
+                        stringRedisTemplate,
+                        new ObjectMapper(),
+                        new StockProperties(null, null, null, null, null, null, null));
+        idempotencyKey = UUID.randomUUID().toString();
+
+        UUID storeId = UUID.randomUUID();
+        request =
+                new ProductInternalRequest(
+                        List.of(
+                                new ProductInternalRequest.OptionValueRequest(
+                                        UUID.randomUUID(), 1)),
+                        storeId);
+        response =
+                new ProductInternalResponse(
+                        3000,
+                        30000,
+                        5,
+                        storeId,
+                        List.of(
+                                new ProductInternalResponse.ProductResponse(
+                                        UUID.randomUUID(),
+                                        UUID.randomUUID(),
+                                        10000,
+                                        0,
+                                        1000,
+                                        "L",
+                                        "테스트 상품")));
+    }
+
+    @Test
+    @DisplayName("같은 키 재요청 - 처음 응답을 그대로 반환하고 다시 실행하지 않음")
+    void execute_replaysStoredResponse() {
+        AtomicInteger executed = new AtomicInteger();
+
+        ProductInternalResponse first =
+                stockIdempotencyService.execute(
+                        "update",
+                        idempotencyKey,
+                        request,
+                        ProductInternalResponse.class,
+                        () -> {
+                            executed.incrementAndGet();
+                            return response;
+                        });
+        ProductInternalResponse second =
+                stockIdempotencyService.execute(
+                        "update",
+                        idempotencyKey,
+                        request,
+                        ProductInternalResponse.class,
+                        () -> {
+                            executed.incrementAndGet();
+                            return response;
+                        });
+
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(first).isEqualTo(response);
+        assertThat(second).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("처리 실패 - 처리 중 표시를 지워 같은 키로 다시 시도 가능")
+    void execute_failureAllowsRetry() {
+        assertThatThrownBy(
+                        () ->
+                                stockIdempotencyService.execute(
+                                        "update",
+                                        idempotencyKey,
+                                        request,
+                                        ProductInternalResponse.class,
+                                        () -> {
+                                            throw new CommonException(
+                                                    ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+                                        }))
+                .isInstanceOf(CommonException.class);
+
+        ProductInternalResponse retried =
+                stockIdempotencyService.execute(
+                        "update",
+                        idempotencyKey,
+                        request,
+                        ProductInternalResponse.class,
+                        () -> response);
+
+        assertThat(retried).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("lockSeconds 를 넘겨 처리하다 실패 - 그사이 같은 키를 선점한 다른 요청의 처리 중 표시는 지우지 않음")
+    void execute_failureKeepsOtherRequestsMarker() throws Exception {
+        String key = "idempotency:stock:update:" + idempotencyKey;
+        CountDownLatch acquiredBySecond = new CountDownLatch(1);
+        CountDownLatch finishSecond = new CountDownLatch(1);
+        CompletableFuture<ProductInternalResponse> second = new CompletableFuture<>();
+
+        assertThatThrownBy(
+                        () ->
+                                stockIdempotencyService.execute(
+                                        "update",
+                                        idempotencyKey,
+                                        request,
+                                        ProductInternalResponse.class,
+                                        () -> {
+                                            // 첫 요청의 표시가 만료되고, 재요청이 같은 키를 다시 선점
+                                            stringRedisTemplate.delete(key);
+                                            CompletableFuture.runAsync(
+                                                    () ->
+                                                            runSecond(
+                                                                    acquiredBySecond,
+                                                                    finishSecond,
+                                                                    second));
+                                            awaitQuietly(acquiredBySecond);
+                                            throw new CommonException(
+                                                    ProductErrorCode.PRODUCT_OUT_OF_STOCK);
+                                        }))
+                .isInstanceOf(CommonException.class);
+
+        // 재요청이 아직 처리 중이므로 같은 키의 세 번째 요청은 실행되지 않아야 함
+        assertThatThrownBy(
+                        () ->
+                                stockIdempotencyService.execute(
+                                        "update",
+                                        idempotencyKey,
+                                        request,
+                                        ProductInternalResponse.class,
+                                        () -> response))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+
+        finishSecond.countDown();
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(response);
+    }
+
+    private void runSecond(
+            CountDownLatch acquired,
+            CountDownLatch finish,
+            CompletableFuture<ProductInternalResponse> result) {
+        try {
+            result.complete(
+                    stockIdempotencyService.execute(
+                            "update",
+                            idempotencyKey,
+                            request,
+                            ProductInternalResponse.class,
+                            () -> {
+                                acquired.countDown();
+                                awaitQuietly(finish);
+                                return response;
+                            }));
+        } catch (RuntimeException e) {
+            acquired.countDown();
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("처리 중 중복 요청 - IDEMPOTENT_REQUEST_IN_PROGRESS")
+    void execute_inProgress() {
+        assertThatThrownBy(
+                        () ->
+                                stockIdempotencyService.execute(
+                                        "update",
+                                        idempotencyKey,
+                                        request,
+                                        ProductInternalResponse.class,
+                                        () ->
+                                                // 첫 요청 처리 도중 같은 키로 재요청
+                                                stockIdempotencyService.execute(
+                                                        "update",
+                                                        idempotencyKey,
+                                                        request,
+                                                        ProductInternalResponse.class,
+                                                        () -> response)))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("void 응답 / scope 분리 - 롤백은 한 번만 실행되고 다른 scope 의 같은 키와 섞이지 않음")
+    void execute_voidAndScope() {
+        AtomicInteger rollbackCount = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            stockIdempotencyService.execute(
+                    "rollback",
+                    idempotencyKey,
+                    request,
+                    Void.class,
+                    () -> {
+                        rollbackCount.incrementAndGet();
+                        return null;
+                    });
+        }
+        ProductInternalResponse updated =
+                stockIdempotencyService.execute(
+                        "update",
+                        idempotencyKey,
+                        request,
+                        ProductInternalResponse.class,
+                        () -> response);
+
+        assertThat(rollbackCount.get()).isEqualTo(1);
+        assertThat(updated).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("같은 키 다른 본문 - 저장된 응답을 돌려주지 않고 IDEMPOTENCY_KEY_REUSED")
+    void execute_rejectsDifferentRequest() {
+        stockIdempotencyService.execute(
+                "update", idempotencyKey, request, ProductInternalResponse.class, () -> response);
+        ProductInternalRequest other =
+                new ProductInternalRequest(
+                        List.of(
+                                new ProductInternalRequest.OptionValueRequest(
+                                        UUID.randomUUID(), 2)),
+                        request.storeId());
+
+        assertThatThrownBy(
+                        () ->
+                                stockIdempotencyService.execute(
+                                        "update",
+                                        idempotencyKey,
+                                        other,
+                                        ProductInternalResponse.class,
+                                        () -> response))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("실행 후 응답 저장 실패 - 예외 없이 처리 결과를 반환하고, 재요청은 다시 실행하지 않음")
+    void execute_storeFailureAfterCommit() {
+        StringRedisTemplate failingTemplate = spy(stringRedisTemplate);
+        ValueOperations<String, String> valueOperations = spy(stringRedisTemplate.opsForValue());
+        given(failingTemplate.opsForValue()).willReturn(valueOperations);
+        willThrow(new RedisSystemException("SET 실패", null))
+                .given(valueOperations)
+                .set(anyString(), anyString(), any(Duration.class));
+        StockIdempotencyService failingService =
+                new StockIdempotencyService(
+                        failingTemplate,
+                        new ObjectMapper(),
+                        new StockProperties(null, null, null, null, null, null, null));
+        AtomicInteger executed = new AtomicInteger();
+
+        ProductInternalResponse first =
+                failingService.execute(
+                        "update",
+                        idempotencyKey,
+                        request,
+                        ProductInternalResponse.class,
+                        () -> {
+                            executed.incrementAndGet();
+                            return response;
+                        });
+
+        assertThat(first).isEqualTo(response);
+        assertThatThrownBy(
+                        () ->
+                                stockIdempotencyService.execute(
+                                        "update",
+                                        idempotencyKey,
+                                        request,
+                                        ProductInternalResponse.class,
+                                        () -> {
+                                            executed.incrementAndGet();
+                                            return response;
+                                        }))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ProductErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        assertThat(executed.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키 없음 - 멱등 처리 없이 매번 실행")
+    void execute_withoutKey() {
+        AtomicInteger executed = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            stockIdempotencyService.execute(
+                    "update",
+                    null,
+                    request,
+                    ProductInternalResponse.class,
+                    () -> {
+                        executed.incrementAndGet();
+                        return response;
+                    });
+        }
+
+        assertThat(executed.get()).isEqualTo(2);
+    }
+}
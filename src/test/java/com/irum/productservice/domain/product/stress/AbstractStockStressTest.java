@@ -0,0 +1,385 @@
+package com.irum.productservice.domain.product.stress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.global.advice.exception.CommonException;
+import com.irum.openfeign.product.dto.request.ProductInternalRequest;
+import com.irum.openfeign.product.dto.request.RollbackStockRequest;
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.deliverypolicy.domain.entity.DeliveryPolicy;
+import com.irum.productservice.domain.deliverypolicy.domain.repository.DeliveryPolicyRepository;
+import com.irum.productservice.domain.product.Internal.service.ProductInternalService;
+import com.irum.productservice.domain.product.domain.entity.Product;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionGroup;
+import com.irum.productservice.domain.product.domain.entity.ProductOptionValue;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductOptionValueRepository;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.store.domain.entity.Store;
+import com.irum.productservice.domain.store.domain.repository.StoreRepository;
+import com.irum.productservice.global.exception.errorcode.ProductErrorCode;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 내부 주문 경로(updateStock / rollbackStock) 부하 테스트. 재고 엔진 설정만 다른 하위 클래스에서 같은 부하를 돌려 수치로 비교합니다.
+ *
+ * <p>기본 test 작업에서는 제외되며 ./gradlew stressTest 로 실행합니다. 요청 수, 동시 실행 수는 stress.operations,
+ * stress.threads 시스템 속성으로 바꿀 수 있고, 결과(처리량, p50/p99, 재시도 초과 비율)는 build/reports/stress 에 남습니다.
+ *
+ * <p>검증 : 실행 중 관측한 재고가 음수가 된 적이 없고, 옵션별 최종 재고 = 초기 재고 - 성공한 차감 + 성공한 롤백
+ */
+@Tag("stress")
+public abstract class AbstractStockStressTest {
+
+    private static final int OPTION_COUNT = 5; // 부하를 나눌 옵션 수
+    private static final double ROLLBACK_RATIO = 0.3; // 성공한 주문 중 롤백하는 비율
+    private static final long SAMPLE_INTERVAL_MS = 20; // 재고 음수 관측 주기
+
+    @Autowired protected ProductInternalService productInternalService;
+    @Autowired protected ProductOptionValueRepository productOptionValueRepository;
+    @Autowired protected TransactionTemplate transactionTemplate;
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private DeliveryPolicyRepository deliveryPolicyRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductOptionGroupRepository productOptionGroupRepository;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    private final int operations = Integer.getInteger("stress.operations", 2000);
+    private final int threads = Integer.getInteger("stress.threads", 64);
+
+    private UUID storeId;
+    protected List<UUID> optionValueIds;
+    private int initialStock;
+
+    private String random10Digits() {
+        return String.format("%010d", ThreadLocalRandom.current().nextInt(0, 1_000_000_000));
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+
+        Store store =
+                storeRepository.save(
+                        Store.createStore(
+                                "테스트 상점",
+                                "010-1111-2222",
+                                "주소",
+                                random10Digits(),
+                                random10Digits(),
+                                ThreadLocalRandom.current().nextLong(1L, 1_000_000_000L)));
+        storeId = store.getId();
+        deliveryPolicyRepository.save(DeliveryPolicy.createPolicy(3000, 30000, 5, store));
+
+        Category rootCategory = categoryRepository.save(Category.createRootCategory("루트 카테고리"));
+        Category category1 =
+                categoryRepository.save(Category.createSubCategory("부모 카테고리", rootCategory));
+        Category category2 =
+                categoryRepository.save(Category.createSubCategory("자식 카테고리", category1));
+
+        Product product =
+                productRepository.save(
+                        Product.createProduct(store, category2, "테스트 상품", "설명", "상세", 10000, true));
+        ProductOptionGroup optionGroup =
+                productOptionGroupRepository.save(
+                        ProductOptionGroup.createOptionGroup(product, "사이즈"));
+
+        // 평균 주문 수량 기준 요청의 약 70% 만 감당하도록 잡아 재고 부족 경로도 함께 부하를 받게 함
+        initialStock = (int) (operations * 1.5 * 0.7 / OPTION_COUNT);
+        optionValueIds = new ArrayList<>();
+        for (int i = 0; i < OPTION_COUNT; i++) {
+            ProductOptionValue optionValue =
+                    ProductOptionValue.createOptionValue(optionGroup, "옵션" + i, initialStock, 0);
+            if (shardCount() > 0) {
+                optionValue.enableStockSharding(shardCount());
+            }
+            optionValueIds.add(productOptionValueRepository.save(optionValue).getId());
+        }
+    }
+
+    /** 옵션 재고 샤드 수. 0 이면 샤딩하지 않음 */
+    protected int shardCount() {
+        return 0;
+    }
+
+    /** 부하 종료 후 최종 재고를 읽기 전에 필요한 처리 (write-behind 반영 등) */
+    protected void afterLoad() {}
+
+    /** 실행 중 관측용 옵션별 재고 */
+    protected Map<UUID, Integer> currentStock() {
+        return databaseStock();
+    }
+
+    /** 부하 종료 후 검증할 옵션별 최종 재고 (DB 기준) */
+    private Map<UUID, Integer> databaseStock() {
+        return transactionTemplate.execute(
+                status -> {
+                    Map<UUID, Integer> stock = new HashMap<>();
+                    productOptionValueRepository
+                            .findAllByIds(optionValueIds)
+                            .forEach(pov -> stock.put(pov.getId(), pov.getStockQuantity()));
+                    return stock;
+                });
+    }
+
+    @Test
+    @DisplayName("부하 테스트 - 동시 주문/롤백 후 재고가 음수가 된 적 없고 차감과 롤백이 정확히 맞음")
+    void updateStockAndRollback_stress() throws InterruptedException {
+        Map<UUID, AtomicInteger> decreased = counters();
+        Map<UUID, AtomicInteger> restored = counters();
+        List<Long> updateLatencies = Collections.synchronizedList(new ArrayList<>());
+        List<Long> rollbackLatencies = Collections.synchronizedList(new ArrayList<>());
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger outOfStockCount = new AtomicInteger();
+        AtomicInteger updateExhaustedCount = new AtomicInteger();
+        AtomicInteger rollbackCount = new AtomicInteger();
+        AtomicInteger rollbackExhaustedCount = new AtomicInteger();
+        AtomicInteger otherFailureCount = new AtomicInteger();
+        AtomicLong minObservedStock = new AtomicLong(Long.MAX_VALUE);
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleWithFixedDelay(
+                () ->
+                        currentStock()
+                                .values()
+                                .forEach(
+                                        stock ->
+                                                minObservedStock.accumulateAndGet(
+                                                        stock, Math::min)),
+                0,
+                SAMPLE_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(operations);
+        long startedAt = System.nanoTime();
+
+        for (int i = 0; i < operations; i++) {
+            executorService.submit(
+                    () -> {
+                        try {
+                            Map<UUID, Integer> order = randomOrder();
+                            long begin = System.nanoTime();
+                            try {
+                                productInternalService.updateStock(toRequest(order));
+                                order.forEach((id, q) -> decreased.get(id).addAndGet(q));
+                                successCount.incrementAndGet();
+                            } catch (CommonException e) {
+                                if (e.getErrorCode() == ProductErrorCode.PRODUCT_OUT_OF_STOCK) {
+                                    outOfStockCount.incrementAndGet();
+                                } else if (e.getErrorCode()
+                                        == ProductErrorCode.PRODUCT_RETRY_LIMIT_EXCEEDED) {
+                                    updateExhaustedCount.incrementAndGet();
+                                } else {
+                                    otherFailureCount.incrementAndGet();
+                                }
+                                return;
+                            } finally {
+                                updateLatencies.add(System.nanoTime() - begin);
+                            }
+
+                            if (ThreadLocalRandom.current().nextDouble() >= ROLLBACK_RATIO) {
+                                return;
+                            }
+                            begin = System.nanoTime();
+                            try {
+                                productInternalService.rollbackStock(toRollbackRequest(order));
+                                order.forEach((id, q) -> restored.get(id).addAndGet(q));
+                                rollbackCount.incrementAndGet();
+                            } catch (CommonException e) {
+                                if (e.getErrorCode()
+                                        == ProductErrorCode.PRODUCT_RETRY_LIMIT_EXCEEDED) {
+                                    rollbackExhaustedCount.incrementAndGet();
+                                } else {
+                                    otherFailureCount.incrementAndGet();
+                                }
+                            } finally {
+                                rollbackLatencies.add(System.nanoTime() - begin);
+                            }
+                        } catch (Exception e) {
+                            otherFailureCount.incrementAndGet();
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+        }
+
+        boolean completed = latch.await(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - startedAt;
+        executorService.shutdown();
+        sampler.shutdown();
+        sampler.awaitTermination(5, TimeUnit.SECONDS);
+        afterLoad();
+
+        StressReport report =
+                new StressReport(
+                        getClass().getSimpleName(),
+                        operations,
+                        threads,
+                        successCount.get(),
+                        outOfStockCount.get(),
+                        updateExhaustedCount.get(),
+                        rollbackCount.get(),
+                        rollbackExhaustedCount.get(),
+                        (updateLatencies.size() + rollbackLatencies.size())
+                                / (elapsed / 1_000_000_000.0),
+                        percentileMillis(updateLatencies, 0.50),
+                        percentileMillis(updateLatencies, 0.99),
+                        percentileMillis(rollbackLatencies, 0.50),
+                        percentileMillis(rollbackLatencies, 0.99));
+        System.out.println(report);
+        writeReport(report);
+
+        assertThat(completed).isTrue();
+        assertThat(otherFailureCount.get()).isZero();
+        assertThat(minObservedStock.get()).isGreaterThanOrEqualTo(0);
+
+        Map<UUID, Integer> finalStock = databaseStock();
+        for (UUID id : optionValueIds) {
+            assertThat(finalStock.get(id))
+                    .as("옵션 %s 최종 재고", id)
+                    .isEqualTo(initialStock - decreased.get(id).get() + restored.get(id).get())
+                    .isGreaterThanOrEqualTo(0);
+        }
+    }
+
+    /** 옵션 1~2개, 옵션당 1~2개 수량의 주문 (같은 옵션은 합침) */
+    private Map<UUID, Integer> randomOrder() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<UUID, Integer> order = new HashMap<>();
+        int lines = random.nextInt(1, 3);
+        for (int i = 0; i < lines; i++) {
+            order.merge(
+                    optionValueIds.get(random.nextInt(optionValueIds.size())),
+                    random.nextInt(1, 3),
+                    Integer::sum);
+        }
+        return order;
+    }
+
+    private ProductInternalRequest toRequest(Map<UUID, Integer> order) {
+        return new ProductInternalRequest(
+                order.entrySet().stream()
+                        .map(
+                                entry ->
+                                        new ProductInternalRequest.OptionValueRequest(
+                                                entry.getKey(), entry.getValue()))
+                        .toList(),
+                storeId);
+    }
+
+    private RollbackStockRequest toRollbackRequest(Map<UUID, Integer> order) {
+        return new RollbackStockRequest(
+                order.entrySet().stream()
+                        .map(
+                                entry ->
+                                        new RollbackStockRequest.OptionValueRequest(
+                                                entry.getKey(), entry.getValue()))
+                        .toList());
+    }
+
+    private Map<UUID, AtomicInteger> counters() {
+        Map<UUID, AtomicInteger> counters = new ConcurrentHashMap<>();
+        optionValueIds.forEach(id -> counters.put(id, new AtomicInteger()));
+        return counters;
+    }
+
+    /** stress.reportDir 가 지정되면 결과를 클래스별 파일로 남겨 실행 간 비교에 사용합니다. */
+    private void writeReport(StressReport report) {
+        String reportDir = System.getProperty("stress.reportDir");
+        if (reportDir == null) {
+            return;
+        }
+        try {
+            Path dir = Files.createDirectories(Path.of(reportDir));
+            Files.writeString(dir.resolve(report.name() + ".txt"), report.toString());
+        } catch (IOException e) {
+            System.err.println("Stress report write failed: " + e.getMessage());
+        }
+    }
+
+    private static double percentileMillis(List<Long> latencies, double percentile) {
+        if (latencies.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        int index = Math.max((int) Math.ceil(sorted.size() * percentile) - 1, 0);
+        return sorted.get(index) / 1_000_000.0;
+    }
+
+    private record StressReport(
+            String name,
+            int operations,
+            int threads,
+            int success,
+            int outOfStock,
+            int updateExhausted,
+            int rollbacks,
+            int rollbackExhausted,
+            double throughput,
+            double updateP50,
+            double updateP99,
+            double rollbackP50,
+            double rollbackP99) {
+
+        @Override
+        public String toString() {
+            return String.format(
+                    """
+                    ======================================
+                    %s (요청 %d, 동시 %d)
+                    주문 성공: %d, 재고 부족: %d, 재시도 초과: %d (%.2f%%)
+                    롤백 성공: %d, 재시도 초과: %d
+                    처리량: %.0f req/s
+                    주문 p50/p99: %.1f / %.1f ms, 롤백 p50/p99: %.1f / %.1f ms
+                    ======================================""",
+                    name,
+                    operations,
+                    threads,
+                    success,
+                    outOfStock,
+                    updateExhausted,
+                    operations == 0 ? 0 : updateExhausted * 100.0 / operations,
+                    rollbacks,
+                    rollbackExhausted,
+                    throughput,
+                    updateP50,
+                    updateP99,
+                    rollbackP50,
+                    rollbackP99);
+        }
+    }
+}
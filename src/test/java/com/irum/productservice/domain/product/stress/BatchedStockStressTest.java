@@ -0,0 +1,7 @@
+package com.irum.productservice.domain.product.stress;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/** 기본 엔진 + 차감 요청 묶음 처리(group commit) */
+@SpringBootTest(properties = {"product.stock.engine=jpa", "product.stock.batch.enabled=true"})
+class BatchedStockStressTest extends AbstractStockStressTest {}
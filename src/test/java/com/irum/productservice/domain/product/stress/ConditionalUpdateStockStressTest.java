@@ -0,0 +1,7 @@
+package com.irum.productservice.domain.product.stress;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/** 조건부 UPDATE 엔진 */
+@SpringBootTest(properties = "product.stock.engine=conditional-update")
+class ConditionalUpdateStockStressTest extends AbstractStockStressTest {}
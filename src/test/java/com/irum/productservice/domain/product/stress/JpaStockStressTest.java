@@ -0,0 +1,7 @@
+package com.irum.productservice.domain.product.stress;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/** 기본 엔진 : 엔티티 차감 + 낙관적 락 재시도 */
+@SpringBootTest(properties = "product.stock.engine=jpa")
+class JpaStockStressTest extends AbstractStockStressTest {}
@@ -0,0 +1,47 @@
+package com.irum.productservice.domain.product.stress;
+
+import com.irum.productservice.domain.product.Internal.service.stock.RedisStockWriteBehind;
+import com.irum.productservice.testsupport.EmbeddedRedisConfig;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/** Redis 엔진 : Lua 원자 차감 + write-behind. 실행 중에는 Redis 재고를, 종료 후에는 DB 반영 결과를 검증합니다. */
+@SpringBootTest(properties = "product.stock.engine=redis")
+@Import(EmbeddedRedisConfig.class)
+class RedisStockStressTest extends AbstractStockStressTest {
+
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+    @Autowired private RedisStockWriteBehind redisStockWriteBehind;
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(optionValueIds.stream().map(this::stockKey).toList());
+    }
+
+    @Override
+    protected Map<UUID, Integer> currentStock() {
+        Map<UUID, Integer> stock = new HashMap<>();
+        for (UUID id : optionValueIds) {
+            String value = stringRedisTemplate.opsForValue().get(stockKey(id));
+            if (value != null) {
+                stock.put(id, Integer.parseInt(value));
+            }
+        }
+        return stock;
+    }
+
+    @Override
+    protected void afterLoad() {
+        redisStockWriteBehind.flush();
+    }
+
+    private String stockKey(UUID optionValueId) {
+        return "{stock}:option:" + optionValueId;
+    }
+}
@@ -0,0 +1,13 @@
+package com.irum.productservice.domain.product.stress;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/** 조건부 UPDATE 엔진 + 옵션 재고 샤딩 */
+@SpringBootTest(properties = "product.stock.engine=conditional-update")
+class ShardedStockStressTest extends AbstractStockStressTest {
+
+    @Override
+    protected int shardCount() {
+        return 4;
+    }
+}
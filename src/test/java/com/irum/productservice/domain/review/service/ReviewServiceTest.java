@@ -10,6 +10,7 @@ import com.irum.openfeign.order.client.OrderClient;
 import com.irum.openfeign.order.dto.response.OrderDetailDto;
 import com.irum.productservice.domain.product.domain.entity.Product;
 import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.event.ProductDetailChangedEvent;
 import com.irum.productservice.domain.review.domain.entity.Review;
 import com.irum.productservice.domain.review.domain.entity.ReviewImage;
 import com.irum.productservice.domain.review.domain.repository.ReviewImageRepository;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -40,6 +42,7 @@ class ReviewServiceTest {
     private ReviewImageRepository reviewImageRepository;
     private ProductRepository productRepository;
     private OrderClient orderClient;
+    private ApplicationEventPublisher eventPublisher;
 
     private ReviewService reviewService;
 
@@ -53,10 +56,15 @@ class ReviewServiceTest {
         reviewImageRepository = Mockito.mock(ReviewImageRepository.class);
         productRepository = Mockito.mock(ProductRepository.class);
         orderClient = Mockito.mock(OrderClient.class);
+        eventPublisher = Mockito.mock(ApplicationEventPublisher.class);
 
         reviewService =
                 new ReviewService(
-                        reviewRepository, reviewImageRepository, productRepository, orderClient);
+                        reviewRepository,
+                        reviewImageRepository,
+                        productRepository,
+                        orderClient,
+                        eventPublisher);
 
         productId = UUID.randomUUID();
         orderDetailId = UUID.randomUUID();
@@ -115,6 +123,7 @@ class ReviewServiceTest {
             verify(reviewRepository).save(any(Review.class));
             verify(reviewImageRepository).saveAll(anyList());
             verify(productRepository).save(any(Product.class));
+            verify(eventPublisher).publishEvent(any(ProductDetailChangedEvent.class));
         }
     }
 
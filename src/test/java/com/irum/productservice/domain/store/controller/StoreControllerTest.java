@@ -14,8 +14,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
 import com.irum.productservice.domain.product.dto.response.ProductCursorResponse;
-import com.irum.productservice.domain.product.dto.response.ProductResponse;
 import com.irum.productservice.domain.store.dto.request.StoreCreateRequest;
 import com.irum.productservice.domain.store.dto.request.StoreUpdateRequest;
 import com.irum.productservice.domain.store.dto.response.StoreCreateResponse;
@@ -226,20 +226,21 @@ class StoreControllerTest {
     @Test
     @DisplayName("내 상점 상품 목록 조회 API")
     void getMyStoreProductsTest() throws Exception {
-        ProductResponse product =
-                new ProductResponse(
+        ProductCardResponse product =
+                new ProductCardResponse(
                         UUID.randomUUID(),
                         "상품1",
                         "짧은설명",
-                        "상세설명",
                         10000,
                         true,
                         4.5,
                         10,
+                        "https://cdn.irum.com/p/1.jpg",
                         UUID.randomUUID(),
                         "카테고리A");
 
-        ProductCursorResponse response = new ProductCursorResponse(List.of(product), null);
+        ProductCursorResponse response =
+                new ProductCursorResponse(List.of(product), null, false, null);
 
         Mockito.when(storeService.getMyStoreProducts(any(), anyInt())).thenReturn(response);
 
@@ -262,8 +263,6 @@ class StoreControllerTest {
                                         fieldWithPath("data.products[].name").description("상품명"),
                                         fieldWithPath("data.products[].description")
                                                 .description("간단 설명"),
-                                        fieldWithPath("data.products[].detailDescription")
-                                                .description("상세 설명"),
                                         fieldWithPath("data.products[].price").description("가격"),
                                         fieldWithPath("data.products[].isPublic")
                                                 .description("공개 여부"),
@@ -271,32 +270,40 @@ class StoreControllerTest {
                                                 .description("평균 평점"),
                                         fieldWithPath("data.products[].reviewCount")
                                                 .description("리뷰 개수"),
+                                        fieldWithPath("data.products[].thumbnailUrl")
+                                                .description("대표 이미지 URL (없으면 null)")
+                                                .optional(),
                                         fieldWithPath("data.products[].categoryId")
                                                 .description("카테고리 ID"),
                                         fieldWithPath("data.products[].categoryName")
                                                 .description("카테고리 이름"),
                                         fieldWithPath("data.nextCursor")
-                                                .description("다음 페이지 커서 (없으면 null)"))));
+                                                .description("다음 페이지 커서 (없으면 null)"),
+                                        fieldWithPath("data.hasNext").description("다음 페이지 존재 여부"),
+                                        fieldWithPath("data.facets")
+                                                .description("facet (상점 상품 목록은 항상 null)")
+                                                .optional())));
     }
 
     @Test
     @DisplayName("특정 상점 상품 목록 조회 API")
     void getStoreProductsTest() throws Exception {
         UUID storeId = UUID.randomUUID();
-        ProductResponse product =
-                new ProductResponse(
+        ProductCardResponse product =
+                new ProductCardResponse(
                         UUID.randomUUID(),
                         "상품2",
                         "짧은설명2",
-                        "상세설명2",
                         12000,
                         true,
                         4.8,
                         5,
+                        null,
                         UUID.randomUUID(),
                         "카테고리B");
 
-        ProductCursorResponse response = new ProductCursorResponse(List.of(product), null);
+        ProductCursorResponse response =
+                new ProductCursorResponse(List.of(product), null, false, null);
         Mockito.when(storeService.getStoreProducts(any(), any(), anyInt())).thenReturn(response);
 
         mockMvc.perform(
@@ -321,8 +328,6 @@ class StoreControllerTest {
                                         fieldWithPath("data.products[].name").description("상품명"),
                                         fieldWithPath("data.products[].description")
                                                 .description("간단 설명"),
-                                        fieldWithPath("data.products[].detailDescription")
-                                                .description("상세 설명"),
                                         fieldWithPath("data.products[].price").description("가격"),
                                         fieldWithPath("data.products[].isPublic")
                                                 .description("공개 여부"),
@@ -330,12 +335,19 @@ class StoreControllerTest {
                                                 .description("평균 평점"),
                                         fieldWithPath("data.products[].reviewCount")
                                                 .description("리뷰 개수"),
+                                        fieldWithPath("data.products[].thumbnailUrl")
+                                                .description("대표 이미지 URL (없으면 null)")
+                                                .optional(),
                                         fieldWithPath("data.products[].categoryId")
                                                 .description("카테고리 ID"),
                                         fieldWithPath("data.products[].categoryName")
                                                 .description("카테고리 이름"),
                                         fieldWithPath("data.nextCursor")
-                                                .description("다음 페이지 커서 (없으면 null)"))));
+                                                .description("다음 페이지 커서 (없으면 null)"),
+                                        fieldWithPath("data.hasNext").description("다음 페이지 존재 여부"),
+                                        fieldWithPath("data.facets")
+                                                .description("facet (상점 상품 목록은 항상 null)")
+                                                .optional())));
     }
 
     @Test
@@ -6,8 +6,8 @@ import static org.mockito.Mockito.*;
 import com.irum.openfeign.member.dto.response.MemberDto;
 import com.irum.openfeign.member.enums.Role;
 import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.dto.response.ProductCardResponse;
 import com.irum.productservice.domain.product.dto.response.ProductCursorResponse;
-import com.irum.productservice.domain.product.dto.response.ProductResponse;
 import com.irum.productservice.domain.store.domain.entity.Store;
 import com.irum.productservice.domain.store.domain.repository.StoreRepository;
 import com.irum.productservice.domain.store.dto.request.StoreCreateRequest;
@@ -151,32 +151,32 @@ class StoreServiceTest {
         when(memberUtil.getCurrentMember()).thenReturn(member);
 
         // 상품 Mock
-        List<ProductResponse> products =
+        List<ProductCardResponse> products =
                 List.of(
-                        new ProductResponse(
+                        new ProductCardResponse(
                                 storeId, // id
                                 "상품1", // name
                                 "설명1", // description
-                                "상세설명1", // detailDescription
                                 1000, // price
                                 true, // isPublic
                                 4.5, // avgRating
                                 10, // reviewCount
+                                "https://cdn.irum.com/p/1.jpg", // thumbnailUrl
                                 UUID.randomUUID(), // categoryId
                                 "식품" // categoryName
                                 ),
-                        new ProductResponse(
+                        new ProductCardResponse(
                                 storeId,
                                 "상품2",
                                 "설명2",
-                                "상세설명2",
                                 2000,
                                 true,
                                 4.8,
                                 5,
+                                null,
                                 UUID.randomUUID(),
                                 "생활용품"));
-        when(productRepository.findProductsByStoreWithCursor(eq(storeId), eq(cursor), eq(10)))
+        when(productRepository.findProductsByStoreWithCursor(eq(storeId), eq(cursor), eq(11)))
                 .thenReturn(products);
 
         // when
@@ -188,6 +188,6 @@ class StoreServiceTest {
         assertThat(response.products()).hasSize(2);
         verify(storeRepository, times(1)).findByMember(member.memberId());
         verify(productRepository, times(1))
-                .findProductsByStoreWithCursor(eq(storeId), eq(cursor), eq(10));
+                .findProductsByStoreWithCursor(eq(storeId), eq(cursor), eq(11));
     }
 }
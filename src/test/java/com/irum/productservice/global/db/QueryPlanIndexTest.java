@@ -0,0 +1,532 @@
+package com.irum.productservice.global.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.discount.domain.repository.DiscountRepository;
+import com.irum.productservice.domain.discount.repository.DiscountRepositoryImpl;
+import com.irum.productservice.domain.product.domain.repository.ProductRepository;
+import com.irum.productservice.domain.product.dto.request.ProductListFilter;
+import com.irum.productservice.domain.product.dto.request.ProductSortType;
+import com.irum.productservice.domain.product.ranking.ProductPopularityRanking;
+import com.irum.productservice.domain.product.repository.ProductRepositoryImpl;
+import com.irum.productservice.domain.product.search.ProductSearchIndex;
+import com.irum.productservice.domain.review.domain.repository.ReviewRepository;
+import com.irum.productservice.global.infrastructure.properties.SearchProperties;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.sql.DataSource;
+import liquibase.integration.spring.SpringLiquibase;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * 자주 실행되는 조회가 인덱스를 타는지 PostgreSQL 실행 계획으로 확인합니다.
+ *
+ * <p>PostgreSQL 이 필요해 기본 test 작업에서는 제외되며, ./gradlew indexPlanTest
+ * -Pbenchmark.url=jdbc:postgresql://... 로 실행합니다. 임시 스키마에 Liquibase 변경 이력 전체를 적용하고, 공개/삭제 상품이 섞인
+ * 데이터를 넣고 ANALYZE 한 뒤, 실제 리포지토리 메서드를 호출해 Hibernate 가 만든 SQL 과 바인딩 값을 그대로 EXPLAIN 합니다. 플래너 설정은 바꾸지
+ * 않으며, 큰 테이블을 순차 탐색하거나 기대한 인덱스를 조건(Index Cond) 없이 읽기만 하면(정렬용 전체 스캔 후 Filter) 실패합니다.
+ */
+@Tag("postgres")
+@EnabledIfSystemProperty(named = "benchmark.url", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanIndexTest {
+
+    // 순차 탐색을 허용하지 않는 테이블 (상점 20건, 카테고리 수천 건은 플래너가 순차 탐색을 고를 수 있음)
+    private static final Set<String> LARGE_TABLES =
+            Set.of(
+                    "p_product",
+                    "p_product_image",
+                    "p_product_option_group",
+                    "p_product_option_value",
+                    "p_review",
+                    "p_discount");
+
+    private final String schema = "plan_check_" + ThreadLocalRandom.current().nextInt(1_000_000);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<CapturedStatement> captured = new ArrayList<>();
+
+    private SingleConnectionDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+
+    private ProductRepository productRepository;
+    private ReviewRepository reviewRepository;
+    private DiscountRepository discountRepository;
+    private CategoryRepository categoryRepository;
+
+    private UUID productId;
+    private UUID storeId;
+    private List<UUID> categoryIds;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        dataSource =
+                new SingleConnectionDataSource(
+                        System.getProperty("benchmark.url"),
+                        System.getProperty("benchmark.username"),
+                        System.getProperty("benchmark.password"),
+                        true);
+        execute("CREATE SCHEMA " + schema);
+        // pg_trgm 연산자 클래스가 public 에 있을 수 있어 함께 둠
+        execute("SET search_path TO " + schema + ", public");
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setDefaultSchema(schema);
+        liquibase.afterPropertiesSet();
+
+        seed();
+        productId =
+                queryForId(
+                        "SELECT product_id FROM p_product WHERE is_public AND price > 5000 AND"
+                            + " deleted_at IS NULL ORDER BY created_at DESC OFFSET 100 LIMIT 1");
+        storeId = queryForId("SELECT store_id FROM p_store ORDER BY store_id LIMIT 1");
+        categoryIds =
+                List.of(
+                        queryForId(
+                                "SELECT category_id FROM p_category WHERE parent_id IS NULL ORDER"
+                                        + " BY category_id LIMIT 1"),
+                        queryForId(
+                                "SELECT category_id FROM p_category WHERE parent_id IS NULL ORDER"
+                                        + " BY category_id OFFSET 1 LIMIT 1"));
+
+        setUpRepositories();
+    }
+
+    // 운영과 같은 Hibernate 설정(이름 전략)으로 리포지토리를 만들고, 실행되는 SQL 을 기록하는 DataSource 를 씌움
+    private void setUpRepositories() {
+        LocalContainerEntityManagerFactoryBean factoryBean =
+                new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(recording(dataSource));
+        factoryBean.setPackagesToScan("com.irum.productservice");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(
+                Map.of(
+                        "hibernate.physical_naming_strategy",
+                        CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                        "hibernate.implicit_naming_strategy",
+                        SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        // 키워드 검색은 trigram 인덱스를 타는 database 방식, 인기 순 랭킹은 쓰지 않음
+        productRepository =
+                repositoryFactory.getRepository(
+                        ProductRepository.class,
+                        RepositoryFragments.just(
+                                new ProductRepositoryImpl(
+                                        queryFactory,
+                                        mock(ProductSearchIndex.class),
+                                        new SearchProperties("database", null, null),
+                                        mock(ProductPopularityRanking.class),
+                                        entityManager)));
+        discountRepository =
+                repositoryFactory.getRepository(
+                        DiscountRepository.class,
+                        RepositoryFragments.just(new DiscountRepositoryImpl(queryFactory)));
+        reviewRepository = repositoryFactory.getRepository(ReviewRepository.class);
+        categoryRepository = repositoryFactory.getRepository(CategoryRepository.class);
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        if (dataSource == null) {
+            return;
+        }
+        try {
+            if (entityManagerFactory != null) {
+                entityManager.close();
+                entityManagerFactory.close();
+            }
+            execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    // 조회 인자(id 등)는 @BeforeAll 에서 정해지므로 호출 시점에 읽음
+    List<Arguments> hotQueries() {
+        ProductListFilter priceRange = new ProductListFilter(3000, 4000, null, null);
+        return List.of(
+                Arguments.of(
+                        "상품 목록 - 최신 순 다음 페이지",
+                        (Runnable)
+                                () ->
+                                        productRepository.findProductsByCursor(
+                                                ProductSortType.NEWEST,
+                                                productId.toString(),
+                                                21,
+                                                ProductListFilter.NONE),
+                        List.of(
+                                "idx_p_product_public_created",
+                                "idx_p_product_image_product_default")),
+                Arguments.of(
+                        "상품 목록 - 카테고리",
+                        (Runnable)
+                                () ->
+                                        productRepository.findProductsByCategoryIds(
+                                                ProductSortType.NEWEST,
+                                                null,
+                                                21,
+                                                ProductListFilter.NONE,
+                                                categoryIds),
+                        List.of("idx_p_product_public_category_created")),
+                Arguments.of(
+                        "상품 목록 - 상점",
+                        (Runnable)
+                                () ->
+                                        productRepository.findProductsByStoreWithCursor(
+                                                storeId, null, 21),
+                        List.of("idx_p_product_store_created")),
+                Arguments.of(
+                        "상품 목록 - 가격 낮은 순 다음 페이지",
+                        (Runnable)
+                                () ->
+                                        productRepository.findProductsByCursor(
+                                                ProductSortType.PRICE_ASC,
+                                                "5000_" + productId,
+                                                21,
+                                                ProductListFilter.NONE),
+                        List.of("idx_p_product_public_price")),
+                Arguments.of(
+                        "상품 목록 - 평점 순 다음 페이지",
+                        (Runnable)
+                                () ->
+                                        productRepository.findProductsByCursor(
+                                                ProductSortType.RATING,
+                                                "3.0_" + productId,
+                                                21,
+                                                ProductListFilter.NONE),
+                        List.of("idx_p_product_public_rating")),
+                Arguments.of(
+                        "상품 목록 - 품절 제외 다음 페이지",
+                        (Runnable)
+                                () ->
+                                        productRepository.findProductsByCursor(
+                                                ProductSortType.NEWEST,
+                                                productId.toString(),
+                                                21,
+                                                new ProductListFilter(null, null, null, true)),
+                        List.of("idx_p_product_public_in_stock_created")),
+                Arguments.of(
+                        "상품 목록 - 가격 범위, 가격 낮은 순",
+                        (Runnable)
+                                () ->
+                                        productRepository.findProductsByCursor(
+                                                ProductSortType.PRICE_ASC, null, 21, priceRange),
+                        List.of("idx_p_product_public_price")),
+                Arguments.of(
+                        "상품 목록 - 카테고리 + 가격 범위",
+                        (Runnable)
+                                () ->
+                                        productRepository.findProductsByCategoryIds(
+                                                ProductSortType.NEWEST,
+                                                null,
+                                                21,
+                                                priceRange,
+                                                categoryIds),
+                        List.of("idx_p_product_public_category_price")),
+                Arguments.of(
+                        "상품 목록 - 최소 평점, 평점 순",
+                        (Runnable)
+                                () ->
+                                        productRepository.findProductsByCursor(
+                                                ProductSortType.RATING,
+                                                null,
+                                                21,
+                                                new ProductListFilter(null, null, 4.0, null)),
+                        List.of("idx_p_product_public_rating")),
+                Arguments.of(
+                        "상품 검색 - 상품명/설명 부분 일치",
+                        (Runnable)
+                                () ->
+                                        productRepository.findProductsByKeyword(
+                                                ProductSortType.NEWEST,
+                                                null,
+                                                21,
+                                                ProductListFilter.NONE,
+                                                "상품 1234"),
+                        List.of("idx_p_product_name_trgm", "idx_p_product_description_trgm")),
+                Arguments.of(
+                        "상품 상세 - 옵션 그룹, 옵션 값과 샤드 재고 합, 이미지",
+                        (Runnable) () -> productRepository.findProductDetail(productId),
+                        List.of(
+                                "idx_p_product_option_group_product",
+                                "idx_p_product_option_value_group",
+                                "uk_stock_shard_option_value_shard_no",
+                                "idx_p_product_image_product_default")),
+                Arguments.of(
+                        "리뷰 - 상품별 목록",
+                        (Runnable)
+                                () ->
+                                        reviewRepository.findAllByProduct_Id(
+                                                productId, PageRequest.of(0, 20)),
+                        List.of("idx_p_review_product")),
+                Arguments.of(
+                        "리뷰 - 상품별 평균 평점",
+                        (Runnable) () -> reviewRepository.findAverageByProductId(productId),
+                        List.of("idx_p_review_product")),
+                Arguments.of(
+                        "리뷰 - 내 리뷰 목록",
+                        (Runnable)
+                                () -> reviewRepository.findAllByMemberId(7L, PageRequest.of(0, 20)),
+                        List.of("idx_p_review_member")),
+                Arguments.of(
+                        "할인 - 상품별",
+                        (Runnable) () -> discountRepository.findByProductId(productId),
+                        List.of("idx_p_discount_product")),
+                Arguments.of(
+                        "할인 - 상점 목록",
+                        (Runnable)
+                                () ->
+                                        discountRepository.findDiscountListByCursor(
+                                                storeId, null, 11),
+                        // 할인 id 역순 스캔 후 상품 조인과 상점 상품 조회 후 할인 조인 중 싼 쪽을 고르므로 순차 탐색 여부만 확인
+                        List.of()),
+                Arguments.of(
+                        "카테고리 - 하위 카테고리",
+                        (Runnable)
+                                () -> categoryRepository.findChildrenByParentId(categoryIds.get(0)),
+                        List.of("idx_p_category_parent")));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("실행 계획 - 리포지토리가 만든 SQL 이 조건/정렬에 맞는 인덱스를 Index Cond 로 사용")
+    void usesIndex(String name, Runnable query, List<String> expectedIndexes) throws Exception {
+        captured.clear();
+        entityManager.clear();
+        query.run();
+        assertThat(captured).as("실행된 SQL").isNotEmpty();
+
+        List<JsonNode> plans = new ArrayList<>();
+        for (CapturedStatement statement : captured) {
+            plans.add(explain(statement));
+        }
+        String planText = plans.toString();
+
+        List<JsonNode> nodes = new ArrayList<>();
+        plans.forEach(plan -> collectNodes(plan, nodes));
+        assertThat(nodes)
+                .as(planText)
+                .noneMatch(
+                        node ->
+                                "Seq Scan".equals(node.path("Node Type").asText())
+                                        && LARGE_TABLES.contains(
+                                                node.path("Relation Name").asText()));
+        for (String index : expectedIndexes) {
+            assertThat(nodes)
+                    .as(index + " 를 Index Cond 로 사용\n" + planText)
+                    .anyMatch(
+                            node ->
+                                    index.equals(node.path("Index Name").asText())
+                                            && node.hasNonNull("Index Cond"));
+        }
+    }
+
+    // 상점 20개, 카테고리 200개(상품용)와 하위 카테고리 1만 개, 상품 2만 건(10건 중 1건 비공개, 50건 중 1건 삭제)과 하위 데이터
+    private void seed() throws SQLException {
+        execute(
+                "INSERT INTO p_store (store_id, store_name, contact, address,"
+                        + " business_registration_number, telemarketing_registration_number,"
+                        + " member) SELECT gen_random_uuid(), '상점 ' || i, '010-0000-0000', '주소',"
+                        + " lpad(i::text, 10, '0'), '9' || lpad(i::text, 9, '0'), 1000 + i FROM"
+                        + " generate_series(1, 20) AS i");
+        execute(
+                "INSERT INTO p_category (category_id, name, depth) SELECT gen_random_uuid(),"
+                        + " '카테고리 ' || i, 3 FROM generate_series(1, 200) AS i");
+        execute(
+                "INSERT INTO p_category (category_id, name, depth, parent_id) SELECT"
+                        + " gen_random_uuid(), '하위 카테고리 ' || i, 3, (SELECT category_id FROM"
+                        + " p_category WHERE parent_id IS NULL ORDER BY category_id OFFSET i % 200"
+                        + " LIMIT 1) FROM generate_series(1, 10000) AS i");
+        execute(
+                "INSERT INTO p_product (product_id, store_id, category_id, name, description,"
+                    + " detail_description, is_public, avg_rating, review_count, price, created_at,"
+                    + " deleted_at) SELECT gen_random_uuid(), (SELECT store_id FROM p_store ORDER"
+                    + " BY store_id OFFSET i % 20 LIMIT 1), (SELECT category_id FROM p_category"
+                    + " WHERE parent_id IS NULL ORDER BY category_id OFFSET i % 200 LIMIT 1), '상품 '"
+                    + " || i, '설명', '상세', i % 10 <> 0, (i % 50) / 10.0, i % 300, 1000 + i % 100 *"
+                    + " 100, now() - i * interval '1 minute', CASE WHEN i % 50 = 0 THEN now() END"
+                    + " FROM generate_series(1, 20000) AS i");
+        execute(
+                "INSERT INTO p_product_image (product_image_id, product_id, image_url, is_default)"
+                        + " SELECT gen_random_uuid(), product_id, 'https://cdn.irum.com/p/' ||"
+                        + " product_id || '.jpg', TRUE FROM p_product");
+        execute(
+                "INSERT INTO p_product_option_group (option_group_id, product_id, name) SELECT"
+                        + " gen_random_uuid(), product_id, '옵션' FROM p_product");
+        execute(
+                "INSERT INTO p_product_option_value (option_value_id, option_group_id, name,"
+                        + " stock_quantity, extra_price) SELECT gen_random_uuid(), option_group_id,"
+                        + " '값 ' || n, 100, 0 FROM p_product_option_group CROSS JOIN"
+                        + " generate_series(1, 3) AS n");
+        execute(
+                "INSERT INTO p_product_option_stock_shard (stock_shard_id, option_value_id,"
+                        + " shard_no, stock_quantity) SELECT gen_random_uuid(), option_value_id,"
+                        + " 0, 10 FROM p_product_option_value LIMIT 5000");
+        // 5건 중 1건 품절
+        execute("UPDATE p_product SET in_stock = review_count % 5 <> 0");
+        execute(
+                "INSERT INTO p_review (review_id, content, rate, member_id, order_detail_id,"
+                        + " product_id) SELECT gen_random_uuid(), '리뷰', 1 + n % 5, (random() *"
+                        + " 500)::int, gen_random_uuid(), product_id FROM p_product CROSS JOIN"
+                        + " generate_series(1, 2) AS n");
+        execute(
+                "INSERT INTO p_discount (discount_id, name, amount, product_id) SELECT"
+                        + " gen_random_uuid(), '할인', 1000, product_id FROM p_product WHERE"
+                        + " price > 5000");
+        for (String table :
+                List.of(
+                        "p_store",
+                        "p_category",
+                        "p_product",
+                        "p_product_image",
+                        "p_product_option_group",
+                        "p_product_option_value",
+                        "p_product_option_stock_shard",
+                        "p_review",
+                        "p_discount")) {
+            execute("ANALYZE " + table);
+        }
+    }
+
+    // 기록한 SQL 을 같은 바인딩 값으로 EXPLAIN 해 실제 값 기준 실행 계획을 얻음
+    private JsonNode explain(CapturedStatement statement) throws Exception {
+        try (PreparedStatement explain =
+                connection().prepareStatement("EXPLAIN (FORMAT JSON) " + statement.sql())) {
+            for (Binding binding : statement.bindings()) {
+                binding.method().invoke(explain, binding.args());
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                resultSet.next();
+                return objectMapper.readTree(resultSet.getString(1)).get(0).get("Plan");
+            }
+        }
+    }
+
+    // 서브쿼리(InitPlan/SubPlan)를 포함한 모든 계획 노드
+    private void collectNodes(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        for (JsonNode child : node.path("Plans")) {
+            collectNodes(child, nodes);
+        }
+    }
+
+    private DataSource recording(DataSource target) {
+        return proxy(
+                DataSource.class,
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    return result instanceof Connection connection ? recording(connection) : result;
+                });
+    }
+
+    private Connection recording(Connection target) {
+        return proxy(
+                Connection.class,
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (result instanceof PreparedStatement statement
+                            && method.getName().equals("prepareStatement")) {
+                        CapturedStatement capturedStatement =
+                                new CapturedStatement((String) args[0], new ArrayList<>());
+                        captured.add(capturedStatement);
+                        return recording(statement, capturedStatement);
+                    }
+                    return result;
+                });
+    }
+
+    private PreparedStatement recording(
+            PreparedStatement target, CapturedStatement capturedStatement) {
+        return proxy(
+                PreparedStatement.class,
+                (proxy, method, args) -> {
+                    // setXxx(파라미터 번호, 값, ...) 만 기록 (setFetchSize 등 제외)
+                    if (method.getName().startsWith("set")
+                            && method.getParameterCount() >= 2
+                            && method.getParameterTypes()[0] == int.class) {
+                        capturedStatement.bindings().add(new Binding(method, args));
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T)
+                Proxy.newProxyInstance(
+                        QueryPlanIndexTest.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private UUID queryForId(String sql) throws SQLException {
+        try (Statement statement = connection().createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getObject(1, UUID.class);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection().createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private Connection connection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    private record CapturedStatement(String sql, List<Binding> bindings) {}
+
+    private record Binding(Method method, Object[] args) {}
+}
@@ -0,0 +1,58 @@
+package com.irum.productservice.global.infrastructure.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.irum.productservice.domain.category.domain.entity.Category;
+import com.irum.productservice.domain.category.domain.repository.CategoryRepository;
+import com.irum.productservice.domain.category.service.CategoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+// 원본/복제본 모두 같은 H2 DB 를 가리키게 해 스키마를 공유하고, 라우팅은 지표로 확인
+@SpringBootTest(
+        properties = {
+            "spring.datasource.url=jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1",
+            "spring.datasource.replica.url=jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1",
+            "spring.jpa.hibernate.ddl-auto=create-drop"
+        })
+class ReplicaRoutingDataSourceConfigTest {
+
+    @Autowired private DataSource dataSource;
+    @Autowired private CategoryService categoryService;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @MockitoBean private AuditorAware<Long> auditorAware;
+
+    @Test
+    @DisplayName("replica url 이 있으면 서비스의 읽기 전용 트랜잭션을 복제본 풀로 보냄")
+    void routesReadOnlyServiceCallsToReplica() {
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+
+        double replicaBefore = count("replica", "read_only");
+        double writeBefore = count("primary", "write");
+
+        Category category = categoryRepository.save(Category.createRootCategory("라우팅 카테고리"));
+        assertThat(categoryService.getCategoryById(category.getCategoryId()).name())
+                .isEqualTo("라우팅 카테고리");
+
+        assertThat(count("primary", "write")).isGreaterThan(writeBefore);
+        assertThat(count("replica", "read_only")).isGreaterThan(replicaBefore);
+    }
+
+    private double count(String target, String reason) {
+        return meterRegistry
+                .counter("product.datasource.routing", "target", target, "reason", reason)
+                .count();
+    }
+}
@@ -0,0 +1,116 @@
+package com.irum.productservice.global.infrastructure.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.persistence.EntityManager;
+import java.util.Map;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 원본/복제본이 같은 H2 DB 를 쓰되 접속 사용자를 달리해, 실제로 어느 풀의 커넥션인지 사용자 이름으로 구분
+@SpringBootTest(
+        properties = {
+            "spring.datasource.url=jdbc:h2:mem:replica-osiv;DB_CLOSE_DELAY=-1;"
+                    + "INIT=CREATE USER IF NOT EXISTS REPLICA PASSWORD 'replica' ADMIN",
+            "spring.datasource.replica.url=jdbc:h2:mem:replica-osiv;DB_CLOSE_DELAY=-1",
+            "spring.datasource.replica.username=replica",
+            "spring.datasource.replica.password=replica",
+            "spring.jpa.hibernate.ddl-auto=create-drop"
+        })
+@AutoConfigureMockMvc
+@Import(ReplicaRoutingOpenInViewTest.ProbeConfig.class)
+class ReplicaRoutingOpenInViewTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private Environment environment;
+
+    @Test
+    @DisplayName("복제본 라우팅 - open-in-view 를 끄고, 한 요청에서 읽기 전용 조회 뒤의 쓰기는 원본으로 보냄")
+    void writeAfterReadOnlyInSameRequestHitsPrimary() throws Exception {
+        assertThat(environment.getProperty("spring.jpa.open-in-view", Boolean.class)).isFalse();
+
+        mockMvc.perform(get("/test/routing-probe"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.read").value("REPLICA"))
+                .andExpect(jsonPath("$.data.write").value("SA"));
+    }
+
+    @Test
+    @DisplayName("복제본 라우팅 - open-in-view 를 명시적으로 켜 두었으면 기동 실패")
+    void rejectsExplicitOpenInView() {
+        MockEnvironment environment =
+                new MockEnvironment()
+                        .withProperty("spring.datasource.replica.url", "jdbc:h2:mem:replica")
+                        .withProperty("spring.jpa.open-in-view", "true");
+
+        assertThatThrownBy(
+                        () ->
+                                new ReplicaRoutingEnvironmentPostProcessor()
+                                        .postProcessEnvironment(
+                                                environment, new SpringApplication()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @TestConfiguration
+    @Import({ProbeController.class, ProbeService.class})
+    static class ProbeConfig {}
+
+    @RestController
+    static class ProbeController {
+
+        private final ProbeService probeService;
+
+        ProbeController(ProbeService probeService) {
+            this.probeService = probeService;
+        }
+
+        @GetMapping("/test/routing-probe")
+        Map<String, String> probe() {
+            String read = probeService.readOnly();
+            String write = probeService.write();
+            return Map.of("read", read, "write", write);
+        }
+    }
+
+    static class ProbeService {
+
+        private final EntityManager entityManager;
+
+        ProbeService(EntityManager entityManager) {
+            this.entityManager = entityManager;
+        }
+
+        @Transactional(readOnly = true)
+        public String readOnly() {
+            return connectionUser();
+        }
+
+        @Transactional
+        public String write() {
+            return connectionUser();
+        }
+
+        private String connectionUser() {
+            return entityManager
+                    .unwrap(Session.class)
+                    .doReturningWork(connection -> connection.getMetaData().getUserName());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.irum.productservice.global.infrastructure.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.irum.productservice.global.infrastructure.properties.DataSourceRoutingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicationRoutingDataSourceTest {
+
+    private MeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DataSource dataSource =
+                new LazyConnectionDataSourceProxy(
+                        new ReplicationRoutingDataSource(
+                                h2("primary"), h2("replica"), meterRegistry));
+        DataSourceTransactionManager transactionManager =
+                new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        // LazyConnectionDataSourceProxy 가 첫 사용 때 커넥션 기본값을 읽으며 한 번 라우팅하므로 지표에서 뺌
+        currentDatabase();
+        meterRegistry.clear();
+    }
+
+    @Test
+    @DisplayName("라우팅 - 읽기 전용 트랜잭션만 복제본, 쓰기 트랜잭션과 트랜잭션 밖은 원본")
+    void routesByReadOnly() {
+        assertThat(readOnly()).isEqualTo("replica");
+        assertThat(write()).isEqualTo("primary");
+        assertThat(currentDatabase()).isEqualTo("primary");
+
+        assertThat(count("replica", "read_only")).isEqualTo(1);
+        assertThat(count("primary", "write")).isEqualTo(1);
+        assertThat(count("primary", "no_transaction")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("read-your-writes - 범위 안에서 쓴 뒤의 읽기 전용 트랜잭션은 원본, 범위를 닫으면 다시 복제본")
+    void readYourWrites_afterWrite() {
+        try (DataSourceRoutingContext.Scope scope = DataSourceRoutingContext.open(false)) {
+            assertThat(readOnly()).isEqualTo("replica");
+            write();
+            assertThat(readOnly()).isEqualTo("primary");
+        }
+
+        assertThat(readOnly()).isEqualTo("replica");
+        assertThat(count("primary", "read_your_writes")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("read-your-writes 필터 - 헤더나 원본 고정 경로면 요청 전체를 원본으로")
+    void readYourWritesFilter() throws ServletException, IOException {
+        ReadYourWritesFilter filter =
+                new ReadYourWritesFilter(new DataSourceRoutingProperties(null, null));
+
+        assertThat(readInRequest(filter, get("/api/products"))).containsExactly("replica");
+
+        MockHttpServletRequest withHeader = get("/api/products");
+        withHeader.addHeader("Read-Your-Writes", "true");
+        assertThat(readInRequest(filter, withHeader)).containsExactly("primary");
+
+        assertThat(readInRequest(filter, get("/internal/products/options/1")))
+                .containsExactly("primary");
+
+        // 요청이 끝나면 범위도 닫힘
+        assertThat(readOnly()).isEqualTo("replica");
+    }
+
+    private List<String> readInRequest(ReadYourWritesFilter filter, MockHttpServletRequest request)
+            throws ServletException, IOException {
+        List<String> databases = new ArrayList<>();
+        filter.doFilter(
+                request,
+                new MockHttpServletResponse(),
+                new MockFilterChain() {
+                    @Override
+                    public void doFilter(
+                            jakarta.servlet.ServletRequest request,
+                            jakarta.servlet.ServletResponse response) {
+                        databases.add(readOnly());
+                    }
+                });
+        return databases;
+    }
+
+    // 읽기 전용 트랜잭션에서 읽은 DB
+    private String readOnly() {
+        return readOnlyTransaction.execute(status -> currentDatabase());
+    }
+
+    private String write() {
+        return writeTransaction.execute(status -> currentDatabase());
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM routing_marker", String.class);
+    }
+
+    private double count(String target, String reason) {
+        return meterRegistry
+                .counter("product.datasource.routing", "target", target, "reason", reason)
+                .count();
+    }
+
+    // 원본/복제본을 대신하는 H2 인스턴스. 어느 쪽에서 읽었는지 표시 행으로 구분
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource(
+                        "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM routing_marker");
+        jdbcTemplate.update("INSERT INTO routing_marker VALUES (?)", name);
+        return dataSource;
+    }
+}
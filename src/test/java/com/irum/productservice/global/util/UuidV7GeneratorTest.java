@@ -0,0 +1,73 @@
+package com.irum.productservice.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("생성 - version 7, RFC 9562 variant, 앞 48비트는 생성 시각(ms)")
+    void generate_versionAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.generate();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        // 같은 밀리초에 카운터가 넘치면 실제 시각보다 조금 앞설 수 있음
+        assertThat(UuidV7Generator.timestampOf(uuid)).isBetween(before, after + 1_000);
+    }
+
+    @Test
+    @DisplayName("생성 - 같은 밀리초에 많이 만들어도 문자열/바이트 순서가 생성 순서")
+    void generate_monotonic() {
+        List<UUID> generated = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            generated.add(UuidV7Generator.generate());
+        }
+
+        List<String> sorted = new ArrayList<>(generated.stream().map(UUID::toString).toList());
+        Collections.sort(sorted);
+        assertThat(sorted)
+                .containsExactlyElementsOf(generated.stream().map(UUID::toString).toList());
+        assertThat(Set.copyOf(generated)).hasSize(generated.size());
+    }
+
+    @Test
+    @DisplayName("생성 - 여러 스레드에서 동시에 만들어도 중복 없음")
+    void generate_concurrent() throws InterruptedException {
+        Set<UUID> generated = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(
+                    () -> {
+                        for (int i = 0; i < 20_000; i++) {
+                            generated.add(UuidV7Generator.generate());
+                        }
+                    });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(generated).hasSize(8 * 20_000);
+    }
+
+    @Test
+    @DisplayName("생성 시각 - version 7 이 아닌 UUID 는 예외")
+    void timestampOf_notVersion7() {
+        assertThatThrownBy(() -> UuidV7Generator.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
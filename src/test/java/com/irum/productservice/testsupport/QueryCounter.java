@@ -0,0 +1,35 @@
+package com.irum.productservice.testsupport;
+
+import java.util.function.Supplier;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 테스트 스레드에서 실행한 SQL 수를 셉니다. 스케줄러 등 다른 스레드의 쿼리는 세지 않습니다.
+ *
+ * <p>사용: spring.jpa.properties.hibernate.session_factory.statement_inspector 에 이 클래스를 지정하고
+ * QueryCounter.count(...) 로 감쌉니다.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public static int count(Supplier<?> action) {
+        int[] count = {0};
+        COUNT.set(count);
+        try {
+            action.get();
+            return count[0];
+        } finally {
+            COUNT.remove();
+        }
+    }
+}